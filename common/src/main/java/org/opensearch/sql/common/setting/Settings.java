@@ -61,6 +61,11 @@ public abstract class Settings {
      */
     QUERY_MEMORY_LIMIT("plugins.query.memory_limit"),
     QUERY_SIZE_LIMIT("plugins.query.size_limit"),
+    QUERY_SCROLL_ENABLED("plugins.query.scroll.enabled"),
+    QUERY_BUCKET_PAGE_SIZE("plugins.query.bucket_page_size"),
+    QUERY_SORT_SPILL_THRESHOLD("plugins.query.sort.spill_threshold"),
+    QUERY_ADMISSION_MAX_COST("plugins.query.admission.max_cost"),
+    QUERY_ADMISSION_TIMEOUT("plugins.query.admission.timeout"),
     METRICS_ROLLING_WINDOW("plugins.query.metrics.rolling_window"),
     METRICS_ROLLING_INTERVAL("plugins.query.metrics.rolling_interval");
 
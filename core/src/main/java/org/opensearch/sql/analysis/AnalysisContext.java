@@ -26,7 +26,13 @@
 
 package org.opensearch.sql.analysis;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import lombok.Getter;
+import org.opensearch.sql.expression.LiteralExpression;
 
 /**
  * The context used for Analyzer.
@@ -37,6 +43,12 @@ public class AnalysisContext {
    */
   private TypeEnvironment environment;
 
+  /**
+   * Literal expressions analyzed from each literal token of query keyed by its position.
+   */
+  @Getter
+  private final Map<Integer, List<LiteralExpression>> literals = new HashMap<>();
+
   public AnalysisContext() {
     this.environment = new TypeEnvironment(null);
   }
@@ -45,6 +57,13 @@ public class AnalysisContext {
     this.environment = environment;
   }
 
+  /**
+   * Record literal expression analyzed from literal token at the position of query text.
+   */
+  public void addLiteral(int position, LiteralExpression literal) {
+    literals.computeIfAbsent(position, key -> new ArrayList<>()).add(literal);
+  }
+
   /**
    * Push a new environment.
    */
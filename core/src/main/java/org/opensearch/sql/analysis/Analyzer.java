@@ -45,6 +45,7 @@ import org.apache.commons.lang3.tuple.Pair;
 import org.opensearch.sql.analysis.symbol.Namespace;
 import org.opensearch.sql.analysis.symbol.Symbol;
 import org.opensearch.sql.ast.AbstractNodeVisitor;
+import org.opensearch.sql.ast.expression.AllFields;
 import org.opensearch.sql.ast.expression.Argument;
 import org.opensearch.sql.ast.expression.Field;
 import org.opensearch.sql.ast.expression.Let;
@@ -301,7 +302,7 @@ public class Analyzer extends AbstractNodeVisitor<LogicalPlan, AnalysisContext>
     TypeEnvironment newEnv = context.peek();
     namedExpressions.forEach(expr -> newEnv.define(new Symbol(Namespace.FIELD_NAME,
         expr.getNameOrAlias()), expr.type()));
-    return new LogicalProject(child, namedExpressions);
+    return new LogicalProject(child, namedExpressions, isAllFields(node.getProjectList()));
   }
 
   /**
@@ -402,4 +403,11 @@ public class Analyzer extends AbstractNodeVisitor<LogicalPlan, AnalysisContext>
     return asc ? SortOption.DEFAULT_ASC : SortOption.DEFAULT_DESC;
   }
 
+  /**
+   * Is the project list all fields only, ex. the project PPL adds implicitly.
+   */
+  private boolean isAllFields(List<UnresolvedExpression> projectList) {
+    return (projectList.size() == 1) && (projectList.get(0) instanceof AllFields);
+  }
+
 }
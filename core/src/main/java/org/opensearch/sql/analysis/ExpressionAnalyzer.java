@@ -63,6 +63,7 @@ import org.opensearch.sql.data.type.ExprType;
 import org.opensearch.sql.exception.SemanticCheckException;
 import org.opensearch.sql.expression.DSL;
 import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.expression.LiteralExpression;
 import org.opensearch.sql.expression.NamedArgumentExpression;
 import org.opensearch.sql.expression.ReferenceExpression;
 import org.opensearch.sql.expression.aggregation.AggregationState;
@@ -115,8 +116,12 @@ public class ExpressionAnalyzer extends AbstractNodeVisitor<Expression, Analysis
 
   @Override
   public Expression visitLiteral(Literal node, AnalysisContext context) {
-    return DSL
+    LiteralExpression literal = DSL
         .literal(ExprValueUtils.fromObjectValue(node.getValue(), node.getType().getCoreType()));
+    if (node.getPosition() != null) {
+      context.addLiteral(node.getPosition(), literal);
+    }
+    return literal;
   }
 
   @Override
@@ -163,9 +163,10 @@ public class ExpressionReferenceOptimizer
 
     @Override
     public Void visitWindow(LogicalWindow plan, Void context) {
-      Expression windowFunc = plan.getWindowFunction();
-      expressionMap.put(windowFunc,
-          new ReferenceExpression(((NamedExpression) windowFunc).getName(), windowFunc.type()));
+      for (NamedExpression windowFunc : plan.getWindowFunctions()) {
+        expressionMap.put(windowFunc,
+            new ReferenceExpression(windowFunc.getName(), windowFunc.type()));
+      }
       return visitNode(plan, context);
     }
   }
@@ -28,6 +28,7 @@ package org.opensearch.sql.ast.expression;
 
 import com.google.common.collect.ImmutableList;
 import java.util.List;
+import lombok.AllArgsConstructor;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
@@ -41,11 +42,19 @@ import org.opensearch.sql.ast.AbstractNodeVisitor;
 @Getter
 @EqualsAndHashCode(callSuper = false)
 @RequiredArgsConstructor
+@AllArgsConstructor
 public class Literal extends UnresolvedExpression {
 
   private final Object value;
   private final DataType type;
 
+  /**
+   * Start index of the literal token in query text, or null if the literal is not built from
+   * exactly one literal token. Plan cache binds literal of the same position in another query.
+   */
+  @EqualsAndHashCode.Exclude
+  private Integer position;
+
   @Override
   public List<UnresolvedExpression> getChild() {
     return ImmutableList.of();
@@ -0,0 +1,216 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.sql.data.utils;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.experimental.UtilityClass;
+import org.opensearch.sql.data.model.ExprBooleanValue;
+import org.opensearch.sql.data.model.ExprByteValue;
+import org.opensearch.sql.data.model.ExprCollectionValue;
+import org.opensearch.sql.data.model.ExprDateValue;
+import org.opensearch.sql.data.model.ExprDatetimeValue;
+import org.opensearch.sql.data.model.ExprDoubleValue;
+import org.opensearch.sql.data.model.ExprFloatValue;
+import org.opensearch.sql.data.model.ExprIntegerValue;
+import org.opensearch.sql.data.model.ExprLongValue;
+import org.opensearch.sql.data.model.ExprMissingValue;
+import org.opensearch.sql.data.model.ExprNullValue;
+import org.opensearch.sql.data.model.ExprShortValue;
+import org.opensearch.sql.data.model.ExprStringValue;
+import org.opensearch.sql.data.model.ExprTimeValue;
+import org.opensearch.sql.data.model.ExprTimestampValue;
+import org.opensearch.sql.data.model.ExprTupleValue;
+import org.opensearch.sql.data.model.ExprValue;
+
+/**
+ * Compact binary encoding of {@link ExprValue}, used to write intermediate rows to local disk
+ * and literals in serialized expressions.
+ * Value of core type is written as a one byte tag followed by its primitive representation.
+ * Value of any other type, for example the storage specific ones, is written by Java
+ * serialization.
+ */
+@UtilityClass
+public class ExprValueCodec {
+
+  private static final byte NULL = 0;
+  private static final byte MISSING = 1;
+  private static final byte BOOLEAN = 2;
+  private static final byte BYTE = 3;
+  private static final byte SHORT = 4;
+  private static final byte INTEGER = 5;
+  private static final byte LONG = 6;
+  private static final byte FLOAT = 7;
+  private static final byte DOUBLE = 8;
+  private static final byte STRING = 9;
+  private static final byte DATE = 10;
+  private static final byte TIME = 11;
+  private static final byte DATETIME = 12;
+  private static final byte TIMESTAMP = 13;
+  private static final byte STRUCT = 14;
+  private static final byte ARRAY = 15;
+  private static final byte SERIALIZED = 16;
+
+  /**
+   * Write the {@link ExprValue} to output.
+   */
+  public static void encode(ExprValue value, DataOutput output) throws IOException {
+    Class<?> clazz = value.getClass();
+    if (value.isNull()) {
+      output.writeByte(NULL);
+    } else if (value.isMissing()) {
+      output.writeByte(MISSING);
+    } else if (clazz == ExprBooleanValue.class) {
+      output.writeByte(BOOLEAN);
+      output.writeBoolean(value.booleanValue());
+    } else if (clazz == ExprByteValue.class) {
+      output.writeByte(BYTE);
+      output.writeByte(value.byteValue());
+    } else if (clazz == ExprShortValue.class) {
+      output.writeByte(SHORT);
+      output.writeShort(value.shortValue());
+    } else if (clazz == ExprIntegerValue.class) {
+      output.writeByte(INTEGER);
+      output.writeInt(value.integerValue());
+    } else if (clazz == ExprLongValue.class) {
+      output.writeByte(LONG);
+      output.writeLong(value.longValue());
+    } else if (clazz == ExprFloatValue.class) {
+      output.writeByte(FLOAT);
+      output.writeFloat(value.floatValue());
+    } else if (clazz == ExprDoubleValue.class) {
+      output.writeByte(DOUBLE);
+      output.writeDouble(value.doubleValue());
+    } else if (clazz == ExprStringValue.class) {
+      output.writeByte(STRING);
+      writeBytes(value.stringValue().getBytes(StandardCharsets.UTF_8), output);
+    } else if (clazz == ExprDateValue.class) {
+      output.writeByte(DATE);
+      output.writeLong(value.dateValue().toEpochDay());
+    } else if (clazz == ExprTimeValue.class) {
+      output.writeByte(TIME);
+      output.writeLong(value.timeValue().toNanoOfDay());
+    } else if (clazz == ExprDatetimeValue.class) {
+      output.writeByte(DATETIME);
+      output.writeLong(value.datetimeValue().toLocalDate().toEpochDay());
+      output.writeLong(value.datetimeValue().toLocalTime().toNanoOfDay());
+    } else if (clazz == ExprTimestampValue.class) {
+      output.writeByte(TIMESTAMP);
+      output.writeLong(value.timestampValue().getEpochSecond());
+      output.writeInt(value.timestampValue().getNano());
+    } else if (clazz == ExprTupleValue.class) {
+      output.writeByte(STRUCT);
+      output.writeInt(value.tupleValue().size());
+      for (Map.Entry<String, ExprValue> entry : value.tupleValue().entrySet()) {
+        writeBytes(entry.getKey().getBytes(StandardCharsets.UTF_8), output);
+        encode(entry.getValue(), output);
+      }
+    } else if (clazz == ExprCollectionValue.class) {
+      output.writeByte(ARRAY);
+      output.writeInt(value.collectionValue().size());
+      for (ExprValue element : value.collectionValue()) {
+        encode(element, output);
+      }
+    } else {
+      output.writeByte(SERIALIZED);
+      ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+      try (ObjectOutputStream objectOutput = new ObjectOutputStream(bytes)) {
+        objectOutput.writeObject(value);
+      }
+      writeBytes(bytes.toByteArray(), output);
+    }
+  }
+
+  /**
+   * Read the {@link ExprValue} written by {@link #encode(ExprValue, DataOutput)} from input.
+   */
+  public static ExprValue decode(DataInput input) throws IOException, ClassNotFoundException {
+    byte tag = input.readByte();
+    switch (tag) {
+      case NULL:
+        return ExprNullValue.of();
+      case MISSING:
+        return ExprMissingValue.of();
+      case BOOLEAN:
+        return ExprBooleanValue.of(input.readBoolean());
+      case BYTE:
+        return new ExprByteValue(input.readByte());
+      case SHORT:
+        return new ExprShortValue(input.readShort());
+      case INTEGER:
+        return new ExprIntegerValue(input.readInt());
+      case LONG:
+        return new ExprLongValue(input.readLong());
+      case FLOAT:
+        return new ExprFloatValue(input.readFloat());
+      case DOUBLE:
+        return new ExprDoubleValue(input.readDouble());
+      case STRING:
+        return new ExprStringValue(new String(readBytes(input), StandardCharsets.UTF_8));
+      case DATE:
+        return new ExprDateValue(LocalDate.ofEpochDay(input.readLong()));
+      case TIME:
+        return new ExprTimeValue(LocalTime.ofNanoOfDay(input.readLong()));
+      case DATETIME:
+        return new ExprDatetimeValue(LocalDateTime.of(
+            LocalDate.ofEpochDay(input.readLong()), LocalTime.ofNanoOfDay(input.readLong())));
+      case TIMESTAMP:
+        return new ExprTimestampValue(Instant.ofEpochSecond(input.readLong(), input.readInt()));
+      case STRUCT:
+        int tupleSize = input.readInt();
+        LinkedHashMap<String, ExprValue> valueMap = new LinkedHashMap<>();
+        for (int i = 0; i < tupleSize; i++) {
+          valueMap.put(new String(readBytes(input), StandardCharsets.UTF_8), decode(input));
+        }
+        return new ExprTupleValue(valueMap);
+      case ARRAY:
+        int arraySize = input.readInt();
+        List<ExprValue> valueList = new ArrayList<>(arraySize);
+        for (int i = 0; i < arraySize; i++) {
+          valueList.add(decode(input));
+        }
+        return new ExprCollectionValue(valueList);
+      case SERIALIZED:
+        try (ObjectInputStream objectInput =
+                 new ObjectInputStream(new ByteArrayInputStream(readBytes(input)))) {
+          return (ExprValue) objectInput.readObject();
+        }
+      default:
+        throw new IOException(String.format("unknown tag [%d] of encoded value", tag));
+    }
+  }
+
+  private static void writeBytes(byte[] bytes, DataOutput output) throws IOException {
+    output.writeInt(bytes.length);
+    output.write(bytes);
+  }
+
+  private static byte[] readBytes(DataInput input) throws IOException {
+    byte[] bytes = new byte[input.readInt()];
+    input.readFully(bytes);
+    return bytes;
+  }
+}
@@ -51,6 +51,7 @@ import org.opensearch.sql.planner.physical.RareTopNOperator;
 import org.opensearch.sql.planner.physical.RemoveOperator;
 import org.opensearch.sql.planner.physical.RenameOperator;
 import org.opensearch.sql.planner.physical.SortOperator;
+import org.opensearch.sql.planner.physical.TopNOperator;
 import org.opensearch.sql.planner.physical.ValuesOperator;
 import org.opensearch.sql.planner.physical.WindowOperator;
 import org.opensearch.sql.storage.TableScanOperator;
@@ -100,7 +101,8 @@ public class Explain extends PhysicalPlanNodeVisitor<ExplainResponseNode, Object
   @Override
   public ExplainResponseNode visitWindow(WindowOperator node, Object context) {
     return explain(node, context, explainNode -> explainNode.setDescription(ImmutableMap.of(
-        "function", node.getWindowFunction().toString(),
+        "function", node.getWindowFunctions().stream()
+            .map(Object::toString).collect(Collectors.joining(", ")),
         "definition", ImmutableMap.of(
             "partitionBy", node.getWindowDefinition().getPartitionByList().toString(),
             "sortList", describeSortList(node.getWindowDefinition().getSortList())))));
@@ -163,6 +165,13 @@ public class Explain extends PhysicalPlanNodeVisitor<ExplainResponseNode, Object
         "limit", node.getLimit(), "offset", node.getOffset())));
   }
 
+  @Override
+  public ExplainResponseNode visitTopN(TopNOperator node, Object context) {
+    return explain(node, context, explainNode -> explainNode.setDescription(ImmutableMap.of(
+        "sortList", describeSortList(node.getSortList()),
+        "limit", node.getLimit(), "offset", node.getOffset())));
+  }
+
   protected ExplainResponseNode explain(PhysicalPlan node, Object context,
                                         Consumer<ExplainResponseNode> doExplain) {
     ExplainResponseNode explainNode = new ExplainResponseNode(getOperatorName(node));
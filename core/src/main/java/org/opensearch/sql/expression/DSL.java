@@ -26,9 +26,9 @@
 
 package org.opensearch.sql.expression;
 
-import com.sun.tools.javac.util.List;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.opensearch.sql.data.model.ExprShortValue;
 import org.opensearch.sql.data.model.ExprValue;
@@ -40,6 +40,7 @@ import org.opensearch.sql.expression.conditional.cases.CaseClause;
 import org.opensearch.sql.expression.conditional.cases.WhenClause;
 import org.opensearch.sql.expression.function.BuiltinFunctionName;
 import org.opensearch.sql.expression.function.BuiltinFunctionRepository;
+import org.opensearch.sql.expression.function.FunctionName;
 import org.opensearch.sql.expression.window.ranking.RankingWindowFunction;
 
 @RequiredArgsConstructor
@@ -548,6 +549,14 @@ public class DSL {
     return aggregate(BuiltinFunctionName.MAX, expressions);
   }
 
+  /**
+   * Compile function of the given name with the arguments, ex. to rebuild function expression
+   * after its arguments rewritten.
+   */
+  public FunctionExpression function(FunctionName functionName, List<Expression> expressions) {
+    return (FunctionExpression) repository.compile(functionName, expressions);
+  }
+
   private FunctionExpression function(BuiltinFunctionName functionName, Expression... expressions) {
     return (FunctionExpression) repository.compile(
         functionName.getName(), Arrays.asList(expressions));
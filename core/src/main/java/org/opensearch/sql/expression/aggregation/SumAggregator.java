@@ -40,7 +40,6 @@ import java.util.List;
 import java.util.Locale;
 import org.opensearch.sql.data.model.ExprNullValue;
 import org.opensearch.sql.data.model.ExprValue;
-import org.opensearch.sql.data.model.ExprValueUtils;
 import org.opensearch.sql.data.type.ExprCoreType;
 import org.opensearch.sql.exception.ExpressionEvaluationException;
 import org.opensearch.sql.expression.Expression;
@@ -75,36 +74,39 @@ public class SumAggregator extends Aggregator<SumState> {
   }
 
   /**
-   * Sum State.
+   * Sum State. The running sum is kept as primitive of the return type to avoid
+   * creating a new ExprValue for each value added.
    */
   protected static class SumState implements AggregationState {
 
     private final ExprCoreType type;
-    private ExprValue sumResult;
+    private int intSum;
+    private long longSum;
+    private float floatSum;
+    private double doubleSum;
     private boolean isEmptyCollection;
 
     SumState(ExprCoreType type) {
       this.type = type;
-      sumResult = ExprValueUtils.integerValue(0);
       isEmptyCollection = true;
     }
 
     /**
-     * Add value to current sumResult.
+     * Add value to current sum.
      */
     public void add(ExprValue value) {
       switch (type) {
         case INTEGER:
-          sumResult = integerValue(getIntegerValue(sumResult) + getIntegerValue(value));
+          intSum += getIntegerValue(value);
           break;
         case LONG:
-          sumResult = longValue(getLongValue(sumResult) + getLongValue(value));
+          longSum += getLongValue(value);
           break;
         case FLOAT:
-          sumResult = floatValue(getFloatValue(sumResult) + getFloatValue(value));
+          floatSum += getFloatValue(value);
           break;
         case DOUBLE:
-          sumResult = doubleValue(getDoubleValue(sumResult) + getDoubleValue(value));
+          doubleSum += getDoubleValue(value);
           break;
         default:
           throw new ExpressionEvaluationException(
@@ -114,7 +116,19 @@ public class SumAggregator extends Aggregator<SumState> {
 
     @Override
     public ExprValue result() {
-      return isEmptyCollection ? ExprNullValue.of() : sumResult;
+      if (isEmptyCollection) {
+        return ExprNullValue.of();
+      }
+      switch (type) {
+        case INTEGER:
+          return integerValue(intSum);
+        case LONG:
+          return longValue(longSum);
+        case FLOAT:
+          return floatValue(floatSum);
+        default:
+          return doubleValue(doubleSum);
+      }
     }
   }
 }
@@ -26,16 +26,22 @@
 
 package org.opensearch.sql.expression.datetime;
 
-import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
 import java.time.LocalDate;
-import java.util.Arrays;
 import java.util.Calendar;
+import java.util.Set;
 import lombok.AllArgsConstructor;
 import org.opensearch.sql.exception.SemanticCheckException;
 
 @AllArgsConstructor
 class CalendarLookup {
 
+  private static final Set<Integer> MODES_MINIMAL_5_DAYS = ImmutableSet.of(1, 3);
+
+  private static final Set<Integer> MODES_MINIMAL_4_DAYS = ImmutableSet.of(4, 6);
+
+  private static final Set<Integer> MODES_WEEK_ZERO = ImmutableSet.of(0, 1, 4, 5);
+
   /**
    * Get a calendar for the specific mode.
    * @param mode Mode to get calendar for.
@@ -47,9 +53,9 @@ class CalendarLookup {
           String.format("mode:%s is invalid, please use mode value between 0-7", mode));
     }
     int day = (mode % 2 == 0) ? Calendar.SUNDAY : Calendar.MONDAY;
-    if (ImmutableList.of(1, 3).contains(mode)) {
+    if (MODES_MINIMAL_5_DAYS.contains(mode)) {
       return getCalendar(day, 5, date);
-    } else if (ImmutableList.of(4, 6).contains(mode)) {
+    } else if (MODES_MINIMAL_4_DAYS.contains(mode)) {
       return getCalendar(day, 4, date);
     } else {
       return getCalendar(day, 7, date);
@@ -80,7 +86,7 @@ class CalendarLookup {
     int weekNumber = calendar.get(Calendar.WEEK_OF_YEAR);
     if ((weekNumber > 51)
         && (calendar.get(Calendar.DAY_OF_MONTH) < 7)
-        && Arrays.asList(0, 1, 4, 5).contains(mode)) {
+        && MODES_WEEK_ZERO.contains(mode)) {
       weekNumber = 0;
     }
     return weekNumber;
@@ -11,11 +11,16 @@
 
 package org.opensearch.sql.expression.datetime;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import org.opensearch.sql.data.model.ExprStringValue;
@@ -84,6 +89,25 @@ class DateTimeFormatterUtil {
           String.format("'%d'", CalendarLookup.getYearNumber(3, date.toLocalDate())))
       .build();
 
+  /**
+   * Format specifiers converted to literal text of the date being formatted. Formatter of format
+   * String containing any of them has to be built for each date.
+   */
+  private static final Set<String> DATE_DEPENDENT_SPECIFIERS =
+      ImmutableSet.of("%D", "%f", "%w", "%U", "%u", "%V", "%v", "%X", "%x");
+
+  /**
+   * Max number of distinct format String whose compiled formatter is cached.
+   */
+  static final int FORMATTER_CACHE_SIZE = 100;
+
+  /**
+   * Compiled formatter by format String, which avoids translating format String and building
+   * DateTimeFormatter for each row evaluated.
+   */
+  private static final Cache<String, Function<LocalDateTime, DateTimeFormatter>> FORMATTER_CACHE =
+      CacheBuilder.newBuilder().maximumSize(FORMATTER_CACHE_SIZE).build();
+
   private static final Pattern pattern = Pattern.compile("%.");
   private static final String MOD_LITERAL = "%";
 
@@ -98,7 +122,48 @@ class DateTimeFormatterUtil {
    */
   static ExprValue getFormattedDate(ExprValue dateExpr, ExprValue formatExpr) {
     final LocalDateTime date = dateExpr.datetimeValue();
-    final Matcher matcher = pattern.matcher(formatExpr.stringValue());
+    return new ExprStringValue(date.format(getFormatter(formatExpr.stringValue()).apply(date)));
+  }
+
+  /**
+   * Get the compiled formatter of the format String from cache or compile it if absent.
+   * Invalid format String is not cached because exception is thrown before being put.
+   * @param format the format String.
+   * @return function to get the DateTimeFormatter for date to format.
+   */
+  static Function<LocalDateTime, DateTimeFormatter> getFormatter(String format) {
+    Function<LocalDateTime, DateTimeFormatter> formatter = FORMATTER_CACHE.getIfPresent(format);
+    if (formatter == null) {
+      formatter = compileFormatter(format);
+      FORMATTER_CACHE.put(format, formatter);
+    }
+    return formatter;
+  }
+
+  /**
+   * Compile the format String. DateTimeFormatter is built only once if the format String does
+   * not depend on the date being formatted.
+   */
+  private static Function<LocalDateTime, DateTimeFormatter> compileFormatter(String format) {
+    if (isDateDependent(format)) {
+      return date -> buildFormatter(format, date);
+    }
+    final DateTimeFormatter formatter = buildFormatter(format, null);
+    return date -> formatter;
+  }
+
+  private static boolean isDateDependent(String format) {
+    final Matcher matcher = pattern.matcher(format);
+    while (matcher.find()) {
+      if (DATE_DEPENDENT_SPECIFIERS.contains(matcher.group())) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static DateTimeFormatter buildFormatter(String formatString, LocalDateTime date) {
+    final Matcher matcher = pattern.matcher(formatString);
     final StringBuffer format = new StringBuffer();
     while (matcher.find()) {
       matcher.appendReplacement(format,
@@ -111,8 +176,7 @@ class DateTimeFormatterUtil {
     // English Locale matches SQL requirements.
     // 'AM'/'PM' instead of 'a.m.'/'p.m.'
     // 'Sat' instead of 'Sat.' etc
-    return new ExprStringValue(date.format(
-        DateTimeFormatter.ofPattern(format.toString(), Locale.ENGLISH)));
+    return DateTimeFormatter.ofPattern(format.toString(), Locale.ENGLISH);
   }
 
   /**
@@ -36,16 +36,29 @@ import static org.opensearch.sql.data.type.ExprCoreType.STRING;
 
 import com.google.common.collect.ImmutableTable;
 import com.google.common.collect.Table;
+import java.util.Arrays;
 import java.util.stream.Collectors;
 import lombok.experimental.UtilityClass;
+import org.apache.commons.lang3.tuple.Pair;
 import org.opensearch.sql.data.model.ExprBooleanValue;
+import org.opensearch.sql.data.model.ExprIntegerValue;
 import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.data.type.ExprCoreType;
+import org.opensearch.sql.data.type.ExprType;
+import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.expression.FunctionExpression;
+import org.opensearch.sql.expression.LiteralExpression;
+import org.opensearch.sql.expression.env.Environment;
 import org.opensearch.sql.expression.function.BuiltinFunctionName;
 import org.opensearch.sql.expression.function.BuiltinFunctionRepository;
+import org.opensearch.sql.expression.function.FunctionBuilder;
 import org.opensearch.sql.expression.function.FunctionDSL;
+import org.opensearch.sql.expression.function.FunctionName;
 import org.opensearch.sql.expression.function.FunctionResolver;
+import org.opensearch.sql.expression.function.FunctionSignature;
+import org.opensearch.sql.expression.function.SerializableFunction;
 import org.opensearch.sql.utils.OperatorUtils;
+import org.opensearch.sql.utils.PatternMatcher;
 
 /**
  * The definition of binary predicate function
@@ -253,24 +266,83 @@ public class BinaryPredicateOperator {
   }
 
   private static FunctionResolver like() {
-    return FunctionDSL.define(BuiltinFunctionName.LIKE.getName(), FunctionDSL
-        .impl(FunctionDSL.nullMissingHandling(OperatorUtils::matches), BOOLEAN, STRING,
-            STRING));
+    return FunctionDSL.define(BuiltinFunctionName.LIKE.getName(),
+        patternMatch(OperatorUtils::likeMatcher, ExprBooleanValue::of, BOOLEAN));
   }
 
   private static FunctionResolver regexp() {
-    return FunctionDSL.define(BuiltinFunctionName.REGEXP.getName(), FunctionDSL
-        .impl(FunctionDSL.nullMissingHandling(OperatorUtils::matchesRegexp),
-            INTEGER, STRING, STRING));
+    return FunctionDSL.define(BuiltinFunctionName.REGEXP.getName(),
+        patternMatch(OperatorUtils::regexpMatcher,
+            matched -> new ExprIntegerValue(matched ? 1 : 0), INTEGER));
   }
 
   private static FunctionResolver notLike() {
-    return FunctionDSL.define(BuiltinFunctionName.NOT_LIKE.getName(), FunctionDSL
-        .impl(FunctionDSL.nullMissingHandling(
-            (v1, v2) -> UnaryPredicateOperator.not(OperatorUtils.matches(v1, v2))),
-            BOOLEAN,
-            STRING,
-            STRING));
+    return FunctionDSL.define(BuiltinFunctionName.NOT_LIKE.getName(),
+        patternMatch(OperatorUtils::likeMatcher, matched -> ExprBooleanValue.of(!matched),
+            BOOLEAN));
+  }
+
+  /**
+   * Pattern match function implementation with default NULL and MISSING handling. The pattern is
+   * compiled only once when function expression built if it's a literal. Otherwise the compiled
+   * pattern is looked up from shared cache for each row.
+   *
+   * @param compiler   pattern compiler
+   * @param result     function to convert match result to return value
+   * @param returnType return type
+   * @return Pattern Match Function Implementation.
+   */
+  private static SerializableFunction<FunctionName, Pair<FunctionSignature, FunctionBuilder>>
+      patternMatch(SerializableFunction<String, PatternMatcher> compiler,
+                   SerializableFunction<Boolean, ExprValue> result,
+                   ExprType returnType) {
+
+    return functionName -> {
+      FunctionSignature functionSignature =
+          new FunctionSignature(functionName, Arrays.asList(STRING, STRING));
+      FunctionBuilder functionBuilder = arguments -> {
+        PatternMatcher literalMatcher = compileIfLiteral(arguments.get(1), compiler);
+        return new FunctionExpression(functionName, arguments) {
+          @Override
+          public ExprValue valueOf(Environment<Expression, ExprValue> valueEnv) {
+            ExprValue text = arguments.get(0).valueOf(valueEnv);
+            ExprValue pattern = arguments.get(1).valueOf(valueEnv);
+            if (text.isMissing() || pattern.isMissing()) {
+              return LITERAL_MISSING;
+            } else if (text.isNull() || pattern.isNull()) {
+              return LITERAL_NULL;
+            }
+
+            PatternMatcher matcher = (literalMatcher != null)
+                ? literalMatcher : compiler.apply(pattern.stringValue());
+            return result.apply(matcher.matches(text.stringValue()));
+          }
+
+          @Override
+          public ExprType type() {
+            return returnType;
+          }
+
+          @Override
+          public String toString() {
+            return String.format("%s(%s, %s)", functionName, arguments.get(0).toString(),
+                arguments.get(1).toString());
+          }
+        };
+      };
+      return Pair.of(functionSignature, functionBuilder);
+    };
+  }
+
+  private static PatternMatcher compileIfLiteral(
+      Expression pattern, SerializableFunction<String, PatternMatcher> compiler) {
+    if (pattern instanceof LiteralExpression) {
+      ExprValue value = pattern.valueOf(null);
+      if (!value.isNull() && !value.isMissing()) {
+        return compiler.apply(value.stringValue());
+      }
+    }
+    return null;
   }
 
   private static ExprValue lookupTableFunction(ExprValue arg1, ExprValue arg2,
@@ -53,6 +53,7 @@ import org.opensearch.sql.planner.physical.RareTopNOperator;
 import org.opensearch.sql.planner.physical.RemoveOperator;
 import org.opensearch.sql.planner.physical.RenameOperator;
 import org.opensearch.sql.planner.physical.SortOperator;
+import org.opensearch.sql.planner.physical.TopNOperator;
 import org.opensearch.sql.planner.physical.ValuesOperator;
 import org.opensearch.sql.planner.physical.WindowOperator;
 
@@ -98,7 +99,7 @@ public class DefaultImplementor<C> extends LogicalPlanNodeVisitor<PhysicalPlan,
   public PhysicalPlan visitWindow(LogicalWindow node, C context) {
     return new WindowOperator(
         visitChild(node, context),
-        node.getWindowFunction(),
+        node.getWindowFunctions(),
         node.getWindowDefinition());
   }
 
@@ -138,9 +139,19 @@ public class DefaultImplementor<C> extends LogicalPlanNodeVisitor<PhysicalPlan,
     return new ValuesOperator(node.getValues());
   }
 
+  /**
+   * Sort which is not pushed down to storage and the limit on top of it are implemented
+   * as {@link TopNOperator} to keep only the first limit plus offset rows in memory.
+   */
   @Override
   public PhysicalPlan visitLimit(LogicalLimit node, C context) {
-    return new LimitOperator(visitChild(node, context), node.getLimit(), node.getOffset());
+    PhysicalPlan child = visitChild(node, context);
+    if (child instanceof SortOperator) {
+      SortOperator sort = (SortOperator) child;
+      return new TopNOperator(
+          sort.getInput(), sort.getSortList(), node.getLimit(), node.getOffset());
+    }
+    return new LimitOperator(child, node.getLimit(), node.getOffset());
   }
 
   @Override
@@ -0,0 +1,346 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.sql.planner.cache;
+
+import com.google.common.base.Strings;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.commons.lang3.tuple.ImmutablePair;
+import org.apache.commons.lang3.tuple.Pair;
+import org.opensearch.sql.ast.tree.Sort.SortOption;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.exception.ExpressionEvaluationException;
+import org.opensearch.sql.expression.DSL;
+import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.expression.ExpressionNodeVisitor;
+import org.opensearch.sql.expression.FunctionExpression;
+import org.opensearch.sql.expression.LiteralExpression;
+import org.opensearch.sql.expression.NamedArgumentExpression;
+import org.opensearch.sql.expression.NamedExpression;
+import org.opensearch.sql.expression.ReferenceExpression;
+import org.opensearch.sql.expression.aggregation.Aggregator;
+import org.opensearch.sql.expression.aggregation.NamedAggregator;
+import org.opensearch.sql.expression.conditional.cases.CaseClause;
+import org.opensearch.sql.expression.conditional.cases.WhenClause;
+import org.opensearch.sql.expression.function.BuiltinFunctionRepository;
+import org.opensearch.sql.planner.logical.LogicalAggregation;
+import org.opensearch.sql.planner.logical.LogicalDedupe;
+import org.opensearch.sql.planner.logical.LogicalEval;
+import org.opensearch.sql.planner.logical.LogicalFilter;
+import org.opensearch.sql.planner.logical.LogicalLimit;
+import org.opensearch.sql.planner.logical.LogicalPlan;
+import org.opensearch.sql.planner.logical.LogicalPlanNodeVisitor;
+import org.opensearch.sql.planner.logical.LogicalProject;
+import org.opensearch.sql.planner.logical.LogicalRareTopN;
+import org.opensearch.sql.planner.logical.LogicalRelation;
+import org.opensearch.sql.planner.logical.LogicalRemove;
+import org.opensearch.sql.planner.logical.LogicalRename;
+import org.opensearch.sql.planner.logical.LogicalSort;
+import org.opensearch.sql.planner.logical.LogicalValues;
+import org.opensearch.sql.planner.logical.LogicalWindow;
+
+/**
+ * Copy the logical plan with literals bound to new values. The copy is required even if nothing
+ * is bound because logical plan optimizer replaces child plans in place.
+ * Only the expressions in filter, project, eval and sort are rebuilt with literals bound. In
+ * recording mode, literal expressions found in these expressions are recorded as bindable, and
+ * those anywhere else are recorded as fixed, such as literal in aggregation or in project item
+ * named by its own text. Literals are told apart by identity rather than value, so that literal
+ * expressions analyzed from different literals of the query are never mixed up.
+ */
+@RequiredArgsConstructor
+class PlanBinder extends LogicalPlanNodeVisitor<LogicalPlan, Object> {
+
+  private final BuiltinFunctionRepository repository;
+
+  /**
+   * Mapping from literal expression in plan to new value, which must be an identity map.
+   */
+  private final Map<LiteralExpression, ExprValue> bindings;
+
+  /**
+   * Record literals and names if true.
+   */
+  private final boolean recording;
+
+  private final ExpressionBinder expressionBinder = new ExpressionBinder();
+
+  private final LiteralCollector literalCollector = new LiteralCollector();
+
+  /**
+   * Literals in expressions that can be rebuilt.
+   */
+  @Getter
+  private final Set<LiteralExpression> bindableLiterals =
+      Collections.newSetFromMap(new IdentityHashMap<>());
+
+  /**
+   * Literals anywhere else.
+   */
+  @Getter
+  private final Set<LiteralExpression> fixedLiterals =
+      Collections.newSetFromMap(new IdentityHashMap<>());
+
+  /**
+   * True if any plan node is unknown to binder.
+   */
+  @Getter
+  private boolean unsupported = false;
+
+  @Override
+  public LogicalPlan visitNode(LogicalPlan plan, Object context) {
+    unsupported = true;
+    return plan;
+  }
+
+  @Override
+  public LogicalPlan visitRelation(LogicalRelation plan, Object context) {
+    return new LogicalRelation(plan.getRelationName());
+  }
+
+  @Override
+  public LogicalPlan visitFilter(LogicalFilter plan, Object context) {
+    return new LogicalFilter(child(plan), bind(plan.getCondition()));
+  }
+
+  @Override
+  public LogicalPlan visitAggregation(LogicalAggregation plan, Object context) {
+    collect(plan.getAggregatorList());
+    collect(plan.getGroupByList());
+    return new LogicalAggregation(child(plan), plan.getAggregatorList(), plan.getGroupByList());
+  }
+
+  @Override
+  public LogicalPlan visitDedupe(LogicalDedupe plan, Object context) {
+    collect(plan.getDedupeList());
+    return new LogicalDedupe(child(plan), plan.getDedupeList(), plan.getAllowedDuplication(),
+        plan.getKeepEmpty(), plan.getConsecutive());
+  }
+
+  @Override
+  public LogicalPlan visitRename(LogicalRename plan, Object context) {
+    collect(plan.getRenameMap().keySet());
+    collect(plan.getRenameMap().values());
+    return new LogicalRename(child(plan), plan.getRenameMap());
+  }
+
+  @Override
+  public LogicalPlan visitProject(LogicalProject plan, Object context) {
+    return new LogicalProject(child(plan), plan.getProjectList().stream()
+        .map(expr -> (NamedExpression) bind(expr))
+        .collect(Collectors.toList()), plan.isAllFields());
+  }
+
+  @Override
+  public LogicalPlan visitWindow(LogicalWindow plan, Object context) {
+    collect(plan.getWindowFunctions());
+    plan.getWindowDefinition().getAllSortItems().forEach(item -> collect(item.getRight()));
+    return new LogicalWindow(child(plan), plan.getWindowFunctions(), plan.getWindowDefinition());
+  }
+
+  @Override
+  public LogicalPlan visitRemove(LogicalRemove plan, Object context) {
+    collect(plan.getRemoveList());
+    return new LogicalRemove(child(plan), plan.getRemoveList());
+  }
+
+  @Override
+  public LogicalPlan visitEval(LogicalEval plan, Object context) {
+    return new LogicalEval(child(plan), plan.getExpressions().stream()
+        .<Pair<ReferenceExpression, Expression>>map(pair -> {
+          collect(pair.getLeft());
+          return ImmutablePair.of(pair.getLeft(), bind(pair.getRight()));
+        })
+        .collect(Collectors.toList()));
+  }
+
+  @Override
+  public LogicalPlan visitSort(LogicalSort plan, Object context) {
+    return new LogicalSort(child(plan), plan.getSortList().stream()
+        .<Pair<SortOption, Expression>>map(pair ->
+            ImmutablePair.of(pair.getLeft(), bind(pair.getRight())))
+        .collect(Collectors.toList()));
+  }
+
+  @Override
+  public LogicalPlan visitValues(LogicalValues plan, Object context) {
+    plan.getValues().forEach(this::collect);
+    return new LogicalValues(plan.getValues());
+  }
+
+  @Override
+  public LogicalPlan visitRareTopN(LogicalRareTopN plan, Object context) {
+    collect(plan.getFieldList());
+    collect(plan.getGroupByList());
+    return new LogicalRareTopN(child(plan), plan.getCommandType(), plan.getNoOfResults(),
+        plan.getFieldList(), plan.getGroupByList());
+  }
+
+  @Override
+  public LogicalPlan visitLimit(LogicalLimit plan, Object context) {
+    return new LogicalLimit(child(plan), plan.getLimit(), plan.getOffset());
+  }
+
+  private LogicalPlan child(LogicalPlan plan) {
+    return plan.getChild().get(0).accept(this, null);
+  }
+
+  private Expression bind(Expression expr) {
+    return expr.accept(expressionBinder, null);
+  }
+
+  private List<Expression> bind(List<? extends Expression> exprs) {
+    return exprs.stream().map(this::bind).collect(Collectors.toList());
+  }
+
+  private void collect(Expression expr) {
+    if (recording) {
+      expr.accept(literalCollector, null);
+    }
+  }
+
+  private void collect(Collection<? extends Expression> exprs) {
+    exprs.forEach(this::collect);
+  }
+
+  /**
+   * Function is rebuilt by resolving in function repository again, which is only possible if
+   * it is resolved to the same expression.
+   */
+  private boolean isResolvable(FunctionExpression func) {
+    try {
+      return func.equals(repository.compile(func.getFunctionName(), func.getArguments()));
+    } catch (ExpressionEvaluationException e) {
+      return false;
+    }
+  }
+
+  /**
+   * Rebuild expression with literals bound. Expression that can't be rebuilt is returned as is.
+   */
+  private class ExpressionBinder extends ExpressionNodeVisitor<Expression, Object> {
+
+    @Override
+    public Expression visitNode(Expression node, Object context) {
+      collect(node);
+      return node;
+    }
+
+    @Override
+    public Expression visitLiteral(LiteralExpression node, Object context) {
+      if (recording) {
+        bindableLiterals.add(node);
+      }
+      ExprValue bound = bindings.get(node);
+      return (bound == null) ? node : DSL.literal(bound);
+    }
+
+    /**
+     * Expression without alias is named by its own text in the query, which changes if any
+     * literal in it is bound to another value.
+     */
+    @Override
+    public Expression visitNamed(NamedExpression node, Object context) {
+      if (Strings.isNullOrEmpty(node.getAlias())) {
+        collect(node);
+        return node;
+      }
+      return new NamedExpression(node.getName(), bind(node.getDelegated()), node.getAlias());
+    }
+
+    @Override
+    public Expression visitNamedArgument(NamedArgumentExpression node, Object context) {
+      return new NamedArgumentExpression(node.getArgName(), bind(node.getValue()));
+    }
+
+    @Override
+    public Expression visitFunction(FunctionExpression node, Object context) {
+      if (recording && !isResolvable(node)) {
+        collect(node);
+        return node;
+      }
+
+      List<Expression> arguments = bind(node.getArguments());
+      if (arguments.equals(node.getArguments())) {
+        return node;
+      }
+      return (Expression) repository.compile(node.getFunctionName(), arguments);
+    }
+
+    @Override
+    public Expression visitAggregator(Aggregator<?> node, Object context) {
+      collect(node);
+      return node;
+    }
+
+    @Override
+    public Expression visitNamedAggregator(NamedAggregator node, Object context) {
+      collect(node);
+      return node;
+    }
+
+    /**
+     * Case clause is not registered in function repository and has to be rebuilt directly.
+     */
+    @Override
+    public Expression visitCase(CaseClause node, Object context) {
+      List<WhenClause> whenClauses = node.getWhenClauses().stream()
+          .map(when -> (WhenClause) bind(when))
+          .collect(Collectors.toList());
+      Expression defaultResult =
+          (node.getDefaultResult() == null) ? null : bind(node.getDefaultResult());
+      return new CaseClause(whenClauses, defaultResult);
+    }
+
+    @Override
+    public Expression visitWhen(WhenClause node, Object context) {
+      return new WhenClause(bind(node.getCondition()), bind(node.getResult()));
+    }
+  }
+
+  /**
+   * Record literals in expression that is not rebuilt as fixed.
+   */
+  private class LiteralCollector extends ExpressionNodeVisitor<Void, Object> {
+
+    @Override
+    public Void visitLiteral(LiteralExpression node, Object context) {
+      fixedLiterals.add(node);
+      return null;
+    }
+
+    @Override
+    public Void visitNamedArgument(NamedArgumentExpression node, Object context) {
+      return node.getValue().accept(this, context);
+    }
+
+    @Override
+    public Void visitAggregator(Aggregator<?> node, Object context) {
+      if (node.condition() != null) {
+        node.condition().accept(this, context);
+      }
+      return visitChildren(node, context);
+    }
+
+    @Override
+    public Void visitNamedAggregator(NamedAggregator node, Object context) {
+      return visitAggregator(node, context);
+    }
+  }
+}
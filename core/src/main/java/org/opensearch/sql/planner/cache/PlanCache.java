@@ -0,0 +1,119 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.sql.planner.cache;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import org.opensearch.sql.expression.LiteralExpression;
+import org.opensearch.sql.expression.function.BuiltinFunctionRepository;
+import org.opensearch.sql.planner.logical.LogicalPlan;
+
+/**
+ * LRU cache of analyzed logical plan keyed by query fingerprint, so that query of the same shape
+ * as a previous one skips parsing and analysis. The cached plan is bound to the literals of each
+ * query and only shared by SQL and PPL queries on the node. Owner of the cache is responsible to
+ * invalidate it once field types of any table may have changed.
+ */
+public class PlanCache {
+
+  /**
+   * Max number of query shapes cached.
+   */
+  public static final int PLAN_CACHE_SIZE = 1000;
+
+  private final AtomicLong hitCount = new AtomicLong();
+
+  private final AtomicLong missCount = new AtomicLong();
+
+  private final AtomicLong evictionCount = new AtomicLong();
+
+  private final Cache<String, PlanTemplate> cache;
+
+  /**
+   * Create plan cache of default size.
+   */
+  public PlanCache() {
+    this(PLAN_CACHE_SIZE);
+  }
+
+  /**
+   * Create plan cache of the given size.
+   */
+  public PlanCache(int maxSize) {
+    this.cache = CacheBuilder.newBuilder()
+        .maximumSize(maxSize)
+        .<String, PlanTemplate>removalListener(notification -> {
+          if (notification.wasEvicted()) {
+            evictionCount.incrementAndGet();
+          }
+        })
+        .build();
+  }
+
+  /**
+   * Get logical plan cached for the query shape with literals of the query bound.
+   *
+   * @param fingerprint query fingerprint
+   * @return logical plan or empty if not cached or any fixed literal is different
+   */
+  public Optional<LogicalPlan> get(QueryFingerprint fingerprint) {
+    PlanTemplate template = cache.getIfPresent(fingerprint.getShape());
+    Optional<LogicalPlan> plan = (template == null) ? Optional.empty()
+        : template.bind(fingerprint.getLiteralValues());
+
+    if (plan.isPresent()) {
+      hitCount.incrementAndGet();
+    } else {
+      missCount.incrementAndGet();
+    }
+    return plan;
+  }
+
+  /**
+   * Cache the logical plan analyzed for the query. This must be called before the logical plan
+   * is optimized, because the optimizer changes plan nodes in place.
+   *
+   * @param fingerprint query fingerprint
+   * @param plan        analyzed logical plan
+   * @param literals    literal expressions analyzed from literal at each position of query text
+   * @param repository  function repository to rebuild function with literal bound
+   */
+  public void put(QueryFingerprint fingerprint, LogicalPlan plan,
+                  Map<Integer, List<LiteralExpression>> literals,
+                  BuiltinFunctionRepository repository) {
+    PlanTemplate.create(plan, fingerprint, literals, repository)
+        .ifPresent(template -> cache.put(fingerprint.getShape(), template));
+  }
+
+  /**
+   * Remove all the plans cached, ex. when field types of any table may have changed.
+   */
+  public void invalidateAll() {
+    cache.invalidateAll();
+  }
+
+  public long getHitCount() {
+    return hitCount.get();
+  }
+
+  public long getMissCount() {
+    return missCount.get();
+  }
+
+  public long getEvictionCount() {
+    return evictionCount.get();
+  }
+}
@@ -0,0 +1,98 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.sql.planner.cache;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.expression.LiteralExpression;
+import org.opensearch.sql.expression.function.BuiltinFunctionRepository;
+import org.opensearch.sql.planner.logical.LogicalPlan;
+
+/**
+ * Analyzed logical plan of a query shape along with its literal slots.
+ * The literal of a slot is bindable if all the literal expressions analyzed from it are found in
+ * expressions that can be rebuilt with another value. Otherwise the literal is fixed and the
+ * template is only reused by query with the same literal in the slot. Template is removed from
+ * plan cache by its owner once field types of any table may have changed.
+ */
+@RequiredArgsConstructor
+class PlanTemplate {
+
+  /**
+   * Private copy of the analyzed logical plan which is never optimized.
+   */
+  private final LogicalPlan plan;
+
+  private final List<ExprValue> literalValues;
+
+  /**
+   * Literal expressions in plan copy analyzed from each slot, or null if the slot is fixed.
+   */
+  private final List<List<LiteralExpression>> bindableLiterals;
+
+  private final BuiltinFunctionRepository repository;
+
+  /**
+   * Create template from logical plan analyzed for the query.
+   *
+   * @param literals literal expressions analyzed from literal at each position of query text
+   * @return template or empty if any plan node is not supported
+   */
+  static Optional<PlanTemplate> create(LogicalPlan plan,
+                                       QueryFingerprint fingerprint,
+                                       Map<Integer, List<LiteralExpression>> literals,
+                                       BuiltinFunctionRepository repository) {
+    PlanBinder binder = new PlanBinder(repository, Collections.emptyMap(), true);
+    LogicalPlan copy = plan.accept(binder, null);
+    if (binder.isUnsupported()) {
+      return Optional.empty();
+    }
+
+    List<ExprValue> values = fingerprint.getLiteralValues();
+    List<List<LiteralExpression>> bindableLiterals = new ArrayList<>();
+    for (int i = 0; i < values.size(); i++) {
+      List<LiteralExpression> analyzed = literals.getOrDefault(
+          fingerprint.getLiteralPositions().get(i), Collections.emptyList());
+      ExprValue value = values.get(i);
+      boolean bindable = !analyzed.isEmpty() && analyzed.stream().allMatch(literal ->
+          binder.getBindableLiterals().contains(literal)
+              && !binder.getFixedLiterals().contains(literal)
+              && literal.valueOf(null).equals(value));
+      bindableLiterals.add(bindable ? analyzed : null);
+    }
+    return Optional.of(new PlanTemplate(copy, values, bindableLiterals, repository));
+  }
+
+  /**
+   * Bind the literals of another query of the same shape to the template.
+   *
+   * @return logical plan or empty if any fixed literal is different
+   */
+  Optional<LogicalPlan> bind(List<ExprValue> values) {
+    Map<LiteralExpression, ExprValue> bindings = new IdentityHashMap<>();
+    for (int i = 0; i < values.size(); i++) {
+      if (bindableLiterals.get(i) != null) {
+        ExprValue value = values.get(i);
+        bindableLiterals.get(i).forEach(literal -> bindings.put(literal, value));
+      } else if (!literalValues.get(i).equals(values.get(i))) {
+        return Optional.empty();
+      }
+    }
+    return Optional.of(plan.accept(new PlanBinder(repository, bindings, false), null));
+  }
+}
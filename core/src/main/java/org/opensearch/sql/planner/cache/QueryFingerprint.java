@@ -0,0 +1,139 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.sql.planner.cache;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.StringJoiner;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.opensearch.sql.common.utils.StringUtils;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.data.model.ExprValueUtils;
+
+/**
+ * Fingerprint of a query which identifies queries of the same shape regardless of literal values.
+ * The shape is the token sequence with each literal masked by a placeholder of its type, and the
+ * literals are extracted in order as slots to be bound to the plan cached for the shape.
+ */
+@Getter
+@RequiredArgsConstructor
+public class QueryFingerprint {
+
+  private static final String MASK_LITERAL = "***";
+
+  /**
+   * Token sequence with literals masked, which is the key of plan cache.
+   */
+  private final String shape;
+
+  /**
+   * Original text of each literal in the query.
+   */
+  private final List<String> literalTexts;
+
+  /**
+   * Value of each literal in the query.
+   */
+  private final List<ExprValue> literalValues;
+
+  /**
+   * Start index of each literal in the query text.
+   */
+  private final List<Integer> literalPositions;
+
+  /**
+   * Query with literals masked which is safe to log.
+   */
+  private final String maskedQuery;
+
+  public static Builder builder(String language) {
+    return new Builder(language);
+  }
+
+  @Override
+  public String toString() {
+    return maskedQuery;
+  }
+
+  /**
+   * Builder that accepts tokens of a query in order. Literal value is converted the same way as
+   * AST builder does, and literal failed to convert is left in the shape as normal token.
+   */
+  public static class Builder {
+    private final StringBuilder shape;
+    private final List<String> literalTexts = new ArrayList<>();
+    private final List<ExprValue> literalValues = new ArrayList<>();
+    private final List<Integer> literalPositions = new ArrayList<>();
+    private final StringJoiner maskedQuery = new StringJoiner(" ");
+
+    private Builder(String language) {
+      this.shape = new StringBuilder(language).append('|');
+    }
+
+    /**
+     * Add a token other than literal. Token is prefixed by its length in shape so that
+     * different token sequences never have the same shape. Whitespace and comment are required
+     * in shape too because original query text is used as column name.
+     */
+    public Builder token(String text) {
+      shape.append(text.length()).append(':').append(text);
+      if (!text.trim().isEmpty()) {
+        maskedQuery.add(text);
+      }
+      return this;
+    }
+
+    public Builder stringLiteral(int position, String text) {
+      return literal(position, text,
+          ExprValueUtils.stringValue(StringUtils.unquoteText(text)));
+    }
+
+    /**
+     * Add an integral literal which is integer if in range or long otherwise.
+     */
+    public Builder integerLiteral(int position, String text) {
+      try {
+        long number = Long.parseLong(text);
+        if (Integer.MIN_VALUE <= number && number <= Integer.MAX_VALUE) {
+          return literal(position, text, ExprValueUtils.integerValue((int) number));
+        }
+        return literal(position, text, ExprValueUtils.longValue(number));
+      } catch (NumberFormatException e) {
+        return token(text);
+      }
+    }
+
+    public Builder doubleLiteral(int position, String text) {
+      return literal(position, text, ExprValueUtils.doubleValue(Double.valueOf(text)));
+    }
+
+    /**
+     * Literal is masked by the name of its type in shape, so that literals of different types
+     * which may be analyzed to different functions are never mixed up. The position is the
+     * start index of the literal token in query text which identifies the literal in AST.
+     */
+    private Builder literal(int position, String text, ExprValue value) {
+      shape.append('?').append(value.type().typeName()).append(';');
+      literalTexts.add(text);
+      literalValues.add(value);
+      literalPositions.add(position);
+      maskedQuery.add(MASK_LITERAL);
+      return this;
+    }
+
+    public QueryFingerprint build() {
+      return new QueryFingerprint(shape.toString(), literalTexts, literalValues,
+          literalPositions, maskedQuery.toString());
+    }
+  }
+}
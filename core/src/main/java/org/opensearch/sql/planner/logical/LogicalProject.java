@@ -43,14 +43,34 @@ public class LogicalProject extends LogicalPlan {
   @Getter
   private final List<NamedExpression> projectList;
 
+  /**
+   * Is the project list expanded from all fields, ex. the project PPL adds implicitly if no
+   * fields command at the end, which keeps all fields of its child as is.
+   */
+  @Getter
+  @EqualsAndHashCode.Exclude
+  @ToString.Exclude
+  private final boolean allFields;
+
   /**
    * Constructor of LogicalProject.
    */
   public LogicalProject(
       LogicalPlan child,
       List<NamedExpression> projectList) {
+    this(child, projectList, false);
+  }
+
+  /**
+   * Constructor of LogicalProject.
+   */
+  public LogicalProject(
+      LogicalPlan child,
+      List<NamedExpression> projectList,
+      boolean allFields) {
     super(Collections.singletonList(child));
     this.projectList = projectList;
+    this.allFields = allFields;
   }
 
   @Override
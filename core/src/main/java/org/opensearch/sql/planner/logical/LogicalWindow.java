@@ -28,6 +28,7 @@
 package org.opensearch.sql.planner.logical;
 
 import java.util.Collections;
+import java.util.List;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.ToString;
@@ -37,13 +38,14 @@ import org.opensearch.sql.expression.window.WindowDefinition;
 /**
  * Logical operator for window function generated from project list. Logically, each window operator
  * has to work with a Sort operator to ensure input data is sorted as required by window definition.
- * However, the Sort operator may be removed after logical optimization.
+ * However, the Sort operator may be removed after logical optimization. Window functions on the
+ * same window definition may be merged into one window operator and evaluated in single pass.
  */
 @EqualsAndHashCode(callSuper = true)
 @Getter
 @ToString
 public class LogicalWindow extends LogicalPlan {
-  private final NamedExpression windowFunction;
+  private final List<NamedExpression> windowFunctions;
   private final WindowDefinition windowDefinition;
 
   /**
@@ -53,8 +55,18 @@ public class LogicalWindow extends LogicalPlan {
       LogicalPlan child,
       NamedExpression windowFunction,
       WindowDefinition windowDefinition) {
+    this(child, Collections.singletonList(windowFunction), windowDefinition);
+  }
+
+  /**
+   * Constructor of logical window with all the window functions on same window definition.
+   */
+  public LogicalWindow(
+      LogicalPlan child,
+      List<NamedExpression> windowFunctions,
+      WindowDefinition windowDefinition) {
     super(Collections.singletonList(child));
-    this.windowFunction = windowFunction;
+    this.windowFunctions = windowFunctions;
     this.windowDefinition = windowDefinition;
   }
 
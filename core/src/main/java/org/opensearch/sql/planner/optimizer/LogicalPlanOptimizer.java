@@ -36,8 +36,17 @@ import java.util.List;
 import java.util.stream.Collectors;
 import org.opensearch.sql.expression.DSL;
 import org.opensearch.sql.planner.logical.LogicalPlan;
+import org.opensearch.sql.planner.optimizer.rule.FoldConstantInEval;
+import org.opensearch.sql.planner.optimizer.rule.FoldConstantInFilter;
 import org.opensearch.sql.planner.optimizer.rule.MergeFilterAndFilter;
+import org.opensearch.sql.planner.optimizer.rule.MergeSortAndWindow;
+import org.opensearch.sql.planner.optimizer.rule.MergeWindowAndWindow;
+import org.opensearch.sql.planner.optimizer.rule.PushFilterUnderEval;
+import org.opensearch.sql.planner.optimizer.rule.PushFilterUnderProject;
+import org.opensearch.sql.planner.optimizer.rule.PushFilterUnderRename;
 import org.opensearch.sql.planner.optimizer.rule.PushFilterUnderSort;
+import org.opensearch.sql.planner.optimizer.rule.PushProjectUnderEval;
+import org.opensearch.sql.planner.optimizer.rule.PushProjectUnderRename;
 
 /**
  * {@link LogicalPlan} Optimizer.
@@ -62,8 +71,17 @@ public class LogicalPlanOptimizer {
    */
   public static LogicalPlanOptimizer create(DSL dsl) {
     return new LogicalPlanOptimizer(Arrays.asList(
+        new FoldConstantInFilter(dsl),
+        new FoldConstantInEval(dsl),
         new MergeFilterAndFilter(dsl),
-        new PushFilterUnderSort()));
+        new PushFilterUnderSort(),
+        new PushFilterUnderEval(dsl),
+        new PushFilterUnderRename(dsl),
+        new PushFilterUnderProject(dsl),
+        new PushProjectUnderEval(),
+        new PushProjectUnderRename(),
+        new MergeSortAndWindow(),
+        new MergeWindowAndWindow()));
   }
 
   /**
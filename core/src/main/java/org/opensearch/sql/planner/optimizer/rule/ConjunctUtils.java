@@ -0,0 +1,135 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+
+package org.opensearch.sql.planner.optimizer.rule;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import lombok.experimental.UtilityClass;
+import org.opensearch.sql.expression.DSL;
+import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.expression.ExpressionNodeVisitor;
+import org.opensearch.sql.expression.FunctionExpression;
+import org.opensearch.sql.expression.NamedArgumentExpression;
+import org.opensearch.sql.expression.ReferenceExpression;
+import org.opensearch.sql.expression.function.BuiltinFunctionName;
+
+@UtilityClass
+public class ConjunctUtils {
+
+  private static final ReferenceCollector REFERENCE_COLLECTOR = new ReferenceCollector();
+
+  /**
+   * Split condition into conjuncts connected by AND.
+   *
+   * @param condition condition
+   * @return conjuncts in the order of appearance
+   */
+  public static List<Expression> splitConjuncts(Expression condition) {
+    List<Expression> conjuncts = new ArrayList<>();
+    collectConjuncts(condition, conjuncts);
+    return conjuncts;
+  }
+
+  /**
+   * Combine conjuncts by AND.
+   *
+   * @param dsl       DSL
+   * @param conjuncts non-empty conjuncts
+   * @return single condition
+   */
+  public static Expression combineConjuncts(DSL dsl, List<Expression> conjuncts) {
+    Expression condition = conjuncts.get(0);
+    for (int i = 1; i < conjuncts.size(); i++) {
+      condition = dsl.and(condition, conjuncts.get(i));
+    }
+    return condition;
+  }
+
+  /**
+   * Partition conjuncts of the condition into those can be pushed down (true) or not (false)
+   * by the fields referenced. Conjunct that may refer to field by name in string literal is never
+   * pushed down because the name cannot be checked or replaced.
+   *
+   * @param condition condition
+   * @param pushable  test on the fields referenced by a conjunct
+   * @return conjuncts partitioned
+   */
+  public static Map<Boolean, List<Expression>> partitionConjuncts(
+      Expression condition, Predicate<Set<ReferenceExpression>> pushable) {
+    return splitConjuncts(condition).stream()
+        .collect(Collectors.partitioningBy(
+            conjunct -> findReferences(conjunct).map(pushable::test).orElse(false)));
+  }
+
+  /**
+   * Find fields referenced by the expression.
+   *
+   * @param expression expression
+   * @return fields referenced in the order of appearance, or empty if any field may be referred
+   *         by name in string literal, ex. field argument of relevance function.
+   */
+  public static Optional<Set<ReferenceExpression>> findReferences(Expression expression) {
+    Set<ReferenceExpression> references = new LinkedHashSet<>();
+    if (expression.accept(REFERENCE_COLLECTOR, references)) {
+      return Optional.of(references);
+    }
+    return Optional.empty();
+  }
+
+  private static void collectConjuncts(Expression condition, List<Expression> conjuncts) {
+    if ((condition instanceof FunctionExpression)
+        && ((FunctionExpression) condition).getFunctionName()
+            .equals(BuiltinFunctionName.AND.getName())) {
+      for (Expression argument : ((FunctionExpression) condition).getArguments()) {
+        collectConjuncts(argument, conjuncts);
+      }
+    } else {
+      conjuncts.add(condition);
+    }
+  }
+
+  /**
+   * Collect references into the set given and return false if any named argument found.
+   */
+  private static class ReferenceCollector
+      extends ExpressionNodeVisitor<Boolean, Set<ReferenceExpression>> {
+
+    @Override
+    public Boolean visitNode(Expression node, Set<ReferenceExpression> context) {
+      return true;
+    }
+
+    @Override
+    public Boolean visitReference(ReferenceExpression node, Set<ReferenceExpression> context) {
+      context.add(node);
+      return true;
+    }
+
+    @Override
+    public Boolean visitFunction(FunctionExpression node, Set<ReferenceExpression> context) {
+      return node.getArguments().stream().allMatch(arg -> arg.accept(this, context));
+    }
+
+    @Override
+    public Boolean visitNamedArgument(NamedArgumentExpression node,
+                                      Set<ReferenceExpression> context) {
+      return false;
+    }
+  }
+}
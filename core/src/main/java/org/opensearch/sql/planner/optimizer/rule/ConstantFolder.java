@@ -0,0 +1,150 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.sql.planner.optimizer.rule;
+
+import com.google.common.collect.ImmutableSet;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.expression.DSL;
+import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.expression.ExpressionNodeVisitor;
+import org.opensearch.sql.expression.FunctionExpression;
+import org.opensearch.sql.expression.LiteralExpression;
+import org.opensearch.sql.expression.NamedExpression;
+import org.opensearch.sql.expression.aggregation.Aggregator;
+import org.opensearch.sql.expression.aggregation.NamedAggregator;
+import org.opensearch.sql.expression.conditional.cases.CaseClause;
+import org.opensearch.sql.expression.conditional.cases.WhenClause;
+import org.opensearch.sql.expression.function.BuiltinFunctionName;
+import org.opensearch.sql.expression.function.FunctionName;
+import org.opensearch.sql.expression.window.WindowFunctionExpression;
+
+/**
+ * Fold deterministic function over literals into literal, ex. abs(-5) * 3 into 15, so that it is
+ * evaluated once per query rather than per row and could be pushed down to storage as well.
+ * The same expression instance is returned if nothing folded.
+ */
+@RequiredArgsConstructor
+public class ConstantFolder extends ExpressionNodeVisitor<Expression, Void> {
+
+  /**
+   * Functions which may return different value for same arguments.
+   */
+  private static final Set<FunctionName> NON_DETERMINISTIC_FUNCTIONS =
+      ImmutableSet.of(BuiltinFunctionName.RAND.getName());
+
+  private final DSL dsl;
+
+  public Expression fold(Expression expression) {
+    return expression.accept(this, null);
+  }
+
+  @Override
+  public Expression visitNode(Expression node, Void context) {
+    return node;
+  }
+
+  @Override
+  public Expression visitNamed(NamedExpression node, Void context) {
+    return node;
+  }
+
+  @Override
+  public Expression visitAggregator(Aggregator<?> node, Void context) {
+    return node;
+  }
+
+  @Override
+  public Expression visitNamedAggregator(NamedAggregator node, Void context) {
+    return node;
+  }
+
+  @Override
+  public Expression visitFunction(FunctionExpression node, Void context) {
+    if (node instanceof WindowFunctionExpression
+        || NON_DETERMINISTIC_FUNCTIONS.contains(node.getFunctionName())) {
+      return node;
+    }
+
+    List<Expression> arguments = foldAll(node.getArguments());
+    FunctionExpression function = (arguments == node.getArguments())
+        ? node : dsl.function(node.getFunctionName(), arguments);
+    if (arguments.stream().allMatch(arg -> arg instanceof LiteralExpression)) {
+      return evaluate(function);
+    }
+    return function;
+  }
+
+  /**
+   * Case clause is not registered in function repository, so only its branches are folded.
+   */
+  @Override
+  public Expression visitCase(CaseClause node, Void context) {
+    List<WhenClause> whenClauses = new ArrayList<>();
+    boolean changed = false;
+    for (WhenClause whenClause : node.getWhenClauses()) {
+      WhenClause folded = (WhenClause) whenClause.accept(this, context);
+      whenClauses.add(folded);
+      changed |= (folded != whenClause);
+    }
+
+    Expression defaultResult = node.getDefaultResult();
+    if (defaultResult != null) {
+      defaultResult = fold(defaultResult);
+      changed |= (defaultResult != node.getDefaultResult());
+    }
+    return changed ? new CaseClause(whenClauses, defaultResult) : node;
+  }
+
+  @Override
+  public Expression visitWhen(WhenClause node, Void context) {
+    Expression condition = fold(node.getCondition());
+    Expression result = fold(node.getResult());
+    if (condition == node.getCondition() && result == node.getResult()) {
+      return node;
+    }
+    return new WhenClause(condition, result);
+  }
+
+  /**
+   * Fold all the expressions and return the same list if nothing folded.
+   */
+  private List<Expression> foldAll(List<Expression> expressions) {
+    List<Expression> folded = new ArrayList<>();
+    boolean changed = false;
+    for (Expression expression : expressions) {
+      Expression result = fold(expression);
+      folded.add(result);
+      changed |= (result != expression);
+    }
+    return changed ? folded : expressions;
+  }
+
+  /**
+   * Evaluate function over literals. Function is not folded if the value is of different type,
+   * ex. NULL, or evaluation fails in which case it fails at execution time as before.
+   */
+  private Expression evaluate(FunctionExpression function) {
+    try {
+      ExprValue value = function.valueOf(null);
+      if (value.type().equals(function.type())) {
+        return new LiteralExpression(value);
+      }
+    } catch (RuntimeException e) {
+      // Ignore and leave the function as is
+    }
+    return function;
+  }
+}
@@ -0,0 +1,59 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.sql.planner.optimizer.rule;
+
+import static com.facebook.presto.matching.Pattern.typeOf;
+
+import com.facebook.presto.matching.Captures;
+import com.facebook.presto.matching.Pattern;
+import java.util.List;
+import java.util.stream.Collectors;
+import lombok.Getter;
+import lombok.experimental.Accessors;
+import org.apache.commons.lang3.tuple.Pair;
+import org.opensearch.sql.expression.DSL;
+import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.expression.ReferenceExpression;
+import org.opensearch.sql.planner.logical.LogicalEval;
+import org.opensearch.sql.planner.logical.LogicalPlan;
+import org.opensearch.sql.planner.optimizer.Rule;
+
+/**
+ * Fold constant in the expressions of Eval.
+ */
+public class FoldConstantInEval implements Rule<LogicalEval> {
+
+  private final ConstantFolder folder;
+
+  @Accessors(fluent = true)
+  @Getter
+  private final Pattern<LogicalEval> pattern;
+
+  /**
+   * Constructor of FoldConstantInEval.
+   */
+  public FoldConstantInEval(DSL dsl) {
+    this.folder = new ConstantFolder(dsl);
+    this.pattern = typeOf(LogicalEval.class)
+        .matching(eval -> eval.getExpressions().stream()
+            .anyMatch(expr -> folder.fold(expr.getRight()) != expr.getRight()));
+  }
+
+  @Override
+  public LogicalPlan apply(LogicalEval eval,
+                           Captures captures) {
+    List<Pair<ReferenceExpression, Expression>> expressions = eval.getExpressions().stream()
+        .map(expr -> Pair.of(expr.getLeft(), folder.fold(expr.getRight())))
+        .collect(Collectors.toList());
+    return new LogicalEval(eval.getChild().get(0), expressions);
+  }
+}
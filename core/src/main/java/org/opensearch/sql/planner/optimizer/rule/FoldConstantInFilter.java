@@ -0,0 +1,57 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.sql.planner.optimizer.rule;
+
+import static com.facebook.presto.matching.Pattern.typeOf;
+import static org.opensearch.sql.data.model.ExprValueUtils.LITERAL_TRUE;
+
+import com.facebook.presto.matching.Captures;
+import com.facebook.presto.matching.Pattern;
+import lombok.Getter;
+import lombok.experimental.Accessors;
+import org.opensearch.sql.expression.DSL;
+import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.expression.LiteralExpression;
+import org.opensearch.sql.planner.logical.LogicalFilter;
+import org.opensearch.sql.planner.logical.LogicalPlan;
+import org.opensearch.sql.planner.optimizer.Rule;
+
+/**
+ * Fold constant in Filter condition. The Filter is removed if its condition is always true.
+ */
+public class FoldConstantInFilter implements Rule<LogicalFilter> {
+
+  private final ConstantFolder folder;
+
+  @Accessors(fluent = true)
+  @Getter
+  private final Pattern<LogicalFilter> pattern;
+
+  /**
+   * Constructor of FoldConstantInFilter.
+   */
+  public FoldConstantInFilter(DSL dsl) {
+    this.folder = new ConstantFolder(dsl);
+    this.pattern = typeOf(LogicalFilter.class)
+        .matching(filter -> folder.fold(filter.getCondition()) != filter.getCondition());
+  }
+
+  @Override
+  public LogicalPlan apply(LogicalFilter filter,
+                           Captures captures) {
+    Expression condition = folder.fold(filter.getCondition());
+    if (condition instanceof LiteralExpression && LITERAL_TRUE.equals(condition.valueOf(null))) {
+      return filter.getChild().get(0);
+    }
+    return new LogicalFilter(filter.getChild().get(0), condition);
+  }
+}
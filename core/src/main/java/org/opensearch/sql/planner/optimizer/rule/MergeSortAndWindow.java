@@ -0,0 +1,68 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+
+package org.opensearch.sql.planner.optimizer.rule;
+
+import static com.facebook.presto.matching.Pattern.typeOf;
+import static org.opensearch.sql.planner.optimizer.pattern.Patterns.source;
+
+import com.facebook.presto.matching.Capture;
+import com.facebook.presto.matching.Captures;
+import com.facebook.presto.matching.Pattern;
+import java.util.List;
+import lombok.Getter;
+import lombok.experimental.Accessors;
+import org.apache.commons.lang3.tuple.Pair;
+import org.opensearch.sql.ast.tree.Sort.SortOption;
+import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.planner.logical.LogicalPlan;
+import org.opensearch.sql.planner.logical.LogicalSort;
+import org.opensearch.sql.planner.logical.LogicalWindow;
+import org.opensearch.sql.planner.optimizer.Rule;
+
+/**
+ * Remove Sort over Window if the sort list is prefix of all sort items of the window definition.
+ * Window operator keeps the order of input which is sorted by its sort items already, so window
+ * functions on same window definition share the sort of the first one.
+ * Sort - Window - Child --> Window - Child
+ */
+public class MergeSortAndWindow implements Rule<LogicalSort> {
+
+  private final Capture<LogicalWindow> capture;
+
+  @Accessors(fluent = true)
+  @Getter
+  private final Pattern<LogicalSort> pattern;
+
+  /**
+   * Constructor of MergeSortAndWindow.
+   */
+  public MergeSortAndWindow() {
+    this.capture = Capture.newCapture();
+    this.pattern = typeOf(LogicalSort.class)
+        .with(source().matching(typeOf(LogicalWindow.class).capturedAs(capture)))
+        .matching(sort -> isPrefix(sort.getSortList(),
+            ((LogicalWindow) sort.getChild().get(0)).getWindowDefinition().getAllSortItems()));
+  }
+
+  @Override
+  public LogicalPlan apply(LogicalSort sort,
+                           Captures captures) {
+    return captures.get(capture);
+  }
+
+  private boolean isPrefix(List<Pair<SortOption, Expression>> sortList,
+                           List<Pair<SortOption, Expression>> windowSortItems) {
+    return sortList.size() <= windowSortItems.size()
+        && sortList.equals(windowSortItems.subList(0, sortList.size()));
+  }
+}
@@ -0,0 +1,75 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+
+package org.opensearch.sql.planner.optimizer.rule;
+
+import static com.facebook.presto.matching.Pattern.typeOf;
+import static org.opensearch.sql.planner.optimizer.pattern.Patterns.source;
+
+import com.facebook.presto.matching.Capture;
+import com.facebook.presto.matching.Captures;
+import com.facebook.presto.matching.Pattern;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Getter;
+import lombok.experimental.Accessors;
+import org.opensearch.sql.expression.NamedExpression;
+import org.opensearch.sql.expression.window.ranking.RankingWindowFunction;
+import org.opensearch.sql.planner.logical.LogicalPlan;
+import org.opensearch.sql.planner.logical.LogicalWindow;
+import org.opensearch.sql.planner.optimizer.Rule;
+
+/**
+ * Merge Window --> Window on same window definition to the single Window which evaluates all
+ * the window functions in one pass. Only ranking functions are merged because they only read the
+ * current row window frame which can be shared, whereas aggregate window function consumes the
+ * peer rows in its frame.
+ */
+public class MergeWindowAndWindow implements Rule<LogicalWindow> {
+
+  private final Capture<LogicalWindow> capture;
+
+  @Accessors(fluent = true)
+  @Getter
+  private final Pattern<LogicalWindow> pattern;
+
+  /**
+   * Constructor of MergeWindowAndWindow.
+   */
+  public MergeWindowAndWindow() {
+    this.capture = Capture.newCapture();
+    this.pattern = typeOf(LogicalWindow.class)
+        .matching(MergeWindowAndWindow::isRankingOnly)
+        .with(source().matching(typeOf(LogicalWindow.class)
+            .matching(MergeWindowAndWindow::isRankingOnly)
+            .capturedAs(capture)))
+        .matching(window -> window.getWindowDefinition().equals(
+            ((LogicalWindow) window.getChild().get(0)).getWindowDefinition()));
+  }
+
+  @Override
+  public LogicalPlan apply(LogicalWindow window,
+                           Captures captures) {
+    LogicalWindow childWindow = captures.get(capture);
+    List<NamedExpression> windowFunctions = new ArrayList<>(childWindow.getWindowFunctions());
+    windowFunctions.addAll(window.getWindowFunctions());
+    return new LogicalWindow(
+        childWindow.getChild().get(0),
+        windowFunctions,
+        window.getWindowDefinition());
+  }
+
+  private static boolean isRankingOnly(LogicalWindow window) {
+    return window.getWindowFunctions().stream()
+        .allMatch(func -> func.getDelegated() instanceof RankingWindowFunction);
+  }
+}
@@ -0,0 +1,85 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+
+package org.opensearch.sql.planner.optimizer.rule;
+
+import static com.facebook.presto.matching.Pattern.typeOf;
+import static org.opensearch.sql.planner.optimizer.pattern.Patterns.source;
+import static org.opensearch.sql.planner.optimizer.rule.ConjunctUtils.combineConjuncts;
+import static org.opensearch.sql.planner.optimizer.rule.ConjunctUtils.partitionConjuncts;
+
+import com.facebook.presto.matching.Capture;
+import com.facebook.presto.matching.Captures;
+import com.facebook.presto.matching.Pattern;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.Getter;
+import lombok.experimental.Accessors;
+import org.opensearch.sql.expression.DSL;
+import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.expression.ReferenceExpression;
+import org.opensearch.sql.planner.logical.LogicalEval;
+import org.opensearch.sql.planner.logical.LogicalFilter;
+import org.opensearch.sql.planner.logical.LogicalPlan;
+import org.opensearch.sql.planner.optimizer.Rule;
+
+/**
+ * Push the conjuncts of Filter which don't refer to any field evaluated under Eval.
+ * Filter - Eval - Child --> [Filter] - Eval - Filter - Child
+ */
+public class PushFilterUnderEval implements Rule<LogicalFilter> {
+
+  private final Capture<LogicalEval> capture;
+
+  private final DSL dsl;
+
+  @Accessors(fluent = true)
+  @Getter
+  private final Pattern<LogicalFilter> pattern;
+
+  /**
+   * Constructor of PushFilterUnderEval.
+   */
+  public PushFilterUnderEval(DSL dsl) {
+    this.dsl = dsl;
+    this.capture = Capture.newCapture();
+    this.pattern = typeOf(LogicalFilter.class)
+        .with(source().matching(typeOf(LogicalEval.class).capturedAs(capture)))
+        .matching(filter -> !partition(filter, (LogicalEval) filter.getChild().get(0))
+            .get(true).isEmpty());
+  }
+
+  @Override
+  public LogicalPlan apply(LogicalFilter filter,
+                           Captures captures) {
+    LogicalEval eval = captures.get(capture);
+    Map<Boolean, List<Expression>> conjuncts = partition(filter, eval);
+    LogicalPlan pushed = new LogicalEval(
+        new LogicalFilter(eval.getChild().get(0), combineConjuncts(dsl, conjuncts.get(true))),
+        eval.getExpressions());
+
+    List<Expression> remaining = conjuncts.get(false);
+    return remaining.isEmpty()
+        ? pushed : new LogicalFilter(pushed, combineConjuncts(dsl, remaining));
+  }
+
+  private Map<Boolean, List<Expression>> partition(LogicalFilter filter, LogicalEval eval) {
+    Set<String> evaluated = eval.getExpressions().stream()
+        .map(expr -> expr.getLeft().getAttr())
+        .collect(Collectors.toSet());
+    return partitionConjuncts(filter.getCondition(), references -> references.stream()
+        .map(ReferenceExpression::getAttr)
+        .noneMatch(evaluated::contains));
+  }
+}
@@ -0,0 +1,97 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+
+package org.opensearch.sql.planner.optimizer.rule;
+
+import static com.facebook.presto.matching.Pattern.typeOf;
+import static org.opensearch.sql.planner.optimizer.pattern.Patterns.source;
+import static org.opensearch.sql.planner.optimizer.rule.ConjunctUtils.combineConjuncts;
+import static org.opensearch.sql.planner.optimizer.rule.ConjunctUtils.partitionConjuncts;
+
+import com.facebook.presto.matching.Capture;
+import com.facebook.presto.matching.Captures;
+import com.facebook.presto.matching.Pattern;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import lombok.Getter;
+import lombok.experimental.Accessors;
+import org.opensearch.sql.expression.DSL;
+import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.expression.NamedExpression;
+import org.opensearch.sql.expression.ReferenceExpression;
+import org.opensearch.sql.planner.logical.LogicalFilter;
+import org.opensearch.sql.planner.logical.LogicalPlan;
+import org.opensearch.sql.planner.logical.LogicalProject;
+import org.opensearch.sql.planner.optimizer.Rule;
+
+/**
+ * Push the conjuncts of Filter which only refer to fields projected from child fields directly
+ * under Project, with the projected names replaced by the child fields.
+ * Filter - Project - Child --> [Filter] - Project - Filter - Child
+ */
+public class PushFilterUnderProject implements Rule<LogicalFilter> {
+
+  private final Capture<LogicalProject> capture;
+
+  private final DSL dsl;
+
+  @Accessors(fluent = true)
+  @Getter
+  private final Pattern<LogicalFilter> pattern;
+
+  /**
+   * Constructor of PushFilterUnderProject.
+   */
+  public PushFilterUnderProject(DSL dsl) {
+    this.dsl = dsl;
+    this.capture = Capture.newCapture();
+    this.pattern = typeOf(LogicalFilter.class)
+        .with(source().matching(typeOf(LogicalProject.class).capturedAs(capture)))
+        .matching(filter -> !partition(filter, projectedFields(
+            (LogicalProject) filter.getChild().get(0))).get(true).isEmpty());
+  }
+
+  @Override
+  public LogicalPlan apply(LogicalFilter filter,
+                           Captures captures) {
+    LogicalProject project = captures.get(capture);
+    Map<String, Expression> projectedFields = projectedFields(project);
+    Map<Boolean, List<Expression>> conjuncts = partition(filter, projectedFields);
+    Expression condition = new ReferenceReplacer(dsl, projectedFields)
+        .replace(combineConjuncts(dsl, conjuncts.get(true)));
+    LogicalPlan pushed = new LogicalProject(
+        new LogicalFilter(project.getChild().get(0), condition),
+        project.getProjectList(),
+        project.isAllFields());
+
+    List<Expression> remaining = conjuncts.get(false);
+    return remaining.isEmpty()
+        ? pushed : new LogicalFilter(pushed, combineConjuncts(dsl, remaining));
+  }
+
+  /**
+   * Projected name and the child field for those projected from child field directly.
+   */
+  private Map<String, Expression> projectedFields(LogicalProject project) {
+    return project.getProjectList().stream()
+        .filter(expr -> expr.getDelegated() instanceof ReferenceExpression)
+        .collect(Collectors.toMap(
+            NamedExpression::getNameOrAlias, NamedExpression::getDelegated, (ref1, ref2) -> ref1));
+  }
+
+  private Map<Boolean, List<Expression>> partition(LogicalFilter filter,
+                                                   Map<String, Expression> projectedFields) {
+    return partitionConjuncts(filter.getCondition(), references -> references.stream()
+        .allMatch(ref -> projectedFields.containsKey(ref.getAttr())));
+  }
+}
@@ -0,0 +1,81 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+
+package org.opensearch.sql.planner.optimizer.rule;
+
+import static com.facebook.presto.matching.Pattern.typeOf;
+import static org.opensearch.sql.planner.optimizer.pattern.Patterns.source;
+import static org.opensearch.sql.planner.optimizer.rule.ConjunctUtils.combineConjuncts;
+import static org.opensearch.sql.planner.optimizer.rule.ConjunctUtils.partitionConjuncts;
+
+import com.facebook.presto.matching.Capture;
+import com.facebook.presto.matching.Captures;
+import com.facebook.presto.matching.Pattern;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import lombok.Getter;
+import lombok.experimental.Accessors;
+import org.opensearch.sql.expression.DSL;
+import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.planner.logical.LogicalFilter;
+import org.opensearch.sql.planner.logical.LogicalPlan;
+import org.opensearch.sql.planner.logical.LogicalRename;
+import org.opensearch.sql.planner.optimizer.Rule;
+
+/**
+ * Push Filter under Rename with the renamed fields replaced by their original fields.
+ * Filter - Rename - Child --> [Filter] - Rename - Filter - Child
+ */
+public class PushFilterUnderRename implements Rule<LogicalFilter> {
+
+  private final Capture<LogicalRename> capture;
+
+  private final DSL dsl;
+
+  @Accessors(fluent = true)
+  @Getter
+  private final Pattern<LogicalFilter> pattern;
+
+  /**
+   * Constructor of PushFilterUnderRename.
+   */
+  public PushFilterUnderRename(DSL dsl) {
+    this.dsl = dsl;
+    this.capture = Capture.newCapture();
+    this.pattern = typeOf(LogicalFilter.class)
+        .with(source().matching(typeOf(LogicalRename.class).capturedAs(capture)))
+        .matching(filter -> !partition(filter).get(true).isEmpty());
+  }
+
+  @Override
+  public LogicalPlan apply(LogicalFilter filter,
+                           Captures captures) {
+    LogicalRename rename = captures.get(capture);
+    Map<String, Expression> originals = rename.getRenameMap().entrySet().stream()
+        .collect(Collectors.toMap(entry -> entry.getValue().getAttr(), Map.Entry::getKey));
+    Map<Boolean, List<Expression>> conjuncts = partition(filter);
+    Expression condition = new ReferenceReplacer(dsl, originals)
+        .replace(combineConjuncts(dsl, conjuncts.get(true)));
+    LogicalPlan pushed = new LogicalRename(
+        new LogicalFilter(rename.getChild().get(0), condition),
+        rename.getRenameMap());
+
+    List<Expression> remaining = conjuncts.get(false);
+    return remaining.isEmpty()
+        ? pushed : new LogicalFilter(pushed, combineConjuncts(dsl, remaining));
+  }
+
+  private Map<Boolean, List<Expression>> partition(LogicalFilter filter) {
+    return partitionConjuncts(filter.getCondition(), references -> true);
+  }
+}
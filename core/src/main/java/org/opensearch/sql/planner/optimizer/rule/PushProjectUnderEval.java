@@ -0,0 +1,113 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+
+package org.opensearch.sql.planner.optimizer.rule;
+
+import static com.facebook.presto.matching.Pattern.typeOf;
+import static org.opensearch.sql.planner.optimizer.pattern.Patterns.source;
+import static org.opensearch.sql.planner.optimizer.rule.ConjunctUtils.findReferences;
+
+import com.facebook.presto.matching.Capture;
+import com.facebook.presto.matching.Captures;
+import com.facebook.presto.matching.Pattern;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.Getter;
+import lombok.experimental.Accessors;
+import org.apache.commons.lang3.tuple.Pair;
+import org.opensearch.sql.expression.DSL;
+import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.expression.NamedExpression;
+import org.opensearch.sql.expression.ReferenceExpression;
+import org.opensearch.sql.planner.logical.LogicalEval;
+import org.opensearch.sql.planner.logical.LogicalPlan;
+import org.opensearch.sql.planner.logical.LogicalProject;
+import org.opensearch.sql.planner.optimizer.Rule;
+
+/**
+ * Prune fields not used by Eval or Project by a Project under Eval, which may be pushed down to
+ * storage further. Project of all fields, ex. the one PPL adds implicitly, is skipped because it
+ * requires all fields of the child and nothing can be pruned.
+ * Project - Eval - Child --> Project - Eval - Project - Child
+ */
+public class PushProjectUnderEval implements Rule<LogicalProject> {
+
+  private final Capture<LogicalEval> capture;
+
+  @Accessors(fluent = true)
+  @Getter
+  private final Pattern<LogicalProject> pattern;
+
+  /**
+   * Constructor of PushProjectUnderEval.
+   */
+  public PushProjectUnderEval() {
+    this.capture = Capture.newCapture();
+    this.pattern = typeOf(LogicalProject.class)
+        .matching(project -> !project.isAllFields())
+        .with(source().matching(typeOf(LogicalEval.class)
+            .matching(eval -> !(eval.getChild().get(0) instanceof LogicalProject))
+            .capturedAs(capture)))
+        .matching(project -> requiredFields(project, (LogicalEval) project.getChild().get(0))
+            .filter(fields -> !fields.isEmpty())
+            .isPresent());
+  }
+
+  @Override
+  public LogicalPlan apply(LogicalProject project,
+                           Captures captures) {
+    LogicalEval eval = captures.get(capture);
+    List<NamedExpression> projectList = requiredFields(project, eval).get().stream()
+        .map(ref -> DSL.named(ref.getAttr(), ref))
+        .collect(Collectors.toList());
+    return new LogicalProject(
+        new LogicalEval(
+            new LogicalProject(eval.getChild().get(0), projectList),
+            eval.getExpressions()),
+        project.getProjectList());
+  }
+
+  /**
+   * Child fields referenced by Eval or Project, or empty if any reference cannot be resolved.
+   * A field referenced after evaluated by Eval is not required from child.
+   */
+  private Optional<Set<ReferenceExpression>> requiredFields(LogicalProject project,
+                                                           LogicalEval eval) {
+    Set<ReferenceExpression> required = new LinkedHashSet<>();
+    Set<String> evaluated = new HashSet<>();
+    for (Pair<ReferenceExpression, Expression> expr : eval.getExpressions()) {
+      if (!addRequiredFields(expr.getRight(), evaluated, required)) {
+        return Optional.empty();
+      }
+      evaluated.add(expr.getLeft().getAttr());
+    }
+    for (NamedExpression expr : project.getProjectList()) {
+      if (!addRequiredFields(expr, evaluated, required)) {
+        return Optional.empty();
+      }
+    }
+    return Optional.of(required);
+  }
+
+  private boolean addRequiredFields(Expression expression, Set<String> evaluated,
+                                    Set<ReferenceExpression> required) {
+    Optional<Set<ReferenceExpression>> references = findReferences(expression);
+    references.ifPresent(refs -> refs.stream()
+        .filter(ref -> !evaluated.contains(ref.getAttr()))
+        .forEach(required::add));
+    return references.isPresent();
+  }
+}
@@ -0,0 +1,97 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+
+package org.opensearch.sql.planner.optimizer.rule;
+
+import static com.facebook.presto.matching.Pattern.typeOf;
+import static org.opensearch.sql.planner.optimizer.pattern.Patterns.source;
+import static org.opensearch.sql.planner.optimizer.rule.ConjunctUtils.findReferences;
+
+import com.facebook.presto.matching.Capture;
+import com.facebook.presto.matching.Captures;
+import com.facebook.presto.matching.Pattern;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.Getter;
+import lombok.experimental.Accessors;
+import org.opensearch.sql.expression.DSL;
+import org.opensearch.sql.expression.NamedExpression;
+import org.opensearch.sql.expression.ReferenceExpression;
+import org.opensearch.sql.planner.logical.LogicalPlan;
+import org.opensearch.sql.planner.logical.LogicalProject;
+import org.opensearch.sql.planner.logical.LogicalRename;
+import org.opensearch.sql.planner.optimizer.Rule;
+
+/**
+ * Prune fields not used by Project by a Project under Rename, which may be pushed down to
+ * storage further.
+ * Project - Rename - Child --> Project - Rename - Project - Child
+ */
+public class PushProjectUnderRename implements Rule<LogicalProject> {
+
+  private final Capture<LogicalRename> capture;
+
+  @Accessors(fluent = true)
+  @Getter
+  private final Pattern<LogicalProject> pattern;
+
+  /**
+   * Constructor of PushProjectUnderRename.
+   */
+  public PushProjectUnderRename() {
+    this.capture = Capture.newCapture();
+    this.pattern = typeOf(LogicalProject.class)
+        .with(source().matching(typeOf(LogicalRename.class)
+            .matching(rename -> !(rename.getChild().get(0) instanceof LogicalProject))
+            .capturedAs(capture)))
+        .matching(project -> requiredFields(project, (LogicalRename) project.getChild().get(0))
+            .filter(fields -> !fields.isEmpty())
+            .isPresent());
+  }
+
+  @Override
+  public LogicalPlan apply(LogicalProject project,
+                           Captures captures) {
+    LogicalRename rename = captures.get(capture);
+    List<NamedExpression> projectList = requiredFields(project, rename).get().stream()
+        .map(ref -> DSL.named(ref.getAttr(), ref))
+        .collect(Collectors.toList());
+    return new LogicalProject(
+        new LogicalRename(
+            new LogicalProject(rename.getChild().get(0), projectList),
+            rename.getRenameMap()),
+        project.getProjectList());
+  }
+
+  /**
+   * Child fields referenced by Project with the renamed fields replaced by their original fields,
+   * or empty if any reference cannot be resolved.
+   */
+  private Optional<Set<ReferenceExpression>> requiredFields(LogicalProject project,
+                                                           LogicalRename rename) {
+    Map<String, ReferenceExpression> originals = rename.getRenameMap().entrySet().stream()
+        .collect(Collectors.toMap(entry -> entry.getValue().getAttr(), Map.Entry::getKey));
+    Set<ReferenceExpression> required = new LinkedHashSet<>();
+    for (NamedExpression expr : project.getProjectList()) {
+      Optional<Set<ReferenceExpression>> references = findReferences(expr);
+      if (!references.isPresent()) {
+        return Optional.empty();
+      }
+      references.get().forEach(ref -> required.add(originals.getOrDefault(ref.getAttr(), ref)));
+    }
+    return Optional.of(required);
+  }
+}
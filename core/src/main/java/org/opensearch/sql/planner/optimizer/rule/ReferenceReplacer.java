@@ -0,0 +1,80 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+
+package org.opensearch.sql.planner.optimizer.rule;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.opensearch.sql.expression.DSL;
+import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.expression.ExpressionNodeVisitor;
+import org.opensearch.sql.expression.FunctionExpression;
+import org.opensearch.sql.expression.ReferenceExpression;
+import org.opensearch.sql.expression.conditional.cases.CaseClause;
+import org.opensearch.sql.expression.conditional.cases.WhenClause;
+
+/**
+ * Replace field references in expression by name, which rewrites condition in terms of the
+ * fields of child plan when pushing filter down through rename or project.
+ */
+@RequiredArgsConstructor
+public class ReferenceReplacer extends ExpressionNodeVisitor<Expression, Void> {
+
+  private final DSL dsl;
+
+  /**
+   * Field name and the expression to replace its reference.
+   */
+  private final Map<String, Expression> replacements;
+
+  public Expression replace(Expression expression) {
+    return expression.accept(this, null);
+  }
+
+  @Override
+  public Expression visitNode(Expression node, Void context) {
+    return node;
+  }
+
+  @Override
+  public Expression visitReference(ReferenceExpression node, Void context) {
+    return replacements.getOrDefault(node.getAttr(), node);
+  }
+
+  @Override
+  public Expression visitFunction(FunctionExpression node, Void context) {
+    return dsl.function(node.getFunctionName(), replaceAll(node.getArguments()));
+  }
+
+  /**
+   * Case clause is not registered in function repository, so it is built directly.
+   */
+  @Override
+  public Expression visitCase(CaseClause node, Void context) {
+    List<WhenClause> whenClauses = node.getWhenClauses().stream()
+        .map(whenClause -> (WhenClause) whenClause.accept(this, context))
+        .collect(Collectors.toList());
+    Expression defaultResult = node.getDefaultResult();
+    return new CaseClause(whenClauses, (defaultResult == null) ? null : replace(defaultResult));
+  }
+
+  @Override
+  public Expression visitWhen(WhenClause node, Void context) {
+    return new WhenClause(replace(node.getCondition()), replace(node.getResult()));
+  }
+
+  private List<Expression> replaceAll(List<Expression> expressions) {
+    return expressions.stream().map(this::replace).collect(Collectors.toList());
+  }
+}
@@ -28,21 +28,25 @@ package org.opensearch.sql.planner.physical;
 
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.ImmutableList;
-import java.util.AbstractMap;
+import com.google.common.collect.ImmutableSet;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.Set;
+import java.util.function.ToLongFunction;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.ToString;
 import org.opensearch.sql.data.model.ExprTupleValue;
 import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.data.type.ExprCoreType;
+import org.opensearch.sql.data.type.ExprType;
 import org.opensearch.sql.expression.Expression;
 import org.opensearch.sql.expression.NamedExpression;
 import org.opensearch.sql.expression.aggregation.AggregationState;
@@ -68,6 +72,19 @@ public class AggregationOperator extends PhysicalPlan {
   @EqualsAndHashCode.Exclude
   private Iterator<ExprValue> iterator;
 
+  /**
+   * Types of group key which can be indexed by long value.
+   */
+  private static final Set<ExprType> INTEGRAL_TYPES =
+      ImmutableSet.of(ExprCoreType.BYTE, ExprCoreType.SHORT, ExprCoreType.INTEGER,
+          ExprCoreType.LONG);
+
+  /**
+   * Types of group key which can be indexed by the bits of double value.
+   */
+  private static final Set<ExprType> FLOATING_POINT_TYPES =
+      ImmutableSet.of(ExprCoreType.FLOAT, ExprCoreType.DOUBLE);
+
   /**
    * AggregationOperator Constructor.
    *
@@ -117,27 +134,34 @@ public class AggregationOperator extends PhysicalPlan {
   @RequiredArgsConstructor
   public class Group {
 
-    private final Map<GroupKey, List<Map.Entry<NamedAggregator, AggregationState>>> groupListMap =
-        new HashMap<>();
+    /**
+     * Index from group key to group id which is assigned in order of first appearance.
+     */
+    private final GroupIndex groupIndex = createGroupIndex();
 
     /**
-     * Push the BindingTuple to Group. Two functions will be applied to each BindingTuple to
-     * generate the {@link GroupKey} and {@link AggregationState}
-     * Key = GroupKey(bindingTuple), State = Aggregator(bindingTuple)
+     * Aggregation states of each group in order of group id. The state of each aggregator
+     * is in the same position as the aggregator in {@link #aggregatorList}.
+     */
+    private final List<AggregationState[]> groupStates = new ArrayList<>();
+
+    /**
+     * Push the BindingTuple to Group. The group id of the BindingTuple is looked up once
+     * and then each {@link AggregationState} of the group iterate on the BindingTuple.
      */
     public void push(ExprValue inputValue) {
-      GroupKey groupKey = new GroupKey(inputValue);
-      groupListMap.computeIfAbsent(groupKey, k ->
-          aggregatorList.stream()
-              .map(aggregator -> new AbstractMap.SimpleEntry<>(aggregator,
-                  aggregator.create()))
-              .collect(Collectors.toList())
-      );
-      groupListMap.computeIfPresent(groupKey, (key, aggregatorList) -> {
-        aggregatorList
-            .forEach(entry -> entry.getKey().iterate(inputValue.bindingTuples(), entry.getValue()));
-        return aggregatorList;
-      });
+      BindingTuple tuple = inputValue.bindingTuples();
+      int groupId = groupIndex.groupId(tuple);
+      if (groupId == groupStates.size()) {
+        groupStates.add(aggregatorList.stream()
+            .map(Aggregator::create)
+            .toArray(AggregationState[]::new));
+      }
+
+      AggregationState[] states = groupStates.get(groupId);
+      for (int i = 0; i < states.length; i++) {
+        aggregatorList.get(i).iterate(tuple, states[i]);
+      }
     }
 
     /**
@@ -145,12 +169,12 @@ public class AggregationOperator extends PhysicalPlan {
      */
     public List<ExprValue> result() {
       ImmutableList.Builder<ExprValue> resultBuilder = new ImmutableList.Builder<>();
-      for (Map.Entry<GroupKey, List<Map.Entry<NamedAggregator, AggregationState>>>
-          entry : groupListMap.entrySet()) {
+      for (int groupId = 0; groupId < groupStates.size(); groupId++) {
         LinkedHashMap<String, ExprValue> map = new LinkedHashMap<>();
-        map.putAll(entry.getKey().groupKeyMap());
-        for (Map.Entry<NamedAggregator, AggregationState> stateEntry : entry.getValue()) {
-          map.put(stateEntry.getKey().getName(), stateEntry.getValue().result());
+        map.putAll(groupIndex.groupKeyMap(groupId));
+        AggregationState[] states = groupStates.get(groupId);
+        for (int i = 0; i < states.length; i++) {
+          map.put(aggregatorList.get(i).getName(), states[i].result());
         }
         resultBuilder.add(ExprTupleValue.fromExprValueMap(map));
       }
@@ -159,33 +183,276 @@ public class AggregationOperator extends PhysicalPlan {
   }
 
   /**
-   * Group Key.
+   * Choose the group index by group by expressions. Single group key is indexed by its
+   * dictionary code directly, and multiple group keys are indexed by the tuple of their
+   * dictionary codes, so no key object is allocated per row either way.
    */
-  @EqualsAndHashCode
-  @VisibleForTesting
-  public class GroupKey {
+  private GroupIndex createGroupIndex() {
+    if (groupByExprList.size() == 1) {
+      return new SingleKeyGroupIndex();
+    }
+    return new MultiKeyGroupIndex();
+  }
+
+  /**
+   * Choose the dictionary by type of group by expression.
+   */
+  private static KeyDictionary createDictionary(ExprType type) {
+    if (INTEGRAL_TYPES.contains(type)) {
+      return new NumberDictionary(ExprValue::longValue);
+    } else if (FLOATING_POINT_TYPES.contains(type)) {
+      return new NumberDictionary(value -> Double.doubleToLongBits(value.doubleValue()));
+    } else if (type == ExprCoreType.STRING) {
+      return new StringDictionary();
+    } else {
+      return new KeyDictionary();
+    }
+  }
 
-    private final List<ExprValue> groupByValueList;
+  private static int hash(long key) {
+    long h = key * 0x9E3779B97F4A7C15L;
+    return (int) (h ^ (h >>> 32));
+  }
+
+  /**
+   * Index from group key to group id.
+   */
+  private interface GroupIndex {
 
     /**
-     * GroupKey constructor.
+     * Get group id of the group key evaluated on the BindingTuple. If the group key is seen
+     * for the first time, a new group id equal to the number of groups so far is assigned.
      */
-    public GroupKey(ExprValue value) {
-      this.groupByValueList = new ArrayList<>();
-      for (Expression groupExpr : groupByExprList) {
-        this.groupByValueList.add(groupExpr.valueOf(value.bindingTuples()));
-      }
+    int groupId(BindingTuple tuple);
+
+    /**
+     * Return the Map of group field and group field value of the group id.
+     */
+    Map<String, ExprValue> groupKeyMap(int groupId);
+  }
+
+  /**
+   * Group index for single group by expression whose dictionary code is the group id.
+   */
+  private class SingleKeyGroupIndex implements GroupIndex {
+    private final KeyDictionary dictionary = createDictionary(groupByExprList.get(0).type());
+
+    @Override
+    public int groupId(BindingTuple tuple) {
+      return dictionary.encode(groupByExprList.get(0).valueOf(tuple));
+    }
+
+    @Override
+    public Map<String, ExprValue> groupKeyMap(int groupId) {
+      return Collections.singletonMap(
+          groupByExprList.get(0).getNameOrAlias(), dictionary.decode(groupId));
     }
+  }
+
+  /**
+   * Group index for zero or multiple group by expressions. The dictionary codes of the group
+   * keys are looked up in an open addressing hash table with linear probing, and the codes of
+   * each group are stored in a flat array in order of group id.
+   */
+  private class MultiKeyGroupIndex implements GroupIndex {
+    private final int width = groupByExprList.size();
+
+    private final KeyDictionary[] dictionaries = groupByExprList.stream()
+        .map(expr -> createDictionary(expr.type()))
+        .toArray(KeyDictionary[]::new);
+
+    /**
+     * Codes of the current row which are reused for each row.
+     */
+    private final int[] codes = new int[width];
+
+    private int[] groupCodes = new int[16 * width];
 
     /**
-     * Return the Map of group field and group field value.
+     * Group id plus one of the slot, 0 means the slot is empty.
      */
-    public LinkedHashMap<String, ExprValue> groupKeyMap() {
+    private int[] slots = new int[16];
+
+    private int size = 0;
+
+    @Override
+    public int groupId(BindingTuple tuple) {
+      for (int i = 0; i < width; i++) {
+        codes[i] = dictionaries[i].encode(groupByExprList.get(i).valueOf(tuple));
+      }
+
+      int mask = slots.length - 1;
+      int slot = hash(codes, 0) & mask;
+      while (slots[slot] != 0) {
+        if (isSameGroup(slots[slot] - 1)) {
+          return slots[slot] - 1;
+        }
+        slot = (slot + 1) & mask;
+      }
+
+      if ((size + 1) * width > groupCodes.length) {
+        groupCodes = Arrays.copyOf(groupCodes, groupCodes.length * 2);
+      }
+      System.arraycopy(codes, 0, groupCodes, size * width, width);
+      slots[slot] = ++size;
+      if (size * 2 > slots.length) {
+        resize();
+      }
+      return size - 1;
+    }
+
+    @Override
+    public Map<String, ExprValue> groupKeyMap(int groupId) {
       LinkedHashMap<String, ExprValue> map = new LinkedHashMap<>();
-      for (int i = 0; i < groupByExprList.size(); i++) {
-        map.put(groupByExprList.get(i).getNameOrAlias(), groupByValueList.get(i));
+      for (int i = 0; i < width; i++) {
+        map.put(groupByExprList.get(i).getNameOrAlias(),
+            dictionaries[i].decode(groupCodes[groupId * width + i]));
       }
       return map;
     }
+
+    private boolean isSameGroup(int groupId) {
+      for (int i = 0; i < width; i++) {
+        if (groupCodes[groupId * width + i] != codes[i]) {
+          return false;
+        }
+      }
+      return true;
+    }
+
+    private int hash(int[] array, int offset) {
+      long h = 1;
+      for (int i = 0; i < width; i++) {
+        h = h * 31 + array[offset + i];
+      }
+      return AggregationOperator.hash(h);
+    }
+
+    private void resize() {
+      slots = new int[slots.length * 2];
+      int mask = slots.length - 1;
+      for (int groupId = 0; groupId < size; groupId++) {
+        int slot = hash(groupCodes, groupId * width) & mask;
+        while (slots[slot] != 0) {
+          slot = (slot + 1) & mask;
+        }
+        slots[slot] = groupId + 1;
+      }
+    }
+  }
+
+  /**
+   * Dictionary which encodes values of a group by expression to dense codes in order of first
+   * appearance. This base dictionary encodes by value, which is also used for null and missing
+   * value by the dictionaries of specific types.
+   */
+  private static class KeyDictionary {
+    private final Map<ExprValue, Integer> codes = new HashMap<>();
+    private final List<ExprValue> values = new ArrayList<>();
+
+    /**
+     * Get code of the value, or assign the next code if the value is seen for the first time.
+     */
+    int encode(ExprValue value) {
+      if (value.isNull() || value.isMissing()) {
+        return encodeByValue(value);
+      }
+      return encodeNonNull(value);
+    }
+
+    ExprValue decode(int code) {
+      return values.get(code);
+    }
+
+    protected int encodeNonNull(ExprValue value) {
+      return encodeByValue(value);
+    }
+
+    protected int nextCode(ExprValue value) {
+      values.add(value);
+      return values.size() - 1;
+    }
+
+    private int encodeByValue(ExprValue value) {
+      return codes.computeIfAbsent(value, this::nextCode);
+    }
+  }
+
+  /**
+   * Dictionary of string values keyed by the raw string.
+   */
+  private static class StringDictionary extends KeyDictionary {
+    private final Map<String, Integer> stringCodes = new HashMap<>();
+
+    @Override
+    protected int encodeNonNull(ExprValue value) {
+      String key = value.stringValue();
+      Integer code = stringCodes.get(key);
+      if (code == null) {
+        code = nextCode(value);
+        stringCodes.put(key, code);
+      }
+      return code;
+    }
+  }
+
+  /**
+   * Dictionary of numeric values converted to long losslessly. The long value is looked up in
+   * an open addressing hash table with linear probing.
+   */
+  private static class NumberDictionary extends KeyDictionary {
+    private final ToLongFunction<ExprValue> toLong;
+
+    private long[] keys = new long[16];
+
+    /**
+     * Code plus one of the slot, 0 means the slot is empty.
+     */
+    private int[] slots = new int[16];
+
+    private int size = 0;
+
+    NumberDictionary(ToLongFunction<ExprValue> toLong) {
+      this.toLong = toLong;
+    }
+
+    @Override
+    protected int encodeNonNull(ExprValue value) {
+      long key = toLong.applyAsLong(value);
+      int mask = slots.length - 1;
+      int slot = hash(key) & mask;
+      while (slots[slot] != 0) {
+        if (keys[slot] == key) {
+          return slots[slot] - 1;
+        }
+        slot = (slot + 1) & mask;
+      }
+
+      int code = nextCode(value);
+      keys[slot] = key;
+      slots[slot] = code + 1;
+      if (++size * 2 > slots.length) {
+        resize();
+      }
+      return code;
+    }
+
+    private void resize() {
+      long[] oldKeys = keys;
+      int[] oldSlots = slots;
+      keys = new long[oldKeys.length * 2];
+      slots = new int[oldSlots.length * 2];
+      int mask = slots.length - 1;
+      for (int i = 0; i < oldSlots.length; i++) {
+        if (oldSlots[i] != 0) {
+          int slot = hash(oldKeys[i]) & mask;
+          while (slots[slot] != 0) {
+            slot = (slot + 1) & mask;
+          }
+          keys[slot] = oldKeys[i];
+          slots[slot] = oldSlots[i];
+        }
+      }
+    }
   }
 }
@@ -0,0 +1,235 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.sql.planner.physical;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.Iterators;
+import com.google.common.io.Closeables;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.PriorityQueue;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.data.utils.ExprValueCodec;
+
+/**
+ * Buffer of the rows to be sorted by {@link SortOperator}. Once the number of rows in memory
+ * reaches the spill threshold, they are written to a temporary file as a sorted run by
+ * {@link ExprValueCodec}. At last, the sorted runs which are read back by memory mapping and
+ * the rows left in memory are k-way merged.
+ */
+class ExternalSortBuffer {
+
+  /**
+   * Max size of the file region mapped into memory at once.
+   */
+  private static final int MAP_WINDOW_SIZE = 64 * 1024 * 1024;
+
+  private final Comparator<ExprValue> comparator;
+
+  private final int spillThreshold;
+
+  private final Path spillDirectory;
+
+  private final int mapWindowSize;
+
+  private final PriorityQueue<ExprValue> buffer;
+
+  private final List<Path> runs = new ArrayList<>();
+
+  /**
+   * Input streams of the sorted runs being read.
+   */
+  private final List<MappedInputStream> runInputs = new ArrayList<>();
+
+  ExternalSortBuffer(Comparator<ExprValue> comparator, int spillThreshold) {
+    this(comparator, spillThreshold, Paths.get(System.getProperty("java.io.tmpdir")),
+        MAP_WINDOW_SIZE);
+  }
+
+  @VisibleForTesting
+  ExternalSortBuffer(Comparator<ExprValue> comparator, int spillThreshold, Path spillDirectory,
+                     int mapWindowSize) {
+    this.comparator = comparator;
+    this.spillThreshold = spillThreshold;
+    this.spillDirectory = spillDirectory;
+    this.mapWindowSize = mapWindowSize;
+    this.buffer = new PriorityQueue<>(1, comparator);
+  }
+
+  /**
+   * Add row to the buffer, rows in memory are spilled to disk if threshold is reached.
+   */
+  void add(ExprValue row) {
+    buffer.add(row);
+    if (buffer.size() >= spillThreshold) {
+      spill();
+    }
+  }
+
+  /**
+   * Iterator of all the rows added in sort order.
+   */
+  Iterator<ExprValue> iterator() {
+    Iterator<ExprValue> inMemory = new Iterator<ExprValue>() {
+      @Override
+      public boolean hasNext() {
+        return !buffer.isEmpty();
+      }
+
+      @Override
+      public ExprValue next() {
+        return buffer.poll();
+      }
+    };
+    if (runs.isEmpty()) {
+      return inMemory;
+    }
+
+    List<Iterator<ExprValue>> iterators = new ArrayList<>();
+    for (Path run : runs) {
+      iterators.add(new RunIterator(run));
+    }
+    iterators.add(inMemory);
+    return Iterators.mergeSorted(iterators, comparator);
+  }
+
+  /**
+   * Close the sorted runs being read and delete them on disk.
+   */
+  void close() {
+    runInputs.forEach(Closeables::closeQuietly);
+    runInputs.clear();
+    runs.forEach(run -> run.toFile().delete());
+    runs.clear();
+  }
+
+  private void spill() {
+    try {
+      Path run = Files.createTempFile(spillDirectory, "opensearch-sql-sort", ".run");
+      runs.add(run);
+      try (DataOutputStream output =
+               new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(run)))) {
+        output.writeInt(buffer.size());
+        while (!buffer.isEmpty()) {
+          ExprValueCodec.encode(buffer.poll(), output);
+        }
+      }
+    } catch (IOException e) {
+      throw new IllegalStateException("Failed to spill sorted rows to disk", e);
+    }
+  }
+
+  /**
+   * Iterator of the rows in a sorted run on disk.
+   */
+  private class RunIterator implements Iterator<ExprValue> {
+    private final MappedInputStream runInput;
+    private final DataInputStream input;
+    private int remaining;
+
+    RunIterator(Path run) {
+      try {
+        this.runInput = new MappedInputStream(run, mapWindowSize);
+        runInputs.add(runInput);
+        this.input = new DataInputStream(runInput);
+        this.remaining = input.readInt();
+      } catch (IOException e) {
+        throw new IllegalStateException("Failed to read sorted rows from disk", e);
+      }
+    }
+
+    @Override
+    public boolean hasNext() {
+      return remaining > 0;
+    }
+
+    @Override
+    public ExprValue next() {
+      remaining--;
+      try {
+        ExprValue row = ExprValueCodec.decode(input);
+        if (remaining == 0) {
+          Closeables.closeQuietly(runInput);
+        }
+        return row;
+      } catch (IOException | ClassNotFoundException e) {
+        throw new IllegalStateException("Failed to read sorted rows from disk", e);
+      }
+    }
+  }
+
+  /**
+   * InputStream of file which maps the file into memory window by window. The file channel is
+   * opened once and closed along with the stream.
+   */
+  @VisibleForTesting
+  static class MappedInputStream extends InputStream {
+    private final FileChannel channel;
+    private final long fileSize;
+    private final int windowSize;
+    private long position = 0;
+    private ByteBuffer window = ByteBuffer.allocate(0);
+
+    MappedInputStream(Path file, int windowSize) throws IOException {
+      this.channel = FileChannel.open(file, StandardOpenOption.READ);
+      this.fileSize = channel.size();
+      this.windowSize = windowSize;
+    }
+
+    @Override
+    public int read() throws IOException {
+      if (!window.hasRemaining() && !nextWindow()) {
+        return -1;
+      }
+      return window.get() & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] bytes, int offset, int length) throws IOException {
+      if (!window.hasRemaining() && !nextWindow()) {
+        return -1;
+      }
+      int size = Math.min(length, window.remaining());
+      window.get(bytes, offset, size);
+      return size;
+    }
+
+    @Override
+    public void close() throws IOException {
+      channel.close();
+    }
+
+    private boolean nextWindow() throws IOException {
+      long size = Math.min(fileSize - position, windowSize);
+      if (size <= 0) {
+        return false;
+      }
+      window = channel.map(MapMode.READ_ONLY, position, size);
+      position += size;
+      return true;
+    }
+  }
+}
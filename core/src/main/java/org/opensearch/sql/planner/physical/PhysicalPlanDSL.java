@@ -120,4 +120,9 @@ public class PhysicalPlanDSL {
     return new LimitOperator(input, limit, offset);
   }
 
+  public static TopNOperator topN(PhysicalPlan input, Integer limit, Integer offset,
+      Pair<SortOption, Expression>... sorts) {
+    return new TopNOperator(input, Arrays.asList(sorts), limit, offset);
+  }
+
 }
@@ -92,4 +92,8 @@ public abstract class PhysicalPlanNodeVisitor<R, C> {
     return visitNode(node, context);
   }
 
+  public R visitTopN(TopNOperator node, C context) {
+    return visitNode(node, context);
+  }
+
 }
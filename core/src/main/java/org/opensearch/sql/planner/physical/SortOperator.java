@@ -33,7 +33,6 @@ import java.util.Collections;
 import java.util.Comparator;
 import java.util.Iterator;
 import java.util.List;
-import java.util.PriorityQueue;
 import lombok.Builder;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
@@ -49,7 +48,8 @@ import org.opensearch.sql.planner.physical.SortOperator.Sorter.SorterBuilder;
 /**
  * Sort Operator.The input data is sorted by the sort fields in the {@link SortOperator#sortList}.
  * The sort field is specified by the {@link Expression} with {@link SortOption}.
- * The count indicate how many sorted result should been return.
+ * Once {@link SortOperator#spillThreshold} rows are held in memory, they are spilled to
+ * disk as a sorted run which is merged with others in the end.
  */
 @ToString
 @EqualsAndHashCode
@@ -59,33 +59,39 @@ public class SortOperator extends PhysicalPlan {
 
   @Getter
   private final List<Pair<SortOption, Expression>> sortList;
+  @Getter
+  private final Integer spillThreshold;
   @EqualsAndHashCode.Exclude
   private final Sorter sorter;
   @EqualsAndHashCode.Exclude
+  private ExternalSortBuffer buffer;
+  @EqualsAndHashCode.Exclude
   private Iterator<ExprValue> iterator;
 
   /**
-   * Sort Operator Constructor.
+   * Sort Operator Constructor which sorts all the input in memory.
    * @param input input {@link PhysicalPlan}
    * @param sortList list of sort sort field.
    *                 The sort field is specified by the {@link Expression} with {@link SortOption}
    */
   public SortOperator(
       PhysicalPlan input, List<Pair<SortOption, Expression>> sortList) {
+    this(input, sortList, Integer.MAX_VALUE);
+  }
+
+  /**
+   * Sort Operator Constructor.
+   * @param input input {@link PhysicalPlan}
+   * @param sortList list of sort sort field.
+   *                 The sort field is specified by the {@link Expression} with {@link SortOption}
+   * @param spillThreshold max number of rows held in memory before spilled to disk
+   */
+  public SortOperator(
+      PhysicalPlan input, List<Pair<SortOption, Expression>> sortList, Integer spillThreshold) {
     this.input = input;
     this.sortList = sortList;
-    SorterBuilder sorterBuilder = Sorter.builder();
-    for (Pair<SortOption, Expression> pair : sortList) {
-      SortOption option = pair.getLeft();
-      ExprValueOrdering ordering =
-          ASC.equals(option.getSortOrder())
-              ? ExprValueOrdering.natural()
-              : ExprValueOrdering.natural().reverse();
-      ordering =
-          NULL_FIRST.equals(option.getNullOrder()) ? ordering.nullsFirst() : ordering.nullsLast();
-      sorterBuilder.comparator(Pair.of(pair.getRight(), ordering));
-    }
-    this.sorter = sorterBuilder.build();
+    this.spillThreshold = spillThreshold;
+    this.sorter = Sorter.of(sortList);
   }
 
   @Override
@@ -96,12 +102,20 @@ public class SortOperator extends PhysicalPlan {
   @Override
   public void open() {
     super.open();
-    PriorityQueue<ExprValue> sorted = new PriorityQueue<>(1, sorter::compare);
+    buffer = new ExternalSortBuffer(sorter, spillThreshold);
     while (input.hasNext()) {
-      sorted.add(input.next());
+      buffer.add(input.next());
     }
 
-    iterator = iterator(sorted);
+    iterator = buffer.iterator();
+  }
+
+  @Override
+  public void close() {
+    super.close();
+    if (buffer != null) {
+      buffer.close();
+    }
   }
 
   @Override
@@ -124,6 +138,24 @@ public class SortOperator extends PhysicalPlan {
     @Singular
     private final List<Pair<Expression, Comparator<ExprValue>>> comparators;
 
+    /**
+     * Create {@link Sorter} from the list of sort field with {@link SortOption}.
+     */
+    public static Sorter of(List<Pair<SortOption, Expression>> sortList) {
+      SorterBuilder sorterBuilder = Sorter.builder();
+      for (Pair<SortOption, Expression> pair : sortList) {
+        SortOption option = pair.getLeft();
+        ExprValueOrdering ordering =
+            ASC.equals(option.getSortOrder())
+                ? ExprValueOrdering.natural()
+                : ExprValueOrdering.natural().reverse();
+        ordering =
+            NULL_FIRST.equals(option.getNullOrder()) ? ordering.nullsFirst() : ordering.nullsLast();
+        sorterBuilder.comparator(Pair.of(pair.getRight(), ordering));
+      }
+      return sorterBuilder.build();
+    }
+
     @Override
     public int compare(ExprValue o1, ExprValue o2) {
       for (Pair<Expression, Comparator<ExprValue>> comparator : comparators) {
@@ -140,18 +172,4 @@ public class SortOperator extends PhysicalPlan {
       return 0;
     }
   }
-
-  private Iterator<ExprValue> iterator(PriorityQueue<ExprValue> result) {
-    return new Iterator<ExprValue>() {
-      @Override
-      public boolean hasNext() {
-        return !result.isEmpty();
-      }
-
-      @Override
-      public ExprValue next() {
-        return result.poll();
-      }
-    };
-  }
 }
@@ -0,0 +1,118 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.sql.planner.physical;
+
+import com.google.common.collect.ImmutableList;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.PriorityQueue;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+import org.apache.commons.lang3.tuple.Pair;
+import org.opensearch.sql.ast.tree.Sort.SortOption;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.planner.physical.SortOperator.Sorter;
+
+/**
+ * TopN Operator. It is the combination of {@link SortOperator} and the {@link LimitOperator} on
+ * top of it. Instead of sorting all the input, only the first {@link TopNOperator#limit} plus
+ * {@link TopNOperator#offset} rows in sort order are kept in a bounded heap, the rows before the
+ * offset are skipped from the output.
+ */
+@ToString
+@EqualsAndHashCode
+public class TopNOperator extends PhysicalPlan {
+  /**
+   * Max initial capacity of the heap. The heap grows on demand for larger limit, so huge limit
+   * doesn't allocate memory before any row is read.
+   */
+  private static final int MAX_INITIAL_CAPACITY = 1024;
+
+  @Getter
+  private final PhysicalPlan input;
+  @Getter
+  private final List<Pair<SortOption, Expression>> sortList;
+  @Getter
+  private final Integer limit;
+  @Getter
+  private final Integer offset;
+  @EqualsAndHashCode.Exclude
+  private final Sorter sorter;
+  @EqualsAndHashCode.Exclude
+  private Iterator<ExprValue> iterator;
+
+  /**
+   * TopN Operator Constructor.
+   * @param input input {@link PhysicalPlan}
+   * @param sortList list of sort field.
+   *                 The sort field is specified by the {@link Expression} with {@link SortOption}
+   * @param limit the size of the output
+   * @param offset the number of leading rows in sort order to skip
+   */
+  public TopNOperator(PhysicalPlan input, List<Pair<SortOption, Expression>> sortList,
+                      Integer limit, Integer offset) {
+    this.input = input;
+    this.sortList = sortList;
+    this.limit = limit;
+    this.offset = offset;
+    this.sorter = Sorter.of(sortList);
+  }
+
+  @Override
+  public <R, C> R accept(PhysicalPlanNodeVisitor<R, C> visitor, C context) {
+    return visitor.visitTopN(this, context);
+  }
+
+  @Override
+  public void open() {
+    super.open();
+    long size = (long) limit + offset;
+
+    // the head of heap is the last one in sort order which is replaced by any smaller row
+    PriorityQueue<ExprValue> heap = new PriorityQueue<>(
+        (int) Math.max(1, Math.min(size, MAX_INITIAL_CAPACITY)), sorter.reversed());
+    while (input.hasNext()) {
+      ExprValue row = input.next();
+      if (heap.size() < size) {
+        heap.add(row);
+      } else if (size > 0 && sorter.compare(row, heap.peek()) < 0) {
+        heap.poll();
+        heap.add(row);
+      }
+    }
+
+    Deque<ExprValue> sorted = new ArrayDeque<>(heap.size());
+    while (heap.size() > offset) {
+      sorted.addFirst(heap.poll());
+    }
+    iterator = sorted.iterator();
+  }
+
+  @Override
+  public List<PhysicalPlan> getChild() {
+    return ImmutableList.of(input);
+  }
+
+  @Override
+  public boolean hasNext() {
+    return iterator.hasNext();
+  }
+
+  @Override
+  public ExprValue next() {
+    return iterator.next();
+  }
+}
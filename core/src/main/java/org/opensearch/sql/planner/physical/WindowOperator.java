@@ -43,7 +43,9 @@ import org.opensearch.sql.expression.window.WindowFunctionExpression;
 import org.opensearch.sql.expression.window.frame.WindowFrame;
 
 /**
- * Physical operator for window function computation.
+ * Physical operator for window function computation. All the window functions share the window
+ * frame created by the first one, so they must be on same window definition and access the frame
+ * in the same way, ex. ranking functions.
  */
 @EqualsAndHashCode(callSuper = false)
 @ToString
@@ -52,7 +54,7 @@ public class WindowOperator extends PhysicalPlan {
   private final PhysicalPlan input;
 
   @Getter
-  private final NamedExpression windowFunction;
+  private final List<NamedExpression> windowFunctions;
 
   @Getter
   private final WindowDefinition windowDefinition;
@@ -79,8 +81,20 @@ public class WindowOperator extends PhysicalPlan {
   public WindowOperator(PhysicalPlan input,
                         NamedExpression windowFunction,
                         WindowDefinition windowDefinition) {
+    this(input, Collections.singletonList(windowFunction), windowDefinition);
+  }
+
+  /**
+   * Initialize window operator evaluating all window functions in single pass.
+   * @param input             child operator
+   * @param windowFunctions   window functions
+   * @param windowDefinition  window definition
+   */
+  public WindowOperator(PhysicalPlan input,
+                        List<NamedExpression> windowFunctions,
+                        WindowDefinition windowDefinition) {
     this.input = input;
-    this.windowFunction = windowFunction;
+    this.windowFunctions = windowFunctions;
     this.windowDefinition = windowDefinition;
     this.windowFrame = createWindowFrame();
     this.peekingIterator = Iterators.peekingIterator(input);
@@ -108,14 +122,14 @@ public class WindowOperator extends PhysicalPlan {
   }
 
   private WindowFrame createWindowFrame() {
-    return ((WindowFunctionExpression) windowFunction.getDelegated())
+    return ((WindowFunctionExpression) windowFunctions.get(0).getDelegated())
         .createWindowFrame(windowDefinition);
   }
 
   private ExprValue enrichCurrentRowByWindowFunctionResult() {
     ImmutableMap.Builder<String, ExprValue> mapBuilder = new ImmutableMap.Builder<>();
     preserveAllOriginalColumns(mapBuilder);
-    addWindowFunctionResultColumn(mapBuilder);
+    addWindowFunctionResultColumns(mapBuilder);
     return ExprTupleValue.fromExprValueMap(mapBuilder.build());
   }
 
@@ -124,9 +138,11 @@ public class WindowOperator extends PhysicalPlan {
     inputValue.tupleValue().forEach(mapBuilder::put);
   }
 
-  private void addWindowFunctionResultColumn(ImmutableMap.Builder<String, ExprValue> mapBuilder) {
-    ExprValue exprValue = windowFunction.valueOf(windowFrame);
-    mapBuilder.put(windowFunction.getName(), exprValue);
+  private void addWindowFunctionResultColumns(ImmutableMap.Builder<String, ExprValue> mapBuilder) {
+    for (NamedExpression windowFunction : windowFunctions) {
+      ExprValue exprValue = windowFunction.valueOf(windowFrame);
+      mapBuilder.put(windowFunction.getName(), exprValue);
+    }
   }
 
 }
@@ -26,6 +26,11 @@
 
 package org.opensearch.sql.utils;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
 import java.util.regex.Pattern;
 import lombok.experimental.UtilityClass;
 import org.opensearch.sql.data.model.ExprBooleanValue;
@@ -34,6 +39,18 @@ import org.opensearch.sql.data.model.ExprValue;
 
 @UtilityClass
 public class OperatorUtils {
+
+  /**
+   * Max number of compiled patterns cached for LIKE and REGEXP respectively.
+   */
+  public static final int PATTERN_CACHE_SIZE = 1000;
+
+  private static final Cache<String, PatternMatcher> LIKE_PATTERN_CACHE =
+      CacheBuilder.newBuilder().maximumSize(PATTERN_CACHE_SIZE).build();
+
+  private static final Cache<String, PatternMatcher> REGEXP_PATTERN_CACHE =
+      CacheBuilder.newBuilder().maximumSize(PATTERN_CACHE_SIZE).build();
+
   /**
    * Wildcard pattern matcher util.
    * Percent (%) character for wildcard,
@@ -42,9 +59,7 @@ public class OperatorUtils {
    * @return if text matches pattern returns true; else return false.
    */
   public static ExprBooleanValue matches(ExprValue text, ExprValue pattern) {
-    return ExprBooleanValue
-        .of(Pattern.compile(patternToRegex(pattern.stringValue())).matcher(text.stringValue())
-            .matches());
+    return ExprBooleanValue.of(likeMatcher(pattern.stringValue()).matches(text.stringValue()));
   }
 
   /**
@@ -53,8 +68,140 @@ public class OperatorUtils {
    * @return if text matches pattern returns true; else return false.
    */
   public static ExprIntegerValue matchesRegexp(ExprValue text, ExprValue pattern) {
-    return new ExprIntegerValue(Pattern.compile(pattern.stringValue()).matcher(text.stringValue())
-                    .matches() ? 1 : 0);
+    return new ExprIntegerValue(
+        regexpMatcher(pattern.stringValue()).matches(text.stringValue()) ? 1 : 0);
+  }
+
+  /**
+   * Get compiled matcher of wildcard pattern from the shared cache.
+   * @param pattern wildcard pattern
+   * @return pattern matcher
+   */
+  public static PatternMatcher likeMatcher(String pattern) {
+    return getOrCompile(LIKE_PATTERN_CACHE, pattern, OperatorUtils::compileLike);
+  }
+
+  /**
+   * Get compiled matcher of regular expression from the shared cache.
+   * @param pattern regular expression
+   * @return pattern matcher
+   */
+  public static PatternMatcher regexpMatcher(String pattern) {
+    return getOrCompile(REGEXP_PATTERN_CACHE, pattern, OperatorUtils::compileRegexp);
+  }
+
+  private static PatternMatcher getOrCompile(Cache<String, PatternMatcher> cache, String pattern,
+                                             Function<String, PatternMatcher> compiler) {
+    PatternMatcher matcher = cache.getIfPresent(pattern);
+    if (matcher == null) {
+      matcher = compiler.apply(pattern);
+      cache.put(pattern, matcher);
+    }
+    return matcher;
+  }
+
+  /**
+   * Compile wildcard pattern. Pattern of exact, prefix, suffix or contains form is matched by plain
+   * string comparison without regular expression. Because wildcard is translated to dot in regular
+   * expression which doesn't match line terminator, the text matched by wildcard is checked too.
+   */
+  static PatternMatcher compileLike(String pattern) {
+    // Null stands for percent wildcard
+    List<Character> tokens = new ArrayList<>();
+    boolean requiresRegex = false;
+    boolean escaped = false;
+    for (char currentChar : pattern.toCharArray()) {
+      if (!escaped && currentChar == DEFAULT_ESCAPE) {
+        escaped = true;
+      } else {
+        if (!escaped && currentChar == '%') {
+          tokens.add(null);
+        } else if (!escaped && currentChar == '_') {
+          requiresRegex = true;
+        } else {
+          tokens.add(currentChar);
+        }
+        escaped = false;
+      }
+    }
+
+    int start = 0;
+    while (start < tokens.size() && tokens.get(start) == null) {
+      start++;
+    }
+    int end = tokens.size();
+    while (end > start && tokens.get(end - 1) == null) {
+      end--;
+    }
+    StringBuilder literal = new StringBuilder();
+    for (Character token : tokens.subList(start, end)) {
+      if (token == null) {
+        requiresRegex = true;
+        break;
+      }
+      literal.append(token.charValue());
+    }
+
+    if (requiresRegex) {
+      Pattern regex = Pattern.compile(patternToRegex(pattern));
+      return text -> regex.matcher(text).matches();
+    }
+    return literalMatcher(literal.toString(), start > 0, end < tokens.size());
+  }
+
+  private static PatternMatcher literalMatcher(String literal, boolean anyPrefix,
+                                               boolean anySuffix) {
+    if (anyPrefix && anySuffix) {
+      return text -> containsCoveringLineTerminators(text, literal);
+    } else if (anyPrefix) {
+      return text -> text.endsWith(literal)
+          && !hasLineTerminator(text, 0, text.length() - literal.length());
+    } else if (anySuffix) {
+      return text -> text.startsWith(literal)
+          && !hasLineTerminator(text, literal.length(), text.length());
+    } else {
+      return literal::equals;
+    }
+  }
+
+  private static PatternMatcher compileRegexp(String pattern) {
+    Pattern regex = Pattern.compile(pattern);
+    return text -> regex.matcher(text).matches();
+  }
+
+  /**
+   * Check if text contains the literal and all line terminators in text are within the literal.
+   */
+  private static boolean containsCoveringLineTerminators(String text, String literal) {
+    int first = -1;
+    int last = -1;
+    for (int i = 0; i < text.length(); i++) {
+      if (isLineTerminator(text.charAt(i))) {
+        first = (first < 0) ? i : first;
+        last = i;
+      }
+    }
+    if (first < 0) {
+      return text.contains(literal);
+    }
+    int index = text.indexOf(literal, Math.max(0, last - literal.length() + 1));
+    return index >= 0 && index <= first;
+  }
+
+  private static boolean hasLineTerminator(String text, int from, int to) {
+    for (int i = from; i < to; i++) {
+      if (isLineTerminator(text.charAt(i))) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Line terminators not matched by dot in regular expression.
+   */
+  private static boolean isLineTerminator(char c) {
+    return c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029';
   }
 
   private static final char DEFAULT_ESCAPE = '\\';
@@ -97,6 +244,9 @@ public class OperatorUtils {
               case ')':
               case '|':
               case '+':
+              case '?':
+              case '{':
+              case '}':
                 regex.append('\\');
                 break;
               default:
@@ -0,0 +1,28 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.sql.utils;
+
+import java.io.Serializable;
+
+/**
+ * Compiled string pattern of LIKE or REGEXP predicate which is reusable across rows.
+ */
+@FunctionalInterface
+public interface PatternMatcher extends Serializable {
+
+  /**
+   * Check if the whole text matches the pattern.
+   * @param text text to match
+   * @return true if matched
+   */
+  boolean matches(String text);
+}
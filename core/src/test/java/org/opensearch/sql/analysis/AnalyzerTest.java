@@ -28,7 +28,9 @@ package org.opensearch.sql.analysis;
 
 import static java.util.Collections.emptyList;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.opensearch.sql.ast.dsl.AstDSL.aggregate;
 import static org.opensearch.sql.ast.dsl.AstDSL.alias;
 import static org.opensearch.sql.ast.dsl.AstDSL.argument;
@@ -67,6 +69,7 @@ import org.opensearch.sql.expression.DSL;
 import org.opensearch.sql.expression.config.ExpressionConfig;
 import org.opensearch.sql.expression.window.WindowDefinition;
 import org.opensearch.sql.planner.logical.LogicalPlanDSL;
+import org.opensearch.sql.planner.logical.LogicalProject;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
@@ -450,6 +453,17 @@ class AnalyzerTest extends AnalyzerTestBase {
     );
   }
 
+  @Test
+  public void project_of_all_fields_only_should_be_marked() {
+    assertTrue(((LogicalProject) analyze(
+        AstDSL.project(AstDSL.relation("schema"), AstDSL.allFields()))).isAllFields());
+    assertFalse(((LogicalProject) analyze(
+        AstDSL.project(AstDSL.relation("schema"), AstDSL.field("integer_value")))).isAllFields());
+    assertFalse(((LogicalProject) analyze(
+        AstDSL.project(AstDSL.relation("schema"),
+            AstDSL.field("integer_value"), AstDSL.field("string_value")))).isAllFields());
+  }
+
   /**
    * SELECT name, AVG(age) FROM test GROUP BY name.
    */
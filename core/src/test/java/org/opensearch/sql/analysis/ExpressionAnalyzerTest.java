@@ -28,6 +28,7 @@ package org.opensearch.sql.analysis;
 
 import static java.util.Collections.emptyList;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.opensearch.sql.ast.dsl.AstDSL.field;
 import static org.opensearch.sql.ast.dsl.AstDSL.function;
@@ -41,6 +42,7 @@ import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
 import static org.opensearch.sql.data.type.ExprCoreType.STRING;
 import static org.opensearch.sql.data.type.ExprCoreType.STRUCT;
 
+import java.util.List;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.opensearch.sql.analysis.symbol.Namespace;
@@ -55,6 +57,7 @@ import org.opensearch.sql.data.model.ExprValueUtils;
 import org.opensearch.sql.exception.SemanticCheckException;
 import org.opensearch.sql.expression.DSL;
 import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.expression.LiteralExpression;
 import org.opensearch.sql.expression.config.ExpressionConfig;
 import org.opensearch.sql.expression.window.aggregation.AggregateWindowFunction;
 import org.springframework.context.annotation.Configuration;
@@ -234,6 +237,18 @@ class ExpressionAnalyzerTest extends AnalyzerTestBase {
         AstDSL.intervalLiteral(1L, DataType.LONG, "DAY"));
   }
 
+  @Test
+  public void literal_of_query_text_is_recorded_by_position() {
+    Expression literal1 = analyze(new Literal(30, DataType.INTEGER, 5));
+    Expression literal2 = analyze(new Literal(30, DataType.INTEGER, 5));
+    analyze(intLiteral(30));
+
+    List<LiteralExpression> literals = analysisContext.getLiterals().get(5);
+    assertEquals(2, literals.size());
+    assertSame(literal1, literals.get(0));
+    assertSame(literal2, literals.get(1));
+  }
+
   @Test
   public void all_fields() {
     assertAnalyzeEqual(
@@ -0,0 +1,107 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.sql.data.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.opensearch.sql.data.model.ExprValueUtils.LITERAL_MISSING;
+import static org.opensearch.sql.data.model.ExprValueUtils.LITERAL_NULL;
+import static org.opensearch.sql.data.model.ExprValueUtils.LITERAL_TRUE;
+import static org.opensearch.sql.data.model.ExprValueUtils.byteValue;
+import static org.opensearch.sql.data.model.ExprValueUtils.collectionValue;
+import static org.opensearch.sql.data.model.ExprValueUtils.doubleValue;
+import static org.opensearch.sql.data.model.ExprValueUtils.floatValue;
+import static org.opensearch.sql.data.model.ExprValueUtils.integerValue;
+import static org.opensearch.sql.data.model.ExprValueUtils.intervalValue;
+import static org.opensearch.sql.data.model.ExprValueUtils.longValue;
+import static org.opensearch.sql.data.model.ExprValueUtils.shortValue;
+import static org.opensearch.sql.data.model.ExprValueUtils.stringValue;
+import static org.opensearch.sql.data.model.ExprValueUtils.tupleValue;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+import org.opensearch.sql.data.model.ExprDateValue;
+import org.opensearch.sql.data.model.ExprDatetimeValue;
+import org.opensearch.sql.data.model.ExprTimeValue;
+import org.opensearch.sql.data.model.ExprTimestampValue;
+import org.opensearch.sql.data.model.ExprValue;
+
+class ExprValueCodecTest {
+
+  @Test
+  public void encode_and_decode_null_and_missing() throws Exception {
+    assertEquals(LITERAL_NULL, roundTrip(LITERAL_NULL));
+    assertEquals(LITERAL_MISSING, roundTrip(LITERAL_MISSING));
+  }
+
+  @Test
+  public void encode_and_decode_primitive() throws Exception {
+    assertEquals(LITERAL_TRUE, roundTrip(LITERAL_TRUE));
+    assertEquals(byteValue((byte) 1), roundTrip(byteValue((byte) 1)));
+    assertEquals(shortValue((short) 2), roundTrip(shortValue((short) 2)));
+    assertEquals(integerValue(3), roundTrip(integerValue(3)));
+    assertEquals(longValue(4L), roundTrip(longValue(4L)));
+    assertEquals(floatValue(5.0f), roundTrip(floatValue(5.0f)));
+    assertEquals(doubleValue(6.0), roundTrip(doubleValue(6.0)));
+    assertEquals(stringValue("中文 text"), roundTrip(stringValue("中文 text")));
+  }
+
+  @Test
+  public void encode_and_decode_datetime() throws Exception {
+    ExprValue date = new ExprDateValue("2021-01-01");
+    ExprValue time = new ExprTimeValue("12:34:56.789");
+    ExprValue datetime = new ExprDatetimeValue("2021-01-01 12:34:56.789");
+    ExprValue timestamp = new ExprTimestampValue("2021-01-01 12:34:56.789");
+    assertEquals(date, roundTrip(date));
+    assertEquals(time, roundTrip(time));
+    assertEquals(datetime, roundTrip(datetime));
+    assertEquals(timestamp, roundTrip(timestamp));
+  }
+
+  @Test
+  public void encode_and_decode_struct_and_array() throws Exception {
+    ExprValue value = tupleValue(ImmutableMap.of(
+        "name", "hello",
+        "address", ImmutableMap.of("city", "Seattle", "zip", 98101),
+        "tags", ImmutableList.of(1, "a")));
+    assertEquals(value, roundTrip(value));
+    assertEquals(
+        collectionValue(ImmutableList.of()), roundTrip(collectionValue(ImmutableList.of())));
+  }
+
+  @Test
+  public void encode_and_decode_other_type_by_serialization() throws Exception {
+    ExprValue interval = intervalValue(Duration.ofHours(1));
+    assertEquals(interval, roundTrip(interval));
+  }
+
+  @Test
+  public void decode_unknown_tag_throw_exception() {
+    DataInputStream input = new DataInputStream(new ByteArrayInputStream(new byte[] {127}));
+    IOException exception = assertThrows(IOException.class, () -> ExprValueCodec.decode(input));
+    assertEquals("unknown tag [127] of encoded value", exception.getMessage());
+  }
+
+  private ExprValue roundTrip(ExprValue value) throws Exception {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    ExprValueCodec.encode(value, new DataOutputStream(bytes));
+    return ExprValueCodec.decode(
+        new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+  }
+}
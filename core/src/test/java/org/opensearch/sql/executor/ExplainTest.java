@@ -48,6 +48,7 @@ import static org.opensearch.sql.planner.physical.PhysicalPlanDSL.rareTopN;
 import static org.opensearch.sql.planner.physical.PhysicalPlanDSL.remove;
 import static org.opensearch.sql.planner.physical.PhysicalPlanDSL.rename;
 import static org.opensearch.sql.planner.physical.PhysicalPlanDSL.sort;
+import static org.opensearch.sql.planner.physical.PhysicalPlanDSL.topN;
 import static org.opensearch.sql.planner.physical.PhysicalPlanDSL.values;
 import static org.opensearch.sql.planner.physical.PhysicalPlanDSL.window;
 
@@ -247,6 +248,27 @@ class ExplainTest extends ExpressionTestBase {
     );
   }
 
+  @Test
+  void can_explain_top_n() {
+    Pair<Sort.SortOption, Expression> sortList = ImmutablePair.of(
+        DEFAULT_ASC, ref("age", INTEGER));
+    PhysicalPlan plan = topN(tableScan, 10, 5, sortList);
+    assertEquals(
+        new ExplainResponse(
+            new ExplainResponseNode(
+                "TopNOperator",
+                ImmutableMap.of(
+                    "sortList", ImmutableMap.of(
+                        "age", ImmutableMap.of(
+                            "sortOrder", "ASC",
+                            "nullOrder", "NULL_FIRST")),
+                    "limit", 10,
+                    "offset", 5),
+                singletonList(tableScan.explainNode()))),
+        explain.apply(plan)
+    );
+  }
+
   private static class FakeTableScan extends TableScanOperator {
     @Override
     public boolean hasNext() {
@@ -29,6 +29,8 @@
 package org.opensearch.sql.expression.datetime;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.when;
 import static org.opensearch.sql.data.model.ExprValueUtils.integerValue;
@@ -46,6 +48,7 @@ import static org.opensearch.sql.data.type.ExprCoreType.TIME;
 import static org.opensearch.sql.data.type.ExprCoreType.TIMESTAMP;
 
 import com.google.common.collect.ImmutableList;
+import java.time.LocalDateTime;
 import java.util.List;
 import lombok.AllArgsConstructor;
 import org.junit.jupiter.api.BeforeEach;
@@ -1005,6 +1008,26 @@ class DateTimeFunctionTest extends ExpressionTestBase {
     assertEquals(missingValue(), eval(dsl.date_format(DSL.literal(""), missingRef)));
   }
 
+  @Test
+  public void date_format_compiles_formatter_once_per_format() {
+    LocalDateTime date1 = LocalDateTime.of(2020, 8, 1, 1, 2, 3);
+    LocalDateTime date2 = LocalDateTime.of(2021, 9, 2, 4, 5, 6);
+
+    String format = "%Y-%m-%d %H:%i:%s";
+    assertSame(DateTimeFormatterUtil.getFormatter(format),
+        DateTimeFormatterUtil.getFormatter(format));
+    assertSame(DateTimeFormatterUtil.getFormatter(format).apply(date1),
+        DateTimeFormatterUtil.getFormatter(format).apply(date2));
+
+    String dateDependentFormat = "%Y %D";
+    assertNotSame(DateTimeFormatterUtil.getFormatter(dateDependentFormat).apply(date1),
+        DateTimeFormatterUtil.getFormatter(dateDependentFormat).apply(date2));
+    assertEquals("2020 1st", eval(dsl.date_format(DSL.literal(new ExprDatetimeValue(date1)),
+        DSL.literal(dateDependentFormat))).stringValue());
+    assertEquals("2021 2nd", eval(dsl.date_format(DSL.literal(new ExprDatetimeValue(date2)),
+        DSL.literal(dateDependentFormat))).stringValue());
+  }
+
   void testDateFormat(DateFormatTester dft) {
     FunctionExpression expr = dft.getDateFormatExpression();
     assertEquals(STRING, expr.type());
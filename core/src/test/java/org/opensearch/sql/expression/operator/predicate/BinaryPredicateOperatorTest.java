@@ -792,6 +792,27 @@ class BinaryPredicateOperatorTest extends ExpressionTestBase {
     assertEquals(String.format("not like(\"%s\", \"%s\")", "bob", "bo%"), notLike.toString());
   }
 
+  @Test
+  public void test_like_non_literal_pattern() {
+    FunctionExpression like = dsl.like(DSL.literal("str"), DSL.ref("string_value", STRING));
+    assertEquals(LITERAL_TRUE, like.valueOf(valueEnv()));
+
+    like = dsl.like(DSL.literal("string"), DSL.ref("string_value", STRING));
+    assertEquals(LITERAL_FALSE, like.valueOf(valueEnv()));
+
+    FunctionExpression regexp = dsl.regexp(DSL.literal("str"), DSL.ref("string_value", STRING));
+    assertEquals(1, regexp.valueOf(valueEnv()).integerValue());
+  }
+
+  @Test
+  public void test_like_null_missing_literal_pattern() {
+    FunctionExpression like = dsl.like(DSL.literal("str"), DSL.literal(LITERAL_NULL));
+    assertEquals(LITERAL_NULL, like.valueOf(valueEnv()));
+
+    like = dsl.like(DSL.literal("str"), DSL.literal(LITERAL_MISSING));
+    assertEquals(LITERAL_MISSING, like.valueOf(valueEnv()));
+  }
+
   @Test
   void test_regexp() {
     STRING_PATTERN_PAIRS.forEach(this::testRegexpString);
@@ -828,6 +849,20 @@ class BinaryPredicateOperatorTest extends ExpressionTestBase {
     assertEquals(LITERAL_FALSE, exprValue);
   }
 
+  @Test
+  public void likeWithCompiledPatternSerializationTest() throws Exception {
+    Expression expression = dsl.like(DSL.literal("foobar"), DSL.literal("foo_ar"));
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    ObjectOutputStream objectOutput = new ObjectOutputStream(output);
+    objectOutput.writeObject(expression);
+    objectOutput.flush();
+
+    ObjectInputStream objectInput =
+        new ObjectInputStream(new ByteArrayInputStream(output.toByteArray()));
+    Expression e = (Expression) objectInput.readObject();
+    assertEquals(LITERAL_TRUE, e.valueOf(valueEnv()));
+  }
+
   @Test
   public void compareNumberValueWithDifferentType() {
     FunctionExpression equal = dsl.equal(DSL.literal(1), DSL.literal(1L));
@@ -168,6 +168,19 @@ class DefaultImplementorTest {
         actual);
   }
 
+  @SuppressWarnings("unchecked")
+  @Test
+  public void visitLimitOverSortShouldReturnPhysicalTopNOperator() {
+    Pair<Sort.SortOption, Expression> sortField =
+        ImmutablePair.of(Sort.SortOption.DEFAULT_ASC, ref("name", STRING));
+
+    LogicalPlan plan = limit(sort(values(emptyList()), sortField), 10, 5);
+
+    assertEquals(
+        PhysicalPlanDSL.topN(PhysicalPlanDSL.values(emptyList()), 10, 5, sortField),
+        plan.accept(implementor, null));
+  }
+
   @Test
   public void visitRelationShouldThrowException() {
     assertThrows(UnsupportedOperationException.class,
@@ -0,0 +1,337 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.sql.planner.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.opensearch.sql.ast.tree.Sort.SortOption.DEFAULT_ASC;
+import static org.opensearch.sql.ast.tree.Sort.SortOption.DEFAULT_DESC;
+import static org.opensearch.sql.data.type.ExprCoreType.BOOLEAN;
+import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
+import static org.opensearch.sql.data.type.ExprCoreType.STRING;
+import static org.opensearch.sql.expression.DSL.literal;
+import static org.opensearch.sql.expression.DSL.named;
+import static org.opensearch.sql.expression.DSL.ref;
+import static org.opensearch.sql.planner.logical.LogicalPlanDSL.aggregation;
+import static org.opensearch.sql.planner.logical.LogicalPlanDSL.dedupe;
+import static org.opensearch.sql.planner.logical.LogicalPlanDSL.eval;
+import static org.opensearch.sql.planner.logical.LogicalPlanDSL.filter;
+import static org.opensearch.sql.planner.logical.LogicalPlanDSL.limit;
+import static org.opensearch.sql.planner.logical.LogicalPlanDSL.project;
+import static org.opensearch.sql.planner.logical.LogicalPlanDSL.rareTopN;
+import static org.opensearch.sql.planner.logical.LogicalPlanDSL.relation;
+import static org.opensearch.sql.planner.logical.LogicalPlanDSL.remove;
+import static org.opensearch.sql.planner.logical.LogicalPlanDSL.rename;
+import static org.opensearch.sql.planner.logical.LogicalPlanDSL.sort;
+import static org.opensearch.sql.planner.logical.LogicalPlanDSL.values;
+import static org.opensearch.sql.planner.logical.LogicalPlanDSL.window;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.apache.commons.lang3.tuple.ImmutablePair;
+import org.junit.jupiter.api.Test;
+import org.opensearch.sql.ast.tree.RareTopN.CommandType;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.data.model.ExprValueUtils;
+import org.opensearch.sql.data.type.ExprType;
+import org.opensearch.sql.expression.DSL;
+import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.expression.FunctionExpression;
+import org.opensearch.sql.expression.LiteralExpression;
+import org.opensearch.sql.expression.config.ExpressionConfig;
+import org.opensearch.sql.expression.env.Environment;
+import org.opensearch.sql.expression.function.BuiltinFunctionRepository;
+import org.opensearch.sql.expression.function.FunctionName;
+import org.opensearch.sql.expression.window.WindowDefinition;
+import org.opensearch.sql.planner.logical.LogicalPlan;
+import org.opensearch.sql.planner.logical.LogicalPlanNodeVisitor;
+
+class PlanCacheTest {
+
+  private final BuiltinFunctionRepository repository = new ExpressionConfig().functionRepository();
+
+  private final DSL dsl = new ExpressionConfig().dsl(repository);
+
+  private final PlanCache planCache = new PlanCache();
+
+  /**
+   * Literal expressions analyzed from literal at each position, as recorded by analyzer.
+   */
+  private final Map<Integer, List<LiteralExpression>> literals = new HashMap<>();
+
+  @Test
+  void bind_literals_of_query_of_same_shape_to_cached_plan() {
+    LogicalPlan plan = plan(30, "hello", 10);
+    planCache.put(fingerprint(30, "hello", 10), plan, literals, repository);
+
+    Optional<LogicalPlan> cached = planCache.get(fingerprint(40, "world", 10));
+    assertEquals(Optional.of(plan(40, "world", 10)), cached);
+    assertEquals(1, planCache.getHitCount());
+    assertEquals(0, planCache.getMissCount());
+
+    assertEquals(Optional.of(plan), planCache.get(fingerprint(30, "hello", 10)));
+    assertNotSame(plan, planCache.get(fingerprint(30, "hello", 10)).get());
+  }
+
+  @Test
+  void miss_if_query_shape_not_cached() {
+    assertEquals(Optional.empty(), planCache.get(fingerprint(30, "hello", 10)));
+    assertEquals(0, planCache.getHitCount());
+    assertEquals(1, planCache.getMissCount());
+  }
+
+  @Test
+  void miss_if_fixed_literal_is_different() {
+    planCache.put(fingerprint(30, "hello", 10), plan(30, "hello", 10), literals, repository);
+
+    assertEquals(Optional.empty(), planCache.get(fingerprint(30, "hello", 20)));
+    assertEquals(1, planCache.getMissCount());
+  }
+
+  @Test
+  void miss_if_invalidated() {
+    planCache.put(fingerprint(30, "hello", 10), plan(30, "hello", 10), literals, repository);
+    planCache.invalidateAll();
+
+    assertEquals(Optional.empty(), planCache.get(fingerprint(40, "world", 10)));
+    assertEquals(1, planCache.getMissCount());
+    assertEquals(0, planCache.getEvictionCount());
+  }
+
+  @Test
+  void plan_with_unsupported_node_is_not_cached() {
+    LogicalPlan plan = new LogicalPlan(Collections.emptyList()) {
+      @Override
+      public <R, C> R accept(LogicalPlanNodeVisitor<R, C> visitor, C context) {
+        return visitor.visitNode(this, context);
+      }
+    };
+    QueryFingerprint fingerprint = QueryFingerprint.builder("sql").token("test").build();
+    planCache.put(fingerprint, plan, literals, repository);
+
+    assertEquals(Optional.empty(), planCache.get(fingerprint));
+  }
+
+  @Test
+  void count_eviction_of_least_recently_used_shape() {
+    PlanCache planCache = new PlanCache(1);
+    QueryFingerprint fingerprint1 =
+        QueryFingerprint.builder("sql").token("SELECT").integerLiteral(6, "1").build();
+    QueryFingerprint fingerprint2 =
+        QueryFingerprint.builder("sql").token("SELECT").stringLiteral(6, "'a'").build();
+    LogicalPlan plan1 = project(values(), named("1", literal(1)));
+    LogicalPlan plan2 = project(values(), named("'a'", literal("a")));
+
+    planCache.put(fingerprint1, plan1, literals, repository);
+    planCache.put(fingerprint1, plan1, literals, repository);
+    assertEquals(0, planCache.getEvictionCount());
+
+    planCache.put(fingerprint2, plan2, literals, repository);
+    assertEquals(1, planCache.getEvictionCount());
+    assertEquals(Optional.empty(), planCache.get(fingerprint1));
+    assertEquals(Optional.of(plan2), planCache.get(fingerprint2));
+  }
+
+  @Test
+  void literal_is_fixed_if_also_analyzed_to_expression_not_rebuilt() {
+    planCache.put(
+        fingerprint(30),
+        aggregation(
+            filter(relation("test"), dsl.greater(ref("age", INTEGER), analyzed(0, 30))),
+            ImmutableList.of(named("count", dsl.count(analyzed(0, 30)))),
+            ImmutableList.of()),
+        literals, repository);
+
+    assertEquals(Optional.empty(), planCache.get(fingerprint(40)));
+    assertTrue(planCache.get(fingerprint(30)).isPresent());
+  }
+
+  @Test
+  void literal_is_fixed_if_any_expression_analyzed_from_it_not_found_in_plan() {
+    analyzed(0, 30);
+    planCache.put(
+        fingerprint(30),
+        filter(relation("test"), dsl.greater(ref("age", INTEGER), analyzed(0, 30))),
+        literals, repository);
+
+    assertEquals(Optional.empty(), planCache.get(fingerprint(40)));
+  }
+
+  @Test
+  void literal_is_fixed_if_analyzed_to_different_value() {
+    planCache.put(
+        fingerprint(30),
+        filter(relation("test"), dsl.greater(ref("age", INTEGER), analyzed(0, -30))),
+        literals, repository);
+
+    assertEquals(Optional.empty(), planCache.get(fingerprint(40)));
+  }
+
+  @Test
+  void literals_of_same_value_are_bound_separately() {
+    QueryFingerprint fingerprint = QueryFingerprint.builder("sql")
+        .token("age").token(">").integerLiteral(0, "30")
+        .token("age").token("<").integerLiteral(1, "30").build();
+    planCache.put(
+        fingerprint,
+        filter(relation("test"), dsl.and(
+            dsl.greater(ref("age", INTEGER), analyzed(0, 30)),
+            dsl.less(ref("age", INTEGER), analyzed(1, 30)))),
+        literals, repository);
+
+    QueryFingerprint other = QueryFingerprint.builder("sql")
+        .token("age").token(">").integerLiteral(0, "30")
+        .token("age").token("<").integerLiteral(1, "40").build();
+    assertEquals(
+        Optional.of(filter(relation("test"), dsl.and(
+            dsl.greater(ref("age", INTEGER), literal(30)),
+            dsl.less(ref("age", INTEGER), literal(40))))),
+        planCache.get(other));
+  }
+
+  @Test
+  void literal_is_fixed_if_in_expression_named_by_its_text() {
+    planCache.put(
+        fingerprint(30),
+        project(relation("test"),
+            named("age + 30", dsl.add(ref("age", INTEGER), analyzed(0, 30)))),
+        literals, repository);
+
+    assertEquals(Optional.empty(), planCache.get(fingerprint(40)));
+  }
+
+  @Test
+  void literal_is_bound_if_in_expression_with_alias() {
+    planCache.put(
+        fingerprint(30),
+        project(relation("test"),
+            named("age + 30", dsl.add(ref("age", INTEGER), analyzed(0, 30)), "a")),
+        literals, repository);
+
+    assertEquals(
+        Optional.of(project(relation("test"),
+            named("age + 30", dsl.add(ref("age", INTEGER), literal(40)), "a"))),
+        planCache.get(fingerprint(40)));
+  }
+
+  private QueryFingerprint fingerprint(int age) {
+    return QueryFingerprint.builder("ppl")
+        .token("source").token("=").token("test").token("|").token("where")
+        .token("age").token(">").integerLiteral(0, String.valueOf(age))
+        .build();
+  }
+
+  private QueryFingerprint fingerprint(int age, String name, int size) {
+    return QueryFingerprint.builder("ppl")
+        .token("source").token("=").token("test").token("|").token("where")
+        .token("age").token(">").integerLiteral(0, String.valueOf(age))
+        .token("|").token("eval").token("greeting").token("=")
+        .stringLiteral(1, "'" + name + "'")
+        .token("|").token("head").integerLiteral(2, String.valueOf(size))
+        .build();
+  }
+
+  /**
+   * Literal expression analyzed from literal at the position of query.
+   */
+  private LiteralExpression analyzed(int position, Object value) {
+    LiteralExpression literal = DSL.literal(ExprValueUtils.fromObjectValue(value));
+    literals.computeIfAbsent(position, key -> new ArrayList<>()).add(literal);
+    return literal;
+  }
+
+  /**
+   * Plan with all plan nodes supported and expressions that are rebuilt in different ways.
+   */
+  @SuppressWarnings("unchecked")
+  private LogicalPlan plan(int age, String name, int size) {
+    return project(
+        limit(
+            rareTopN(
+                dedupe(
+                    window(
+                        remove(
+                            rename(
+                                sort(
+                                    eval(
+                                        aggregation(
+                                            filter(
+                                                relation("test"),
+                                                dsl.and(
+                                                    dsl.and(
+                                                        dsl.greater(ref("age", INTEGER),
+                                                            analyzed(0, age)),
+                                                        dsl.match(
+                                                            dsl.namedArgument("field",
+                                                                literal("name")),
+                                                            dsl.namedArgument("query",
+                                                                analyzed(1, name)))),
+                                                    new UnknownFunction(
+                                                        dsl.namedArgument("field",
+                                                            ref("name", STRING))))),
+                                            ImmutableList.of(
+                                                named("avg(age)", dsl.avg(ref("age", INTEGER))),
+                                                named("count", dsl.count(ref("age", INTEGER))
+                                                    .condition(dsl.greater(ref("age", INTEGER),
+                                                        literal(20))))),
+                                            ImmutableList.of(named("name", ref("name", STRING)))),
+                                        ImmutablePair.of(ref("greeting", STRING),
+                                            DSL.cases(literal("bye"),
+                                                DSL.when(dsl.greater(ref("age", INTEGER),
+                                                    analyzed(0, age)), analyzed(1, name))))),
+                                    ImmutablePair.of(DEFAULT_ASC, ref("name", STRING)),
+                                    ImmutablePair.of(DEFAULT_DESC,
+                                        named("max(age)", dsl.max(ref("age", INTEGER))))),
+                                ImmutableMap.of(ref("name", STRING), ref("n", STRING))),
+                            ref("count", INTEGER)),
+                        named("row_number", dsl.rowNumber()),
+                        new WindowDefinition(
+                            ImmutableList.of(ref("n", STRING)),
+                            ImmutableList.of(ImmutablePair.of(DEFAULT_ASC,
+                                ref("age", INTEGER))))),
+                    ref("n", STRING)),
+                CommandType.TOP, 5, ImmutableList.of(), ref("n", STRING)),
+            size, 0),
+        named("n", ref("n", STRING)),
+        named("flag", DSL.cases(null,
+            DSL.when(dsl.equal(ref("greeting", STRING), analyzed(1, name)), literal(true))),
+            "flag"),
+        named("avg", (Expression) dsl.avg(ref("age", INTEGER))));
+  }
+
+  /**
+   * Function not registered in function repository.
+   */
+  private static class UnknownFunction extends FunctionExpression {
+    UnknownFunction(Expression... arguments) {
+      super(FunctionName.of("unknown"), Arrays.asList(arguments));
+    }
+
+    @Override
+    public ExprValue valueOf(Environment<Expression, ExprValue> valueEnv) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public ExprType type() {
+      return BOOLEAN;
+    }
+  }
+}
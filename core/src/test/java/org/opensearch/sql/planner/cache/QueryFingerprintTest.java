@@ -0,0 +1,82 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.sql.planner.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.opensearch.sql.data.model.ExprValueUtils.doubleValue;
+import static org.opensearch.sql.data.model.ExprValueUtils.integerValue;
+import static org.opensearch.sql.data.model.ExprValueUtils.longValue;
+import static org.opensearch.sql.data.model.ExprValueUtils.stringValue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import org.junit.jupiter.api.Test;
+
+class QueryFingerprintTest {
+
+  @Test
+  void literals_are_masked_and_extracted() {
+    QueryFingerprint fingerprint = QueryFingerprint.builder("sql")
+        .token("SELECT").token(" ").token("*").token(" ").token("FROM").token(" ").token("t")
+        .token(" ").token("WHERE").token(" ").token("a").token("=").integerLiteral(24, "1")
+        .token(" ").token("AND").token(" ").token("b").token("=").stringLiteral(32, "'x'")
+        .token(" ").token("AND").token(" ").token("c").token("=").doubleLiteral(42, "1.5")
+        .token(" ").token("AND").token(" ").token("d").token("=")
+        .integerLiteral(52, "2147483648")
+        .build();
+
+    assertEquals("SELECT * FROM t WHERE a = *** AND b = *** AND c = *** AND d = ***",
+        fingerprint.toString());
+    assertEquals(Arrays.asList("1", "'x'", "1.5", "2147483648"), fingerprint.getLiteralTexts());
+    assertEquals(
+        Arrays.asList(integerValue(1), stringValue("x"), doubleValue(1.5),
+            longValue(2147483648L)),
+        fingerprint.getLiteralValues());
+    assertEquals(Arrays.asList(24, 32, 42, 52), fingerprint.getLiteralPositions());
+  }
+
+  @Test
+  void queries_of_same_shape_have_same_shape() {
+    assertEquals(
+        QueryFingerprint.builder("ppl").token("a").token("=").integerLiteral(0, "1").build()
+            .getShape(),
+        QueryFingerprint.builder("ppl").token("a").token("=").integerLiteral(0, "2").build()
+            .getShape());
+  }
+
+  @Test
+  void queries_of_different_shape_have_different_shape() {
+    assertNotEquals(
+        QueryFingerprint.builder("ppl").token("a").token("=").integerLiteral(0, "1").build()
+            .getShape(),
+        QueryFingerprint.builder("ppl").token("a").token("=").stringLiteral(0, "'1'").build()
+            .getShape());
+    assertNotEquals(
+        QueryFingerprint.builder("ppl").token("a").token("=").integerLiteral(0, "1").build()
+            .getShape(),
+        QueryFingerprint.builder("sql").token("a").token("=").integerLiteral(0, "1").build()
+            .getShape());
+    assertNotEquals(
+        QueryFingerprint.builder("ppl").token("ab").token("c").build().getShape(),
+        QueryFingerprint.builder("ppl").token("a").token("bc").build().getShape());
+  }
+
+  @Test
+  void integer_literal_out_of_long_range_is_kept_as_token() {
+    QueryFingerprint fingerprint = QueryFingerprint.builder("sql")
+        .token("a").token("=").integerLiteral(0, "99999999999999999999").build();
+
+    assertEquals("a = 99999999999999999999", fingerprint.toString());
+    assertEquals(Collections.emptyList(), fingerprint.getLiteralValues());
+  }
+}
@@ -31,20 +31,34 @@ package org.opensearch.sql.planner.optimizer;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.opensearch.sql.data.model.ExprValueUtils.integerValue;
 import static org.opensearch.sql.data.model.ExprValueUtils.longValue;
+import static org.opensearch.sql.data.type.ExprCoreType.BOOLEAN;
 import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
 import static org.opensearch.sql.data.type.ExprCoreType.LONG;
+import static org.opensearch.sql.data.type.ExprCoreType.STRING;
+import static org.opensearch.sql.planner.logical.LogicalPlanDSL.eval;
 import static org.opensearch.sql.planner.logical.LogicalPlanDSL.filter;
+import static org.opensearch.sql.planner.logical.LogicalPlanDSL.project;
 import static org.opensearch.sql.planner.logical.LogicalPlanDSL.relation;
+import static org.opensearch.sql.planner.logical.LogicalPlanDSL.rename;
 import static org.opensearch.sql.planner.logical.LogicalPlanDSL.sort;
+import static org.opensearch.sql.planner.logical.LogicalPlanDSL.window;
 
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import java.util.Collections;
 import org.apache.commons.lang3.tuple.Pair;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.opensearch.sql.analysis.AnalyzerTestBase;
 import org.opensearch.sql.ast.tree.Sort;
 import org.opensearch.sql.expression.DSL;
+import org.opensearch.sql.expression.Expression;
 import org.opensearch.sql.expression.config.ExpressionConfig;
+import org.opensearch.sql.expression.window.WindowDefinition;
+import org.opensearch.sql.expression.window.aggregation.AggregateWindowFunction;
 import org.opensearch.sql.planner.logical.LogicalPlan;
+import org.opensearch.sql.planner.logical.LogicalProject;
+import org.opensearch.sql.planner.logical.LogicalWindow;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
@@ -130,6 +144,637 @@ class LogicalPlanOptimizerTest extends AnalyzerTestBase {
     );
   }
 
+  /**
+   * Filter(a = abs(-5) * 3) --> Filter(a = 15).
+   */
+  @Test
+  void fold_constant_in_filter() {
+    assertEquals(
+        filter(
+            relation("schema"),
+            dsl.equal(DSL.ref("intV", INTEGER), DSL.literal(integerValue(15)))
+        ),
+        optimize(
+            filter(
+                relation("schema"),
+                dsl.equal(DSL.ref("intV", INTEGER),
+                    dsl.multiply(dsl.abs(DSL.literal(-5)), DSL.literal(3)))
+            )
+        )
+    );
+  }
+
+  /**
+   * Filter(1 = 1) --> removed.
+   * Filter(1 = 2) --> Filter(false).
+   */
+  @Test
+  void fold_constant_filter_condition() {
+    assertEquals(
+        relation("schema"),
+        optimize(
+            filter(
+                relation("schema"),
+                dsl.equal(DSL.literal(1), DSL.literal(1))
+            )
+        )
+    );
+
+    assertEquals(
+        filter(
+            relation("schema"),
+            DSL.literal(false)
+        ),
+        optimize(
+            filter(
+                relation("schema"),
+                dsl.equal(DSL.literal(1), DSL.literal(2))
+            )
+        )
+    );
+  }
+
+  /**
+   * Eval(a = 1 + 2, b = intV + 1) --> Eval(a = 3, b = intV + 1).
+   */
+  @Test
+  void fold_constant_in_eval() {
+    assertEquals(
+        eval(
+            relation("schema"),
+            Pair.of(DSL.ref("a", INTEGER), DSL.literal(3)),
+            Pair.of(DSL.ref("b", INTEGER), dsl.add(DSL.ref("intV", INTEGER), DSL.literal(1)))
+        ),
+        optimize(
+            eval(
+                relation("schema"),
+                Pair.of(DSL.ref("a", INTEGER), dsl.add(DSL.literal(1), DSL.literal(2))),
+                Pair.of(DSL.ref("b", INTEGER), dsl.add(DSL.ref("intV", INTEGER), DSL.literal(1)))
+            )
+        )
+    );
+  }
+
+  /**
+   * Filter(intV > 1 AND a > 2) - Eval(a = intV + 1)
+   * --> Filter(a > 2) - Eval(a = intV + 1) - Filter(intV > 1).
+   */
+  @Test
+  void push_filter_under_eval() {
+    assertEquals(
+        filter(
+            eval(
+                filter(
+                    relation("schema"),
+                    dsl.greater(DSL.ref("intV", INTEGER), DSL.literal(1))
+                ),
+                Pair.of(DSL.ref("a", INTEGER), dsl.add(DSL.ref("intV", INTEGER), DSL.literal(1)))
+            ),
+            dsl.greater(DSL.ref("a", INTEGER), DSL.literal(2))
+        ),
+        optimize(
+            filter(
+                eval(
+                    relation("schema"),
+                    Pair.of(DSL.ref("a", INTEGER),
+                        dsl.add(DSL.ref("intV", INTEGER), DSL.literal(1)))
+                ),
+                dsl.and(dsl.greater(DSL.ref("intV", INTEGER), DSL.literal(1)),
+                    dsl.greater(DSL.ref("a", INTEGER), DSL.literal(2)))
+            )
+        )
+    );
+  }
+
+  /**
+   * Filter(intV > 1 AND longV < 5) - Eval(a = intV + 1)
+   * --> Eval(a = intV + 1) - Filter(intV > 1 AND longV < 5).
+   */
+  @Test
+  void push_filter_under_eval_entirely() {
+    assertEquals(
+        eval(
+            filter(
+                relation("schema"),
+                dsl.and(dsl.greater(DSL.ref("intV", INTEGER), DSL.literal(1)),
+                    dsl.less(DSL.ref("longV", LONG), DSL.literal(5L)))
+            ),
+            Pair.of(DSL.ref("a", INTEGER), dsl.add(DSL.ref("intV", INTEGER), DSL.literal(1)))
+        ),
+        optimize(
+            filter(
+                eval(
+                    relation("schema"),
+                    Pair.of(DSL.ref("a", INTEGER),
+                        dsl.add(DSL.ref("intV", INTEGER), DSL.literal(1)))
+                ),
+                dsl.and(dsl.greater(DSL.ref("intV", INTEGER), DSL.literal(1)),
+                    dsl.less(DSL.ref("longV", LONG), DSL.literal(5L)))
+            )
+        )
+    );
+  }
+
+  /**
+   * Filter referring to the field evaluated or overwritten by Eval is not pushed down.
+   */
+  @Test
+  void filter_on_evaluated_field_should_not_push_under_eval() {
+    LogicalPlan plan =
+        filter(
+            eval(
+                relation("schema"),
+                Pair.of(DSL.ref("intV", INTEGER),
+                    dsl.add(DSL.ref("intV", INTEGER), DSL.literal(1)))
+            ),
+            dsl.greater(DSL.ref("intV", INTEGER), DSL.literal(1))
+        );
+    assertEquals(plan, optimize(plan));
+
+    plan =
+        filter(
+            eval(
+                relation("schema"),
+                Pair.of(DSL.ref("flag", BOOLEAN),
+                    dsl.greater(DSL.ref("intV", INTEGER), DSL.literal(1)))
+            ),
+            DSL.ref("flag", BOOLEAN)
+        );
+    assertEquals(plan, optimize(plan));
+  }
+
+  /**
+   * Filter(i > 1 AND CASE(...)) - Rename(intV as i)
+   * --> Rename(intV as i) - Filter(intV > 1 AND CASE(...)).
+   */
+  @Test
+  void push_filter_under_rename() {
+    assertEquals(
+        rename(
+            filter(
+                relation("schema"),
+                dsl.and(
+                    dsl.greater(DSL.ref("intV", INTEGER), DSL.literal(1)),
+                    dsl.equal(
+                        DSL.cases(null,
+                            DSL.when(dsl.less(DSL.ref("longV", LONG), DSL.literal(5L)),
+                                DSL.ref("intV", INTEGER))),
+                        DSL.literal(2)))
+            ),
+            ImmutableMap.of(DSL.ref("intV", INTEGER), DSL.ref("i", INTEGER))
+        ),
+        optimize(
+            filter(
+                rename(
+                    relation("schema"),
+                    ImmutableMap.of(DSL.ref("intV", INTEGER), DSL.ref("i", INTEGER))
+                ),
+                dsl.and(
+                    dsl.greater(DSL.ref("i", INTEGER), DSL.literal(1)),
+                    dsl.equal(
+                        DSL.cases(null,
+                            DSL.when(dsl.less(DSL.ref("longV", LONG), DSL.literal(5L)),
+                                DSL.ref("i", INTEGER))),
+                        DSL.literal(2)))
+            )
+        )
+    );
+  }
+
+  /**
+   * Filter(match(s, 'John') AND CASE(...)) - Rename(stringV as s)
+   * --> Filter(match(s, 'John')) - Rename(stringV as s) - Filter(CASE(...)).
+   */
+  @Test
+  void filter_with_field_name_in_literal_should_not_push_under_rename() {
+    Expression match = dsl.match(
+        dsl.namedArgument("field", DSL.literal("s")),
+        dsl.namedArgument("query", DSL.literal("John")));
+    assertEquals(
+        filter(
+            rename(
+                filter(
+                    relation("schema"),
+                    DSL.cases(DSL.literal(false),
+                        DSL.when(dsl.less(DSL.ref("longV", LONG), DSL.literal(5L)),
+                            dsl.equal(DSL.ref("stringV", STRING), DSL.literal("John"))))
+                ),
+                ImmutableMap.of(DSL.ref("stringV", STRING), DSL.ref("s", STRING))
+            ),
+            match
+        ),
+        optimize(
+            filter(
+                rename(
+                    relation("schema"),
+                    ImmutableMap.of(DSL.ref("stringV", STRING), DSL.ref("s", STRING))
+                ),
+                dsl.and(
+                    match,
+                    DSL.cases(DSL.literal(false),
+                        DSL.when(dsl.less(DSL.ref("longV", LONG), DSL.literal(5L)),
+                            dsl.equal(DSL.ref("s", STRING), DSL.literal("John")))))
+            )
+        )
+    );
+  }
+
+  /**
+   * Filter(i > 1 AND absV > 2) - Project(intV AS i, abs(longV) AS absV)
+   * --> Filter(absV > 2) - Project(intV AS i, abs(longV) AS absV) - Filter(intV > 1).
+   */
+  @Test
+  void push_filter_under_project() {
+    assertEquals(
+        filter(
+            project(
+                filter(
+                    relation("schema"),
+                    dsl.greater(DSL.ref("intV", INTEGER), DSL.literal(1))
+                ),
+                DSL.named("intV", DSL.ref("intV", INTEGER), "i"),
+                DSL.named("absV", dsl.abs(DSL.ref("longV", LONG)))
+            ),
+            dsl.greater(DSL.ref("absV", LONG), DSL.literal(2L))
+        ),
+        optimize(
+            filter(
+                project(
+                    relation("schema"),
+                    DSL.named("intV", DSL.ref("intV", INTEGER), "i"),
+                    DSL.named("absV", dsl.abs(DSL.ref("longV", LONG)))
+                ),
+                dsl.and(dsl.greater(DSL.ref("i", INTEGER), DSL.literal(1)),
+                    dsl.greater(DSL.ref("absV", LONG), DSL.literal(2L)))
+            )
+        )
+    );
+
+    assertEquals(
+        project(
+            filter(
+                relation("schema"),
+                dsl.greater(DSL.ref("intV", INTEGER), DSL.literal(1))
+            ),
+            DSL.named("intV", DSL.ref("intV", INTEGER), "i"),
+            DSL.named("intV", DSL.ref("intV", INTEGER), "i")
+        ),
+        optimize(
+            filter(
+                project(
+                    relation("schema"),
+                    DSL.named("intV", DSL.ref("intV", INTEGER), "i"),
+                    DSL.named("intV", DSL.ref("intV", INTEGER), "i")
+                ),
+                dsl.greater(DSL.ref("i", INTEGER), DSL.literal(1))
+            )
+        )
+    );
+  }
+
+  /**
+   * Project(a, b, stringV) - Eval(a = intV + 1, b = a + longV)
+   * --> Project(a, b, stringV) - Eval(a = intV + 1, b = a + longV) - Project(intV, longV, stringV).
+   */
+  @Test
+  void push_project_under_eval() {
+    assertEquals(
+        project(
+            eval(
+                project(
+                    relation("schema"),
+                    DSL.named("intV", DSL.ref("intV", INTEGER)),
+                    DSL.named("longV", DSL.ref("longV", LONG)),
+                    DSL.named("stringV", DSL.ref("stringV", STRING))
+                ),
+                Pair.of(DSL.ref("a", INTEGER), dsl.add(DSL.ref("intV", INTEGER), DSL.literal(1))),
+                Pair.of(DSL.ref("b", LONG), dsl.add(DSL.ref("a", INTEGER), DSL.ref("longV", LONG)))
+            ),
+            DSL.named("a", DSL.ref("a", INTEGER)),
+            DSL.named("b", DSL.ref("b", LONG)),
+            DSL.named("stringV", DSL.ref("stringV", STRING))
+        ),
+        optimize(
+            project(
+                eval(
+                    relation("schema"),
+                    Pair.of(DSL.ref("a", INTEGER),
+                        dsl.add(DSL.ref("intV", INTEGER), DSL.literal(1))),
+                    Pair.of(DSL.ref("b", LONG),
+                        dsl.add(DSL.ref("a", INTEGER), DSL.ref("longV", LONG)))
+                ),
+                DSL.named("a", DSL.ref("a", INTEGER)),
+                DSL.named("b", DSL.ref("b", LONG)),
+                DSL.named("stringV", DSL.ref("stringV", STRING))
+            )
+        )
+    );
+  }
+
+  /**
+   * Project is not pushed under Eval if nothing to prune or any field referred by name in literal.
+   */
+  @Test
+  void project_should_not_push_under_eval() {
+    Expression match = dsl.match(
+        dsl.namedArgument("field", DSL.literal("stringV")),
+        dsl.namedArgument("query", DSL.literal("John")));
+
+    LogicalPlan plan =
+        project(
+            eval(
+                project(
+                    relation("schema"),
+                    DSL.named("intV", DSL.ref("intV", INTEGER))
+                ),
+                Pair.of(DSL.ref("a", INTEGER), dsl.add(DSL.ref("intV", INTEGER), DSL.literal(1)))
+            ),
+            DSL.named("a", DSL.ref("a", INTEGER))
+        );
+    assertEquals(plan, optimize(plan));
+
+    plan =
+        project(
+            eval(
+                relation("schema"),
+                Pair.of(DSL.ref("a", INTEGER), DSL.literal(1))
+            ),
+            DSL.named("a", DSL.ref("a", INTEGER))
+        );
+    assertEquals(plan, optimize(plan));
+
+    plan =
+        project(
+            eval(
+                relation("schema"),
+                Pair.of(DSL.ref("a", BOOLEAN), match)
+            ),
+            DSL.named("a", DSL.ref("a", BOOLEAN))
+        );
+    assertEquals(plan, optimize(plan));
+
+    plan =
+        project(
+            eval(
+                relation("schema"),
+                Pair.of(DSL.ref("a", INTEGER), dsl.add(DSL.ref("intV", INTEGER), DSL.literal(1)))
+            ),
+            DSL.named("a", DSL.ref("a", INTEGER)),
+            DSL.named("m", match)
+        );
+    assertEquals(plan, optimize(plan));
+  }
+
+  /**
+   * Project of all fields requires all fields of child and thus nothing to prune under Eval.
+   */
+  @Test
+  void project_of_all_fields_should_not_push_under_eval() {
+    LogicalPlan plan =
+        new LogicalProject(
+            eval(
+                relation("schema"),
+                Pair.of(DSL.ref("a", INTEGER), dsl.add(DSL.ref("intV", INTEGER), DSL.literal(1)))
+            ),
+            ImmutableList.of(
+                DSL.named("intV", DSL.ref("intV", INTEGER)),
+                DSL.named("stringV", DSL.ref("stringV", STRING)),
+                DSL.named("a", DSL.ref("a", INTEGER))),
+            true);
+    assertEquals(plan, optimize(plan));
+  }
+
+  /**
+   * Project(i, stringV) - Rename(intV as i)
+   * --> Project(i, stringV) - Rename(intV as i) - Project(intV, stringV).
+   */
+  @Test
+  void push_project_under_rename() {
+    assertEquals(
+        project(
+            rename(
+                project(
+                    relation("schema"),
+                    DSL.named("intV", DSL.ref("intV", INTEGER)),
+                    DSL.named("stringV", DSL.ref("stringV", STRING))
+                ),
+                ImmutableMap.of(DSL.ref("intV", INTEGER), DSL.ref("i", INTEGER))
+            ),
+            DSL.named("i", DSL.ref("i", INTEGER)),
+            DSL.named("stringV", DSL.ref("stringV", STRING))
+        ),
+        optimize(
+            project(
+                rename(
+                    relation("schema"),
+                    ImmutableMap.of(DSL.ref("intV", INTEGER), DSL.ref("i", INTEGER))
+                ),
+                DSL.named("i", DSL.ref("i", INTEGER)),
+                DSL.named("stringV", DSL.ref("stringV", STRING))
+            )
+        )
+    );
+  }
+
+  /**
+   * Project is not pushed under Rename if nothing to prune or any field referred by name in
+   * literal.
+   */
+  @Test
+  void project_should_not_push_under_rename() {
+    LogicalPlan plan =
+        project(
+            rename(
+                project(
+                    relation("schema"),
+                    DSL.named("intV", DSL.ref("intV", INTEGER))
+                ),
+                ImmutableMap.of(DSL.ref("intV", INTEGER), DSL.ref("i", INTEGER))
+            ),
+            DSL.named("i", DSL.ref("i", INTEGER))
+        );
+    assertEquals(plan, optimize(plan));
+
+    plan =
+        project(
+            rename(
+                relation("schema"),
+                ImmutableMap.of(DSL.ref("intV", INTEGER), DSL.ref("i", INTEGER))
+            ),
+            DSL.named("one", DSL.literal(1))
+        );
+    assertEquals(plan, optimize(plan));
+
+    plan =
+        project(
+            rename(
+                relation("schema"),
+                ImmutableMap.of(DSL.ref("stringV", STRING), DSL.ref("s", STRING))
+            ),
+            DSL.named("m", dsl.match(
+                dsl.namedArgument("field", DSL.literal("s")),
+                dsl.namedArgument("query", DSL.literal("John"))))
+        );
+    assertEquals(plan, optimize(plan));
+  }
+
+  /**
+   * Sort - Window --> Window if sort list is prefix of window sort items.
+   */
+  @Test
+  void sort_merge_window() {
+    WindowDefinition definition = new WindowDefinition(
+        ImmutableList.of(DSL.ref("stringV", STRING)),
+        ImmutableList.of(Pair.of(Sort.SortOption.DEFAULT_ASC, DSL.ref("intV", INTEGER))));
+    LogicalPlan windowPlan =
+        window(
+            sort(
+                relation("schema"),
+                Pair.of(Sort.SortOption.DEFAULT_ASC, DSL.ref("stringV", STRING)),
+                Pair.of(Sort.SortOption.DEFAULT_ASC, DSL.ref("intV", INTEGER))
+            ),
+            DSL.named("rank()", dsl.rank()),
+            definition
+        );
+
+    assertEquals(
+        windowPlan,
+        optimize(
+            sort(
+                windowPlan,
+                Pair.of(Sort.SortOption.DEFAULT_ASC, DSL.ref("stringV", STRING)),
+                Pair.of(Sort.SortOption.DEFAULT_ASC, DSL.ref("intV", INTEGER))
+            )
+        )
+    );
+    assertEquals(
+        windowPlan,
+        optimize(
+            sort(
+                windowPlan,
+                Pair.of(Sort.SortOption.DEFAULT_ASC, DSL.ref("stringV", STRING))
+            )
+        )
+    );
+  }
+
+  /**
+   * Sort is kept if it is not prefix of window sort items.
+   */
+  @Test
+  void sort_should_not_merge_window() {
+    LogicalPlan windowPlan =
+        window(
+            sort(
+                relation("schema"),
+                Pair.of(Sort.SortOption.DEFAULT_ASC, DSL.ref("stringV", STRING))
+            ),
+            DSL.named("rank()", dsl.rank()),
+            new WindowDefinition(
+                ImmutableList.of(DSL.ref("stringV", STRING)), Collections.emptyList())
+        );
+
+    LogicalPlan plan =
+        sort(
+            windowPlan,
+            Pair.of(Sort.SortOption.DEFAULT_DESC, DSL.ref("stringV", STRING))
+        );
+    assertEquals(plan, optimize(plan));
+
+    plan =
+        sort(
+            windowPlan,
+            Pair.of(Sort.SortOption.DEFAULT_ASC, DSL.ref("stringV", STRING)),
+            Pair.of(Sort.SortOption.DEFAULT_ASC, DSL.ref("intV", INTEGER))
+        );
+    assertEquals(plan, optimize(plan));
+  }
+
+  /**
+   * Window - Window --> Window if both are ranking functions on same window definition.
+   */
+  @Test
+  void window_merge_window() {
+    WindowDefinition definition = new WindowDefinition(
+        ImmutableList.of(DSL.ref("stringV", STRING)),
+        ImmutableList.of(Pair.of(Sort.SortOption.DEFAULT_ASC, DSL.ref("intV", INTEGER))));
+    assertEquals(
+        new LogicalWindow(
+            relation("schema"),
+            ImmutableList.of(
+                DSL.named("row_number()", dsl.rowNumber()),
+                DSL.named("rank()", dsl.rank()),
+                DSL.named("dense_rank()", dsl.denseRank())),
+            definition
+        ),
+        optimize(
+            window(
+                window(
+                    window(
+                        relation("schema"),
+                        DSL.named("row_number()", dsl.rowNumber()),
+                        definition
+                    ),
+                    DSL.named("rank()", dsl.rank()),
+                    definition
+                ),
+                DSL.named("dense_rank()", dsl.denseRank()),
+                definition
+            )
+        )
+    );
+  }
+
+  /**
+   * Window is not merged if window definition is different or any function is aggregate window
+   * function.
+   */
+  @SuppressWarnings("unchecked")
+  @Test
+  void window_should_not_merge_window() {
+    WindowDefinition definition = new WindowDefinition(
+        ImmutableList.of(DSL.ref("stringV", STRING)), Collections.emptyList());
+    WindowDefinition otherDefinition = new WindowDefinition(
+        ImmutableList.of(DSL.ref("intV", INTEGER)), Collections.emptyList());
+    LogicalPlan plan =
+        window(
+            window(
+                relation("schema"),
+                DSL.named("rank()", dsl.rank()),
+                definition
+            ),
+            DSL.named("rank()", dsl.rank()),
+            otherDefinition
+        );
+    assertEquals(plan, optimize(plan));
+
+    plan =
+        window(
+            window(
+                relation("schema"),
+                DSL.named("rank()", dsl.rank()),
+                definition
+            ),
+            DSL.named("sum(intV)",
+                new AggregateWindowFunction(dsl.sum(DSL.ref("intV", INTEGER)))),
+            definition
+        );
+    assertEquals(plan, optimize(plan));
+
+    plan =
+        window(
+            window(
+                relation("schema"),
+                DSL.named("sum(intV)",
+                    new AggregateWindowFunction(dsl.sum(DSL.ref("intV", INTEGER)))),
+                definition
+            ),
+            DSL.named("rank()", dsl.rank()),
+            definition
+        );
+    assertEquals(plan, optimize(plan));
+  }
+
   private LogicalPlan optimize(LogicalPlan plan) {
     final LogicalPlanOptimizer optimizer = LogicalPlanOptimizer.create(dsl);
     final LogicalPlan optimize = optimizer.optimize(plan);
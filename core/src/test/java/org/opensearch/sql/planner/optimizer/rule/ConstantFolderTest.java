@@ -0,0 +1,118 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.sql.planner.optimizer.rule;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
+import static org.opensearch.sql.data.type.ExprCoreType.STRING;
+import static org.opensearch.sql.expression.DSL.literal;
+import static org.opensearch.sql.expression.DSL.named;
+import static org.opensearch.sql.expression.DSL.ref;
+
+import org.junit.jupiter.api.Test;
+import org.opensearch.sql.data.model.ExprTimestampValue;
+import org.opensearch.sql.expression.DSL;
+import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.expression.config.ExpressionConfig;
+
+class ConstantFolderTest {
+
+  private final DSL dsl = new ExpressionConfig().dsl(new ExpressionConfig().functionRepository());
+
+  private final ConstantFolder folder = new ConstantFolder(dsl);
+
+  @Test
+  void function_over_literals_should_be_folded() {
+    assertEquals(literal(15),
+        folder.fold(dsl.multiply(dsl.abs(literal(-5)), literal(3))));
+    assertEquals(literal(new ExprTimestampValue("2021-01-01 00:00:00")),
+        folder.fold(dsl.castTimestamp(literal("2021-01-01 00:00:00"))));
+  }
+
+  @Test
+  void constant_argument_should_be_folded() {
+    assertEquals(dsl.equal(ref("age", INTEGER), literal(15)),
+        folder.fold(dsl.equal(ref("age", INTEGER), dsl.multiply(literal(5), literal(3)))));
+  }
+
+  @Test
+  void expression_without_constant_should_not_change() {
+    Expression expr = dsl.equal(ref("age", INTEGER), dsl.abs(ref("balance", INTEGER)));
+    assertSame(expr, folder.fold(expr));
+
+    Expression literal = literal(1);
+    assertSame(literal, folder.fold(literal));
+  }
+
+  @Test
+  void comparison_with_literal_on_the_left_should_not_be_mirrored() {
+    assertEquals(dsl.gte(literal(30), ref("age", INTEGER)),
+        folder.fold(dsl.gte(dsl.add(literal(10), literal(20)), ref("age", INTEGER))));
+
+    Expression expr = dsl.less(literal(30), ref("age", INTEGER));
+    assertSame(expr, folder.fold(expr));
+  }
+
+  @Test
+  void non_deterministic_function_should_not_be_folded() {
+    Expression expr = dsl.rand(literal(1));
+    assertSame(expr, folder.fold(expr));
+
+    Expression rank = dsl.rank();
+    assertSame(rank, folder.fold(rank));
+  }
+
+  @Test
+  void function_failed_or_evaluated_to_null_should_not_be_folded() {
+    Expression expr = dsl.castInt(literal("abc"));
+    assertSame(expr, folder.fold(expr));
+
+    expr = dsl.divide(literal(1), literal(0));
+    assertSame(expr, folder.fold(expr));
+  }
+
+  @Test
+  void named_and_aggregator_should_not_be_folded() {
+    Expression expr = named("abs(-1)", dsl.abs(literal(-1)));
+    assertSame(expr, folder.fold(expr));
+
+    expr = dsl.avg(dsl.abs(literal(-1)));
+    assertSame(expr, folder.fold(expr));
+
+    expr = DSL.named("avg", dsl.avg(dsl.abs(literal(-1))));
+    assertSame(expr, folder.fold(expr));
+  }
+
+  @Test
+  void branches_of_case_should_be_folded() {
+    assertEquals(
+        DSL.cases(literal("3"),
+            DSL.when(dsl.equal(ref("age", INTEGER), literal(2)), literal("2"))),
+        folder.fold(
+            DSL.cases(dsl.castString(dsl.add(literal(1), literal(2))),
+                DSL.when(dsl.equal(ref("age", INTEGER), dsl.add(literal(1), literal(1))),
+                    literal("2")))));
+
+    assertEquals(
+        DSL.cases(null,
+            DSL.when(dsl.equal(ref("age", INTEGER), literal(2)), ref("name", STRING))),
+        folder.fold(
+            DSL.cases(null,
+                DSL.when(dsl.equal(ref("age", INTEGER), dsl.add(literal(1), literal(1))),
+                    ref("name", STRING)))));
+
+    Expression expr = DSL.cases(literal("1"),
+        DSL.when(dsl.equal(ref("age", INTEGER), literal(1)), ref("name", STRING)));
+    assertSame(expr, folder.fold(expr));
+  }
+}
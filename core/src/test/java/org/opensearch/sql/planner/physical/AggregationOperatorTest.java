@@ -27,21 +27,40 @@
 package org.opensearch.sql.planner.physical;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.when;
+import static org.opensearch.sql.data.type.ExprCoreType.BOOLEAN;
+import static org.opensearch.sql.data.type.ExprCoreType.DOUBLE;
 import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
+import static org.opensearch.sql.data.type.ExprCoreType.LONG;
 import static org.opensearch.sql.data.type.ExprCoreType.STRING;
 
 import com.google.common.collect.ImmutableMap;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.sql.data.model.ExprMissingValue;
+import org.opensearch.sql.data.model.ExprTupleValue;
 import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.data.model.ExprValueUtils;
 import org.opensearch.sql.expression.DSL;
 
+@ExtendWith(MockitoExtension.class)
 class AggregationOperatorTest extends PhysicalPlanTestBase {
+  @Mock
+  private PhysicalPlan inputPlan;
+
   @Test
   public void avg_with_one_groups() {
     PhysicalPlan plan = new AggregationOperator(new TestScan(),
@@ -88,4 +107,147 @@ class AggregationOperatorTest extends PhysicalPlanTestBase {
         ExprValueUtils.tupleValue(ImmutableMap.of("action", "POST", "sum(response)", 700))
     ));
   }
+
+  @Test
+  public void sum_without_groups() {
+    PhysicalPlan plan = new AggregationOperator(new TestScan(),
+        Collections
+            .singletonList(DSL.named("sum(response)", dsl.sum(DSL.ref("response", INTEGER)))),
+        Collections.emptyList());
+    List<ExprValue> result = execute(plan);
+    assertEquals(1, result.size());
+    assertThat(result, containsInAnyOrder(
+        ExprValueUtils.tupleValue(ImmutableMap.of("sum(response)", 1504))
+    ));
+  }
+
+  @Test
+  public void sum_with_one_integer_group() {
+    PhysicalPlan plan = new AggregationOperator(new TestScan(),
+        Collections
+            .singletonList(DSL.named("sum(response)", dsl.sum(DSL.ref("response", INTEGER)))),
+        Collections.singletonList(DSL.named("response", DSL.ref("response", INTEGER))));
+    List<ExprValue> result = execute(plan);
+    assertEquals(3, result.size());
+    assertThat(result, containsInAnyOrder(
+        ExprValueUtils.tupleValue(ImmutableMap.of("response", 200, "sum(response)", 600)),
+        ExprValueUtils.tupleValue(ImmutableMap.of("response", 404, "sum(response)", 404)),
+        ExprValueUtils.tupleValue(ImmutableMap.of("response", 500, "sum(response)", 500))
+    ));
+  }
+
+  @Test
+  public void count_with_null_and_missing_integer_group() {
+    Map<String, Object> nullResponse = new HashMap<>();
+    nullResponse.put("action", "GET");
+    nullResponse.put("response", null);
+    when(inputPlan.hasNext()).thenReturn(true, true, true, true, true, false);
+    when(inputPlan.next())
+        .thenReturn(ExprValueUtils.tupleValue(ImmutableMap.of("action", "GET", "response", 200)))
+        .thenReturn(ExprValueUtils.tupleValue(nullResponse))
+        .thenReturn(ExprValueUtils.tupleValue(ImmutableMap.of("action", "GET")))
+        .thenReturn(ExprValueUtils.tupleValue(nullResponse))
+        .thenReturn(ExprValueUtils.tupleValue(ImmutableMap.of("action", "POST")));
+
+    PhysicalPlan plan = new AggregationOperator(inputPlan,
+        Collections
+            .singletonList(DSL.named("count(action)", dsl.count(DSL.ref("action", STRING)))),
+        Collections.singletonList(DSL.named("response", DSL.ref("response", INTEGER))));
+    Map<String, Object> nullGroup = new HashMap<>();
+    nullGroup.put("response", null);
+    nullGroup.put("count(action)", 2);
+    Map<String, ExprValue> missingGroup = new LinkedHashMap<>();
+    missingGroup.put("response", ExprMissingValue.of());
+    missingGroup.put("count(action)", ExprValueUtils.integerValue(2));
+    assertThat(execute(plan), containsInAnyOrder(
+        ExprValueUtils.tupleValue(ImmutableMap.of("response", 200, "count(action)", 1)),
+        ExprValueUtils.tupleValue(nullGroup),
+        ExprTupleValue.fromExprValueMap(missingGroup)
+    ));
+  }
+
+  @Test
+  public void count_with_many_long_groups() {
+    List<ExprValue> values = new ArrayList<>();
+    for (int round = 0; round < 2; round++) {
+      for (long i = 0; i < 1000; i++) {
+        values.add(ExprValueUtils.tupleValue(ImmutableMap.of("id", i << 20, "value", i)));
+      }
+    }
+    Iterator<ExprValue> iterator = values.iterator();
+    when(inputPlan.hasNext()).thenAnswer(invocation -> iterator.hasNext());
+    when(inputPlan.next()).thenAnswer(invocation -> iterator.next());
+
+    PhysicalPlan plan = new AggregationOperator(inputPlan,
+        Collections.singletonList(DSL.named("sum(value)", dsl.sum(DSL.ref("value", LONG)))),
+        Collections.singletonList(DSL.named("id", DSL.ref("id", LONG))));
+    List<ExprValue> result = execute(plan);
+    assertEquals(1000, result.size());
+    for (int i = 0; i < 1000; i++) {
+      assertEquals(
+          ExprValueUtils.tupleValue(ImmutableMap.of("id", (long) i << 20, "sum(value)", 2L * i)),
+          result.get(i));
+    }
+  }
+
+  @Test
+  public void count_with_double_group() {
+    when(inputPlan.hasNext()).thenReturn(true, true, true, false);
+    when(inputPlan.next())
+        .thenReturn(ExprValueUtils.tupleValue(ImmutableMap.of("price", 1.5d, "id", 1)))
+        .thenReturn(ExprValueUtils.tupleValue(ImmutableMap.of("price", 2.5d, "id", 2)))
+        .thenReturn(ExprValueUtils.tupleValue(ImmutableMap.of("price", 1.5d, "id", 3)));
+
+    PhysicalPlan plan = new AggregationOperator(inputPlan,
+        Collections.singletonList(DSL.named("count(id)", dsl.count(DSL.ref("id", INTEGER)))),
+        Collections.singletonList(DSL.named("price", DSL.ref("price", DOUBLE))));
+    assertThat(execute(plan), contains(
+        ExprValueUtils.tupleValue(ImmutableMap.of("price", 1.5d, "count(id)", 2)),
+        ExprValueUtils.tupleValue(ImmutableMap.of("price", 2.5d, "count(id)", 1))
+    ));
+  }
+
+  @Test
+  public void count_with_boolean_group() {
+    when(inputPlan.hasNext()).thenReturn(true, true, true, false);
+    when(inputPlan.next())
+        .thenReturn(ExprValueUtils.tupleValue(ImmutableMap.of("flag", true, "id", 1)))
+        .thenReturn(ExprValueUtils.tupleValue(ImmutableMap.of("flag", false, "id", 2)))
+        .thenReturn(ExprValueUtils.tupleValue(ImmutableMap.of("flag", true, "id", 3)));
+
+    PhysicalPlan plan = new AggregationOperator(inputPlan,
+        Collections.singletonList(DSL.named("count(id)", dsl.count(DSL.ref("id", INTEGER)))),
+        Collections.singletonList(DSL.named("flag", DSL.ref("flag", BOOLEAN))));
+    assertThat(execute(plan), contains(
+        ExprValueUtils.tupleValue(ImmutableMap.of("flag", true, "count(id)", 2)),
+        ExprValueUtils.tupleValue(ImmutableMap.of("flag", false, "count(id)", 1))
+    ));
+  }
+
+  @Test
+  public void sum_with_many_groups_of_two_keys() {
+    List<ExprValue> values = new ArrayList<>();
+    for (int round = 0; round < 2; round++) {
+      for (long i = 0; i < 1000; i++) {
+        values.add(ExprValueUtils.tupleValue(
+            ImmutableMap.of("id", i / 2, "name", "name" + (i % 2), "value", i)));
+      }
+    }
+    Iterator<ExprValue> iterator = values.iterator();
+    when(inputPlan.hasNext()).thenAnswer(invocation -> iterator.hasNext());
+    when(inputPlan.next()).thenAnswer(invocation -> iterator.next());
+
+    PhysicalPlan plan = new AggregationOperator(inputPlan,
+        Collections.singletonList(DSL.named("sum(value)", dsl.sum(DSL.ref("value", LONG)))),
+        Arrays.asList(DSL.named("id", DSL.ref("id", LONG)),
+            DSL.named("name", DSL.ref("name", STRING))));
+    List<ExprValue> result = execute(plan);
+    assertEquals(1000, result.size());
+    for (int i = 0; i < 1000; i++) {
+      assertEquals(
+          ExprValueUtils.tupleValue(
+              ImmutableMap.of("id", (long) i / 2, "name", "name" + (i % 2), "sum(value)", 2L * i)),
+          result.get(i));
+    }
+  }
 }
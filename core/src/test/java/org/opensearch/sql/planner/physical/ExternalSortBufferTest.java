@@ -0,0 +1,154 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.sql.planner.physical;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.opensearch.sql.data.model.ExprValueUtils.integerValue;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Iterators;
+import java.io.IOException;
+import java.nio.channels.ClosedChannelException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.planner.physical.ExternalSortBuffer.MappedInputStream;
+
+class ExternalSortBufferTest {
+
+  private static final Comparator<ExprValue> COMPARATOR = Comparator.naturalOrder();
+
+  @TempDir
+  Path spillDirectory;
+
+  @Test
+  public void sort_in_memory_below_threshold() throws IOException {
+    ExternalSortBuffer buffer = new ExternalSortBuffer(COMPARATOR, 10, spillDirectory, 16);
+    addAll(buffer, 3, 1, 2);
+
+    assertThat(ImmutableList.copyOf(buffer.iterator()),
+        contains(integerValue(1), integerValue(2), integerValue(3)));
+    assertThat(listSpillFiles(), empty());
+  }
+
+  @Test
+  public void merge_sorted_runs_spilled_to_disk() throws IOException {
+    ExternalSortBuffer buffer = new ExternalSortBuffer(COMPARATOR, 3, spillDirectory, 16);
+    addAll(buffer, 9, 3, 7, 1, 8, 2, 6, 4);
+    assertEquals(2, listSpillFiles().size());
+
+    assertThat(ImmutableList.copyOf(buffer.iterator()),
+        contains(integerValue(1), integerValue(2), integerValue(3), integerValue(4),
+            integerValue(6), integerValue(7), integerValue(8), integerValue(9)));
+
+    buffer.close();
+    assertThat(listSpillFiles(), empty());
+  }
+
+  @Test
+  public void spill_to_unavailable_directory_throw_exception() {
+    ExternalSortBuffer buffer = new ExternalSortBuffer(
+        COMPARATOR, 1, spillDirectory.resolve("not_exist"), 16);
+
+    IllegalStateException exception =
+        assertThrows(IllegalStateException.class, () -> buffer.add(integerValue(1)));
+    assertEquals("Failed to spill sorted rows to disk", exception.getMessage());
+  }
+
+  @Test
+  public void open_deleted_run_throw_exception() throws IOException {
+    ExternalSortBuffer buffer = new ExternalSortBuffer(COMPARATOR, 1, spillDirectory, 16);
+    addAll(buffer, 1);
+    for (Path run : listSpillFiles()) {
+      Files.delete(run);
+    }
+
+    IllegalStateException exception =
+        assertThrows(IllegalStateException.class, buffer::iterator);
+    assertEquals("Failed to read sorted rows from disk", exception.getMessage());
+  }
+
+  @Test
+  public void read_truncated_run_throw_exception() throws IOException {
+    ExternalSortBuffer buffer = new ExternalSortBuffer(COMPARATOR, 2, spillDirectory, 16);
+    addAll(buffer, 1, 2);
+    for (Path run : listSpillFiles()) {
+      Files.write(run, new byte[] {0, 0, 0, 2}, StandardOpenOption.TRUNCATE_EXISTING);
+    }
+
+    IllegalStateException exception =
+        assertThrows(IllegalStateException.class, () -> Iterators.size(buffer.iterator()));
+    assertEquals("Failed to read sorted rows from disk", exception.getMessage());
+  }
+
+  @Test
+  public void read_file_window_by_window() throws IOException {
+    Path file = spillDirectory.resolve("file");
+    Files.write(file, new byte[] {1, 2, 3, 4, 5});
+
+    MappedInputStream input = new MappedInputStream(file, 2);
+    byte[] bytes = new byte[3];
+    assertEquals(1, input.read());
+    assertEquals(1, input.read(bytes, 0, 3));
+    assertEquals(2, input.read(bytes, 1, 2));
+    assertArrayEquals(new byte[] {2, 3, 4}, bytes);
+    assertEquals(5, input.read());
+    assertEquals(-1, input.read());
+    assertEquals(-1, input.read(bytes, 0, 3));
+  }
+
+  @Test
+  public void close_runs_being_read() throws IOException {
+    ExternalSortBuffer buffer = new ExternalSortBuffer(COMPARATOR, 2, spillDirectory, 16);
+    addAll(buffer, 4, 3, 2, 1);
+    Iterator<ExprValue> iterator = buffer.iterator();
+    assertEquals(integerValue(1), iterator.next());
+
+    buffer.close();
+    assertThat(listSpillFiles(), empty());
+  }
+
+  @Test
+  public void read_closed_file_throw_exception() throws IOException {
+    Path file = spillDirectory.resolve("file");
+    Files.write(file, new byte[] {1, 2, 3});
+
+    MappedInputStream input = new MappedInputStream(file, 2);
+    input.close();
+    assertThrows(ClosedChannelException.class, input::read);
+  }
+
+  private void addAll(ExternalSortBuffer buffer, Integer... values) {
+    for (Integer value : values) {
+      buffer.add(integerValue(value));
+    }
+  }
+
+  private List<Path> listSpillFiles() throws IOException {
+    try (Stream<Path> files = Files.list(spillDirectory)) {
+      return files.collect(Collectors.toList());
+    }
+  }
+}
@@ -152,6 +152,10 @@ class PhysicalPlanNodeVisitorTest extends PhysicalPlanTestBase {
     PhysicalPlan limit = PhysicalPlanDSL.limit(plan, 1, 1);
     assertNull(limit.accept(new PhysicalPlanNodeVisitor<Integer, Object>() {
     }, null));
+
+    PhysicalPlan topN = PhysicalPlanDSL.topN(plan, 1, 1, Pair.of(SortOption.DEFAULT_ASC, ref));
+    assertNull(topN.accept(new PhysicalPlanNodeVisitor<Integer, Object>() {
+    }, null));
   }
 
   public static class PhysicalPlanPrinter extends PhysicalPlanNodeVisitor<String, Integer> {
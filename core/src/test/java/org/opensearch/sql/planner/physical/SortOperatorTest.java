@@ -29,6 +29,7 @@ package org.opensearch.sql.planner.physical;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.contains;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.opensearch.sql.data.model.ExprValueUtils.tupleValue;
 import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
@@ -36,6 +37,7 @@ import static org.opensearch.sql.expression.DSL.ref;
 import static org.opensearch.sql.planner.physical.PhysicalPlanDSL.sort;
 
 import com.google.common.collect.ImmutableMap;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 import org.apache.commons.lang3.tuple.Pair;
@@ -287,4 +289,31 @@ class SortOperatorTest extends PhysicalPlanTestBase {
         execute(sort(inputPlan,
             Pair.of(SortOption.DEFAULT_ASC, ref("response", INTEGER)))).size());
   }
+
+  @Test
+  public void sort_one_field_with_spill_to_disk() {
+    when(inputPlan.hasNext()).thenReturn(true, true, true, true, true, false);
+    when(inputPlan.next())
+        .thenReturn(tupleValue(ImmutableMap.of("size", 499, "response", 404)))
+        .thenReturn(tupleValue(ImmutableMap.of("size", 320, "response", 200)))
+        .thenReturn(tupleValue(NULL_MAP))
+        .thenReturn(tupleValue(ImmutableMap.of("size", 399, "response", 503)))
+        .thenReturn(tupleValue(ImmutableMap.of("size", 200, "response", 302)));
+
+    assertThat(
+        execute(new SortOperator(inputPlan,
+            Arrays.asList(Pair.of(SortOption.DEFAULT_ASC, ref("response", INTEGER))), 2)),
+        contains(
+            tupleValue(NULL_MAP),
+            tupleValue(ImmutableMap.of("size", 320, "response", 200)),
+            tupleValue(ImmutableMap.of("size", 200, "response", 302)),
+            tupleValue(ImmutableMap.of("size", 499, "response", 404)),
+            tupleValue(ImmutableMap.of("size", 399, "response", 503))));
+  }
+
+  @Test
+  public void close_without_open() {
+    sort(inputPlan, Pair.of(SortOption.DEFAULT_ASC, ref("response", INTEGER))).close();
+    verify(inputPlan).close();
+  }
 }
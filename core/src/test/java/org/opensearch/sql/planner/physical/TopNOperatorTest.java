@@ -0,0 +1,136 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.sql.planner.physical;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.mockito.Mockito.when;
+import static org.opensearch.sql.data.model.ExprValueUtils.tupleValue;
+import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
+import static org.opensearch.sql.expression.DSL.ref;
+import static org.opensearch.sql.planner.physical.PhysicalPlanDSL.topN;
+
+import com.google.common.collect.ImmutableMap;
+import java.util.HashMap;
+import java.util.Map;
+import org.apache.commons.lang3.tuple.Pair;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.sql.ast.tree.Sort.SortOption;
+
+@ExtendWith(MockitoExtension.class)
+class TopNOperatorTest extends PhysicalPlanTestBase {
+  @Mock
+  private PhysicalPlan inputPlan;
+
+  /**
+   * construct the map which contain null value, because {@link ImmutableMap} doesn't support null
+   * value.
+   */
+  private static final Map<String, Object> NULL_MAP =
+      new HashMap<String, Object>() {
+        {
+          put("size", 399);
+          put("response", null);
+        }
+      };
+
+  @Test
+  public void top_n_asc() {
+    when(inputPlan.hasNext()).thenReturn(true, true, true, true, true, false);
+    when(inputPlan.next())
+        .thenReturn(tupleValue(ImmutableMap.of("size", 499, "response", 404)))
+        .thenReturn(tupleValue(ImmutableMap.of("size", 320, "response", 200)))
+        .thenReturn(tupleValue(ImmutableMap.of("size", 399, "response", 503)))
+        .thenReturn(tupleValue(ImmutableMap.of("size", 100, "response", 302)))
+        .thenReturn(tupleValue(ImmutableMap.of("size", 200, "response", 500)));
+
+    assertThat(
+        execute(topN(inputPlan, 2, 0, Pair.of(SortOption.DEFAULT_ASC, ref("response", INTEGER)))),
+        contains(
+            tupleValue(ImmutableMap.of("size", 320, "response", 200)),
+            tupleValue(ImmutableMap.of("size", 100, "response", 302))));
+  }
+
+  @Test
+  public void top_n_desc_with_offset() {
+    when(inputPlan.hasNext()).thenReturn(true, true, true, true, true, false);
+    when(inputPlan.next())
+        .thenReturn(tupleValue(ImmutableMap.of("size", 499, "response", 404)))
+        .thenReturn(tupleValue(ImmutableMap.of("size", 320, "response", 200)))
+        .thenReturn(tupleValue(ImmutableMap.of("size", 399, "response", 503)))
+        .thenReturn(tupleValue(ImmutableMap.of("size", 100, "response", 302)))
+        .thenReturn(tupleValue(ImmutableMap.of("size", 200, "response", 500)));
+
+    assertThat(
+        execute(topN(inputPlan, 2, 1, Pair.of(SortOption.DEFAULT_DESC, ref("response", INTEGER)))),
+        contains(
+            tupleValue(ImmutableMap.of("size", 200, "response", 500)),
+            tupleValue(ImmutableMap.of("size", 499, "response", 404))));
+  }
+
+  @Test
+  public void top_n_larger_than_input_with_null_value() {
+    when(inputPlan.hasNext()).thenReturn(true, true, true, false);
+    when(inputPlan.next())
+        .thenReturn(tupleValue(ImmutableMap.of("size", 499, "response", 404)))
+        .thenReturn(tupleValue(NULL_MAP))
+        .thenReturn(tupleValue(ImmutableMap.of("size", 320, "response", 200)));
+
+    assertThat(
+        execute(topN(inputPlan, 10, 0, Pair.of(SortOption.DEFAULT_ASC, ref("response", INTEGER)))),
+        contains(
+            tupleValue(NULL_MAP),
+            tupleValue(ImmutableMap.of("size", 320, "response", 200)),
+            tupleValue(ImmutableMap.of("size", 499, "response", 404))));
+  }
+
+  @Test
+  public void top_n_with_offset_larger_than_input() {
+    when(inputPlan.hasNext()).thenReturn(true, true, false);
+    when(inputPlan.next())
+        .thenReturn(tupleValue(ImmutableMap.of("size", 499, "response", 404)))
+        .thenReturn(tupleValue(ImmutableMap.of("size", 320, "response", 200)));
+
+    assertThat(
+        execute(topN(inputPlan, 10, 5, Pair.of(SortOption.DEFAULT_ASC, ref("response", INTEGER)))),
+        empty());
+  }
+
+  @Test
+  public void top_zero() {
+    when(inputPlan.hasNext()).thenReturn(true, true, false);
+    when(inputPlan.next())
+        .thenReturn(tupleValue(ImmutableMap.of("size", 499, "response", 404)))
+        .thenReturn(tupleValue(ImmutableMap.of("size", 320, "response", 200)));
+
+    assertThat(
+        execute(topN(inputPlan, 0, 0, Pair.of(SortOption.DEFAULT_ASC, ref("response", INTEGER)))),
+        empty());
+  }
+
+  @Test
+  public void top_n_with_huge_limit_and_offset() {
+    when(inputPlan.hasNext()).thenReturn(true, true, false);
+    when(inputPlan.next())
+        .thenReturn(tupleValue(ImmutableMap.of("size", 499, "response", 404)))
+        .thenReturn(tupleValue(ImmutableMap.of("size", 320, "response", 200)));
+
+    assertThat(
+        execute(topN(inputPlan, Integer.MAX_VALUE, 1,
+            Pair.of(SortOption.DEFAULT_ASC, ref("response", INTEGER)))),
+        contains(tupleValue(ImmutableMap.of("size", 499, "response", 404))));
+  }
+}
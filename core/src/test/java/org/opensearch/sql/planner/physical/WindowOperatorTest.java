@@ -35,6 +35,7 @@ import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
 import static org.opensearch.sql.data.type.ExprCoreType.STRING;
 import static org.opensearch.sql.expression.DSL.ref;
 
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import java.util.ArrayList;
 import java.util.List;
@@ -48,6 +49,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.opensearch.sql.ast.tree.Sort.SortOption;
+import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.data.model.ExprValueUtils;
 import org.opensearch.sql.expression.DSL;
 import org.opensearch.sql.expression.Expression;
@@ -128,6 +130,35 @@ class WindowOperatorTest extends PhysicalPlanTestBase {
         .done();
   }
 
+  @Test
+  void test_multiple_ranking_window_functions_in_single_operator() {
+    WindowDefinition definition = new WindowDefinition(
+        ImmutableList.of(ref("action", STRING)),
+        ImmutableList.of(Pair.of(DEFAULT_ASC, ref("response", INTEGER))));
+    WindowOperator windowOperator = new WindowOperator(
+        new SortOperator(new TestScan(), definition.getAllSortItems()),
+        ImmutableList.of(DSL.named(dsl.rank()), DSL.named(dsl.denseRank())),
+        definition);
+
+    windowOperator.open();
+    List<List<Integer>> ranks = new ArrayList<>();
+    while (windowOperator.hasNext()) {
+      Map<String, ExprValue> row = windowOperator.next().tupleValue();
+      ranks.add(ImmutableList.of(
+          row.get("rank()").integerValue(), row.get("dense_rank()").integerValue()));
+    }
+    windowOperator.close();
+
+    assertEquals(
+        ImmutableList.of(
+            ImmutableList.of(1, 1),
+            ImmutableList.of(1, 1),
+            ImmutableList.of(3, 2),
+            ImmutableList.of(1, 1),
+            ImmutableList.of(2, 2)),
+        ranks);
+  }
+
   private WindowOperatorAssertion window(Expression windowFunction) {
     return new WindowOperatorAssertion(windowFunction);
   }
@@ -0,0 +1,96 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.sql.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+import org.junit.jupiter.api.Test;
+
+class OperatorUtilsTest {
+
+  private static final List<String> TEXTS = Arrays.asList(
+      "", "foo", "foobar", "barfoo", "barfoobar", "fo", "FOO", "foo\nbar", "bar\nfoo",
+      "bar\nfoo\nbar", "f\noo", "foo\r", " foo", "foo%", "a?", "a", "a{2}", "aa");
+
+  private static final List<String> PATTERNS = Arrays.asList(
+      "", "%", "%%", "foo", "foo%", "%foo", "%foo%", "%%foo%%", "fo_", "f%o", "%f\noo%",
+      "foo\\%", "foo\\%%", "\\f\\o\\o", "a?", "a{2}", "foo\\");
+
+  @Test
+  void like_matcher_should_be_consistent_with_regex() {
+    for (String pattern : PATTERNS) {
+      PatternMatcher regex = regexMatcher(pattern);
+      PatternMatcher matcher = OperatorUtils.compileLike(pattern);
+      for (String text : TEXTS) {
+        assertEquals(regex.matches(text), matcher.matches(text),
+            String.format("like(\"%s\", \"%s\")", text, pattern));
+      }
+    }
+  }
+
+  @Test
+  void contains_pattern_should_cover_all_line_terminators() {
+    PatternMatcher matcher = OperatorUtils.compileLike("%o\nb%");
+    assertTrue(matcher.matches("foo\nbar"));
+    assertFalse(matcher.matches("foo\nbar\n"));
+    assertFalse(matcher.matches("\nfoo\nbar"));
+    assertFalse(matcher.matches("foo\n\nbar"));
+  }
+
+  @Test
+  void regex_special_character_in_like_pattern_should_be_literal() {
+    assertTrue(OperatorUtils.likeMatcher("a?_").matches("a?b"));
+    assertFalse(OperatorUtils.likeMatcher("a?_").matches("ab"));
+    assertTrue(OperatorUtils.likeMatcher("a{2}_").matches("a{2}b"));
+  }
+
+  @Test
+  void compiled_pattern_should_be_cached() {
+    assertSame(OperatorUtils.likeMatcher("cached%"), OperatorUtils.likeMatcher("cached%"));
+    assertSame(OperatorUtils.regexpMatcher("cached.*"), OperatorUtils.regexpMatcher("cached.*"));
+  }
+
+  @Test
+  void invalid_regexp_should_throw_exception() {
+    assertThrows(PatternSyntaxException.class, () -> OperatorUtils.regexpMatcher("[a"));
+  }
+
+  /**
+   * Reference matcher by translating wildcard to regular expression without any fast path.
+   */
+  private PatternMatcher regexMatcher(String pattern) {
+    StringBuilder regex = new StringBuilder();
+    boolean escaped = false;
+    for (char c : pattern.toCharArray()) {
+      if (!escaped && c == '\\') {
+        escaped = true;
+      } else if (!escaped && c == '%') {
+        regex.append(".*");
+      } else if (!escaped && c == '_') {
+        regex.append('.');
+      } else {
+        regex.append(Pattern.quote(String.valueOf(c)));
+        escaped = false;
+      }
+    }
+    Pattern compiled = Pattern.compile(regex.toString());
+    return text -> compiled.matcher(text).matches();
+  }
+}
@@ -34,26 +34,35 @@ import java.io.IOException;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
+import org.junit.After;
 import org.junit.jupiter.api.Test;
 import org.opensearch.client.Request;
 import org.opensearch.client.RestClient;
 import org.opensearch.client.RestHighLevelClient;
+import org.opensearch.common.unit.TimeValue;
 import org.opensearch.sql.common.response.ResponseListener;
 import org.opensearch.sql.common.setting.Settings;
 import org.opensearch.sql.executor.ExecutionEngine;
 import org.opensearch.sql.executor.ExecutionEngine.QueryResponse;
+import org.opensearch.sql.expression.function.BuiltinFunctionRepository;
 import org.opensearch.sql.monitor.AlwaysHealthyMonitor;
 import org.opensearch.sql.opensearch.client.OpenSearchClient;
 import org.opensearch.sql.opensearch.client.OpenSearchRestClient;
 import org.opensearch.sql.opensearch.executor.OpenSearchExecutionEngine;
+import org.opensearch.sql.opensearch.executor.admission.AdmissionController;
 import org.opensearch.sql.opensearch.executor.protector.OpenSearchExecutionProtector;
 import org.opensearch.sql.opensearch.storage.OpenSearchStorageEngine;
+import org.opensearch.sql.planner.cache.PlanCache;
 import org.opensearch.sql.ppl.config.PPLServiceConfig;
 import org.opensearch.sql.ppl.domain.PPLQueryRequest;
 import org.opensearch.sql.protocol.response.QueryResult;
 import org.opensearch.sql.protocol.response.format.SimpleJsonResponseFormatter;
 import org.opensearch.sql.storage.StorageEngine;
+import org.opensearch.threadpool.Scheduler;
 import org.springframework.context.annotation.AnnotationConfigApplicationContext;
 
 /**
@@ -67,6 +76,9 @@ public class StandaloneIT extends PPLIntegTestCase {
 
   private PPLService pplService;
 
+  private final ScheduledExecutorService scheduler =
+      Executors.newSingleThreadScheduledExecutor();
+
   @Override
   public void init() {
     // Using client() defined in ODFERestTestCase.
@@ -75,15 +87,25 @@ public class StandaloneIT extends PPLIntegTestCase {
     OpenSearchClient client = new OpenSearchRestClient(restClient);
     AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext();
     context.registerBean(StorageEngine.class,
-        () -> new OpenSearchStorageEngine(client, defaultSettings()));
+        () -> new OpenSearchStorageEngine(client, defaultSettings(),
+            context.getBean(BuiltinFunctionRepository.class)));
     context.registerBean(ExecutionEngine.class, () -> new OpenSearchExecutionEngine(client,
-        new OpenSearchExecutionProtector(new AlwaysHealthyMonitor())));
+        new OpenSearchExecutionProtector(new AlwaysHealthyMonitor(), defaultSettings()),
+        new AdmissionController(defaultSettings(),
+            (command, delay, executor) -> Scheduler.wrapAsScheduledCancellable(
+                scheduler.schedule(command, delay.millis(), TimeUnit.MILLISECONDS)))));
+    context.registerBean(PlanCache.class, () -> new PlanCache());
     context.register(PPLServiceConfig.class);
     context.refresh();
 
     pplService = context.getBean(PPLService.class);
   }
 
+  @After
+  public void shutdownScheduler() {
+    scheduler.shutdownNow();
+  }
+
   @Test
   public void testSourceFieldQuery() throws IOException {
     Request request1 = new Request("PUT", "/test/_doc/1?refresh=true");
@@ -139,8 +161,12 @@ public class StandaloneIT extends PPLIntegTestCase {
 
   private Settings defaultSettings() {
     return new Settings() {
-      private final Map<Key, Integer> defaultSettings = new ImmutableMap.Builder<Key, Integer>()
+      private final Map<Key, Object> defaultSettings = new ImmutableMap.Builder<Key, Object>()
           .put(Key.QUERY_SIZE_LIMIT, 200)
+          .put(Key.QUERY_BUCKET_PAGE_SIZE, 1000)
+          .put(Key.QUERY_SORT_SPILL_THRESHOLD, 100000)
+          .put(Key.QUERY_ADMISSION_MAX_COST, 16)
+          .put(Key.QUERY_ADMISSION_TIMEOUT, TimeValue.timeValueSeconds(30))
           .build();
 
       @Override
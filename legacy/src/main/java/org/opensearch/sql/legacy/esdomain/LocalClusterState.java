@@ -30,15 +30,18 @@ import static org.opensearch.common.settings.Settings.EMPTY;
 
 import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.ImmutableMap;
 import java.io.IOException;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.Set;
 import java.util.concurrent.ExecutionException;
 import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.stream.Collectors;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.opensearch.action.support.IndicesOptions;
@@ -47,9 +50,11 @@ import org.opensearch.cluster.metadata.IndexNameExpressionResolver;
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.collect.Tuple;
 import org.opensearch.common.settings.Setting;
+import org.opensearch.index.Index;
 import org.opensearch.index.IndexNotFoundException;
 import org.opensearch.sql.common.setting.Settings;
 import org.opensearch.sql.legacy.esdomain.mapping.IndexMappings;
+import org.opensearch.sql.opensearch.mapping.IndexFieldTypeCache;
 import org.opensearch.sql.opensearch.setting.OpenSearchSettings;
 
 /**
@@ -72,21 +77,21 @@ public class LocalClusterState {
     private static final Function<String, Predicate<String>> ALL_FIELDS = (anyIndex -> (anyField -> true));
 
     /**
-     * Singleton instance
+     * Singleton instance. Volatile so that it's read without lock once initialized.
      */
-    private static LocalClusterState INSTANCE;
+    private static volatile LocalClusterState INSTANCE;
 
     /**
      * Current cluster state on local node
      */
-    private ClusterService clusterService;
+    private volatile ClusterService clusterService;
 
-    private OpenSearchSettings pluginSettings;
+    private volatile OpenSearchSettings pluginSettings;
 
     /**
      * Index name expression resolver to get concrete index name
      */
-    private IndexNameExpressionResolver resolver;
+    private volatile IndexNameExpressionResolver resolver;
 
     /**
      * Thread-safe mapping cache to save the computation of sourceAsMap() which is not lightweight as thought
@@ -95,15 +100,23 @@ public class LocalClusterState {
     private final Cache<Tuple<List<String>, List<String>>, IndexMappings> cache;
 
     /**
-     * Latest setting value for each registered key. Thread-safe is required.
+     * Snapshot of latest setting value for each registered key. It's replaced as a whole on update
+     * so reader sees a consistent snapshot without lock.
      */
-    private final Map<String, Object> latestSettings = new ConcurrentHashMap<>();
-
-    public static synchronized LocalClusterState state() {
-        if (INSTANCE == null) {
-            INSTANCE = new LocalClusterState();
+    private volatile Map<String, Object> latestSettings = ImmutableMap.of();
+
+    public static LocalClusterState state() {
+        LocalClusterState instance = INSTANCE;
+        if (instance == null) {
+            synchronized (LocalClusterState.class) {
+                instance = INSTANCE;
+                if (instance == null) {
+                    instance = new LocalClusterState();
+                    INSTANCE = instance;
+                }
+            }
         }
-        return INSTANCE;
+        return instance;
     }
 
     /**
@@ -117,13 +130,12 @@ public class LocalClusterState {
         this.clusterService = clusterService;
 
         clusterService.addListener(event -> {
-            if (event.metadataChanged()) {
-                // State in cluster service is already changed to event.state() before listener fired
-                if (LOG.isDebugEnabled()) {
-                    LOG.debug("Metadata in cluster state changed: {}",
-                            new IndexMappings(clusterService.state().metadata()));
-                }
-                cache.invalidateAll();
+            Set<String> changedIndices = IndexFieldTypeCache.mappingChangedIndices(event).stream()
+                .map(Index::getName)
+                .collect(Collectors.toSet());
+            if (!changedIndices.isEmpty()) {
+                LOG.debug("Mapping of indices changed or deleted: {}", changedIndices);
+                invalidate(changedIndices);
             }
         });
     }
@@ -137,13 +149,19 @@ public class LocalClusterState {
                     if (LOG.isDebugEnabled()) {
                         LOG.debug("The value of setting [{}] changed to [{}]", setting.getKey(), newVal);
                     }
-                    latestSettings.put(setting.getKey(), newVal);
+                    updateSetting(setting.getKey(), newVal);
                 }
             );
         }
 
     }
 
+    private synchronized void updateSetting(String key, Object value) {
+        Map<String, Object> settings = new HashMap<>(latestSettings);
+        settings.put(key, value);
+        latestSettings = ImmutableMap.copyOf(settings);
+    }
+
     public void setResolver(IndexNameExpressionResolver resolver) {
         this.resolver = resolver;
     }
@@ -159,9 +177,10 @@ public class LocalClusterState {
      */
     @SuppressWarnings("unchecked")
     public <T> T getSettingValue(Settings.Key key) {
-        Objects.requireNonNull(pluginSettings, "SQL plugin setting is null");
-        return (T) latestSettings.getOrDefault(key.getKeyValue(),
-            pluginSettings.getSettingValue(key));
+        OpenSearchSettings settings = pluginSettings;
+        Objects.requireNonNull(settings, "SQL plugin setting is null");
+        Object value = latestSettings.get(key.getKeyValue());
+        return (T) (value != null ? value : settings.getSettingValue(key));
     }
 
     /**
@@ -245,6 +264,13 @@ public class LocalClusterState {
         );
     }
 
+    /**
+     * Remove cached mappings of any of the indices only, rather than all mappings cached.
+     */
+    private void invalidate(Set<String> indices) {
+        cache.asMap().keySet().removeIf(key -> key.v1().stream().anyMatch(indices::contains));
+    }
+
     private <T> List<T> sortToList(T[] array) {
         // Mostly array has single element
         Arrays.sort(array);
@@ -29,12 +29,16 @@ package org.opensearch.sql.legacy.executor.csv;
 import com.google.common.base.Joiner;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 import org.opensearch.client.Client;
 import org.opensearch.rest.BytesRestResponse;
 import org.opensearch.rest.RestChannel;
 import org.opensearch.rest.RestStatus;
+import org.opensearch.sql.legacy.executor.Format;
 import org.opensearch.sql.legacy.executor.QueryActionElasticExecutor;
 import org.opensearch.sql.legacy.executor.RestExecutor;
+import org.opensearch.sql.legacy.metrics.MetricName;
+import org.opensearch.sql.legacy.metrics.Metrics;
 import org.opensearch.sql.legacy.query.QueryAction;
 import org.opensearch.sql.legacy.query.join.BackOffRetryStrategy;
 
@@ -62,7 +66,10 @@ public class CSVResultRestExecutor implements RestExecutor {
     public String execute(final Client client, final Map<String, String> params, final QueryAction queryAction)
             throws Exception {
 
+        final long startTime = System.nanoTime();
         final Object queryResult = QueryActionElasticExecutor.executeAnyAction(client, queryAction);
+        Metrics.getInstance().getHistogramMetric(MetricName.LEGACY_ENGINE_EXECUTE_TIME)
+            .record(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - startTime));
 
         final String separator = params.getOrDefault("separator", ",");
         final String newLine = params.getOrDefault("newLine", "\n");
@@ -72,11 +79,15 @@ public class CSVResultRestExecutor implements RestExecutor {
         final boolean includeType = getBooleanOrDefault(params, "_type", false);
         final boolean includeId = getBooleanOrDefault(params, "_id", false);
 
+        final long formatStartTime = System.nanoTime();
         final List<String> fieldNames = queryAction.getFieldNames().orElse(null);
         final CSVResult result = new CSVResultsExtractor(includeScore, includeType, includeId)
                 .extractResults(queryResult, flat, separator, fieldNames);
 
-        return buildString(separator, result, newLine);
+        final String csv = buildString(separator, result, newLine);
+        Metrics.getInstance().getKeyedHistogramMetric(MetricName.LEGACY_ENGINE_FORMAT_TIME)
+            .record(Format.CSV.getFormatName(), TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - formatStartTime));
+        return csv;
     }
 
     private boolean getBooleanOrDefault(Map<String, String> params, String param, boolean defaultValue) {
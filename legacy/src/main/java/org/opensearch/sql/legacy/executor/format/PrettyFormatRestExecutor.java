@@ -27,6 +27,7 @@
 package org.opensearch.sql.legacy.executor.format;
 
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.opensearch.OpenSearchException;
@@ -41,6 +42,8 @@ import org.opensearch.sql.legacy.cursor.DefaultCursor;
 import org.opensearch.sql.legacy.exception.SqlParseException;
 import org.opensearch.sql.legacy.executor.QueryActionElasticExecutor;
 import org.opensearch.sql.legacy.executor.RestExecutor;
+import org.opensearch.sql.legacy.metrics.MetricName;
+import org.opensearch.sql.legacy.metrics.Metrics;
 import org.opensearch.sql.legacy.query.DefaultQueryAction;
 import org.opensearch.sql.legacy.query.QueryAction;
 import org.opensearch.sql.legacy.query.join.BackOffRetryStrategy;
@@ -82,6 +85,7 @@ public class PrettyFormatRestExecutor implements RestExecutor {
     public String execute(Client client, Map<String, String> params, QueryAction queryAction) {
         Protocol protocol;
 
+        long startTime = System.nanoTime();
         try {
             if (queryAction instanceof DefaultQueryAction) {
                 protocol = buildProtocolForDefaultQuery(client, (DefaultQueryAction) queryAction);
@@ -98,8 +102,14 @@ public class PrettyFormatRestExecutor implements RestExecutor {
             }
             protocol = new Protocol(e);
         }
-
-        return protocol.format();
+        Metrics.getInstance().getHistogramMetric(MetricName.LEGACY_ENGINE_EXECUTE_TIME)
+            .record(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - startTime));
+
+        long formatStartTime = System.nanoTime();
+        String result = protocol.format();
+        Metrics.getInstance().getKeyedHistogramMetric(MetricName.LEGACY_ENGINE_FORMAT_TIME)
+            .record(format, TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - formatStartTime));
+        return result;
     }
 
     /**
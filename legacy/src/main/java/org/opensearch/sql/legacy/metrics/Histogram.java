@@ -0,0 +1,123 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.sql.legacy.metrics;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Histogram of non-negative long values with log-linear buckets. Every power of two range is split
+ * into {@link #SUB_BUCKET_COUNT} linear sub buckets, so the relative error of percentile is bounded
+ * by 1 / {@link #SUB_BUCKET_COUNT} regardless of the magnitude of value. Recording is lock free.
+ */
+public class Histogram {
+
+    private static final int SUB_BUCKET_BITS = 3;
+
+    static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+
+    /**
+     * Values below are recorded exactly in their own bucket.
+     */
+    private static final int LINEAR_BUCKET_COUNT = SUB_BUCKET_COUNT * 2;
+
+    private static final int BUCKET_COUNT = bucketIndex(Long.MAX_VALUE) + 1;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+
+    private final LongAdder count = new LongAdder();
+
+    private final LongAccumulator max = new LongAccumulator(Long::max, 0L);
+
+    /**
+     * Record a value. Negative value is recorded as 0.
+     */
+    public void record(long value) {
+        long v = Math.max(value, 0L);
+        buckets.incrementAndGet(bucketIndex(v));
+        count.increment();
+        max.accumulate(v);
+    }
+
+    public long getCount() {
+        return count.sum();
+    }
+
+    public long getMax() {
+        return max.get();
+    }
+
+    /**
+     * Get value at the given percentile, which is the highest value in the bucket where the
+     * percentile falls in and never above the max value recorded.
+     *
+     * @param percentile percentile in (0, 100]
+     * @return value at the percentile or 0 if nothing recorded
+     */
+    public long getValueAtPercentile(double percentile) {
+        long total = getCount();
+        if (total == 0) {
+            return 0L;
+        }
+
+        long target = Math.max(1L, (long) Math.ceil(percentile / 100.0 * total));
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += buckets.get(i);
+            if (seen >= target) {
+                return Math.min(highestValueInBucket(i), getMax());
+            }
+        }
+        return getMax();
+    }
+
+    /**
+     * Summary of the histogram as a JSON friendly map.
+     */
+    public Map<String, Long> getSummary() {
+        Map<String, Long> summary = new LinkedHashMap<>();
+        summary.put("count", getCount());
+        summary.put("p50", getValueAtPercentile(50));
+        summary.put("p90", getValueAtPercentile(90));
+        summary.put("p99", getValueAtPercentile(99));
+        summary.put("max", getMax());
+        return summary;
+    }
+
+    public void reset() {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            buckets.set(i, 0L);
+        }
+        count.reset();
+        max.reset();
+    }
+
+    static int bucketIndex(long value) {
+        if (value < LINEAR_BUCKET_COUNT) {
+            return (int) value;
+        }
+        int shift = (Long.SIZE - Long.numberOfLeadingZeros(value)) - (SUB_BUCKET_BITS + 1);
+        return (shift << SUB_BUCKET_BITS) + (int) (value >>> shift);
+    }
+
+    static long highestValueInBucket(int index) {
+        if (index < LINEAR_BUCKET_COUNT) {
+            return index;
+        }
+        int shift = (index >>> SUB_BUCKET_BITS) - 1;
+        long subBucket = index - ((long) shift << SUB_BUCKET_BITS);
+        return ((subBucket + 1) << shift) - 1;
+    }
+}
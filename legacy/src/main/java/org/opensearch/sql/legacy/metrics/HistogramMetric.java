@@ -0,0 +1,42 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.sql.legacy.metrics;
+
+import java.util.Map;
+
+/**
+ * Histogram metric, the distribution of values like latency in the previous interval summarized
+ * by percentiles.
+ */
+public class HistogramMetric extends Metric<Map<String, Long>> {
+
+    private final RollingHistogram histogram;
+
+    public HistogramMetric(String name, RollingHistogram histogram) {
+        super(name);
+        this.histogram = histogram;
+    }
+
+    public RollingHistogram getHistogram() {
+        return histogram;
+    }
+
+    public void record(long value) {
+        histogram.record(value);
+    }
+
+    @Override
+    public Map<String, Long> getValue() {
+        return histogram.getSummary();
+    }
+
+}
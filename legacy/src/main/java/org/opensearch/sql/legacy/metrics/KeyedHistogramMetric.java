@@ -0,0 +1,45 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.sql.legacy.metrics;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Histogram metric split by a key of small cardinality, ex. response format, with one histogram
+ * per key created on first record.
+ */
+public class KeyedHistogramMetric extends Metric<Map<String, Map<String, Long>>> {
+
+    private final Map<String, RollingHistogram> histograms = new ConcurrentHashMap<>();
+
+    private final Supplier<RollingHistogram> histogramFactory;
+
+    public KeyedHistogramMetric(String name, Supplier<RollingHistogram> histogramFactory) {
+        super(name);
+        this.histogramFactory = histogramFactory;
+    }
+
+    public void record(String key, long value) {
+        histograms.computeIfAbsent(key, k -> histogramFactory.get()).record(value);
+    }
+
+    @Override
+    public Map<String, Map<String, Long>> getValue() {
+        Map<String, Map<String, Long>> summaries = new TreeMap<>();
+        histograms.forEach((key, histogram) -> summaries.put(key, histogram.getSummary()));
+        return summaries;
+    }
+
+}
@@ -37,6 +37,7 @@ public class MetricFactory {
             case DEFAULT_CURSOR_REQUEST_TOTAL:
             case DEFAULT:
             case PPL_REQ_TOTAL:
+            case ROUTING_CACHE_HIT_TOTAL:
                 return new NumericMetric<>(name.getName(), new BasicCounter());
             case CIRCUIT_BREAKER:
                 return new GaugeMetric<>(name.getName(), BackOffRetryStrategy.GET_CB_STATE);
@@ -49,6 +50,21 @@ public class MetricFactory {
             case PPL_FAILED_REQ_COUNT_CUS:
             case PPL_FAILED_REQ_COUNT_SYS:
                 return new NumericMetric<>(name.getName(), new RollingCounter());
+            case NEW_ENGINE_PREPARE_TIME:
+            case LEGACY_ENGINE_PARSE_TIME:
+            case NEW_ENGINE_PLAN_TIME:
+            case QUERY_PREPARE_QUEUE_TIME:
+            case NEW_ENGINE_ANALYZE_TIME:
+            case NEW_ENGINE_SEARCH_TIME:
+            case NEW_ENGINE_OPERATOR_TIME:
+            case LEGACY_ENGINE_EXECUTE_TIME:
+                return new HistogramMetric(name.getName(), new RollingHistogram());
+            case NEW_ENGINE_QUERY_TIME:
+            case NEW_ENGINE_FORMAT_TIME:
+            case LEGACY_ENGINE_QUERY_TIME:
+            case LEGACY_ENGINE_FORMAT_TIME:
+            case PPL_QUERY_TIME:
+                return new KeyedHistogramMetric(name.getName(), RollingHistogram::new);
             default:
                 return new NumericMetric<>(name.getName(), new BasicCounter());
         }
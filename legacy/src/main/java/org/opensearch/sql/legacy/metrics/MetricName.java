@@ -47,7 +47,35 @@ public enum MetricName {
     PPL_REQ_TOTAL("ppl_request_total"),
     PPL_REQ_COUNT_TOTAL("ppl_request_count"),
     PPL_FAILED_REQ_COUNT_SYS("ppl_failed_request_count_syserr"),
-    PPL_FAILED_REQ_COUNT_CUS("ppl_failed_request_count_cuserr");
+    PPL_FAILED_REQ_COUNT_CUS("ppl_failed_request_count_cuserr"),
+
+    QUERY_ADMISSION_QUEUE_DEPTH("query_admission_queue_depth"),
+    QUERY_ADMISSION_WAIT_TIME("query_admission_wait_time"),
+    QUERY_ADMISSION_REJECTED_COUNT("query_admission_rejected_count"),
+
+    PLAN_CACHE_HIT_COUNT("plan_cache_hit_count"),
+    PLAN_CACHE_MISS_COUNT("plan_cache_miss_count"),
+    PLAN_CACHE_EVICTION_COUNT("plan_cache_eviction_count"),
+
+    MAPPING_CACHE_HIT_COUNT("mapping_cache_hit_count"),
+    MAPPING_CACHE_MISS_COUNT("mapping_cache_miss_count"),
+    MAPPING_CACHE_STALE_COUNT("mapping_cache_stale_count"),
+
+    ROUTING_CACHE_HIT_TOTAL("routing_cache_hit_total"),
+    NEW_ENGINE_PREPARE_TIME("new_engine_prepare_time"),
+    LEGACY_ENGINE_PARSE_TIME("legacy_engine_parse_time"),
+    NEW_ENGINE_PLAN_TIME("new_engine_plan_time"),
+    QUERY_PREPARE_QUEUE_TIME("query_prepare_queue_time"),
+
+    NEW_ENGINE_QUERY_TIME("new_engine_query_time"),
+    NEW_ENGINE_ANALYZE_TIME("new_engine_analyze_time"),
+    NEW_ENGINE_SEARCH_TIME("new_engine_search_time"),
+    NEW_ENGINE_OPERATOR_TIME("new_engine_operator_time"),
+    NEW_ENGINE_FORMAT_TIME("new_engine_format_time"),
+    LEGACY_ENGINE_QUERY_TIME("legacy_engine_query_time"),
+    LEGACY_ENGINE_EXECUTE_TIME("legacy_engine_execute_time"),
+    LEGACY_ENGINE_FORMAT_TIME("legacy_engine_format_time"),
+    PPL_QUERY_TIME("ppl_query_time");
 
     private String name;
 
@@ -69,6 +97,7 @@ public enum MetricName {
         .add(PPL_REQ_COUNT_TOTAL)
         .add(PPL_FAILED_REQ_COUNT_SYS)
         .add(PPL_FAILED_REQ_COUNT_CUS)
+        .add(ROUTING_CACHE_HIT_TOTAL)
         .build();
 
     public boolean isNumerical() {
@@ -78,6 +78,14 @@ public class Metrics {
         return (NumericMetric) registeredMetricsByName.get(name);
     }
 
+    public HistogramMetric getHistogramMetric(MetricName metricName) {
+        return (HistogramMetric) registeredMetricsByName.get(metricName.getName());
+    }
+
+    public KeyedHistogramMetric getKeyedHistogramMetric(MetricName metricName) {
+        return (KeyedHistogramMetric) registeredMetricsByName.get(metricName.getName());
+    }
+
     public List<Metric> getAllMetrics() {
         return new ArrayList<>(registeredMetricsByName.values());
     }
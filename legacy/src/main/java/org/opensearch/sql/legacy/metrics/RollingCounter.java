@@ -27,21 +27,25 @@
 package org.opensearch.sql.legacy.metrics;
 
 import java.time.Clock;
-import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import java.util.concurrent.atomic.LongAdder;
 import org.opensearch.sql.common.setting.Settings;
 import org.opensearch.sql.legacy.esdomain.LocalClusterState;
 
 /**
  * Rolling counter. The count is refreshed every interval. In every interval the count is cumulative.
+ * <p>
+ * Counts are kept in a ring buffer of buckets indexed by interval number modulo capacity. A bucket left
+ * from an earlier round is replaced lazily by the first writer of the new interval, so increment is lock
+ * free and only allocates once per interval. Each bucket counts by {@link LongAdder} to avoid contention
+ * among threads incrementing in the same interval.
  */
 public class RollingCounter implements Counter<Long> {
 
-    private final long capacity;
-    private final long window;
+    private final int capacity;
     private final long interval;
     private final Clock clock;
-    private final ConcurrentSkipListMap<Long, Long> time2CountWin;
+    private final AtomicReferenceArray<Bucket> buckets;
     private final LongAdder count;
 
     public RollingCounter() {
@@ -53,12 +57,12 @@ public class RollingCounter implements Counter<Long> {
     }
 
     public RollingCounter(long window, long interval, Clock clock) {
-        this.window = window;
         this.interval = interval;
         this.clock = clock;
-        time2CountWin = new ConcurrentSkipListMap<>();
-        count = new LongAdder();
-        capacity = window / interval * 2;
+        // At least current and previous interval are required
+        this.capacity = (int) Math.max(2, window / interval * 2);
+        this.buckets = new AtomicReferenceArray<>(capacity);
+        this.count = new LongAdder();
     }
 
     public RollingCounter(long window, long interval) {
@@ -72,8 +76,11 @@ public class RollingCounter implements Counter<Long> {
 
     @Override
     public void add(long n) {
-        trim();
-        time2CountWin.compute(getKey(clock.millis()), (k, v) -> (v == null) ? n : v + n);
+        Bucket bucket = getOrCreateBucket(getKey(clock.millis()));
+        if (bucket != null) {
+            bucket.count.add(n);
+        }
+        count.add(n);
     }
 
     @Override
@@ -82,24 +89,41 @@ public class RollingCounter implements Counter<Long> {
     }
 
     public long getValue(long key) {
-        Long res = time2CountWin.get(key);
-        if (res == null) {
+        Bucket bucket = buckets.get(index(key));
+        if (bucket == null || bucket.key != key) {
             return 0;
         }
-
-        return res;
+        return bucket.count.sum();
     }
 
     public long getSum() {
         return count.longValue();
     }
 
-    private void trim() {
-        if (time2CountWin.size() > capacity) {
-            time2CountWin.headMap(getKey(clock.millis() - window * 1000)).clear();
+    /**
+     * @return bucket of the interval or null if the interval is already rolled out of the ring buffer
+     */
+    private Bucket getOrCreateBucket(long key) {
+        int index = index(key);
+        while (true) {
+            Bucket bucket = buckets.get(index);
+            if (bucket != null && bucket.key == key) {
+                return bucket;
+            }
+            if (bucket != null && bucket.key > key) {
+                return null;
+            }
+            Bucket newBucket = new Bucket(key);
+            if (buckets.compareAndSet(index, bucket, newBucket)) {
+                return newBucket;
+            }
         }
     }
 
+    private int index(long key) {
+        return (int) Math.floorMod(key, (long) capacity);
+    }
+
     private long getKey(long millis) {
         return millis / 1000 / this.interval;
     }
@@ -108,12 +132,36 @@ public class RollingCounter implements Counter<Long> {
         return getKey(millis) - 1;
     }
 
+    /**
+     * @return number of buckets in use, which is never above the capacity of ring buffer
+     */
     public int size() {
-        return time2CountWin.size();
+        int size = 0;
+        for (int i = 0; i < capacity; i++) {
+            if (buckets.get(i) != null) {
+                size++;
+            }
+        }
+        return size;
     }
 
     public void reset() {
-        time2CountWin.clear();
+        for (int i = 0; i < capacity; i++) {
+            buckets.set(i, null);
+        }
+        count.reset();
+    }
+
+    /**
+     * Count of an interval.
+     */
+    private static class Bucket {
+        private final long key;
+        private final LongAdder count = new LongAdder();
+
+        Bucket(long key) {
+            this.key = key;
+        }
     }
 
 }
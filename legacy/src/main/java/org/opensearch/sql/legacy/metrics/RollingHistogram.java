@@ -0,0 +1,121 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.sql.legacy.metrics;
+
+import java.time.Clock;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import org.opensearch.sql.common.setting.Settings;
+import org.opensearch.sql.legacy.esdomain.LocalClusterState;
+
+/**
+ * Rolling histogram. Values are recorded into the histogram of current interval and the summary is
+ * of the previous complete interval, the same as what {@link RollingCounter} reports.
+ * <p>
+ * Only the histograms of current and previous interval are kept in a ring buffer indexed by interval
+ * number. The histogram left from an earlier interval is replaced lazily by the first writer of the
+ * new interval, so recording is lock free.
+ */
+public class RollingHistogram {
+
+    private static final int CAPACITY = 2;
+
+    private final long interval;
+    private final Clock clock;
+    private final AtomicReferenceArray<Bucket> buckets = new AtomicReferenceArray<>(CAPACITY);
+
+    public RollingHistogram() {
+        this(LocalClusterState.state().getSettingValue(Settings.Key.METRICS_ROLLING_INTERVAL));
+    }
+
+    public RollingHistogram(long interval) {
+        this(interval, Clock.systemDefaultZone());
+    }
+
+    public RollingHistogram(long interval, Clock clock) {
+        this.interval = interval;
+        this.clock = clock;
+    }
+
+    /**
+     * Record a value in current interval.
+     */
+    public void record(long value) {
+        Bucket bucket = getOrCreateBucket(getKey(clock.millis()));
+        if (bucket != null) {
+            bucket.histogram.record(value);
+        }
+    }
+
+    /**
+     * @return histogram of previous interval or empty histogram if nothing recorded in it
+     */
+    public Histogram getHistogram() {
+        long key = getKey(clock.millis()) - 1;
+        Bucket bucket = buckets.get(index(key));
+        if (bucket == null || bucket.key != key) {
+            return new Histogram();
+        }
+        return bucket.histogram;
+    }
+
+    public Map<String, Long> getSummary() {
+        return getHistogram().getSummary();
+    }
+
+    public void reset() {
+        for (int i = 0; i < CAPACITY; i++) {
+            buckets.set(i, null);
+        }
+    }
+
+    /**
+     * @return bucket of the interval or null if the interval is already rolled out of the ring buffer
+     */
+    private Bucket getOrCreateBucket(long key) {
+        int index = index(key);
+        while (true) {
+            Bucket bucket = buckets.get(index);
+            if (bucket != null && bucket.key == key) {
+                return bucket;
+            }
+            if (bucket != null && bucket.key > key) {
+                return null;
+            }
+            Bucket newBucket = new Bucket(key);
+            if (buckets.compareAndSet(index, bucket, newBucket)) {
+                return newBucket;
+            }
+        }
+    }
+
+    private int index(long key) {
+        return (int) Math.floorMod(key, (long) CAPACITY);
+    }
+
+    private long getKey(long millis) {
+        return millis / 1000 / this.interval;
+    }
+
+    /**
+     * Histogram of an interval.
+     */
+    private static class Bucket {
+        private final long key;
+        private final Histogram histogram = new Histogram();
+
+        Bucket(long key) {
+            this.key = key;
+        }
+    }
+
+}
@@ -0,0 +1,32 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.sql.legacy.plugin;
+
+import java.util.concurrent.TimeUnit;
+import org.opensearch.sql.legacy.metrics.MetricName;
+import org.opensearch.sql.legacy.metrics.Metrics;
+import org.opensearch.sql.opensearch.executor.ExecutionTimeListener;
+
+/**
+ * Publish execution time of new engine split into time waiting for OpenSearch search response
+ * and time spent by in-memory operators, both in microseconds.
+ */
+public class ExecutionTimeMetrics implements ExecutionTimeListener {
+
+  @Override
+  public void onExecuted(long executionNanos, long searchNanos) {
+    Metrics.getInstance().getHistogramMetric(MetricName.NEW_ENGINE_SEARCH_TIME)
+        .record(TimeUnit.NANOSECONDS.toMicros(searchNanos));
+    Metrics.getInstance().getHistogramMetric(MetricName.NEW_ENGINE_OPERATOR_TIME)
+        .record(TimeUnit.NANOSECONDS.toMicros(executionNanos - searchNanos));
+  }
+}
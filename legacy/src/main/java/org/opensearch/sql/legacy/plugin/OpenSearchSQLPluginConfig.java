@@ -39,8 +39,10 @@ import org.opensearch.sql.monitor.ResourceMonitor;
 import org.opensearch.sql.opensearch.client.OpenSearchClient;
 import org.opensearch.sql.opensearch.client.OpenSearchNodeClient;
 import org.opensearch.sql.opensearch.executor.OpenSearchExecutionEngine;
+import org.opensearch.sql.opensearch.executor.admission.AdmissionController;
 import org.opensearch.sql.opensearch.executor.protector.ExecutionProtector;
 import org.opensearch.sql.opensearch.executor.protector.OpenSearchExecutionProtector;
+import org.opensearch.sql.opensearch.mapping.IndexFieldTypeCache;
 import org.opensearch.sql.opensearch.monitor.OpenSearchMemoryHealthy;
 import org.opensearch.sql.opensearch.monitor.OpenSearchResourceMonitor;
 import org.opensearch.sql.opensearch.storage.OpenSearchStorageEngine;
@@ -65,23 +67,30 @@ public class OpenSearchSQLPluginConfig {
   @Autowired
   private Settings settings;
 
+  @Autowired
+  private AdmissionController admissionController;
+
+  @Autowired
+  private IndexFieldTypeCache fieldTypeCache;
+
   @Autowired
   private BuiltinFunctionRepository functionRepository;
 
   @Bean
   public OpenSearchClient client() {
-    return new OpenSearchNodeClient(clusterService, nodeClient);
+    return new OpenSearchNodeClient(clusterService, nodeClient, fieldTypeCache);
   }
 
   @Bean
   public StorageEngine storageEngine() {
-    return new OpenSearchStorageEngine(client(), settings);
+    return new OpenSearchStorageEngine(client(), settings, functionRepository);
   }
 
   @Bean
   public ExecutionEngine executionEngine() {
     OpenSearchFunctions.register(functionRepository);
-    return new OpenSearchExecutionEngine(client(), protector());
+    return new OpenSearchExecutionEngine(
+        client(), protector(), admissionController, new ExecutionTimeMetrics());
   }
 
   @Bean
@@ -91,6 +100,6 @@ public class OpenSearchSQLPluginConfig {
 
   @Bean
   public ExecutionProtector protector() {
-    return new OpenSearchExecutionProtector(resourceMonitor());
+    return new OpenSearchExecutionProtector(resourceMonitor(), settings);
   }
 }
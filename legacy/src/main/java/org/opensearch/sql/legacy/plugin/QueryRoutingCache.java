@@ -0,0 +1,66 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.sql.legacy.plugin;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * LRU cache of the shape of SQL queries that the new query engine failed to parse or analyze
+ * and were handled by the legacy engine. Because the syntax check of new engine only depends on
+ * query shape rather than literal values, any query of the same shape is routed to legacy engine
+ * directly without being parsed by the new engine again. The fallback may also depend on index
+ * mapping, ex. field of array type, so each entry expires after a while in case mapping changed.
+ */
+public class QueryRoutingCache {
+
+    /**
+     * Max number of query shapes cached.
+     */
+    public static final int ROUTING_CACHE_SIZE = 1000;
+
+    /**
+     * Minutes to route query shape to legacy engine since it was found unsupported.
+     */
+    public static final long ROUTING_CACHE_EXPIRE_MINUTES = 60;
+
+    private final Cache<String, Boolean> legacyQueryShapes;
+
+    public QueryRoutingCache() {
+        this(ROUTING_CACHE_SIZE);
+    }
+
+    public QueryRoutingCache(int maxSize) {
+        this.legacyQueryShapes = CacheBuilder.newBuilder()
+            .maximumSize(maxSize)
+            .expireAfterWrite(ROUTING_CACHE_EXPIRE_MINUTES, TimeUnit.MINUTES)
+            .build();
+    }
+
+    /**
+     * @param shape query shape
+     * @return true if the query of same shape was handled by legacy engine
+     */
+    public boolean isRoutedToLegacy(String shape) {
+        return legacyQueryShapes.getIfPresent(shape) != null;
+    }
+
+    /**
+     * Remember that query of the shape is not supported by new engine.
+     * @param shape query shape
+     */
+    public void routeToLegacy(String shape) {
+        legacyQueryShapes.put(shape, Boolean.TRUE);
+    }
+
+}
@@ -0,0 +1,106 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.sql.legacy.plugin;
+
+import java.io.IOException;
+import java.security.PrivilegedExceptionAction;
+import org.opensearch.client.node.NodeClient;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.sql.common.setting.Settings;
+import org.opensearch.sql.opensearch.executor.admission.AdmissionController;
+import org.opensearch.sql.opensearch.mapping.IndexFieldTypeCache;
+import org.opensearch.sql.opensearch.security.SecurityAccess;
+import org.opensearch.sql.planner.cache.PlanCache;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+/**
+ * Holder of the Spring context which builds query service for SQL and PPL REST handler.
+ * All the beans are stateless and the node client passed in is the same instance per node,
+ * so the context is shared across requests and only refreshed once for it. If a different
+ * node client is passed in, the context is refreshed for it and the context replaced is closed.
+ */
+public class QueryServiceContextHolder {
+
+  private final ClusterService clusterService;
+
+  private final Settings pluginSettings;
+
+  private final AdmissionController admissionController;
+
+  private final PlanCache planCache;
+
+  private final IndexFieldTypeCache fieldTypeCache;
+
+  /**
+   * Configuration classes of the query service besides the beans registered by this holder.
+   */
+  private final Class<?>[] configClasses;
+
+  private AnnotationConfigApplicationContext applicationContext;
+
+  /**
+   * Constructor of QueryServiceContextHolder.
+   */
+  public QueryServiceContextHolder(ClusterService clusterService,
+                                   Settings pluginSettings,
+                                   AdmissionController admissionController,
+                                   PlanCache planCache,
+                                   IndexFieldTypeCache fieldTypeCache,
+                                   Class<?>... configClasses) {
+    this.clusterService = clusterService;
+    this.pluginSettings = pluginSettings;
+    this.admissionController = admissionController;
+    this.planCache = planCache;
+    this.fieldTypeCache = fieldTypeCache;
+    this.configClasses = configClasses;
+  }
+
+  /**
+   * Get bean from the context of the node client. The context is only accessed with the lock
+   * held, so no bean is looked up from a context being closed.
+   *
+   * @param client node client
+   * @param type   bean type
+   * @return       bean
+   */
+  public synchronized <T> T getBean(NodeClient client, Class<T> type) {
+    if (applicationContext == null || applicationContext.getBean(NodeClient.class) != client) {
+      AnnotationConfigApplicationContext replaced = applicationContext;
+      applicationContext = doPrivileged(() -> createApplicationContext(client));
+      if (replaced != null) {
+        replaced.close();
+      }
+    }
+    return applicationContext.getBean(type);
+  }
+
+  private AnnotationConfigApplicationContext createApplicationContext(NodeClient client) {
+    AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext();
+    context.registerBean(ClusterService.class, () -> clusterService);
+    context.registerBean(NodeClient.class, () -> client);
+    context.registerBean(Settings.class, () -> pluginSettings);
+    context.registerBean(AdmissionController.class, () -> admissionController);
+    context.registerBean(PlanCache.class, () -> planCache);
+    context.registerBean(IndexFieldTypeCache.class, () -> fieldTypeCache);
+    context.register(configClasses);
+    context.refresh();
+    return context;
+  }
+
+  private <T> T doPrivileged(PrivilegedExceptionAction<T> action) {
+    try {
+      return SecurityAccess.doPrivileged(action);
+    } catch (IOException e) {
+      throw new IllegalStateException("Failed to perform privileged action", e);
+    }
+  }
+}
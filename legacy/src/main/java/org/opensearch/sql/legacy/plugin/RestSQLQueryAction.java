@@ -29,16 +29,17 @@ package org.opensearch.sql.legacy.plugin;
 
 import static org.opensearch.rest.RestStatus.INTERNAL_SERVER_ERROR;
 import static org.opensearch.rest.RestStatus.OK;
+import static org.opensearch.rest.RestStatus.TOO_MANY_REQUESTS;
 import static org.opensearch.sql.executor.ExecutionEngine.QueryResponse;
 import static org.opensearch.sql.protocol.response.format.JsonResponseFormatter.Style.PRETTY;
 
-import java.io.IOException;
-import java.security.PrivilegedExceptionAction;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.opensearch.client.node.NodeClient;
 import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.util.concurrent.OpenSearchRejectedExecutionException;
 import org.opensearch.rest.BaseRestHandler;
 import org.opensearch.rest.BytesRestResponse;
 import org.opensearch.rest.RestChannel;
@@ -50,7 +51,10 @@ import org.opensearch.sql.common.setting.Settings;
 import org.opensearch.sql.executor.ExecutionEngine.ExplainResponse;
 import org.opensearch.sql.legacy.metrics.MetricName;
 import org.opensearch.sql.legacy.metrics.Metrics;
-import org.opensearch.sql.opensearch.security.SecurityAccess;
+import org.opensearch.sql.opensearch.executor.admission.AdmissionController;
+import org.opensearch.sql.opensearch.mapping.IndexFieldTypeCache;
+import org.opensearch.sql.planner.cache.PlanCache;
+import org.opensearch.sql.planner.logical.LogicalPlan;
 import org.opensearch.sql.planner.physical.PhysicalPlan;
 import org.opensearch.sql.protocol.response.QueryResult;
 import org.opensearch.sql.protocol.response.format.CsvResponseFormatter;
@@ -62,7 +66,6 @@ import org.opensearch.sql.protocol.response.format.ResponseFormatter;
 import org.opensearch.sql.sql.SQLService;
 import org.opensearch.sql.sql.config.SQLServiceConfig;
 import org.opensearch.sql.sql.domain.SQLQueryRequest;
-import org.springframework.context.annotation.AnnotationConfigApplicationContext;
 
 /**
  * New SQL REST action handler. This will not be registered to OpenSearch unless:
@@ -75,20 +78,21 @@ public class RestSQLQueryAction extends BaseRestHandler {
 
   public static final RestChannelConsumer NOT_SUPPORTED_YET = null;
 
-  private final ClusterService clusterService;
-
   /**
-   * Settings required by been initialization.
+   * Spring context shared across requests.
    */
-  private final Settings pluginSettings;
+  private final QueryServiceContextHolder contextHolder;
 
   /**
    * Constructor of RestSQLQueryAction.
    */
-  public RestSQLQueryAction(ClusterService clusterService, Settings pluginSettings) {
+  public RestSQLQueryAction(ClusterService clusterService, Settings pluginSettings,
+                            AdmissionController admissionController, PlanCache planCache,
+                            IndexFieldTypeCache fieldTypeCache) {
     super();
-    this.clusterService = clusterService;
-    this.pluginSettings = pluginSettings;
+    this.contextHolder = new QueryServiceContextHolder(clusterService, pluginSettings,
+        admissionController, planCache, fieldTypeCache,
+        OpenSearchSQLPluginConfig.class, SQLServiceConfig.class);
   }
 
   @Override
@@ -117,14 +121,17 @@ public class RestSQLQueryAction extends BaseRestHandler {
       return NOT_SUPPORTED_YET;
     }
 
+    final long startTime = System.nanoTime();
     SQLService sqlService = createSQLService(nodeClient);
     PhysicalPlan plan;
     try {
       // For now analyzing and planning stage may throw syntax exception as well
       // which hints the fallback to legacy code is necessary here.
-      plan = sqlService.plan(
-                sqlService.analyze(
-                    sqlService.parse(request.getQuery())));
+      LogicalPlan logicalPlan = sqlService.analyze(request.getQuery());
+      long planStartTime = System.nanoTime();
+      recordElapsedTime(MetricName.NEW_ENGINE_ANALYZE_TIME, startTime);
+      plan = sqlService.plan(logicalPlan);
+      recordElapsedTime(MetricName.NEW_ENGINE_PLAN_TIME, planStartTime);
     } catch (SyntaxCheckException e) {
       // When explain, print info log for what unsupported syntax is causing fallback to old engine
       if (request.isExplainRequest()) {
@@ -136,20 +143,12 @@ public class RestSQLQueryAction extends BaseRestHandler {
     if (request.isExplainRequest()) {
       return channel -> sqlService.explain(plan, createExplainResponseListener(channel));
     }
-    return channel -> sqlService.execute(plan, createQueryResponseListener(channel, request));
+    return channel -> sqlService.execute(plan,
+        createQueryResponseListener(channel, request, startTime));
   }
 
   private SQLService createSQLService(NodeClient client) {
-    return doPrivileged(() -> {
-      AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext();
-      context.registerBean(ClusterService.class, () -> clusterService);
-      context.registerBean(NodeClient.class, () -> client);
-      context.registerBean(Settings.class, () -> pluginSettings);
-      context.register(OpenSearchSQLPluginConfig.class);
-      context.register(SQLServiceConfig.class);
-      context.refresh();
-      return context.getBean(SQLService.class);
-    });
+    return contextHolder.getBean(client, SQLService.class);
   }
 
   private ResponseListener<ExplainResponse> createExplainResponseListener(RestChannel channel) {
@@ -174,7 +173,9 @@ public class RestSQLQueryAction extends BaseRestHandler {
     };
   }
 
-  private ResponseListener<QueryResponse> createQueryResponseListener(RestChannel channel, SQLQueryRequest request) {
+  private ResponseListener<QueryResponse> createQueryResponseListener(RestChannel channel,
+                                                                     SQLQueryRequest request,
+                                                                     long startTime) {
     Format format = request.format();
     ResponseFormatter<QueryResult> formatter;
     if (format.equals(Format.CSV)) {
@@ -187,32 +188,49 @@ public class RestSQLQueryAction extends BaseRestHandler {
     return new ResponseListener<QueryResponse>() {
       @Override
       public void onResponse(QueryResponse response) {
-        sendResponse(channel, OK,
-            formatter.format(new QueryResult(response.getSchema(), response.getResults())));
+        long formatStartTime = System.nanoTime();
+        String content =
+            formatter.format(new QueryResult(response.getSchema(), response.getResults()));
+        recordElapsedTime(MetricName.NEW_ENGINE_FORMAT_TIME, format, formatStartTime);
+        sendResponse(channel, OK, content);
+        recordElapsedTime(MetricName.NEW_ENGINE_QUERY_TIME, format, startTime);
       }
 
       @Override
       public void onFailure(Exception e) {
         LOG.error("Error happened during query handling", e);
+        if (e instanceof OpenSearchRejectedExecutionException) {
+          // Rejected by admission control and client is supposed to retry later
+          sendResponse(channel, TOO_MANY_REQUESTS, formatter.format(e));
+          return;
+        }
         logAndPublishMetrics(e);
         sendResponse(channel, INTERNAL_SERVER_ERROR, formatter.format(e));
       }
     };
   }
 
-  private <T> T doPrivileged(PrivilegedExceptionAction<T> action) {
-    try {
-      return SecurityAccess.doPrivileged(action);
-    } catch (IOException e) {
-      throw new IllegalStateException("Failed to perform privileged action", e);
-    }
-  }
-
   private void sendResponse(RestChannel channel, RestStatus status, String content) {
     channel.sendResponse(new BytesRestResponse(
         status, "application/json; charset=UTF-8", content));
   }
 
+  /**
+   * Record time elapsed since start time in microseconds.
+   */
+  private static void recordElapsedTime(MetricName metricName, long startTime) {
+    Metrics.getInstance().getHistogramMetric(metricName)
+        .record(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - startTime));
+  }
+
+  /**
+   * Record time elapsed since start time in microseconds for the response format.
+   */
+  private static void recordElapsedTime(MetricName metricName, Format format, long startTime) {
+    Metrics.getInstance().getKeyedHistogramMetric(metricName).record(
+        format.getFormatName(), TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - startTime));
+  }
+
   private static void logAndPublishMetrics(Exception e) {
     LOG.error("Server side error during query execution", e);
     Metrics.getInstance().getNumericalMetric(MetricName.FAILED_REQ_COUNT_SYS).increment();
@@ -29,6 +29,7 @@ package org.opensearch.sql.legacy.plugin;
 import static org.opensearch.rest.RestStatus.BAD_REQUEST;
 import static org.opensearch.rest.RestStatus.OK;
 import static org.opensearch.rest.RestStatus.SERVICE_UNAVAILABLE;
+import static org.opensearch.rest.RestStatus.TOO_MANY_REQUESTS;
 
 import com.alibaba.druid.sql.parser.ParserException;
 import com.google.common.collect.ImmutableList;
@@ -40,6 +41,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Predicate;
 import java.util.regex.Pattern;
 import org.apache.logging.log4j.LogManager;
@@ -48,6 +50,7 @@ import org.opensearch.client.Client;
 import org.opensearch.client.node.NodeClient;
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.concurrent.OpenSearchRejectedExecutionException;
 import org.opensearch.index.IndexNotFoundException;
 import org.opensearch.rest.BaseRestHandler;
 import org.opensearch.rest.BytesRestResponse;
@@ -66,6 +69,7 @@ import org.opensearch.sql.legacy.esdomain.LocalClusterState;
 import org.opensearch.sql.legacy.exception.SQLFeatureDisabledException;
 import org.opensearch.sql.legacy.exception.SqlParseException;
 import org.opensearch.sql.legacy.executor.ActionRequestRestExecutorFactory;
+import org.opensearch.sql.legacy.executor.AsyncRestExecutor;
 import org.opensearch.sql.legacy.executor.Format;
 import org.opensearch.sql.legacy.executor.RestExecutor;
 import org.opensearch.sql.legacy.executor.cursor.CursorActionRequestRestExecutorFactory;
@@ -81,6 +85,10 @@ import org.opensearch.sql.legacy.rewriter.matchtoterm.VerificationException;
 import org.opensearch.sql.legacy.utils.JsonPrettyFormatter;
 import org.opensearch.sql.legacy.utils.LogUtils;
 import org.opensearch.sql.legacy.utils.QueryDataAnonymizer;
+import org.opensearch.sql.opensearch.executor.admission.AdmissionController;
+import org.opensearch.sql.opensearch.mapping.IndexFieldTypeCache;
+import org.opensearch.sql.planner.cache.PlanCache;
+import org.opensearch.sql.sql.antlr.SQLSyntaxParser;
 import org.opensearch.sql.sql.domain.SQLQueryRequest;
 
 public class RestSqlAction extends BaseRestHandler {
@@ -106,11 +114,24 @@ public class RestSqlAction extends BaseRestHandler {
      */
     private final RestSQLQueryAction newSqlQueryHandler;
 
+    /**
+     * Parser of new engine to fingerprint query for routing.
+     */
+    private final SQLSyntaxParser sqlParser = new SQLSyntaxParser();
+
+    /**
+     * Shapes of query known to be handled by legacy engine.
+     */
+    private final QueryRoutingCache routingCache = new QueryRoutingCache();
+
     public RestSqlAction(Settings settings, ClusterService clusterService,
-                         org.opensearch.sql.common.setting.Settings pluginSettings) {
+                         org.opensearch.sql.common.setting.Settings pluginSettings,
+                         AdmissionController admissionController, PlanCache planCache,
+                         IndexFieldTypeCache fieldTypeCache) {
         super();
         this.allowExplicitIndex = MULTI_ALLOW_EXPLICIT_INDEX.get(settings);
-        this.newSqlQueryHandler = new RestSQLQueryAction(clusterService, pluginSettings);
+        this.newSqlQueryHandler = new RestSQLQueryAction(clusterService, pluginSettings,
+            admissionController, planCache, fieldTypeCache);
     }
 
     @Override
@@ -166,23 +187,53 @@ public class RestSqlAction extends BaseRestHandler {
 
             Format format = SqlRequestParam.getFormat(request.params());
 
-            // Route request to new query engine if it's supported already
-            SQLQueryRequest newSqlRequest = new SQLQueryRequest(sqlRequest.getJsonContent(),
-                sqlRequest.getSql(), request.path(), request.params());
+            // Parse, analyze and plan on worker thread to avoid blocking transport thread by large query
+            final long submitTime = System.nanoTime();
+            return channel -> runOnWorkerThread(client, channel, workerChannel -> {
+                recordElapsedTime(MetricName.QUERY_PREPARE_QUEUE_TIME, submitTime);
+                prepareSqlRequest(request, sqlRequest, format, client).accept(workerChannel);
+            });
+        } catch (Exception e) {
+            logAndPublishMetrics(e);
+            return channel -> reportError(channel, e, isClientError(e) ? BAD_REQUEST : SERVICE_UNAVAILABLE);
+        }
+    }
+
+    /**
+     * Prepare channel consumer for SQL query by either new or legacy engine.
+     */
+    private RestChannelConsumer prepareSqlRequest(final RestRequest request, final SqlRequest sqlRequest,
+                                                  final Format format, final NodeClient client) throws Exception {
+        // Route request to new query engine if it's supported already, unless query of the
+        // same shape failed in new engine before
+        SQLQueryRequest newSqlRequest = new SQLQueryRequest(sqlRequest.getJsonContent(),
+            sqlRequest.getSql(), request.path(), request.params());
+        String shape = sqlParser.fingerprint(sqlRequest.getSql()).getShape();
+        if (routingCache.isRoutedToLegacy(shape)) {
+            Metrics.getInstance().getNumericalMetric(MetricName.ROUTING_CACHE_HIT_TOTAL).increment();
+            LOG.debug("[{}] Request {} is routed to old SQL engine as query of same shape is not supported",
+                LogUtils.getRequestId(), newSqlRequest);
+        } else {
+            long startTime = System.nanoTime();
             RestChannelConsumer result = newSqlQueryHandler.prepareRequest(newSqlRequest, client);
+            recordElapsedTime(MetricName.NEW_ENGINE_PREPARE_TIME, startTime);
             if (result != RestSQLQueryAction.NOT_SUPPORTED_YET) {
                 LOG.info("[{}] Request is handled by new SQL query engine", LogUtils.getRequestId());
                 return result;
             }
+
+            // Request unsupported regardless of query shape, ex. cursor request, is not cached
+            if (newSqlRequest.isSupported()) {
+                routingCache.routeToLegacy(shape);
+            }
             LOG.debug("[{}] Request {} is not supported and falling back to old SQL engine",
                 LogUtils.getRequestId(), newSqlRequest);
-
-            final QueryAction queryAction = explainRequest(client, sqlRequest, format);
-            return channel -> executeSqlRequest(request, queryAction, client, channel);
-        } catch (Exception e) {
-            logAndPublishMetrics(e);
-            return channel -> reportError(channel, e, isClientError(e) ? BAD_REQUEST : SERVICE_UNAVAILABLE);
         }
+
+        long startTime = System.nanoTime();
+        final QueryAction queryAction = explainRequest(client, sqlRequest, format);
+        recordElapsedTime(MetricName.LEGACY_ENGINE_PARSE_TIME, startTime);
+        return channel -> executeSqlRequest(request, queryAction, client, channel, startTime);
     }
 
     @Override
@@ -209,6 +260,47 @@ public class RestSqlAction extends BaseRestHandler {
         }
     }
 
+    /**
+     * Run the task on worker thread pool and report any error to the channel.
+     */
+    private void runOnWorkerThread(final NodeClient client, final RestChannel channel,
+                                   final RestChannelConsumer task) {
+        Runnable runnable = () -> {
+            try {
+                task.accept(channel);
+            } catch (Exception e) {
+                logAndPublishMetrics(e);
+                reportError(channel, e, isClientError(e) ? BAD_REQUEST : SERVICE_UNAVAILABLE);
+            }
+        };
+
+        try {
+            client.threadPool().executor(AsyncRestExecutor.SQL_WORKER_THREAD_POOL_NAME)
+                .execute(LogUtils.withCurrentContext(runnable));
+        } catch (OpenSearchRejectedExecutionException e) {
+            // Worker thread pool is saturated and client is supposed to retry later
+            LOG.warn("[{}] Request is rejected by worker thread pool: {}",
+                LogUtils.getRequestId(), e.getMessage());
+            reportError(channel, e, TOO_MANY_REQUESTS);
+        }
+    }
+
+    /**
+     * Record time elapsed since start time in microseconds.
+     */
+    private static void recordElapsedTime(MetricName metricName, long startTime) {
+        Metrics.getInstance().getHistogramMetric(metricName)
+            .record(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - startTime));
+    }
+
+    /**
+     * Record time elapsed since start time in microseconds for the response format.
+     */
+    private static void recordElapsedTime(MetricName metricName, Format format, long startTime) {
+        Metrics.getInstance().getKeyedHistogramMetric(metricName)
+            .record(format.getFormatName(), TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - startTime));
+    }
+
     private static QueryAction explainRequest(final NodeClient client, final SqlRequest sqlRequest, Format format)
         throws SQLFeatureNotSupportedException, SqlParseException, SQLFeatureDisabledException {
 
@@ -223,7 +315,7 @@ public class RestSqlAction extends BaseRestHandler {
     }
 
     private void executeSqlRequest(final RestRequest request, final QueryAction queryAction, final Client client,
-                                   final RestChannel channel) throws Exception {
+                                   final RestChannel channel, final long startTime) throws Exception {
         Map<String, String> params = request.params();
         if (isExplainRequest(request)) {
             final String jsonExplanation = queryAction.explain().explain();
@@ -235,9 +327,8 @@ public class RestSqlAction extends BaseRestHandler {
             }
             channel.sendResponse(new BytesRestResponse(OK, "application/json; charset=UTF-8", result));
         } else {
-            RestExecutor restExecutor = ActionRequestRestExecutorFactory.createExecutor(
-                    SqlRequestParam.getFormat(params),
-                    queryAction);
+            Format format = SqlRequestParam.getFormat(params);
+            RestExecutor restExecutor = ActionRequestRestExecutorFactory.createExecutor(format, queryAction);
             //doing this hack because OpenSearch throws exception for un-consumed props
             Map<String, String> additionalParams = new HashMap<>();
             for (String paramName : responseParams()) {
@@ -246,6 +337,7 @@ public class RestSqlAction extends BaseRestHandler {
                 }
             }
             restExecutor.execute(client, additionalParams, queryAction, channel);
+            recordElapsedTime(MetricName.LEGACY_ENGINE_QUERY_TIME, format, startTime);
         }
     }
 
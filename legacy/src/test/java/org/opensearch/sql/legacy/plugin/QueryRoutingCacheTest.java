@@ -0,0 +1,45 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.sql.legacy.plugin;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+public class QueryRoutingCacheTest {
+
+    @Test
+    public void queryShapeNotCachedShouldBeRoutedToNewEngine() {
+        assertFalse(new QueryRoutingCache().isRoutedToLegacy("shape"));
+    }
+
+    @Test
+    public void queryShapeCachedShouldBeRoutedToLegacyEngine() {
+        QueryRoutingCache cache = new QueryRoutingCache();
+        cache.routeToLegacy("shape");
+
+        assertTrue(cache.isRoutedToLegacy("shape"));
+        assertFalse(cache.isRoutedToLegacy("other"));
+    }
+
+    @Test
+    public void leastRecentlyUsedShapeShouldBeEvicted() {
+        QueryRoutingCache cache = new QueryRoutingCache(1);
+        cache.routeToLegacy("shape1");
+        cache.routeToLegacy("shape2");
+
+        assertFalse(cache.isRoutedToLegacy("shape1"));
+        assertTrue(cache.isRoutedToLegacy("shape2"));
+    }
+
+}
@@ -0,0 +1,95 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.sql.legacy.plugin;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.mockito.Mockito.when;
+
+import java.io.Closeable;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.opensearch.client.node.NodeClient;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.sql.common.setting.Settings;
+import org.opensearch.sql.opensearch.executor.admission.AdmissionController;
+import org.opensearch.sql.opensearch.mapping.IndexFieldTypeCache;
+import org.opensearch.sql.planner.cache.PlanCache;
+import org.opensearch.threadpool.ThreadPool;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@RunWith(MockitoJUnitRunner.class)
+public class QueryServiceContextHolderTest {
+
+  private static final AtomicInteger closedCount = new AtomicInteger();
+
+  @Mock
+  private ClusterService clusterService;
+
+  @Mock
+  private ThreadPool threadPool;
+
+  @Mock
+  private Settings settings;
+
+  @Mock
+  private AdmissionController admissionController;
+
+  private QueryServiceContextHolder contextHolder;
+
+  @Before
+  public void setup() {
+    when(threadPool.getThreadContext())
+        .thenReturn(new ThreadContext(org.opensearch.common.settings.Settings.EMPTY));
+    closedCount.set(0);
+    contextHolder = new QueryServiceContextHolder(clusterService, settings, admissionController,
+        new PlanCache(), new IndexFieldTypeCache(), TestConfig.class);
+  }
+
+  @Test
+  public void reuseContextForSameNodeClient() {
+    NodeClient client = nodeClient();
+    Closeable resource = contextHolder.getBean(client, Closeable.class);
+
+    assertSame(resource, contextHolder.getBean(client, Closeable.class));
+    assertSame(client, contextHolder.getBean(client, NodeClient.class));
+    assertEquals(0, closedCount.get());
+  }
+
+  @Test
+  public void closeContextReplacedForAnotherNodeClient() {
+    NodeClient client = nodeClient();
+    NodeClient anotherClient = nodeClient();
+    contextHolder.getBean(client, Closeable.class);
+
+    assertSame(anotherClient, contextHolder.getBean(anotherClient, NodeClient.class));
+    assertEquals(1, closedCount.get());
+  }
+
+  private NodeClient nodeClient() {
+    return new NodeClient(org.opensearch.common.settings.Settings.EMPTY, threadPool);
+  }
+
+  @Configuration
+  static class TestConfig {
+    @Bean
+    public Closeable resource() {
+      return closedCount::incrementAndGet;
+    }
+  }
+}
@@ -29,6 +29,9 @@ package org.opensearch.sql.legacy.plugin;
 
 import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertSame;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.opensearch.sql.legacy.plugin.RestSQLQueryAction.NOT_SUPPORTED_YET;
 import static org.opensearch.sql.legacy.plugin.RestSqlAction.EXPLAIN_API_ENDPOINT;
@@ -44,6 +47,10 @@ import org.opensearch.client.node.NodeClient;
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.util.concurrent.ThreadContext;
 import org.opensearch.sql.common.setting.Settings;
+import org.opensearch.sql.legacy.metrics.Metrics;
+import org.opensearch.sql.opensearch.executor.admission.AdmissionController;
+import org.opensearch.sql.opensearch.mapping.IndexFieldTypeCache;
+import org.opensearch.sql.planner.cache.PlanCache;
 import org.opensearch.sql.sql.domain.SQLQueryRequest;
 import org.opensearch.threadpool.ThreadPool;
 
@@ -61,11 +68,15 @@ public class RestSQLQueryActionTest {
   @Mock
   private Settings settings;
 
+  @Mock
+  private AdmissionController admissionController;
+
   @Before
   public void setup() {
     nodeClient = new NodeClient(org.opensearch.common.settings.Settings.EMPTY, threadPool);
     when(threadPool.getThreadContext())
         .thenReturn(new ThreadContext(org.opensearch.common.settings.Settings.EMPTY));
+    Metrics.getInstance().registerDefaultMetrics();
   }
 
   @Test
@@ -76,7 +87,9 @@ public class RestSQLQueryActionTest {
         QUERY_API_ENDPOINT,
         "");
 
-    RestSQLQueryAction queryAction = new RestSQLQueryAction(clusterService, settings);
+    RestSQLQueryAction queryAction =
+        new RestSQLQueryAction(clusterService, settings, admissionController, new PlanCache(),
+            new IndexFieldTypeCache());
     assertNotSame(NOT_SUPPORTED_YET, queryAction.prepareRequest(request, nodeClient));
   }
 
@@ -88,8 +101,29 @@ public class RestSQLQueryActionTest {
         EXPLAIN_API_ENDPOINT,
         "");
 
-    RestSQLQueryAction queryAction = new RestSQLQueryAction(clusterService, settings);
+    RestSQLQueryAction queryAction =
+        new RestSQLQueryAction(clusterService, settings, admissionController, new PlanCache(),
+            new IndexFieldTypeCache());
+    assertNotSame(NOT_SUPPORTED_YET, queryAction.prepareRequest(request, nodeClient));
+  }
+
+  @Test
+  public void reuseSpringContextAcrossRequests() {
+    SQLQueryRequest request = new SQLQueryRequest(
+        new JSONObject("{\"query\": \"SELECT -123\"}"),
+        "SELECT -123",
+        QUERY_API_ENDPOINT,
+        "");
+
+    RestSQLQueryAction queryAction =
+        new RestSQLQueryAction(clusterService, settings, admissionController, new PlanCache(),
+            new IndexFieldTypeCache());
+    assertNotSame(NOT_SUPPORTED_YET, queryAction.prepareRequest(request, nodeClient));
+
+    // Node client bean is created along with the context which is not expected again
+    clearInvocations(threadPool);
     assertNotSame(NOT_SUPPORTED_YET, queryAction.prepareRequest(request, nodeClient));
+    verify(threadPool, never()).getThreadContext();
   }
 
   @Test
@@ -101,7 +135,9 @@ public class RestSQLQueryActionTest {
         QUERY_API_ENDPOINT,
         "");
 
-    RestSQLQueryAction queryAction = new RestSQLQueryAction(clusterService, settings);
+    RestSQLQueryAction queryAction =
+        new RestSQLQueryAction(clusterService, settings, admissionController, new PlanCache(),
+            new IndexFieldTypeCache());
     assertSame(NOT_SUPPORTED_YET, queryAction.prepareRequest(request, nodeClient));
   }
 
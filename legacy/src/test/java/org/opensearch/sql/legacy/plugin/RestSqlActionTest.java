@@ -0,0 +1,156 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+
+package org.opensearch.sql.legacy.plugin;
+
+import static java.util.Collections.emptyList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.opensearch.sql.legacy.plugin.RestSqlAction.QUERY_API_ENDPOINT;
+
+import java.util.Collections;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.opensearch.client.node.NodeClient;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.bytes.BytesArray;
+import org.opensearch.common.util.concurrent.OpenSearchRejectedExecutionException;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.rest.BaseRestHandler.RestChannelConsumer;
+import org.opensearch.rest.RestChannel;
+import org.opensearch.rest.RestRequest;
+import org.opensearch.rest.RestResponse;
+import org.opensearch.rest.RestStatus;
+import org.opensearch.sql.common.setting.Settings;
+import org.opensearch.sql.legacy.esdomain.LocalClusterState;
+import org.opensearch.sql.legacy.executor.AsyncRestExecutor;
+import org.opensearch.sql.legacy.metrics.Metrics;
+import org.opensearch.sql.opensearch.executor.admission.AdmissionController;
+import org.opensearch.sql.opensearch.mapping.IndexFieldTypeCache;
+import org.opensearch.sql.opensearch.setting.OpenSearchSettings;
+import org.opensearch.sql.planner.cache.PlanCache;
+import org.opensearch.threadpool.ThreadPool;
+
+@RunWith(MockitoJUnitRunner.class)
+public class RestSqlActionTest {
+
+  @Mock
+  private ClusterService clusterService;
+
+  @Mock
+  private ThreadPool threadPool;
+
+  @Mock
+  private ExecutorService workerExecutor;
+
+  @Mock
+  private Settings settings;
+
+  @Mock
+  private OpenSearchSettings pluginSettings;
+
+  @Mock
+  private AdmissionController admissionController;
+
+  @Mock
+  private RestRequest request;
+
+  @Mock
+  private RestChannel channel;
+
+  private NodeClient nodeClient;
+
+  private RestSqlAction sqlAction;
+
+  @Before
+  public void setup() {
+    doReturn(emptyList()).when(pluginSettings).getSettings();
+    when(pluginSettings.getSettingValue(Settings.Key.SQL_ENABLED)).thenReturn(true);
+    lenient().when(pluginSettings.getSettingValue(Settings.Key.METRICS_ROLLING_WINDOW))
+        .thenReturn(3600L);
+    lenient().when(pluginSettings.getSettingValue(Settings.Key.METRICS_ROLLING_INTERVAL))
+        .thenReturn(60L);
+    LocalClusterState.state().setPluginSettings(pluginSettings);
+    Metrics.getInstance().registerDefaultMetrics();
+
+    lenient().when(threadPool.getThreadContext())
+        .thenReturn(new ThreadContext(org.opensearch.common.settings.Settings.EMPTY));
+    when(threadPool.executor(AsyncRestExecutor.SQL_WORKER_THREAD_POOL_NAME))
+        .thenReturn(workerExecutor);
+    nodeClient = new NodeClient(org.opensearch.common.settings.Settings.EMPTY, threadPool);
+
+    when(request.method()).thenReturn(RestRequest.Method.POST);
+    when(request.content()).thenReturn(new BytesArray("{\"query\": \"SELECT FROM\"}"));
+    lenient().when(request.uri()).thenReturn(QUERY_API_ENDPOINT);
+    lenient().when(request.path()).thenReturn(QUERY_API_ENDPOINT);
+    lenient().when(request.params()).thenReturn(Collections.emptyMap());
+
+    sqlAction = new RestSqlAction(org.opensearch.common.settings.Settings.EMPTY, clusterService,
+        settings, admissionController, new PlanCache(), new IndexFieldTypeCache());
+  }
+
+  @Test
+  public void prepareQueryOnWorkerThread() throws Exception {
+    AtomicReference<Runnable> workerTask = new AtomicReference<>();
+    doAnswer(invocation -> {
+      workerTask.set(invocation.getArgument(0));
+      return null;
+    }).when(workerExecutor).execute(any());
+
+    RestChannelConsumer consumer = sqlAction.prepareRequest(request, nodeClient);
+    consumer.accept(channel);
+    assertNotNull(workerTask.get());
+    verify(channel, never()).sendResponse(any());
+
+    AtomicReference<String> responseThread = new AtomicReference<>();
+    doAnswer(invocation -> {
+      responseThread.set(Thread.currentThread().getName());
+      return null;
+    }).when(channel).sendResponse(any());
+    Thread worker = new Thread(workerTask.get(), "sql-worker-test");
+    worker.start();
+    worker.join();
+
+    assertEquals("sql-worker-test", responseThread.get());
+    ArgumentCaptor<RestResponse> response = ArgumentCaptor.forClass(RestResponse.class);
+    verify(channel).sendResponse(response.capture());
+    assertNotEquals(RestStatus.TOO_MANY_REQUESTS, response.getValue().status());
+  }
+
+  @Test
+  public void reportTooManyRequestsIfRejectedByWorkerThreadPool() throws Exception {
+    doThrow(new OpenSearchRejectedExecutionException("rejected"))
+        .when(workerExecutor).execute(any());
+
+    RestChannelConsumer consumer = sqlAction.prepareRequest(request, nodeClient);
+    consumer.accept(channel);
+
+    ArgumentCaptor<RestResponse> response = ArgumentCaptor.forClass(RestResponse.class);
+    verify(channel).sendResponse(response.capture());
+    assertEquals(RestStatus.TOO_MANY_REQUESTS, response.getValue().status());
+  }
+}
@@ -29,6 +29,7 @@ package org.opensearch.sql.legacy.unittest;
 import static org.junit.Assert.assertEquals;
 import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
@@ -40,6 +41,10 @@ import static org.opensearch.sql.legacy.util.CheckScriptContents.mockClusterServ
 import static org.opensearch.sql.legacy.util.CheckScriptContents.mockLocalClusterState;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Consumer;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
@@ -49,6 +54,8 @@ import org.opensearch.cluster.ClusterChangedEvent;
 import org.opensearch.cluster.ClusterStateListener;
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.Setting;
+import org.opensearch.index.Index;
 import org.opensearch.sql.common.setting.Settings;
 import org.opensearch.sql.legacy.esdomain.LocalClusterState;
 import org.opensearch.sql.legacy.esdomain.mapping.FieldMappings;
@@ -190,19 +197,56 @@ public class LocalClusterStateTest {
         }
         verify(mockService.state().metadata(), times(1)).findMappings(eq(new String[]{INDEX_NAME}), any(), any());
 
-        // 2.Fire cluster state change event
+        // 2.Fire cluster state change event of other index deleted
         Assert.assertNotNull(listener[0]);
-        ClusterChangedEvent mockEvent = mock(ClusterChangedEvent.class);
-        when(mockEvent.metadataChanged()).thenReturn(true);
-        listener[0].clusterChanged(mockEvent);
+        listener[0].clusterChanged(mockIndexDeletedEvent("other_index"));
+
+        // 3.Cache of unrelated index should be kept
+        for (int i = 0; i < 5; i++) {
+            LocalClusterState.state().getFieldMappings(new String[]{INDEX_NAME});
+        }
+        verify(mockService.state().metadata(), times(1)).findMappings(eq(new String[]{INDEX_NAME}), any(), any());
+
+        // 4.Fire cluster state change event of the index deleted
+        listener[0].clusterChanged(mockIndexDeletedEvent(INDEX_NAME));
 
-        // 3.Cache should be invalidated and call findMapping another time only
+        // 5.Cache should be invalidated and call findMapping another time only
         for (int i = 0; i < 5; i++) {
             LocalClusterState.state().getFieldMappings(new String[]{INDEX_NAME});
         }
         verify(mockService.state().metadata(), times(2)).findMappings(eq(new String[]{INDEX_NAME}), any(), any());
     }
 
+    @Test
+    public void getSettingValueFromLatestSnapshot() {
+        ClusterService mockService = mockClusterService(MAPPING);
+        ClusterSettings mockSettings = mock(ClusterSettings.class);
+        when(mockService.getClusterSettings()).thenReturn(mockSettings);
+        LocalClusterState.state().setClusterService(mockService);
+        OpenSearchSettings pluginSettings = mock(OpenSearchSettings.class);
+        when(pluginSettings.getSettings()).thenReturn(OpenSearchSettings.pluginSettings());
+        when(pluginSettings.getSettingValue(Settings.Key.SQL_SLOWLOG)).thenReturn(2);
+
+        List<Consumer<Object>> updaters = new ArrayList<>();
+        doAnswer(invocation -> {
+            updaters.add(invocation.getArgument(1));
+            return null;
+        }).when(mockSettings).addSettingsUpdateConsumer(any(Setting.class), any(Consumer.class));
+        LocalClusterState.state().setPluginSettings(pluginSettings);
+        assertEquals(Integer.valueOf(2), LocalClusterState.state().getSettingValue(Settings.Key.SQL_SLOWLOG));
+
+        updaters.get(OpenSearchSettings.pluginSettings().indexOf(OpenSearchSettings.SQL_SLOWLOG_SETTING))
+            .accept(5);
+        assertEquals(Integer.valueOf(5), LocalClusterState.state().getSettingValue(Settings.Key.SQL_SLOWLOG));
+    }
+
+    private ClusterChangedEvent mockIndexDeletedEvent(String indexName) {
+        ClusterChangedEvent mockEvent = mock(ClusterChangedEvent.class, RETURNS_DEEP_STUBS);
+        when(mockEvent.metadataChanged()).thenReturn(true);
+        when(mockEvent.indicesDeleted()).thenReturn(Collections.singletonList(new Index(indexName, "uuid")));
+        return mockEvent;
+    }
+
     @Test
     public void getDefaultValueForQuerySlowLog() {
         OpenSearchSettings settings = new OpenSearchSettings(clusterSettings);
@@ -0,0 +1,105 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.sql.legacy.unittest.metrics;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.util.Map;
+import org.junit.Test;
+import org.opensearch.sql.legacy.metrics.Histogram;
+import org.opensearch.sql.legacy.metrics.HistogramMetric;
+import org.opensearch.sql.legacy.metrics.RollingHistogram;
+
+public class HistogramTest {
+
+    @Test
+    public void emptyHistogram() {
+        Histogram histogram = new Histogram();
+
+        assertThat(histogram.getCount(), equalTo(0L));
+        assertThat(histogram.getValueAtPercentile(50), equalTo(0L));
+        assertThat(histogram.getMax(), equalTo(0L));
+    }
+
+    @Test
+    public void smallValuesAreRecordedExactly() {
+        Histogram histogram = new Histogram();
+        for (long i = 1; i <= 10; i++) {
+            histogram.record(i);
+        }
+
+        assertThat(histogram.getCount(), equalTo(10L));
+        assertThat(histogram.getValueAtPercentile(50), equalTo(5L));
+        assertThat(histogram.getValueAtPercentile(90), equalTo(9L));
+        assertThat(histogram.getValueAtPercentile(100), equalTo(10L));
+        assertThat(histogram.getMax(), equalTo(10L));
+    }
+
+    @Test
+    public void largeValuesAreRecordedWithBoundedError() {
+        Histogram histogram = new Histogram();
+        for (long i = 1; i <= 1000; i++) {
+            histogram.record(i * 1000);
+        }
+
+        long p50 = histogram.getValueAtPercentile(50);
+        assertThat(p50, greaterThanOrEqualTo(500_000L));
+        assertThat(p50, lessThanOrEqualTo(500_000L + 500_000L / 8));
+        assertThat(histogram.getValueAtPercentile(99), lessThanOrEqualTo(1_000_000L));
+        assertThat(histogram.getMax(), equalTo(1_000_000L));
+    }
+
+    @Test
+    public void extremeValues() {
+        Histogram histogram = new Histogram();
+        histogram.record(-1);
+        histogram.record(Long.MAX_VALUE);
+
+        assertThat(histogram.getValueAtPercentile(50), equalTo(0L));
+        assertThat(histogram.getValueAtPercentile(100), equalTo(Long.MAX_VALUE));
+    }
+
+    @Test
+    public void reset() {
+        Histogram histogram = new Histogram();
+        histogram.record(100);
+        histogram.reset();
+
+        assertThat(histogram.getCount(), equalTo(0L));
+        assertThat(histogram.getMax(), equalTo(0L));
+        assertThat(histogram.getValueAtPercentile(99), equalTo(0L));
+    }
+
+    @Test
+    public void histogramMetricSummary() {
+        Clock clock = mock(Clock.class);
+        HistogramMetric metric = new HistogramMetric("test", new RollingHistogram(1, clock));
+        metric.record(3);
+        when(clock.millis()).thenReturn(1000L); // 1 second passed
+        Map<String, Long> summary = metric.getValue();
+
+        assertThat(metric.getName(), equalTo("test"));
+        assertThat(metric.getHistogram().getHistogram().getCount(), equalTo(1L));
+        assertThat(summary.get("count"), equalTo(1L));
+        assertThat(summary.get("p50"), equalTo(3L));
+        assertThat(summary.get("p90"), equalTo(3L));
+        assertThat(summary.get("p99"), equalTo(3L));
+        assertThat(summary.get("max"), equalTo(3L));
+    }
+
+}
@@ -86,15 +86,76 @@ public class RollingCounterTest {
 
     @Test
     public void trim() {
-        RollingCounter counter = new RollingCounter(2, 1, clock);
+        RollingCounter counter = new RollingCounter(2, 1, clock); // 4 buckets in ring buffer
 
         for (int i=1; i<6; ++i) {
             counter.increment();
-            assertThat(counter.size(), equalTo(i));
+            assertThat(counter.size(), equalTo(Math.min(i, 4)));
             when(clock.millis()).thenReturn(i * 1000L); // i seconds passed
         }
         counter.increment();
-        assertThat(counter.size(), lessThanOrEqualTo(3));
+        assertThat(counter.size(), lessThanOrEqualTo(4));
+        assertThat(counter.getValue(0L), equalTo(0L)); // Bucket of 1st second is reused by 5th second
+        assertThat(counter.getValue(), equalTo(1L));
+    }
+
+    @Test
+    public void addToIntervalRolledOut() {
+        RollingCounter counter = new RollingCounter(2, 1, clock);
+
+        when(clock.millis()).thenReturn(4000L);
+        counter.increment();
+        when(clock.millis()).thenReturn(0L); // Thread read clock before the interval rolled out
+        counter.increment();
+
+        assertThat(counter.getValue(4L), equalTo(1L));
+        assertThat(counter.getValue(0L), equalTo(0L));
+        assertThat(counter.getSum(), equalTo(2L));
+    }
+
+    @Test
+    public void reset() {
+        RollingCounter counter = new RollingCounter(3, 1, clock);
+        counter.add(3);
+        counter.reset();
+
+        when(clock.millis()).thenReturn(1000L);
+        assertThat(counter.size(), equalTo(0));
+        assertThat(counter.getValue(), equalTo(0L));
+    }
+
+    @Test
+    public void resetSum() {
+        RollingCounter counter = new RollingCounter(3, 1, clock);
+        counter.add(3);
+        assertThat(counter.getSum(), equalTo(3L));
+
+        counter.reset();
+        assertThat(counter.getSum(), equalTo(0L));
+
+        counter.increment();
+        assertThat(counter.getSum(), equalTo(1L));
+    }
+
+    @Test
+    public void incrementConcurrently() throws InterruptedException {
+        RollingCounter counter = new RollingCounter(3, 1, clock);
+        Thread[] threads = new Thread[8];
+        for (int i = 0; i < threads.length; i++) {
+            threads[i] = new Thread(() -> {
+                for (int j = 0; j < 10000; j++) {
+                    counter.increment();
+                }
+            });
+            threads[i].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        when(clock.millis()).thenReturn(1000L);
+        assertThat(counter.getValue(), equalTo(80000L));
+        assertThat(counter.getSum(), equalTo(80000L));
     }
 
 }
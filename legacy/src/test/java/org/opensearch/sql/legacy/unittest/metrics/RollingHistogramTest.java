@@ -0,0 +1,109 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.sql.legacy.unittest.metrics;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasKey;
+import static org.hamcrest.Matchers.not;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.util.Map;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.opensearch.sql.legacy.metrics.KeyedHistogramMetric;
+import org.opensearch.sql.legacy.metrics.RollingHistogram;
+
+@RunWith(MockitoJUnitRunner.class)
+public class RollingHistogramTest {
+    @Mock
+    Clock clock;
+
+    @Test
+    public void summaryOfPreviousInterval() {
+        RollingHistogram histogram = new RollingHistogram(1, clock);
+        histogram.record(10);
+        histogram.record(20);
+        assertThat(histogram.getSummary().get("count"), equalTo(0L));
+
+        when(clock.millis()).thenReturn(1000L); // 1 second passed
+        histogram.record(1000);
+        assertThat(histogram.getSummary().get("count"), equalTo(2L));
+        assertThat(histogram.getSummary().get("max"), equalTo(20L));
+
+        when(clock.millis()).thenReturn(2000L); // 1 second passed
+        assertThat(histogram.getSummary().get("count"), equalTo(1L));
+        assertThat(histogram.getSummary().get("p50"), equalTo(1000L));
+
+        when(clock.millis()).thenReturn(3000L); // 1 second passed
+        assertThat(histogram.getSummary().get("count"), equalTo(0L));
+        assertThat(histogram.getSummary().get("max"), equalTo(0L));
+    }
+
+    @Test
+    public void histogramOfEarlierIntervalIsReplaced() {
+        RollingHistogram histogram = new RollingHistogram(1, clock);
+        histogram.record(10);
+
+        when(clock.millis()).thenReturn(2000L); // 2 seconds passed and same slot reused
+        histogram.record(30);
+
+        when(clock.millis()).thenReturn(3000L); // 1 second passed
+        assertThat(histogram.getSummary().get("count"), equalTo(1L));
+        assertThat(histogram.getSummary().get("max"), equalTo(30L));
+    }
+
+    @Test
+    public void recordToIntervalRolledOut() {
+        RollingHistogram histogram = new RollingHistogram(1, clock);
+        when(clock.millis()).thenReturn(2000L);
+        histogram.record(10);
+
+        when(clock.millis()).thenReturn(0L); // clock went backwards
+        histogram.record(20);
+
+        when(clock.millis()).thenReturn(3000L);
+        assertThat(histogram.getSummary().get("count"), equalTo(1L));
+        assertThat(histogram.getSummary().get("max"), equalTo(10L));
+    }
+
+    @Test
+    public void reset() {
+        RollingHistogram histogram = new RollingHistogram(1, clock);
+        histogram.record(10);
+        histogram.reset();
+
+        when(clock.millis()).thenReturn(1000L); // 1 second passed
+        assertThat(histogram.getSummary().get("count"), equalTo(0L));
+    }
+
+    @Test
+    public void keyedHistogramMetric() {
+        KeyedHistogramMetric metric =
+            new KeyedHistogramMetric("test", () -> new RollingHistogram(1, clock));
+        metric.record("jdbc", 10);
+        metric.record("jdbc", 30);
+        metric.record("csv", 20);
+
+        when(clock.millis()).thenReturn(1000L); // 1 second passed
+        Map<String, Map<String, Long>> summaries = metric.getValue();
+        assertThat(metric.getName(), equalTo("test"));
+        assertThat(summaries.get("jdbc").get("count"), equalTo(2L));
+        assertThat(summaries.get("jdbc").get("max"), equalTo(30L));
+        assertThat(summaries.get("csv").get("count"), equalTo(1L));
+        assertThat(summaries, not(hasKey("raw")));
+    }
+
+}
@@ -29,6 +29,8 @@ package org.opensearch.sql.opensearch.client;
 
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
+import org.opensearch.sql.data.type.ExprType;
 import org.opensearch.sql.opensearch.mapping.IndexMapping;
 import org.opensearch.sql.opensearch.request.OpenSearchRequest;
 import org.opensearch.sql.opensearch.response.OpenSearchResponse;
@@ -50,6 +52,20 @@ public interface OpenSearchClient {
    */
   Map<String, IndexMapping> getIndexMappings(String indexExpression);
 
+  /**
+   * Fetch index mapping(s) according to index expression given and resolve field types from
+   * them. Implementation may cache the result until mapping of any index matched changes, so the
+   * resolver is supposed to depend on index mappings only.
+   *
+   * @param indexExpression index expression
+   * @param resolver        resolver of field types from index mapping(s)
+   * @return field types of all indices matched
+   */
+  default Map<String, ExprType> getFieldTypes(
+      String indexExpression, Function<Map<String, IndexMapping>, Map<String, ExprType>> resolver) {
+    return resolver.apply(getIndexMappings(indexExpression));
+  }
+
   /**
    * Perform search query in the search request.
    *
@@ -51,6 +51,8 @@ import org.opensearch.cluster.metadata.MappingMetadata;
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.collect.ImmutableOpenMap;
 import org.opensearch.common.unit.TimeValue;
+import org.opensearch.sql.data.type.ExprType;
+import org.opensearch.sql.opensearch.mapping.IndexFieldTypeCache;
 import org.opensearch.sql.opensearch.mapping.IndexMapping;
 import org.opensearch.sql.opensearch.request.OpenSearchRequest;
 import org.opensearch.sql.opensearch.response.OpenSearchResponse;
@@ -74,6 +76,9 @@ public class OpenSearchNodeClient implements OpenSearchClient {
   /** Index name expression resolver to get concrete index name. */
   private final IndexNameExpressionResolver resolver;
 
+  /** Field types resolved from index mappings shared on the node. */
+  private final IndexFieldTypeCache fieldTypeCache;
+
   private static final String SQL_WORKER_THREAD_POOL_NAME = "sql-worker";
 
   /**
@@ -81,9 +86,19 @@ public class OpenSearchNodeClient implements OpenSearchClient {
    */
   public OpenSearchNodeClient(ClusterService clusterService,
                               NodeClient client) {
+    this(clusterService, client, new IndexFieldTypeCache());
+  }
+
+  /**
+   * Constructor of OpenSearchNodeClient with field type cache shared on the node.
+   */
+  public OpenSearchNodeClient(ClusterService clusterService,
+                              NodeClient client,
+                              IndexFieldTypeCache fieldTypeCache) {
     this.clusterService = clusterService;
     this.client = client;
     this.resolver = new IndexNameExpressionResolver(client.threadPool().getThreadContext());
+    this.fieldTypeCache = fieldTypeCache;
   }
 
   /**
@@ -91,7 +106,8 @@ public class OpenSearchNodeClient implements OpenSearchClient {
    * LocalClusterState.
    *
    * <p>For simplicity, removed type (deprecated) and field filter in argument list. Also removed
-   * mapping cache, cluster state listener (mainly for performance and debugging).
+   * mapping cache, cluster state listener (mainly for performance and debugging). Field types
+   * resolved from the mappings are cached by {@link #getFieldTypes(String, Function)} instead.
    *
    * @param indexExpression index name expression
    * @return index mapping(s) in our class to isolate OpenSearch API. IndexNotFoundException is
@@ -99,10 +115,14 @@ public class OpenSearchNodeClient implements OpenSearchClient {
    */
   @Override
   public Map<String, IndexMapping> getIndexMappings(String indexExpression) {
-    try {
-      ClusterState state = clusterService.state();
-      String[] concreteIndices = resolveIndexExpression(state, new String[] {indexExpression});
+    ClusterState state = clusterService.state();
+    String[] concreteIndices = resolveIndexExpression(state, new String[] {indexExpression});
+    return getIndexMappings(state, indexExpression, concreteIndices);
+  }
 
+  private Map<String, IndexMapping> getIndexMappings(ClusterState state, String indexExpression,
+                                                     String[] concreteIndices) {
+    try {
       return populateIndexMappings(
           state.metadata().findMappings(concreteIndices, ALL_TYPES, ALL_FIELDS));
     } catch (IOException e) {
@@ -111,6 +131,19 @@ public class OpenSearchNodeClient implements OpenSearchClient {
     }
   }
 
+  /**
+   * Get field types resolved from index mappings from the field type cache, which is keyed by the
+   * concrete indices matched by index expression and their mapping version.
+   */
+  @Override
+  public Map<String, ExprType> getFieldTypes(
+      String indexExpression, Function<Map<String, IndexMapping>, Map<String, ExprType>> resolver) {
+    ClusterState state = clusterService.state();
+    String[] concreteIndices = resolveIndexExpression(state, new String[] {indexExpression});
+    return fieldTypeCache.get(state.metadata(), concreteIndices,
+        () -> resolver.apply(getIndexMappings(state, indexExpression, concreteIndices)));
+  }
+
   /**
    * TODO: Scroll doesn't work for aggregation. Support aggregation later.
    */
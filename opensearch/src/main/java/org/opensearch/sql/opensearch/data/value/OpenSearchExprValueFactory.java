@@ -51,9 +51,12 @@ import static org.opensearch.sql.opensearch.data.value.OpenSearchDateFormatters.
 import static org.opensearch.sql.opensearch.data.value.OpenSearchDateFormatters.STRICT_DATE_OPTIONAL_TIME_FORMATTER;
 import static org.opensearch.sql.opensearch.data.value.OpenSearchDateFormatters.STRICT_HOUR_MINUTE_SECOND_FORMATTER;
 
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.collect.ImmutableMap;
+import java.io.IOException;
 import java.time.Instant;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeFormatterBuilder;
@@ -65,7 +68,11 @@ import java.util.Map;
 import java.util.function.Function;
 import lombok.Getter;
 import lombok.Setter;
+import org.apache.lucene.util.BytesRef;
+import org.opensearch.common.bytes.BytesReference;
 import org.opensearch.common.time.DateFormatters;
+import org.opensearch.common.xcontent.XContentHelper;
+import org.opensearch.common.xcontent.XContentType;
 import org.opensearch.sql.data.model.ExprBooleanValue;
 import org.opensearch.sql.data.model.ExprByteValue;
 import org.opensearch.sql.data.model.ExprCollectionValue;
@@ -158,6 +165,30 @@ public class OpenSearchExprValueFactory {
     }
   }
 
+  /**
+   * Construct ExprValue from the source of search hit directly without converting it to String
+   * and parsing the whole JsonNode tree first. The object fields are decoded token by token and
+   * only the leaf values are materialized. The same assumption as {@link #construct(String)}.
+   */
+  public ExprValue construct(BytesReference source) {
+    XContentType contentType = XContentHelper.xContentType(source);
+    try {
+      if (contentType != XContentType.JSON) {
+        return construct(XContentHelper.convertToJson(source, false, contentType));
+      }
+
+      BytesRef bytes = source.toBytesRef();
+      try (JsonParser parser =
+               OBJECT_MAPPER.getFactory().createParser(bytes.bytes, bytes.offset, bytes.length)) {
+        parser.nextToken();
+        return parse(parser, TOP_PATH, STRUCT);
+      }
+    } catch (IOException e) {
+      throw new IllegalStateException(
+          String.format("invalid json: %s.", source.utf8ToString()), e);
+    }
+  }
+
   /**
    * Construct ExprValue from field and its value object. Throw exception if trying
    * to construct from field of unsupported type.
@@ -191,6 +222,28 @@ public class OpenSearchExprValueFactory {
     }
   }
 
+  /**
+   * Struct is decoded from the token stream directly. Others including struct in array
+   * are read into JsonNode first and then parsed as before.
+   */
+  private ExprValue parse(JsonParser parser, String field, ExprType type) throws IOException {
+    if (type == STRUCT && parser.currentToken() == JsonToken.START_OBJECT) {
+      return parseStruct(parser, field);
+    }
+    return parse(new OpenSearchJsonContent(OBJECT_MAPPER.readTree(parser)), field, type);
+  }
+
+  private ExprValue parseStruct(JsonParser parser, String prefix) throws IOException {
+    LinkedHashMap<String, ExprValue> result = new LinkedHashMap<>();
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      String fieldName = parser.getCurrentName();
+      parser.nextToken();
+      result.put(fieldName,
+          parse(parser, makeField(prefix, fieldName), type(makeField(prefix, fieldName))));
+    }
+    return new ExprTupleValue(result);
+  }
+
   private ExprType type(String field) {
     if (typeMapping.containsKey(field)) {
       return typeMapping.get(field);
@@ -0,0 +1,32 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.sql.opensearch.executor;
+
+/**
+ * Listener notified of time spent on executing each query, ex. to publish latency metrics.
+ */
+@FunctionalInterface
+public interface ExecutionTimeListener {
+
+  /**
+   * Listener that ignores execution time.
+   */
+  ExecutionTimeListener NONE = (executionNanos, searchNanos) -> { };
+
+  /**
+   * Called after all rows of the query fetched and before response listener notified.
+   *
+   * @param executionNanos nanoseconds spent on opening and draining the physical plan
+   * @param searchNanos    nanoseconds of which spent on waiting for OpenSearch search response
+   */
+  void onExecuted(long executionNanos, long searchNanos);
+}
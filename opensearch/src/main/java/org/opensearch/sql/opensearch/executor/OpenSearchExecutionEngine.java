@@ -30,13 +30,16 @@ package org.opensearch.sql.opensearch.executor;
 import com.google.common.collect.ImmutableMap;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import org.opensearch.sql.common.response.ResponseListener;
 import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.executor.ExecutionEngine;
 import org.opensearch.sql.executor.Explain;
 import org.opensearch.sql.opensearch.client.OpenSearchClient;
+import org.opensearch.sql.opensearch.executor.admission.AdmissionController;
 import org.opensearch.sql.opensearch.executor.protector.ExecutionProtector;
+import org.opensearch.sql.opensearch.storage.OpenSearchIndexScan;
 import org.opensearch.sql.planner.physical.PhysicalPlan;
 import org.opensearch.sql.storage.TableScanOperator;
 
@@ -48,27 +51,58 @@ public class OpenSearchExecutionEngine implements ExecutionEngine {
 
   private final ExecutionProtector executionProtector;
 
+  private final AdmissionController admissionController;
+
+  private final ExecutionTimeListener executionTimeListener;
+
+  public OpenSearchExecutionEngine(OpenSearchClient client,
+                                   ExecutionProtector executionProtector,
+                                   AdmissionController admissionController) {
+    this(client, executionProtector, admissionController, ExecutionTimeListener.NONE);
+  }
+
   @Override
   public void execute(PhysicalPlan physicalPlan, ResponseListener<QueryResponse> listener) {
     PhysicalPlan plan = executionProtector.protect(physicalPlan);
-    client.schedule(
-        () -> {
-          try {
-            List<ExprValue> result = new ArrayList<>();
-            plan.open();
-
-            while (plan.hasNext()) {
-              result.add(plan.next());
-            }
+    admissionController.admit(
+        admissionController.estimateCost(physicalPlan),
+        permits -> schedule(physicalPlan, plan, permits, listener),
+        listener::onFailure);
+  }
 
-            QueryResponse response = new QueryResponse(physicalPlan.schema(), result);
-            listener.onResponse(response);
-          } catch (Exception e) {
-            listener.onFailure(e);
-          } finally {
-            plan.close();
-          }
-        });
+  /**
+   * Run the admitted query on worker thread. The permits are released once the query finished or
+   * failed to be scheduled.
+   */
+  private void schedule(PhysicalPlan physicalPlan, PhysicalPlan plan, int permits,
+                        ResponseListener<QueryResponse> listener) {
+    try {
+      client.schedule(
+          () -> {
+            try {
+              long startTime = System.nanoTime();
+              List<ExprValue> result = new ArrayList<>();
+              plan.open();
+
+              while (plan.hasNext()) {
+                result.add(plan.next());
+              }
+              executionTimeListener.onExecuted(
+                  System.nanoTime() - startTime, searchTime(physicalPlan));
+
+              QueryResponse response = new QueryResponse(physicalPlan.schema(), result);
+              listener.onResponse(response);
+            } catch (Exception e) {
+              listener.onFailure(e);
+            } finally {
+              plan.close();
+              admissionController.release(permits);
+            }
+          });
+    } catch (Exception e) {
+      admissionController.release(permits);
+      listener.onFailure(e);
+    }
   }
 
   @Override
@@ -79,7 +113,7 @@ public class OpenSearchExecutionEngine implements ExecutionEngine {
           @Override
           public ExplainResponseNode visitTableScan(TableScanOperator node, Object context) {
             return explain(node, context, explainNode -> {
-              explainNode.setDescription(ImmutableMap.of("request", node.explain()));
+              explainNode.setDescription(describe(node));
             });
           }
         };
@@ -91,4 +125,31 @@ public class OpenSearchExecutionEngine implements ExecutionEngine {
     });
   }
 
+  /**
+   * Describe table scan by its request and filter conditions pushed down as script query if any.
+   */
+  private Map<String, Object> describe(TableScanOperator node) {
+    if (node instanceof OpenSearchIndexScan
+        && !((OpenSearchIndexScan) node).getScriptFilters().isEmpty()) {
+      return ImmutableMap.of(
+          "request", node.explain(),
+          "script_filters", ((OpenSearchIndexScan) node).getScriptFilters());
+    }
+    return ImmutableMap.of("request", node.explain());
+  }
+
+  /**
+   * Total time spent on search requests by all index scans in the physical plan.
+   */
+  private long searchTime(PhysicalPlan plan) {
+    long searchTime = 0L;
+    if (plan instanceof OpenSearchIndexScan) {
+      searchTime += ((OpenSearchIndexScan) plan).getSearchTime();
+    }
+    for (PhysicalPlan child : plan.getChild()) {
+      searchTime += searchTime(child);
+    }
+    return searchTime;
+  }
+
 }
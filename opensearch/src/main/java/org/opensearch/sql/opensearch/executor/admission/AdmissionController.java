@@ -0,0 +1,253 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.sql.opensearch.executor.admission;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+import lombok.RequiredArgsConstructor;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.util.concurrent.OpenSearchRejectedExecutionException;
+import org.opensearch.sql.common.setting.Settings;
+import org.opensearch.sql.planner.physical.AggregationOperator;
+import org.opensearch.sql.planner.physical.DedupeOperator;
+import org.opensearch.sql.planner.physical.PhysicalPlan;
+import org.opensearch.sql.planner.physical.PhysicalPlanNodeVisitor;
+import org.opensearch.sql.planner.physical.RareTopNOperator;
+import org.opensearch.sql.planner.physical.SortOperator;
+import org.opensearch.sql.planner.physical.TopNOperator;
+import org.opensearch.sql.planner.physical.WindowOperator;
+import org.opensearch.threadpool.Scheduler;
+import org.opensearch.threadpool.ThreadPool;
+
+/**
+ * Admission controller that limits the total estimated cost of queries running on the node.
+ * A query acquires permits weighted by its cost before it starts. If not enough permits left, the
+ * query is parked in a FIFO pending queue without holding any thread, and started later by the
+ * thread which releases permits of a finished query. A pending query not admitted within timeout
+ * is rejected by {@link OpenSearchRejectedExecutionException} which is reported as 429 to client,
+ * by the timeout task scheduled when it is parked and cancelled once admitted.
+ * The instance is shared by all the queries on the node.
+ */
+@RequiredArgsConstructor
+public class AdmissionController {
+
+  /**
+   * Cost of each operator that holds rows in memory. Query with all the work pushed down to
+   * OpenSearch costs nothing and is always admitted right away.
+   */
+  public static final int IN_MEMORY_OPERATOR_COST = 4;
+
+  private static final CostEstimator COST_ESTIMATOR = new CostEstimator();
+
+  /**
+   * Settings which provide max cost and timeout.
+   */
+  private final Settings settings;
+
+  /**
+   * Scheduler of the timeout task of pending query.
+   */
+  private final Scheduler scheduler;
+
+  /**
+   * Total cost of running queries, guarded by this.
+   */
+  private int runningCost = 0;
+
+  /**
+   * Queries waiting for admission in arrival order, guarded by this.
+   */
+  private final Deque<PendingQuery> pendingQueries = new ArrayDeque<>();
+
+  private final AtomicLong totalWaitTimeMillis = new AtomicLong();
+
+  private final AtomicLong rejectedCount = new AtomicLong();
+
+  /**
+   * Estimate cost of the physical plan by counting operators that hold rows in memory.
+   */
+  public int estimateCost(PhysicalPlan plan) {
+    return plan.accept(COST_ESTIMATOR, null);
+  }
+
+  /**
+   * Admit a query of the cost without blocking the calling thread. The task is called with the
+   * permits acquired, either right away or by the thread releasing permits later, and must only
+   * hand over the query to a worker thread. The cost above max cost is capped, so such query can
+   * still run but only alone.
+   *
+   * @param cost       estimated cost of the query
+   * @param task       task called with permits acquired which must be released after the query
+   *                   finished
+   * @param onRejected callback if query is not admitted within timeout
+   */
+  public void admit(int cost, IntConsumer task, Consumer<Exception> onRejected) {
+    if (cost <= 0) {
+      task.accept(0);
+      return;
+    }
+
+    List<Runnable> ready = new ArrayList<>();
+    synchronized (this) {
+      PendingQuery query = new PendingQuery(cost, task, onRejected, System.nanoTime());
+      pendingQueries.add(query);
+      drain(ready);
+      if (pendingQueries.contains(query)) {
+        query.timeoutTask = scheduler.schedule(() -> timeout(query),
+            settings.getSettingValue(Settings.Key.QUERY_ADMISSION_TIMEOUT), ThreadPool.Names.GENERIC);
+      }
+    }
+    ready.forEach(Runnable::run);
+  }
+
+  /**
+   * Release permits acquired and start pending queries which can be admitted now.
+   */
+  public void release(int permits) {
+    if (permits <= 0) {
+      return;
+    }
+
+    List<Runnable> ready = new ArrayList<>();
+    synchronized (this) {
+      runningCost -= permits;
+      drain(ready);
+    }
+    ready.forEach(Runnable::run);
+  }
+
+  public synchronized int getQueueDepth() {
+    return pendingQueries.size();
+  }
+
+  public long getTotalWaitTimeMillis() {
+    return totalWaitTimeMillis.get();
+  }
+
+  public long getRejectedCount() {
+    return rejectedCount.get();
+  }
+
+  /**
+   * Admit pending queries in arrival order as long as enough permits left and cancel their
+   * timeout task. The callbacks are collected to run after the lock released.
+   */
+  private void drain(List<Runnable> ready) {
+    int maxCost = settings.getSettingValue(Settings.Key.QUERY_ADMISSION_MAX_COST);
+    while (!pendingQueries.isEmpty()) {
+      PendingQuery query = pendingQueries.peek();
+      int permits = Math.min(query.cost, maxCost);
+      if (runningCost + permits > maxCost) {
+        return;
+      }
+      runningCost += permits;
+      ready.add(() -> query.task.accept(permits));
+      pendingQueries.poll();
+      if (query.timeoutTask != null) {
+        query.timeoutTask.cancel();
+      }
+      recordWaitTime(query);
+    }
+  }
+
+  /**
+   * Reject the query if still pending, and admit those behind it which may fit in now.
+   */
+  private void timeout(PendingQuery query) {
+    List<Runnable> ready = new ArrayList<>();
+    synchronized (this) {
+      if (!pendingQueries.remove(query)) {
+        return;
+      }
+      recordWaitTime(query);
+      rejectedCount.incrementAndGet();
+      int maxCost = settings.getSettingValue(Settings.Key.QUERY_ADMISSION_MAX_COST);
+      TimeValue timeout = settings.getSettingValue(Settings.Key.QUERY_ADMISSION_TIMEOUT);
+      OpenSearchRejectedExecutionException e = new OpenSearchRejectedExecutionException(
+          String.format("query of cost [%d] is not admitted in [%s] "
+              + "as running queries already reach max cost [%d]",
+              Math.min(query.cost, maxCost), timeout, maxCost));
+      ready.add(() -> query.onRejected.accept(e));
+      drain(ready);
+    }
+    ready.forEach(Runnable::run);
+  }
+
+  private void recordWaitTime(PendingQuery query) {
+    totalWaitTimeMillis.addAndGet(
+        TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - query.startNanos));
+  }
+
+  @RequiredArgsConstructor
+  private static class PendingQuery {
+    private final int cost;
+    private final IntConsumer task;
+    private final Consumer<Exception> onRejected;
+    private final long startNanos;
+
+    /**
+     * Task that rejects the query after timeout, guarded by the admission controller.
+     */
+    private Scheduler.ScheduledCancellable timeoutTask;
+  }
+
+  /**
+   * Sum up the cost of operators in the physical plan tree.
+   */
+  private static class CostEstimator extends PhysicalPlanNodeVisitor<Integer, Object> {
+
+    @Override
+    protected Integer visitNode(PhysicalPlan node, Object context) {
+      int cost = 0;
+      for (PhysicalPlan child : node.getChild()) {
+        cost += child.accept(this, context);
+      }
+      return cost;
+    }
+
+    @Override
+    public Integer visitAggregation(AggregationOperator node, Object context) {
+      return IN_MEMORY_OPERATOR_COST + visitNode(node, context);
+    }
+
+    @Override
+    public Integer visitWindow(WindowOperator node, Object context) {
+      return IN_MEMORY_OPERATOR_COST + visitNode(node, context);
+    }
+
+    @Override
+    public Integer visitDedupe(DedupeOperator node, Object context) {
+      return IN_MEMORY_OPERATOR_COST + visitNode(node, context);
+    }
+
+    @Override
+    public Integer visitSort(SortOperator node, Object context) {
+      return IN_MEMORY_OPERATOR_COST + visitNode(node, context);
+    }
+
+    @Override
+    public Integer visitRareTopN(RareTopNOperator node, Object context) {
+      return IN_MEMORY_OPERATOR_COST + visitNode(node, context);
+    }
+
+    @Override
+    public Integer visitTopN(TopNOperator node, Object context) {
+      return IN_MEMORY_OPERATOR_COST + visitNode(node, context);
+    }
+  }
+}
@@ -29,6 +29,7 @@
 package org.opensearch.sql.opensearch.executor.protector;
 
 import lombok.RequiredArgsConstructor;
+import org.opensearch.sql.common.setting.Settings;
 import org.opensearch.sql.monitor.ResourceMonitor;
 import org.opensearch.sql.planner.physical.AggregationOperator;
 import org.opensearch.sql.planner.physical.DedupeOperator;
@@ -41,6 +42,7 @@ import org.opensearch.sql.planner.physical.RareTopNOperator;
 import org.opensearch.sql.planner.physical.RemoveOperator;
 import org.opensearch.sql.planner.physical.RenameOperator;
 import org.opensearch.sql.planner.physical.SortOperator;
+import org.opensearch.sql.planner.physical.TopNOperator;
 import org.opensearch.sql.planner.physical.ValuesOperator;
 import org.opensearch.sql.planner.physical.WindowOperator;
 import org.opensearch.sql.storage.TableScanOperator;
@@ -56,6 +58,11 @@ public class OpenSearchExecutionProtector extends ExecutionProtector {
    */
   private final ResourceMonitor resourceMonitor;
 
+  /**
+   * Settings which provide the spill threshold of sort.
+   */
+  private final Settings settings;
+
   public PhysicalPlan protect(PhysicalPlan physicalPlan) {
     return physicalPlan.accept(this, null);
   }
@@ -115,19 +122,34 @@ public class OpenSearchExecutionProtector extends ExecutionProtector {
   public PhysicalPlan visitWindow(WindowOperator node, Object context) {
     return new WindowOperator(
         doProtect(visitInput(node.getInput(), context)),
-        node.getWindowFunction(),
+        node.getWindowFunctions(),
         node.getWindowDefinition());
   }
 
   /**
-   * Decorate with {@link ResourceMonitorPlan}.
+   * Decorate with {@link ResourceMonitorPlan} and spill to disk once the number of rows in memory
+   * reaches the threshold in settings.
    */
   @Override
   public PhysicalPlan visitSort(SortOperator node, Object context) {
     return doProtect(
         new SortOperator(
             visitInput(node.getInput(), context),
-            node.getSortList()));
+            node.getSortList(),
+            settings.getSettingValue(Settings.Key.QUERY_SORT_SPILL_THRESHOLD)));
+  }
+
+  /**
+   * Decorate with {@link ResourceMonitorPlan}.
+   */
+  @Override
+  public PhysicalPlan visitTopN(TopNOperator node, Object context) {
+    return doProtect(
+        new TopNOperator(
+            visitInput(node.getInput(), context),
+            node.getSortList(),
+            node.getLimit(),
+            node.getOffset()));
   }
 
   /**
@@ -0,0 +1,192 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.sql.opensearch.mapping;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.ImmutableMap;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import org.opensearch.cluster.ClusterChangedEvent;
+import org.opensearch.cluster.ClusterStateListener;
+import org.opensearch.cluster.metadata.IndexMetadata;
+import org.opensearch.cluster.metadata.Metadata;
+import org.opensearch.index.Index;
+import org.opensearch.sql.data.type.ExprType;
+
+/**
+ * Node level cache of field types resolved from index mappings. The key is the concrete indices
+ * matched by index expression along with their mapping version, so entry cached is never used
+ * once mapping of any index changed. Entries of index deleted or with mapping changed are removed
+ * by listening to cluster state change, which also notifies the invalidation listeners, ex. plan
+ * cache, whose entries depend on field types of index expression rather than concrete indices.
+ */
+public class IndexFieldTypeCache implements ClusterStateListener {
+
+  /**
+   * Max number of concrete index set cached.
+   */
+  public static final int FIELD_TYPE_CACHE_SIZE = 1000;
+
+  private final AtomicLong hitCount = new AtomicLong();
+
+  private final AtomicLong missCount = new AtomicLong();
+
+  private final AtomicLong invalidationCount = new AtomicLong();
+
+  private final Cache<Map<Index, Long>, Map<String, ExprType>> cache;
+
+  private final List<Runnable> invalidationListeners = new CopyOnWriteArrayList<>();
+
+  /**
+   * Create field type cache of default size.
+   */
+  public IndexFieldTypeCache() {
+    this(FIELD_TYPE_CACHE_SIZE);
+  }
+
+  /**
+   * Create field type cache of the given size.
+   */
+  public IndexFieldTypeCache(int maxSize) {
+    this.cache = CacheBuilder.newBuilder().maximumSize(maxSize).build();
+  }
+
+  /**
+   * Get field types of the concrete indices from cache or resolve them if absent.
+   *
+   * @param metadata        current cluster metadata
+   * @param concreteIndices concrete index names
+   * @param resolver        resolver of field types from index mappings
+   * @return field types of the concrete indices
+   */
+  public Map<String, ExprType> get(Metadata metadata, String[] concreteIndices,
+                                   Supplier<Map<String, ExprType>> resolver) {
+    Optional<Map<Index, Long>> key = mappingVersions(metadata, concreteIndices);
+    Map<String, ExprType> fieldTypes = key.map(cache::getIfPresent).orElse(null);
+    if (fieldTypes != null) {
+      hitCount.incrementAndGet();
+      return fieldTypes;
+    }
+
+    missCount.incrementAndGet();
+    fieldTypes = Collections.unmodifiableMap(resolver.get());
+    if (key.isPresent()) {
+      cache.put(key.get(), fieldTypes);
+    }
+    return fieldTypes;
+  }
+
+  /**
+   * Add listener called whenever field types of any index expression may have changed, which
+   * happens if index is created or deleted, or mapping or aliases of index changed.
+   *
+   * @param listener invalidation listener
+   */
+  public void addInvalidationListener(Runnable listener) {
+    invalidationListeners.add(listener);
+  }
+
+  /**
+   * Remove entries of any index deleted or with mapping changed, and notify the invalidation
+   * listeners if index expression may be resolved to different field types.
+   */
+  @Override
+  public void clusterChanged(ClusterChangedEvent event) {
+    Set<Index> changed = mappingChangedIndices(event);
+    if (!changed.isEmpty()) {
+      cache.asMap().keySet().removeIf(key -> {
+        boolean stale = key.keySet().stream().anyMatch(changed::contains);
+        if (stale) {
+          invalidationCount.incrementAndGet();
+        }
+        return stale;
+      });
+    }
+
+    if (!changed.isEmpty() || !event.indicesCreated().isEmpty() || aliasesChanged(event)) {
+      invalidationListeners.forEach(Runnable::run);
+    }
+  }
+
+  /**
+   * Find indices deleted or with mapping changed in the cluster state change event.
+   *
+   * @param event cluster state change event
+   * @return indices whose mapping cached is stale
+   */
+  public static Set<Index> mappingChangedIndices(ClusterChangedEvent event) {
+    if (!event.metadataChanged()) {
+      return Collections.emptySet();
+    }
+
+    Set<Index> changed = new HashSet<>(event.indicesDeleted());
+    Metadata previous = event.previousState().metadata();
+    for (IndexMetadata current : event.state().metadata()) {
+      IndexMetadata before = previous.index(current.getIndex());
+      if (before != null && before.getMappingVersion() != current.getMappingVersion()) {
+        changed.add(current.getIndex());
+      }
+    }
+    return changed;
+  }
+
+  private static boolean aliasesChanged(ClusterChangedEvent event) {
+    if (!event.metadataChanged()) {
+      return false;
+    }
+
+    Metadata previous = event.previousState().metadata();
+    for (IndexMetadata current : event.state().metadata()) {
+      IndexMetadata before = previous.index(current.getIndex());
+      if (before != null && before.getAliasesVersion() != current.getAliasesVersion()) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  public long getHitCount() {
+    return hitCount.get();
+  }
+
+  public long getMissCount() {
+    return missCount.get();
+  }
+
+  public long getInvalidationCount() {
+    return invalidationCount.get();
+  }
+
+  /**
+   * Mapping version of each concrete index, or empty if metadata of any index is not found,
+   * ex. deleted after index expression resolved, in which case the result is not cached.
+   */
+  private Optional<Map<Index, Long>> mappingVersions(Metadata metadata, String[] concreteIndices) {
+    ImmutableMap.Builder<Index, Long> versions = ImmutableMap.builder();
+    for (String indexName : concreteIndices) {
+      IndexMetadata indexMetadata = metadata.index(indexName);
+      if (indexMetadata == null) {
+        return Optional.empty();
+      }
+      versions.put(indexMetadata.getIndex(), indexMetadata.getMappingVersion());
+    }
+    return Optional.of(versions.build());
+  }
+}
@@ -0,0 +1,87 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+
+package org.opensearch.sql.opensearch.planner.logical;
+
+import com.google.common.collect.ImmutableList;
+import java.util.List;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+import org.opensearch.sql.ast.tree.RareTopN.CommandType;
+import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.planner.logical.LogicalPlan;
+import org.opensearch.sql.planner.logical.LogicalPlanNodeVisitor;
+
+/**
+ * Logical Index Scan Rare/Top N Operation which is executed as terms aggregation ordered by
+ * document count. Only top command is merged into it because rare values cannot be counted
+ * accurately by terms aggregation.
+ */
+@Getter
+@ToString
+@EqualsAndHashCode(callSuper = false)
+public class OpenSearchLogicalIndexRareTopN extends LogicalPlan {
+
+  private final String relationName;
+
+  /**
+   * Filter Condition.
+   */
+  private final Expression filter;
+
+  /**
+   * Rare or Top.
+   */
+  private final CommandType commandType;
+
+  /**
+   * Number of values returned for each group.
+   */
+  private final Integer noOfResults;
+
+  /**
+   * Field whose values are counted.
+   */
+  private final Expression field;
+
+  /**
+   * Group List.
+   */
+  private final List<Expression> groupByList;
+
+  /**
+   * OpenSearchLogicalIndexRareTopN Constructor.
+   */
+  @Builder
+  public OpenSearchLogicalIndexRareTopN(
+      String relationName,
+      Expression filter,
+      CommandType commandType,
+      Integer noOfResults,
+      Expression field,
+      List<Expression> groupByList) {
+    super(ImmutableList.of());
+    this.relationName = relationName;
+    this.filter = filter;
+    this.commandType = commandType;
+    this.noOfResults = noOfResults;
+    this.field = field;
+    this.groupByList = groupByList;
+  }
+
+  @Override
+  public <R, C> R accept(LogicalPlanNodeVisitor<R, C> visitor, C context) {
+    return visitor.visitNode(this, context);
+  }
+}
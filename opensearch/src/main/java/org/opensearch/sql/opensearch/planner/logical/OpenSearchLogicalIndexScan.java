@@ -80,6 +80,12 @@ public class OpenSearchLogicalIndexScan extends LogicalPlan {
   @Setter
   private Integer limit;
 
+  /**
+   * Field to collapse search hits on, which returns the first document for each value.
+   */
+  @Setter
+  private ReferenceExpression collapseField;
+
   /**
    * ElasticsearchLogicalIndexScan Constructor.
    */
@@ -89,7 +95,8 @@ public class OpenSearchLogicalIndexScan extends LogicalPlan {
       Expression filter,
       Set<ReferenceExpression> projectList,
       List<Pair<Sort.SortOption, Expression>> sortList,
-      Integer limit, Integer offset) {
+      Integer limit, Integer offset,
+      ReferenceExpression collapseField) {
     super(ImmutableList.of());
     this.relationName = relationName;
     this.filter = filter;
@@ -97,6 +104,7 @@ public class OpenSearchLogicalIndexScan extends LogicalPlan {
     this.sortList = sortList;
     this.limit = limit;
     this.offset = offset;
+    this.collapseField = collapseField;
   }
 
   @Override
@@ -108,6 +116,10 @@ public class OpenSearchLogicalIndexScan extends LogicalPlan {
     return limit != null;
   }
 
+  public boolean hasCollapse() {
+    return collapseField != null;
+  }
+
   /**
    * Test has projects or not.
    *
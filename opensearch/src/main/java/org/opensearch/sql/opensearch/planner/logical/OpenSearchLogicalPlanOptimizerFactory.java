@@ -32,9 +32,13 @@ import java.util.Arrays;
 import lombok.experimental.UtilityClass;
 import org.opensearch.sql.opensearch.planner.logical.rule.MergeAggAndIndexScan;
 import org.opensearch.sql.opensearch.planner.logical.rule.MergeAggAndRelation;
+import org.opensearch.sql.opensearch.planner.logical.rule.MergeDedupeAndIndexScan;
+import org.opensearch.sql.opensearch.planner.logical.rule.MergeDedupeAndRelation;
 import org.opensearch.sql.opensearch.planner.logical.rule.MergeFilterAndRelation;
 import org.opensearch.sql.opensearch.planner.logical.rule.MergeLimitAndIndexScan;
 import org.opensearch.sql.opensearch.planner.logical.rule.MergeLimitAndRelation;
+import org.opensearch.sql.opensearch.planner.logical.rule.MergeRareTopNAndIndexScan;
+import org.opensearch.sql.opensearch.planner.logical.rule.MergeRareTopNAndRelation;
 import org.opensearch.sql.opensearch.planner.logical.rule.MergeSortAndIndexAgg;
 import org.opensearch.sql.opensearch.planner.logical.rule.MergeSortAndIndexScan;
 import org.opensearch.sql.opensearch.planner.logical.rule.MergeSortAndRelation;
@@ -56,10 +60,14 @@ public class OpenSearchLogicalPlanOptimizerFactory {
         new MergeFilterAndRelation(),
         new MergeAggAndIndexScan(),
         new MergeAggAndRelation(),
+        new MergeRareTopNAndIndexScan(),
+        new MergeRareTopNAndRelation(),
         new MergeSortAndRelation(),
         new MergeSortAndIndexScan(),
         new MergeSortAndIndexAgg(),
         new MergeSortAndIndexScan(),
+        new MergeDedupeAndRelation(),
+        new MergeDedupeAndIndexScan(),
         new MergeLimitAndRelation(),
         new MergeLimitAndIndexScan(),
         new PushProjectAndRelation(),
@@ -0,0 +1,66 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+
+package org.opensearch.sql.opensearch.planner.logical.rule;
+
+import static com.facebook.presto.matching.Pattern.typeOf;
+import static org.opensearch.sql.planner.optimizer.pattern.Patterns.source;
+
+import com.facebook.presto.matching.Capture;
+import com.facebook.presto.matching.Captures;
+import com.facebook.presto.matching.Pattern;
+import lombok.Getter;
+import lombok.experimental.Accessors;
+import org.opensearch.sql.expression.ReferenceExpression;
+import org.opensearch.sql.opensearch.planner.logical.OpenSearchLogicalIndexScan;
+import org.opensearch.sql.planner.logical.LogicalDedupe;
+import org.opensearch.sql.planner.logical.LogicalPlan;
+import org.opensearch.sql.planner.optimizer.Rule;
+
+/**
+ * Merge Dedupe -- IndexScan to IndexScan with field collapsing. The first document for each value
+ * is in the order of sort pushed down already if any.
+ */
+public class MergeDedupeAndIndexScan implements Rule<LogicalDedupe> {
+
+  private final Capture<OpenSearchLogicalIndexScan> capture;
+
+  @Accessors(fluent = true)
+  @Getter
+  private final Pattern<LogicalDedupe> pattern;
+
+  /**
+   * Constructor of MergeDedupeAndIndexScan.
+   */
+  public MergeDedupeAndIndexScan() {
+    this.capture = Capture.newCapture();
+    this.pattern = typeOf(LogicalDedupe.class)
+        .matching(OptimizationRuleUtils::dedupeByCollapsibleFieldOnly)
+        .with(source().matching(typeOf(OpenSearchLogicalIndexScan.class)
+            .matching(indexScan -> !indexScan.hasLimit() && !indexScan.hasCollapse()
+                && !indexScan.hasProjects())
+            .capturedAs(capture)));
+  }
+
+  @Override
+  public LogicalPlan apply(LogicalDedupe dedupe,
+                           Captures captures) {
+    OpenSearchLogicalIndexScan indexScan = captures.get(capture);
+    return OpenSearchLogicalIndexScan
+        .builder()
+        .relationName(indexScan.getRelationName())
+        .filter(indexScan.getFilter())
+        .sortList(indexScan.getSortList())
+        .collapseField((ReferenceExpression) dedupe.getDedupeList().get(0))
+        .build();
+  }
+}
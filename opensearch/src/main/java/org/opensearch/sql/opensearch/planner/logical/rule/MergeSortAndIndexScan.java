@@ -60,7 +60,9 @@ public class MergeSortAndIndexScan implements Rule<LogicalSort> {
     this.indexScanCapture = Capture.newCapture();
     this.pattern = typeOf(LogicalSort.class).matching(OptimizationRuleUtils::sortByFieldsOnly)
         .with(source()
-            .matching(typeOf(OpenSearchLogicalIndexScan.class).capturedAs(indexScanCapture)));
+            .matching(typeOf(OpenSearchLogicalIndexScan.class)
+                .matching(indexScan -> !indexScan.hasCollapse())
+                .capturedAs(indexScanCapture)));
   }
 
   @Override
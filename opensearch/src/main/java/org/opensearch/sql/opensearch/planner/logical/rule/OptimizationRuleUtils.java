@@ -28,15 +28,23 @@
 
 package org.opensearch.sql.opensearch.planner.logical.rule;
 
+import com.google.common.collect.ImmutableSet;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import lombok.experimental.UtilityClass;
+import org.opensearch.sql.ast.tree.RareTopN.CommandType;
 import org.opensearch.sql.ast.tree.Sort;
+import org.opensearch.sql.data.type.ExprCoreType;
+import org.opensearch.sql.data.type.ExprType;
+import org.opensearch.sql.expression.Expression;
 import org.opensearch.sql.expression.ExpressionNodeVisitor;
 import org.opensearch.sql.expression.NamedExpression;
 import org.opensearch.sql.expression.ReferenceExpression;
+import org.opensearch.sql.opensearch.data.type.OpenSearchDataType;
+import org.opensearch.sql.planner.logical.LogicalDedupe;
+import org.opensearch.sql.planner.logical.LogicalRareTopN;
 import org.opensearch.sql.planner.logical.LogicalSort;
 
 @UtilityClass
@@ -68,6 +76,49 @@ public class OptimizationRuleUtils {
         .reduce(true, Boolean::logicalAnd);
   }
 
+  /**
+   * Is the top N on values of single field only. Combination of multiple fields cannot be counted
+   * by terms aggregation. Rare N is not either because terms aggregation in ascending count order
+   * may miss the rarest values of which the count on each shard is not small enough.
+   *
+   * @param rareTopN LogicalRareTopN.
+   * @return true if top command with only one field in field list, otherwise false.
+   */
+  public static boolean topNOnSingleFieldOnly(LogicalRareTopN rareTopN) {
+    return CommandType.TOP.equals(rareTopN.getCommandType())
+        && rareTopN.getFieldList().size() == 1;
+  }
+
+  /**
+   * Field types which have doc values and thus can be collapsed on. Text field is collapsed on its
+   * keyword field.
+   */
+  private static final Set<ExprType> COLLAPSIBLE_TYPES = ImmutableSet.of(
+      ExprCoreType.STRING, OpenSearchDataType.OPENSEARCH_TEXT_KEYWORD,
+      ExprCoreType.BYTE, ExprCoreType.SHORT, ExprCoreType.INTEGER, ExprCoreType.LONG,
+      ExprCoreType.FLOAT, ExprCoreType.DOUBLE, ExprCoreType.TIMESTAMP, ExprCoreType.BOOLEAN,
+      OpenSearchDataType.OPENSEARCH_IP);
+
+  /**
+   * Can the dedupe be executed by field collapsing, which returns the first document for each
+   * value of single field only. Only field of keyword, numeric, date, boolean and ip type, or text
+   * field with keyword field, is supported.
+   *
+   * @param dedupe LogicalDedupe.
+   * @return true if dedupe on single field with default options, otherwise false.
+   */
+  public static boolean dedupeByCollapsibleFieldOnly(LogicalDedupe dedupe) {
+    if (dedupe.getAllowedDuplication() != 1
+        || dedupe.getKeepEmpty()
+        || dedupe.getConsecutive()
+        || dedupe.getDedupeList().size() != 1) {
+      return false;
+    }
+    Expression field = dedupe.getDedupeList().get(0);
+    return (field instanceof ReferenceExpression)
+        && COLLAPSIBLE_TYPES.contains(field.type());
+  }
+
   /**
    * Find reference expression from expression.
    * @param expressions a list of expression.
@@ -29,6 +29,7 @@
 package org.opensearch.sql.opensearch.request;
 
 import com.google.common.annotations.VisibleForTesting;
+import java.util.Optional;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import lombok.EqualsAndHashCode;
@@ -39,6 +40,9 @@ import org.opensearch.action.search.SearchResponse;
 import org.opensearch.action.search.SearchScrollRequest;
 import org.opensearch.common.unit.TimeValue;
 import org.opensearch.search.SearchHits;
+import org.opensearch.search.aggregations.Aggregations;
+import org.opensearch.search.aggregations.bucket.composite.CompositeAggregation;
+import org.opensearch.search.aggregations.bucket.composite.CompositeAggregationBuilder;
 import org.opensearch.search.builder.SearchSourceBuilder;
 import org.opensearch.sql.opensearch.data.value.OpenSearchExprValueFactory;
 import org.opensearch.sql.opensearch.response.OpenSearchResponse;
@@ -101,11 +105,52 @@ public class OpenSearchQueryRequest implements OpenSearchRequest {
     if (searchDone) {
       return new OpenSearchResponse(SearchHits.empty(), exprValueFactory);
     } else {
-      searchDone = true;
-      return new OpenSearchResponse(searchAction.apply(searchRequest()), exprValueFactory);
+      SearchResponse response = searchAction.apply(searchRequest());
+      searchDone = !moveToNextBucketPage(response.getAggregations());
+      return new OpenSearchResponse(response, exprValueFactory);
     }
   }
 
+  /**
+   * Reset the request to search from the first page again, ex. plan reused or explained after
+   * execution, by clearing search done flag and the after key of composite aggregation.
+   */
+  public void reset() {
+    searchDone = false;
+    compositeAggregationBuilder().ifPresent(builder -> builder.aggregateAfter(null));
+  }
+
+  /**
+   * Paginate composite aggregation by setting after key of current page on the builder. The size
+   * of composite aggregation is the page size, so a page not full means no more buckets left.
+   *
+   * @param aggregations aggregation result of current page
+   * @return true if there may be more buckets to fetch
+   */
+  private boolean moveToNextBucketPage(Aggregations aggregations) {
+    Optional<CompositeAggregationBuilder> builder = compositeAggregationBuilder();
+    if (!builder.isPresent() || aggregations == null) {
+      return false;
+    }
+
+    CompositeAggregation composite = aggregations.get(builder.get().getName());
+    if (composite.getBuckets().size() < builder.get().size()) {
+      return false;
+    }
+    builder.get().aggregateAfter(composite.afterKey());
+    return true;
+  }
+
+  private Optional<CompositeAggregationBuilder> compositeAggregationBuilder() {
+    if (sourceBuilder.aggregations() == null) {
+      return Optional.empty();
+    }
+    return sourceBuilder.aggregations().getAggregatorFactories().stream()
+        .filter(CompositeAggregationBuilder.class::isInstance)
+        .map(CompositeAggregationBuilder.class::cast)
+        .findFirst();
+  }
+
   @Override
   public void clean(Consumer<String> cleanAction) {
     //do nothing.
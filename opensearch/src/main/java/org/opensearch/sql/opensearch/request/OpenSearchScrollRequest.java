@@ -32,7 +32,6 @@ import java.util.function.Consumer;
 import java.util.function.Function;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
 import lombok.Setter;
 import lombok.ToString;
 import org.opensearch.action.search.SearchRequest;
@@ -50,7 +49,6 @@ import org.opensearch.sql.opensearch.response.OpenSearchResponse;
  * Maintain scroll ID between calls to client search method
  */
 @EqualsAndHashCode
-@RequiredArgsConstructor
 @Getter
 @ToString
 public class OpenSearchScrollRequest implements OpenSearchRequest {
@@ -73,7 +71,25 @@ public class OpenSearchScrollRequest implements OpenSearchRequest {
   @Setter private String scrollId;
 
   /** Search request source builder. */
-  private final SearchSourceBuilder sourceBuilder = new SearchSourceBuilder();
+  private final SearchSourceBuilder sourceBuilder;
+
+  /**
+   * Constructor of OpenSearchScrollRequest with an empty source builder.
+   */
+  public OpenSearchScrollRequest(String indexName, OpenSearchExprValueFactory exprValueFactory) {
+    this(indexName, new SearchSourceBuilder(), exprValueFactory);
+  }
+
+  /**
+   * Constructor of OpenSearchScrollRequest which continues from the source builder already
+   * populated by push down. The size in source builder is the page size of each scroll.
+   */
+  public OpenSearchScrollRequest(String indexName, SearchSourceBuilder sourceBuilder,
+                                 OpenSearchExprValueFactory exprValueFactory) {
+    this.indexName = indexName;
+    this.sourceBuilder = sourceBuilder;
+    this.exprValueFactory = exprValueFactory;
+  }
 
 
   @Override
@@ -122,8 +122,11 @@ public class OpenSearchDescribeIndexRequest implements OpenSearchSystemRequest {
    * @return mapping of field and type.
    */
   public Map<String, ExprType> getFieldTypes() {
+    return client.getFieldTypes(indexName, this::resolveFieldTypes);
+  }
+
+  private Map<String, ExprType> resolveFieldTypes(Map<String, IndexMapping> indexMappings) {
     Map<String, ExprType> fieldTypes = new HashMap<>();
-    Map<String, IndexMapping> indexMappings = client.getIndexMappings(indexName);
     for (IndexMapping indexMapping : indexMappings.values()) {
       fieldTypes
           .putAll(indexMapping.getAllFieldTypes(this::transformESTypeToExprType).entrySet().stream()
@@ -112,7 +112,7 @@ public class OpenSearchResponse implements Iterable<ExprValue> {
       }).iterator();
     } else {
       return Arrays.stream(hits.getHits())
-          .map(hit -> (ExprValue) exprValueFactory.construct(hit.getSourceAsString())).iterator();
+          .map(hit -> (ExprValue) exprValueFactory.construct(hit.getSourceRef())).iterator();
     }
   }
 }
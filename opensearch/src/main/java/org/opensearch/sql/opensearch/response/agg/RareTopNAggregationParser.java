@@ -0,0 +1,95 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+
+package org.opensearch.sql.opensearch.response.agg;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.apache.commons.lang3.tuple.Pair;
+import org.opensearch.search.aggregations.Aggregations;
+import org.opensearch.search.aggregations.bucket.composite.CompositeAggregation;
+import org.opensearch.search.aggregations.bucket.missing.Missing;
+import org.opensearch.search.aggregations.bucket.terms.Terms;
+import org.opensearch.sql.ast.tree.RareTopN.CommandType;
+import org.opensearch.sql.data.type.ExprCoreType;
+import org.opensearch.sql.data.type.ExprType;
+
+/**
+ * Rare/Top N Aggregation Parser which merges the count of documents without the field into the
+ * values counted by terms aggregation and keeps the first N values in count order, for each
+ * composite bucket if grouped.
+ */
+@RequiredArgsConstructor
+public class RareTopNAggregationParser implements OpenSearchAggregationResponseParser {
+
+  public static final String TERMS_NAME = "rare_top_n";
+
+  public static final String MISSING_NAME = "rare_top_n_missing";
+
+  private final CommandType commandType;
+
+  private final int noOfResults;
+
+  private final String fieldName;
+
+  private final ExprType fieldType;
+
+  @Override
+  public List<Map<String, Object>> parse(Aggregations aggregations) {
+    if (aggregations.get(TERMS_NAME) != null) {
+      return parse(Collections.emptyMap(), aggregations);
+    }
+    return ((CompositeAggregation) aggregations.asList().get(0))
+        .getBuckets().stream()
+        .flatMap(bucket -> parse(bucket.getKey(), bucket.getAggregations()).stream())
+        .collect(Collectors.toList());
+  }
+
+  private List<Map<String, Object>> parse(Map<String, Object> groupKey,
+                                          Aggregations aggregations) {
+    List<Pair<Object, Long>> counts = new ArrayList<>();
+    for (Terms.Bucket bucket : ((Terms) aggregations.get(TERMS_NAME)).getBuckets()) {
+      counts.add(Pair.of(key(bucket), bucket.getDocCount()));
+    }
+    long missingCount = ((Missing) aggregations.get(MISSING_NAME)).getDocCount();
+    if (missingCount > 0) {
+      counts.add(Pair.of(null, missingCount));
+    }
+
+    Comparator<Pair<Object, Long>> countOrder = Comparator.comparing(Pair::getRight);
+    counts.sort(CommandType.TOP.equals(commandType) ? countOrder.reversed() : countOrder);
+    return counts.stream()
+        .limit(noOfResults)
+        .map(count -> {
+          Map<String, Object> resultMap = new HashMap<>(groupKey);
+          resultMap.put(fieldName, count.getLeft());
+          return resultMap;
+        })
+        .collect(Collectors.toList());
+  }
+
+  /**
+   * Terms aggregation on boolean field returns 1 or 0 as bucket key.
+   */
+  private Object key(Terms.Bucket bucket) {
+    if (ExprCoreType.BOOLEAN.equals(fieldType)) {
+      return Boolean.valueOf(bucket.getKeyAsString());
+    }
+    return bucket.getKey();
+  }
+}
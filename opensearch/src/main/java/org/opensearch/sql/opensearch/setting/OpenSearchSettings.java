@@ -42,6 +42,7 @@ import lombok.extern.log4j.Log4j2;
 import org.opensearch.common.settings.ClusterSettings;
 import org.opensearch.common.settings.Setting;
 import org.opensearch.common.unit.MemorySizeValue;
+import org.opensearch.common.unit.TimeValue;
 import org.opensearch.sql.common.setting.LegacySettings;
 import org.opensearch.sql.common.setting.Settings;
 
@@ -54,6 +55,10 @@ public class OpenSearchSettings extends Settings {
    * Default settings.
    */
   private final Map<Settings.Key, Setting<?>> defaultSettings;
+  /**
+   * Default value of each setting, computed once instead of on every read.
+   */
+  private final Map<Settings.Key, Object> defaultValues;
   /**
    * Latest setting value for each registered key. Thread-safe is required.
    */
@@ -106,6 +111,39 @@ public class OpenSearchSettings extends Settings {
       Setting.Property.NodeScope,
       Setting.Property.Dynamic);
 
+  public static final Setting<?> QUERY_SCROLL_ENABLED_SETTING = Setting.boolSetting(
+      Key.QUERY_SCROLL_ENABLED.getKeyValue(),
+      false,
+      Setting.Property.NodeScope,
+      Setting.Property.Dynamic);
+
+  public static final Setting<?> QUERY_BUCKET_PAGE_SIZE_SETTING = Setting.intSetting(
+      Key.QUERY_BUCKET_PAGE_SIZE.getKeyValue(),
+      1000,
+      1,
+      Setting.Property.NodeScope,
+      Setting.Property.Dynamic);
+
+  public static final Setting<?> QUERY_SORT_SPILL_THRESHOLD_SETTING = Setting.intSetting(
+      Key.QUERY_SORT_SPILL_THRESHOLD.getKeyValue(),
+      100000,
+      1,
+      Setting.Property.NodeScope,
+      Setting.Property.Dynamic);
+
+  public static final Setting<?> QUERY_ADMISSION_MAX_COST_SETTING = Setting.intSetting(
+      Key.QUERY_ADMISSION_MAX_COST.getKeyValue(),
+      16,
+      1,
+      Setting.Property.NodeScope,
+      Setting.Property.Dynamic);
+
+  public static final Setting<?> QUERY_ADMISSION_TIMEOUT_SETTING = Setting.positiveTimeSetting(
+      Key.QUERY_ADMISSION_TIMEOUT.getKeyValue(),
+      TimeValue.timeValueSeconds(30),
+      Setting.Property.NodeScope,
+      Setting.Property.Dynamic);
+
   public static final Setting<?> METRICS_ROLLING_WINDOW_SETTING = Setting.longSetting(
       Key.METRICS_ROLLING_WINDOW.getKeyValue(),
       LegacyOpenDistroSettings.METRICS_ROLLING_WINDOW_SETTING,
@@ -141,17 +179,30 @@ public class OpenSearchSettings extends Settings {
         QUERY_MEMORY_LIMIT_SETTING, new Updater(Key.QUERY_MEMORY_LIMIT));
     register(settingBuilder, clusterSettings, Key.QUERY_SIZE_LIMIT,
         QUERY_SIZE_LIMIT_SETTING, new Updater(Key.QUERY_SIZE_LIMIT));
+    register(settingBuilder, clusterSettings, Key.QUERY_SCROLL_ENABLED,
+        QUERY_SCROLL_ENABLED_SETTING, new Updater(Key.QUERY_SCROLL_ENABLED));
+    register(settingBuilder, clusterSettings, Key.QUERY_BUCKET_PAGE_SIZE,
+        QUERY_BUCKET_PAGE_SIZE_SETTING, new Updater(Key.QUERY_BUCKET_PAGE_SIZE));
+    register(settingBuilder, clusterSettings, Key.QUERY_SORT_SPILL_THRESHOLD,
+        QUERY_SORT_SPILL_THRESHOLD_SETTING, new Updater(Key.QUERY_SORT_SPILL_THRESHOLD));
+    register(settingBuilder, clusterSettings, Key.QUERY_ADMISSION_MAX_COST,
+        QUERY_ADMISSION_MAX_COST_SETTING, new Updater(Key.QUERY_ADMISSION_MAX_COST));
+    register(settingBuilder, clusterSettings, Key.QUERY_ADMISSION_TIMEOUT,
+        QUERY_ADMISSION_TIMEOUT_SETTING, new Updater(Key.QUERY_ADMISSION_TIMEOUT));
     register(settingBuilder, clusterSettings, Key.METRICS_ROLLING_WINDOW,
         METRICS_ROLLING_WINDOW_SETTING, new Updater(Key.METRICS_ROLLING_WINDOW));
     register(settingBuilder, clusterSettings, Key.METRICS_ROLLING_INTERVAL,
         METRICS_ROLLING_INTERVAL_SETTING, new Updater(Key.METRICS_ROLLING_INTERVAL));
     defaultSettings = settingBuilder.build();
+    defaultValues = defaultSettings.entrySet().stream().collect(ImmutableMap.toImmutableMap(
+        Map.Entry::getKey, entry -> entry.getValue().getDefault(EMPTY)));
   }
 
   @SuppressWarnings("unchecked")
   @Override
   public <T> T getSettingValue(Settings.Key key) {
-    return (T) latestSettings.getOrDefault(key, defaultSettings.get(key).getDefault(EMPTY));
+    Object value = latestSettings.get(key);
+    return (T) (value != null ? value : defaultValues.get(key));
   }
 
   /**
@@ -194,6 +245,11 @@ public class OpenSearchSettings extends Settings {
         .add(PPL_ENABLED_SETTING)
         .add(QUERY_MEMORY_LIMIT_SETTING)
         .add(QUERY_SIZE_LIMIT_SETTING)
+        .add(QUERY_SCROLL_ENABLED_SETTING)
+        .add(QUERY_BUCKET_PAGE_SIZE_SETTING)
+        .add(QUERY_SORT_SPILL_THRESHOLD_SETTING)
+        .add(QUERY_ADMISSION_MAX_COST_SETTING)
+        .add(QUERY_ADMISSION_TIMEOUT_SETTING)
         .add(METRICS_ROLLING_WINDOW_SETTING)
         .add(METRICS_ROLLING_INTERVAL_SETTING)
         .build();
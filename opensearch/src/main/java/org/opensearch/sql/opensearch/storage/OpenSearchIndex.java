@@ -28,8 +28,12 @@
 package org.opensearch.sql.opensearch.storage;
 
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.apache.commons.lang3.tuple.Pair;
@@ -38,9 +42,14 @@ import org.opensearch.search.aggregations.AggregationBuilder;
 import org.opensearch.sql.common.setting.Settings;
 import org.opensearch.sql.common.utils.StringUtils;
 import org.opensearch.sql.data.type.ExprType;
+import org.opensearch.sql.expression.DSL;
+import org.opensearch.sql.expression.NamedExpression;
+import org.opensearch.sql.expression.ReferenceExpression;
+import org.opensearch.sql.expression.function.BuiltinFunctionRepository;
 import org.opensearch.sql.opensearch.client.OpenSearchClient;
 import org.opensearch.sql.opensearch.data.value.OpenSearchExprValueFactory;
 import org.opensearch.sql.opensearch.planner.logical.OpenSearchLogicalIndexAgg;
+import org.opensearch.sql.opensearch.planner.logical.OpenSearchLogicalIndexRareTopN;
 import org.opensearch.sql.opensearch.planner.logical.OpenSearchLogicalIndexScan;
 import org.opensearch.sql.opensearch.planner.logical.OpenSearchLogicalPlanOptimizerFactory;
 import org.opensearch.sql.opensearch.request.system.OpenSearchDescribeIndexRequest;
@@ -48,10 +57,12 @@ import org.opensearch.sql.opensearch.response.agg.OpenSearchAggregationResponseP
 import org.opensearch.sql.opensearch.storage.script.aggregation.AggregationQueryBuilder;
 import org.opensearch.sql.opensearch.storage.script.filter.FilterQueryBuilder;
 import org.opensearch.sql.opensearch.storage.script.sort.SortQueryBuilder;
-import org.opensearch.sql.opensearch.storage.serialization.DefaultExpressionSerializer;
+import org.opensearch.sql.opensearch.storage.serialization.CompactExpressionSerializer;
+import org.opensearch.sql.opensearch.storage.serialization.ExpressionSerializer;
 import org.opensearch.sql.planner.DefaultImplementor;
 import org.opensearch.sql.planner.logical.LogicalPlan;
 import org.opensearch.sql.planner.logical.LogicalRelation;
+import org.opensearch.sql.planner.physical.DedupeOperator;
 import org.opensearch.sql.planner.physical.PhysicalPlan;
 import org.opensearch.sql.storage.Table;
 
@@ -67,6 +78,9 @@ public class OpenSearchIndex implements Table {
   /** Current OpenSearch index name. */
   private final String indexName;
 
+  /** Function repository to resolve function in expression pushed down. */
+  private final BuiltinFunctionRepository functionRepository;
+
   /**
    * The cached mapping of field and type in index.
    */
@@ -98,7 +112,7 @@ public class OpenSearchIndex implements Table {
      * aggregation, filter, will accumulate (push down) OpenSearch query and aggregation DSL on
      * index scan.
      */
-    return plan.accept(new OpenSearchDefaultImplementor(indexScan), indexScan);
+    return plan.accept(new OpenSearchDefaultImplementor(indexScan, functionRepository), indexScan);
   }
 
   @Override
@@ -107,17 +121,29 @@ public class OpenSearchIndex implements Table {
   }
 
   @VisibleForTesting
-  @RequiredArgsConstructor
   public static class OpenSearchDefaultImplementor
       extends DefaultImplementor<OpenSearchIndexScan> {
     private final OpenSearchIndexScan indexScan;
 
+    private final BuiltinFunctionRepository functionRepository;
+
+    private final ExpressionSerializer serializer;
+
+    public OpenSearchDefaultImplementor(OpenSearchIndexScan indexScan,
+                                        BuiltinFunctionRepository functionRepository) {
+      this.indexScan = indexScan;
+      this.functionRepository = functionRepository;
+      this.serializer = new CompactExpressionSerializer(functionRepository);
+    }
+
     @Override
     public PhysicalPlan visitNode(LogicalPlan plan, OpenSearchIndexScan context) {
       if (plan instanceof OpenSearchLogicalIndexScan) {
         return visitIndexScan((OpenSearchLogicalIndexScan) plan, context);
       } else if (plan instanceof OpenSearchLogicalIndexAgg) {
         return visitIndexAggregation((OpenSearchLogicalIndexAgg) plan, context);
+      } else if (plan instanceof OpenSearchLogicalIndexRareTopN) {
+        return visitIndexRareTopN((OpenSearchLogicalIndexRareTopN) plan, context);
       } else {
         throw new IllegalStateException(StringUtils.format("unexpected plan node type %s",
             plan.getClass()));
@@ -137,19 +163,32 @@ public class OpenSearchIndex implements Table {
       }
 
       if (null != node.getFilter()) {
-        FilterQueryBuilder queryBuilder = new FilterQueryBuilder(new DefaultExpressionSerializer());
+        FilterQueryBuilder queryBuilder = new FilterQueryBuilder(serializer, functionRepository);
         QueryBuilder query = queryBuilder.build(node.getFilter());
         context.pushDown(query);
+        context.addScriptFilters(queryBuilder.getScriptFilters());
       }
 
       if (node.getLimit() != null) {
         context.pushDownLimit(node.getLimit(), node.getOffset());
       }
 
+      PhysicalPlan plan = indexScan;
+      Set<ReferenceExpression> projects = node.getProjectList();
+      if (node.hasCollapse()) {
+        if (context.canPushDownCollapse()) {
+          context.pushDownCollapse(node.getCollapseField());
+        } else {
+          plan = new DedupeOperator(indexScan, ImmutableList.of(node.getCollapseField()));
+          projects = (projects == null) ? null : ImmutableSet.<ReferenceExpression>builder()
+              .addAll(projects).add(node.getCollapseField()).build();
+        }
+      }
+
       if (node.hasProjects()) {
-        context.pushDownProjects(node.getProjectList());
+        context.pushDownProjects(projects);
       }
-      return indexScan;
+      return plan;
     }
 
     /**
@@ -158,13 +197,13 @@ public class OpenSearchIndex implements Table {
     public PhysicalPlan visitIndexAggregation(OpenSearchLogicalIndexAgg node,
                                               OpenSearchIndexScan context) {
       if (node.getFilter() != null) {
-        FilterQueryBuilder queryBuilder = new FilterQueryBuilder(
-            new DefaultExpressionSerializer());
+        FilterQueryBuilder queryBuilder = new FilterQueryBuilder(serializer, functionRepository);
         QueryBuilder query = queryBuilder.build(node.getFilter());
         context.pushDown(query);
+        context.addScriptFilters(queryBuilder.getScriptFilters());
       }
       AggregationQueryBuilder builder =
-          new AggregationQueryBuilder(new DefaultExpressionSerializer());
+          new AggregationQueryBuilder(serializer, functionRepository);
       Pair<List<AggregationBuilder>, OpenSearchAggregationResponseParser> aggregationBuilder =
           builder.buildAggregationBuilder(node.getAggregatorList(),
               node.getGroupByList(), node.getSortList());
@@ -175,6 +214,34 @@ public class OpenSearchIndex implements Table {
       return indexScan;
     }
 
+    /**
+     * Implement OpenSearchLogicalIndexRareTopN.
+     */
+    public PhysicalPlan visitIndexRareTopN(OpenSearchLogicalIndexRareTopN node,
+                                           OpenSearchIndexScan context) {
+      if (node.getFilter() != null) {
+        FilterQueryBuilder queryBuilder = new FilterQueryBuilder(serializer, functionRepository);
+        QueryBuilder query = queryBuilder.build(node.getFilter());
+        context.pushDown(query);
+        context.addScriptFilters(queryBuilder.getScriptFilters());
+      }
+      List<NamedExpression> groupByList = node.getGroupByList().stream()
+          .map(expr -> DSL.named(expr.toString(), expr))
+          .collect(Collectors.toList());
+      AggregationQueryBuilder builder =
+          new AggregationQueryBuilder(serializer, functionRepository);
+      context.pushDownAggregation(
+          builder.buildRareTopNAggregationBuilder(node.getCommandType(),
+              node.getNoOfResults(), node.getField(), groupByList));
+      context.pushTypeMapping(
+          builder.buildTypeMapping(Collections.emptyList(),
+              ImmutableList.<NamedExpression>builder()
+                  .addAll(groupByList)
+                  .add(DSL.named(node.getField().toString(), node.getField()))
+                  .build()));
+      return indexScan;
+    }
+
     @Override
     public PhysicalPlan visitRelation(LogicalRelation node, OpenSearchIndexScan context) {
       return indexScan;
@@ -30,8 +30,8 @@ package org.opensearch.sql.opensearch.storage;
 import static org.opensearch.search.sort.FieldSortBuilder.DOC_FIELD_NAME;
 import static org.opensearch.search.sort.SortOrder.ASC;
 
-import com.google.common.collect.Iterables;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -45,7 +45,9 @@ import org.opensearch.index.query.BoolQueryBuilder;
 import org.opensearch.index.query.QueryBuilder;
 import org.opensearch.index.query.QueryBuilders;
 import org.opensearch.search.aggregations.AggregationBuilder;
+import org.opensearch.search.aggregations.bucket.composite.CompositeAggregationBuilder;
 import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.search.collapse.CollapseBuilder;
 import org.opensearch.search.sort.SortBuilder;
 import org.opensearch.sql.common.setting.Settings;
 import org.opensearch.sql.data.model.ExprValue;
@@ -55,8 +57,10 @@ import org.opensearch.sql.opensearch.client.OpenSearchClient;
 import org.opensearch.sql.opensearch.data.value.OpenSearchExprValueFactory;
 import org.opensearch.sql.opensearch.request.OpenSearchQueryRequest;
 import org.opensearch.sql.opensearch.request.OpenSearchRequest;
+import org.opensearch.sql.opensearch.request.OpenSearchScrollRequest;
 import org.opensearch.sql.opensearch.response.OpenSearchResponse;
 import org.opensearch.sql.opensearch.response.agg.OpenSearchAggregationResponseParser;
+import org.opensearch.sql.opensearch.storage.script.ScriptUtils;
 import org.opensearch.sql.storage.TableScanOperator;
 
 /**
@@ -69,15 +73,32 @@ public class OpenSearchIndexScan extends TableScanOperator {
   /** OpenSearch client. */
   private final OpenSearchClient client;
 
+  /** Settings. */
+  private final Settings settings;
+
   /** Search request. */
   @EqualsAndHashCode.Include
   @Getter
   @ToString.Include
-  private final OpenSearchRequest request;
+  private OpenSearchRequest request;
+
+  /** Indicate if limit (size and from) has been pushed down to request. */
+  private boolean isLimitPushedDown = false;
+
+  /** Indicate if all batches have been fetched. */
+  private boolean isDone;
 
   /** Search response for current batch. */
   private Iterator<ExprValue> iterator;
 
+  /** Filter conditions pushed down as script query rather than Lucene query. */
+  @Getter
+  private final List<String> scriptFilters = new ArrayList<>();
+
+  /** Nanoseconds spent on waiting for search response of all batches. */
+  @Getter
+  private long searchTime;
+
   /**
    * Todo.
    */
@@ -85,6 +106,7 @@ public class OpenSearchIndexScan extends TableScanOperator {
                              Settings settings, String indexName,
                              OpenSearchExprValueFactory exprValueFactory) {
     this.client = client;
+    this.settings = settings;
     this.request = new OpenSearchQueryRequest(indexName,
             settings.getSettingValue(Settings.Key.QUERY_SIZE_LIMIT), exprValueFactory);
   }
@@ -93,18 +115,27 @@ public class OpenSearchIndexScan extends TableScanOperator {
   public void open() {
     super.open();
 
-    // For now pull all results immediately once open
-    List<OpenSearchResponse> responses = new ArrayList<>();
-    OpenSearchResponse response = client.search(request);
-    while (!response.isEmpty()) {
-      responses.add(response);
-      response = client.search(request);
+    if (request instanceof OpenSearchQueryRequest) {
+      ((OpenSearchQueryRequest) request).reset();
+    }
+    if (isScrollable()) {
+      request = new OpenSearchScrollRequest(
+          ((OpenSearchQueryRequest) request).getIndexName(),
+          request.getSourceBuilder(),
+          request.getExprValueFactory());
     }
-    iterator = Iterables.concat(responses.toArray(new OpenSearchResponse[0])).iterator();
+
+    // Only the first batch is fetched on open. The rest is fetched lazily by hasNext().
+    isDone = false;
+    iterator = Collections.emptyIterator();
+    fetchNextBatch();
   }
 
   @Override
   public boolean hasNext() {
+    while (!iterator.hasNext() && !isDone) {
+      fetchNextBatch();
+    }
     return iterator.hasNext();
   }
 
@@ -113,6 +144,49 @@ public class OpenSearchIndexScan extends TableScanOperator {
     return iterator.next();
   }
 
+  /**
+   * Fetch next batch and release the previous one which has been consumed already.
+   */
+  private void fetchNextBatch() {
+    long startTime = System.nanoTime();
+    OpenSearchResponse response = client.search(request);
+    searchTime += System.nanoTime() - startTime;
+    if (response.isEmpty()) {
+      isDone = true;
+      iterator = Collections.emptyIterator();
+    } else {
+      iterator = response.iterator();
+    }
+  }
+
+  /**
+   * Scroll through all matching documents page by page (size limit as page size) if enabled,
+   * unless the result is bounded by aggregation or limit pushed down already. Field collapsing
+   * is not supported by scroll either.
+   */
+  private boolean isScrollable() {
+    SearchSourceBuilder source = request.getSourceBuilder();
+    return isScrollEnabled()
+        && (request instanceof OpenSearchQueryRequest)
+        && !isLimitPushedDown
+        && (source.aggregations() == null)
+        && (source.collapse() == null);
+  }
+
+  private boolean isScrollEnabled() {
+    return Boolean.TRUE.equals(settings.getSettingValue(Settings.Key.QUERY_SCROLL_ENABLED));
+  }
+
+  /**
+   * Can field collapsing be pushed down. Because it is not supported by scroll, the collapsed
+   * result would be truncated at size limit if scroll is enabled and no limit pushed down.
+   *
+   * @return true if scroll is disabled or limit is pushed down already, otherwise false
+   */
+  public boolean canPushDownCollapse() {
+    return isLimitPushedDown || !isScrollEnabled();
+  }
+
   /**
    * Push down query to DSL request.
    * @param query  query request
@@ -139,13 +213,28 @@ public class OpenSearchIndexScan extends TableScanOperator {
   }
 
   /**
-   * Push down aggregation to DSL request.
+   * Add filter conditions pushed down as script query for explain.
+   * @param filters  filter conditions
+   */
+  public void addScriptFilters(List<String> filters) {
+    scriptFilters.addAll(filters);
+  }
+
+  /**
+   * Push down aggregation to DSL request. Composite aggregation is fetched page by page
+   * and the page size is configured by bucket page size setting.
    * @param aggregationBuilder pair of aggregation query and aggregation parser.
    */
   public void pushDownAggregation(
       Pair<List<AggregationBuilder>, OpenSearchAggregationResponseParser> aggregationBuilder) {
     SearchSourceBuilder source = request.getSourceBuilder();
-    aggregationBuilder.getLeft().forEach(builder -> source.aggregation(builder));
+    for (AggregationBuilder builder : aggregationBuilder.getLeft()) {
+      if (builder instanceof CompositeAggregationBuilder) {
+        ((CompositeAggregationBuilder) builder).size(
+            settings.getSettingValue(Settings.Key.QUERY_BUCKET_PAGE_SIZE));
+      }
+      source.aggregation(builder);
+    }
     source.size(0);
     request.getExprValueFactory().setParser(aggregationBuilder.getRight());
   }
@@ -162,12 +251,25 @@ public class OpenSearchIndexScan extends TableScanOperator {
     }
   }
 
+  /**
+   * Push down dedupe as field collapsing to DSL request. Document without the field is excluded
+   * as what dedupe does without keepempty option.
+   *
+   * @param field field to collapse on
+   */
+  public void pushDownCollapse(ReferenceExpression field) {
+    String fieldName = ScriptUtils.convertTextToKeyword(field.getAttr(), field.type());
+    pushDown(QueryBuilders.existsQuery(fieldName));
+    request.getSourceBuilder().collapse(new CollapseBuilder(fieldName));
+  }
+
   /**
    * Push down size (limit) and from (offset) to DSL request.
    */
   public void pushDownLimit(Integer limit, Integer offset) {
     SearchSourceBuilder sourceBuilder = request.getSourceBuilder();
     sourceBuilder.from(offset).size(limit);
+    isLimitPushedDown = true;
   }
 
   /**
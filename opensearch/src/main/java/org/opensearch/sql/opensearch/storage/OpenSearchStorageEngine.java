@@ -31,6 +31,7 @@ import static org.opensearch.sql.utils.SystemIndexUtils.isSystemIndex;
 
 import lombok.RequiredArgsConstructor;
 import org.opensearch.sql.common.setting.Settings;
+import org.opensearch.sql.expression.function.BuiltinFunctionRepository;
 import org.opensearch.sql.opensearch.client.OpenSearchClient;
 import org.opensearch.sql.opensearch.storage.system.OpenSearchSystemIndex;
 import org.opensearch.sql.storage.StorageEngine;
@@ -45,12 +46,15 @@ public class OpenSearchStorageEngine implements StorageEngine {
 
   private final Settings settings;
 
+  /** Function repository to resolve function in expression pushed down. */
+  private final BuiltinFunctionRepository functionRepository;
+
   @Override
   public Table getTable(String name) {
     if (isSystemIndex(name)) {
       return new OpenSearchSystemIndex(client, name);
     } else {
-      return new OpenSearchIndex(client, settings, name);
+      return new OpenSearchIndex(client, settings, name, functionRepository);
     }
   }
 }
@@ -27,11 +27,12 @@
 
 package org.opensearch.sql.opensearch.storage.script;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.google.common.collect.ImmutableMap;
 import java.util.Map;
 import java.util.Set;
 import java.util.function.Function;
-import lombok.RequiredArgsConstructor;
 import org.opensearch.script.AggregationScript;
 import org.opensearch.script.FilterScript;
 import org.opensearch.script.ScriptContext;
@@ -45,7 +46,6 @@ import org.opensearch.sql.opensearch.storage.serialization.ExpressionSerializer;
  * Custom expression script engine that supports using core engine expression code in DSL
  * as a new script language just like built-in Painless language.
  */
-@RequiredArgsConstructor
 public class ExpressionScriptEngine implements ScriptEngine {
 
   /**
@@ -62,11 +62,31 @@ public class ExpressionScriptEngine implements ScriptEngine {
           .put(AggregationScript.CONTEXT, ExpressionAggregationScriptFactory::new)
           .build();
 
+  /**
+   * Max number of deserialized expressions cached.
+   */
+  private static final int EXPRESSION_CACHE_SIZE = 1000;
+
   /**
    * Expression serializer that (de-)serializes expression.
    */
   private final ExpressionSerializer serializer;
 
+  /**
+   * Deserialized expression by script code, least recently used one is evicted when full.
+   */
+  private final Cache<String, Expression> expressionCache;
+
+  /**
+   * Constructor of ExpressionScriptEngine.
+   */
+  public ExpressionScriptEngine(ExpressionSerializer serializer) {
+    this.serializer = serializer;
+    this.expressionCache = CacheBuilder.newBuilder()
+        .maximumSize(EXPRESSION_CACHE_SIZE)
+        .build();
+  }
+
   @Override
   public String getType() {
     return EXPRESSION_LANG_NAME;
@@ -77,18 +97,26 @@ public class ExpressionScriptEngine implements ScriptEngine {
                        String scriptCode,
                        ScriptContext<T> context,
                        Map<String, String> params) {
-    /*
-     * Note that in fact the expression source is already compiled in query engine.
-     * The "code" is actually a serialized expression tree by our serializer.
-     * Therefore the compilation here is simply to deserialize the expression tree.
-     */
-    Expression expression = serializer.deserialize(scriptCode);
+    if (!CONTEXTS.containsKey(context)) {
+      throw new IllegalStateException(String.format("Script context is currently not supported: "
+          + "all supported contexts [%s], given context [%s] ", CONTEXTS, context));
+    }
+    return context.factoryClazz.cast(CONTEXTS.get(context).apply(deserialize(scriptCode)));
+  }
 
-    if (CONTEXTS.containsKey(context)) {
-      return context.factoryClazz.cast(CONTEXTS.get(context).apply(expression));
+  /**
+   * Note that in fact the expression source is already compiled in query engine.
+   * The "code" is actually a serialized expression tree by our serializer.
+   * Therefore the compilation here is simply to deserialize the expression tree,
+   * which is cached because the same script is compiled again on each shard and query.
+   */
+  private Expression deserialize(String scriptCode) {
+    Expression expression = expressionCache.getIfPresent(scriptCode);
+    if (expression == null) {
+      expression = serializer.deserialize(scriptCode);
+      expressionCache.put(scriptCode, expression);
     }
-    throw new IllegalStateException(String.format("Script context is currently not supported: "
-        + "all supported contexts [%s], given context [%s] ", CONTEXTS, context));
+    return expression;
   }
 
   @Override
@@ -44,6 +44,7 @@ import org.opensearch.search.aggregations.AggregationBuilder;
 import org.opensearch.search.aggregations.AggregationBuilders;
 import org.opensearch.search.aggregations.AggregatorFactories;
 import org.opensearch.search.sort.SortOrder;
+import org.opensearch.sql.ast.tree.RareTopN.CommandType;
 import org.opensearch.sql.ast.tree.Sort;
 import org.opensearch.sql.data.type.ExprType;
 import org.opensearch.sql.expression.Expression;
@@ -51,12 +52,15 @@ import org.opensearch.sql.expression.ExpressionNodeVisitor;
 import org.opensearch.sql.expression.NamedExpression;
 import org.opensearch.sql.expression.ReferenceExpression;
 import org.opensearch.sql.expression.aggregation.NamedAggregator;
+import org.opensearch.sql.expression.function.BuiltinFunctionRepository;
 import org.opensearch.sql.opensearch.response.agg.CompositeAggregationParser;
 import org.opensearch.sql.opensearch.response.agg.MetricParser;
 import org.opensearch.sql.opensearch.response.agg.NoBucketAggregationParser;
 import org.opensearch.sql.opensearch.response.agg.OpenSearchAggregationResponseParser;
+import org.opensearch.sql.opensearch.response.agg.RareTopNAggregationParser;
 import org.opensearch.sql.opensearch.storage.script.aggregation.dsl.BucketAggregationBuilder;
 import org.opensearch.sql.opensearch.storage.script.aggregation.dsl.MetricAggregationBuilder;
+import org.opensearch.sql.opensearch.storage.script.aggregation.dsl.RareTopNAggregationBuilder;
 import org.opensearch.sql.opensearch.storage.serialization.ExpressionSerializer;
 
 /**
@@ -67,7 +71,7 @@ import org.opensearch.sql.opensearch.storage.serialization.ExpressionSerializer;
 public class AggregationQueryBuilder extends ExpressionNodeVisitor<AggregationBuilder, Object> {
 
   /**
-   * How many composite buckets should be returned.
+   * How many composite buckets should be returned in one page by default.
    */
   public static final int AGGREGATION_BUCKET_SIZE = 1000;
 
@@ -81,10 +85,16 @@ public class AggregationQueryBuilder extends ExpressionNodeVisitor<AggregationBu
    */
   private final MetricAggregationBuilder metricBuilder;
 
+  /**
+   * Rare/Top N Aggregation builder.
+   */
+  private final RareTopNAggregationBuilder rareTopNBuilder;
+
   public AggregationQueryBuilder(
-      ExpressionSerializer serializer) {
+      ExpressionSerializer serializer, BuiltinFunctionRepository repository) {
     this.bucketBuilder = new BucketAggregationBuilder(serializer);
-    this.metricBuilder = new MetricAggregationBuilder(serializer);
+    this.metricBuilder = new MetricAggregationBuilder(serializer, repository);
+    this.rareTopNBuilder = new RareTopNAggregationBuilder(serializer);
   }
 
   /** Build AggregationBuilder. */
@@ -119,6 +129,39 @@ public class AggregationQueryBuilder extends ExpressionNodeVisitor<AggregationBu
     }
   }
 
+  /**
+   * Build AggregationBuilder for rare/top N values of the field in each group. The groups are
+   * fetched page by page by composite aggregation as above.
+   */
+  public Pair<List<AggregationBuilder>, OpenSearchAggregationResponseParser>
+      buildRareTopNAggregationBuilder(
+          CommandType commandType,
+          Integer noOfResults,
+          Expression field,
+          List<NamedExpression> groupByList) {
+
+    final AggregatorFactories.Builder rareTopN =
+        rareTopNBuilder.build(noOfResults, field);
+    final RareTopNAggregationParser parser =
+        new RareTopNAggregationParser(commandType, noOfResults, field.toString(), field.type());
+
+    if (groupByList.isEmpty()) {
+      return Pair.of(ImmutableList.copyOf(rareTopN.getAggregatorFactories()), parser);
+    } else {
+      return Pair.of(
+          Collections.singletonList(
+              AggregationBuilders.composite(
+                      "composite_buckets",
+                      bucketBuilder.build(
+                          groupByList.stream()
+                              .map(expr -> Pair.of(expr, SortOrder.ASC))
+                              .collect(Collectors.toList())))
+                  .subAggregations(rareTopN)
+                  .size(AGGREGATION_BUCKET_SIZE)),
+          parser);
+    }
+  }
+
   /**
    * Build ElasticsearchExprValueFactory.
    */
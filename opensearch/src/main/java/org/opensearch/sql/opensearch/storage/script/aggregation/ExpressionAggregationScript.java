@@ -62,6 +62,12 @@ public class ExpressionAggregationScript extends AggregationScript {
     this.expressionScript = new ExpressionScript(expression);
   }
 
+  @Override
+  public void setDocument(int docid) {
+    super.setDocument(docid);
+    expressionScript.setDocument(docid);
+  }
+
   @Override
   public Object execute() {
     return expressionScript.execute(this::getDoc, this::evaluateExpression).value();
@@ -46,6 +46,7 @@ import org.opensearch.sql.expression.ExpressionNodeVisitor;
 import org.opensearch.sql.expression.LiteralExpression;
 import org.opensearch.sql.expression.ReferenceExpression;
 import org.opensearch.sql.expression.aggregation.NamedAggregator;
+import org.opensearch.sql.expression.function.BuiltinFunctionRepository;
 import org.opensearch.sql.opensearch.response.agg.FilterParser;
 import org.opensearch.sql.opensearch.response.agg.MetricParser;
 import org.opensearch.sql.opensearch.response.agg.SingleValueParser;
@@ -65,9 +66,10 @@ public class MetricAggregationBuilder
   /**
    * Constructor.
    */
-  public MetricAggregationBuilder(ExpressionSerializer serializer) {
+  public MetricAggregationBuilder(ExpressionSerializer serializer,
+                                  BuiltinFunctionRepository repository) {
     this.helper = new AggregationBuilderHelper(serializer);
-    this.filterBuilder = new FilterQueryBuilder(serializer);
+    this.filterBuilder = new FilterQueryBuilder(serializer, repository);
   }
 
   /**
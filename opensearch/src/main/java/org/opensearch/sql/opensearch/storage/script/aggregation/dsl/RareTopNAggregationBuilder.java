@@ -0,0 +1,62 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+
+package org.opensearch.sql.opensearch.storage.script.aggregation.dsl;
+
+import static org.opensearch.sql.opensearch.response.agg.RareTopNAggregationParser.MISSING_NAME;
+import static org.opensearch.sql.opensearch.response.agg.RareTopNAggregationParser.TERMS_NAME;
+
+import org.opensearch.search.aggregations.AggregationBuilders;
+import org.opensearch.search.aggregations.AggregatorFactories;
+import org.opensearch.search.aggregations.BucketOrder;
+import org.opensearch.search.aggregations.bucket.missing.MissingAggregationBuilder;
+import org.opensearch.search.aggregations.bucket.terms.TermsAggregationBuilder;
+import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.opensearch.storage.serialization.ExpressionSerializer;
+
+/**
+ * Top N Aggregation Builder. Values of the field are counted by terms aggregation in descending
+ * document count order, along with missing aggregation that counts documents without the field
+ * which is ignored by terms aggregation. The count is approximate if the index has more than one
+ * shard, because each shard only returns its own top values. More values than N are requested
+ * from each shard to reduce the error.
+ */
+public class RareTopNAggregationBuilder {
+
+  /**
+   * Number of values requested from each shard is N times this factor plus the base below.
+   */
+  private static final long SHARD_SIZE_FACTOR = 5;
+
+  private static final long SHARD_SIZE_BASE = 100;
+
+  private final AggregationBuilderHelper helper;
+
+  public RareTopNAggregationBuilder(
+      ExpressionSerializer serializer) {
+    this.helper = new AggregationBuilderHelper(serializer);
+  }
+
+  /**
+   * Build the terms and missing aggregation on the field.
+   */
+  public AggregatorFactories.Builder build(int size, Expression field) {
+    TermsAggregationBuilder terms = AggregationBuilders.terms(TERMS_NAME)
+        .size(size)
+        .shardSize((int) Math.min(Integer.MAX_VALUE, size * SHARD_SIZE_FACTOR + SHARD_SIZE_BASE))
+        .order(BucketOrder.count(false));
+    MissingAggregationBuilder missing = AggregationBuilders.missing(MISSING_NAME);
+    return new AggregatorFactories.Builder()
+        .addAggregator(helper.build(field, terms::field, terms::script))
+        .addAggregator(helper.build(field, missing::field, missing::script));
+  }
+}
@@ -32,9 +32,11 @@ import static java.util.stream.Collectors.toMap;
 import static org.opensearch.sql.data.type.ExprCoreType.FLOAT;
 import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
 
+import java.io.IOException;
 import java.security.AccessController;
 import java.security.PrivilegedAction;
 import java.time.chrono.ChronoZonedDateTime;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
@@ -55,6 +57,8 @@ import org.opensearch.sql.opensearch.storage.script.ScriptUtils;
 /**
  * Expression script executor that executes the expression on each document
  * and determine if the document is supposed to be filtered out or not.
+ * The instance is created per leaf reader and reused for all documents in it,
+ * therefore the doc values and value environment are resolved once and reused.
  */
 @EqualsAndHashCode(callSuper = false)
 public class ExpressionScript {
@@ -74,18 +78,58 @@ public class ExpressionScript {
    * Reference Fields.
    */
   @EqualsAndHashCode.Exclude
-  private final Set<ReferenceExpression> fields;
+  private final ReferenceExpression[] fields;
+
+  /**
+   * Doc value name of each reference field in the same position.
+   */
+  @EqualsAndHashCode.Exclude
+  private final String[] docValueNames;
+
+  /**
+   * Doc values of each reference field in the same position resolved on first execution.
+   */
+  @EqualsAndHashCode.Exclude
+  private ScriptDocValues<?>[] docValues;
+
+  /**
+   * Current doc id and if the resolved doc values need to be advanced to it.
+   */
+  @EqualsAndHashCode.Exclude
+  private int docId;
+
+  @EqualsAndHashCode.Exclude
+  private boolean docChanged;
+
+  /**
+   * Field values of current document which is reused across documents.
+   */
+  @EqualsAndHashCode.Exclude
+  private final Map<Expression, ExprValue> valueMap = new HashMap<>();
 
   /**
    * Expression constructor.
    */
   public ExpressionScript(Expression expression) {
     this.expression = expression;
-    this.fields = AccessController.doPrivileged((PrivilegedAction<Set<ReferenceExpression>>) () ->
-        extractFields(expression));
+    this.fields = AccessController.doPrivileged(
+        (PrivilegedAction<ReferenceExpression[]>) () -> extractFields(expression));
     this.valueFactory =
         AccessController.doPrivileged(
             (PrivilegedAction<OpenSearchExprValueFactory>) () -> buildValueFactory(fields));
+    this.docValueNames = new String[fields.length];
+    for (int i = 0; i < fields.length; i++) {
+      docValueNames[i] = getDocValueName(fields[i]);
+    }
+  }
+
+  /**
+   * Set current document which the doc values are advanced to on next execution.
+   * @param docId doc id in current leaf
+   */
+  public void setDocument(int docId) {
+    this.docId = docId;
+    this.docChanged = true;
   }
 
   /**
@@ -99,14 +143,13 @@ public class ExpressionScript {
                              Environment<Expression,
                                  ExprValue>, ExprValue> evaluator) {
     return AccessController.doPrivileged((PrivilegedAction<ExprValue>) () -> {
-      Environment<Expression, ExprValue> valueEnv =
-          buildValueEnv(fields, valueFactory, docProvider);
+      Environment<Expression, ExprValue> valueEnv = buildValueEnv(docProvider);
       ExprValue result = evaluator.apply(expression, valueEnv);
       return result;
     });
   }
 
-  private Set<ReferenceExpression> extractFields(Expression expr) {
+  private ReferenceExpression[] extractFields(Expression expr) {
     Set<ReferenceExpression> fields = new HashSet<>();
     expr.accept(new ExpressionNodeVisitor<Object, Set<ReferenceExpression>>() {
       @Override
@@ -115,11 +158,11 @@ public class ExpressionScript {
         return null;
       }
     }, fields);
-    return fields;
+    return fields.toArray(new ReferenceExpression[0]);
   }
 
-  private OpenSearchExprValueFactory buildValueFactory(Set<ReferenceExpression> fields) {
-    Map<String, ExprType> typeEnv = fields.stream()
+  private OpenSearchExprValueFactory buildValueFactory(ReferenceExpression[] fields) {
+    Map<String, ExprType> typeEnv = Arrays.stream(fields)
         .collect(toMap(
             ReferenceExpression::getAttr,
             ReferenceExpression::type));
@@ -127,23 +170,50 @@ public class ExpressionScript {
   }
 
   private Environment<Expression, ExprValue> buildValueEnv(
-      Set<ReferenceExpression> fields, OpenSearchExprValueFactory valueFactory,
       Supplier<Map<String, ScriptDocValues<?>>> docProvider) {
-
-    Map<Expression, ExprValue> valueEnv = new HashMap<>();
-    for (ReferenceExpression field : fields) {
-      String fieldName = field.getAttr();
-      ExprValue exprValue = valueFactory.construct(fieldName, getDocValue(field, docProvider));
-      valueEnv.put(field, exprValue);
+    loadDocValues(docProvider);
+    for (int i = 0; i < fields.length; i++) {
+      ReferenceExpression field = fields[i];
+      ExprValue exprValue = valueFactory.construct(field.getAttr(), getDocValue(field, i));
+      valueMap.put(field, exprValue);
     }
     // Encapsulate map data structure into anonymous Environment class
-    return valueEnv::get;
+    return valueMap::get;
+  }
+
+  /**
+   * Resolve doc values by name only once which are positioned on current document by doc lookup.
+   * Afterwards advance the resolved doc values directly whenever document changed.
+   */
+  private void loadDocValues(Supplier<Map<String, ScriptDocValues<?>>> docProvider) {
+    if (docValues == null) {
+      docValues = new ScriptDocValues<?>[fields.length];
+      for (int i = 0; i < fields.length; i++) {
+        docValues[i] = docProvider.get().get(docValueNames[i]);
+      }
+    } else if (docChanged) {
+      for (ScriptDocValues<?> docValue : docValues) {
+        advance(docValue);
+      }
+    }
+    docChanged = false;
+  }
+
+  private void advance(ScriptDocValues<?> docValue) {
+    if (docValue == null) {
+      return;
+    }
+
+    try {
+      docValue.setNextDocId(docId);
+    } catch (IOException e) {
+      throw new IllegalStateException(
+          String.format("Failed to read doc values of document [%d]", docId), e);
+    }
   }
 
-  private Object getDocValue(ReferenceExpression field,
-                             Supplier<Map<String, ScriptDocValues<?>>> docProvider) {
-    String fieldName = getDocValueName(field);
-    ScriptDocValues<?> docValue = docProvider.get().get(fieldName);
+  private Object getDocValue(ReferenceExpression field, int index) {
+    ScriptDocValues<?> docValue = docValues[index];
     if (docValue == null || docValue.isEmpty()) {
       return null; // No way to differentiate null and missing from doc value
     }
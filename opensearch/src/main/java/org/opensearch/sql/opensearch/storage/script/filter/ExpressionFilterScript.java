@@ -59,6 +59,12 @@ class ExpressionFilterScript extends FilterScript {
     this.expressionScript = new ExpressionScript(expression);
   }
 
+  @Override
+  public void setDocument(int docid) {
+    super.setDocument(docid);
+    expressionScript.setDocument(docid);
+  }
+
   @Override
   public boolean execute() {
     return expressionScript.execute(this::getDoc, this::evaluateExpression).booleanValue();
@@ -29,26 +29,39 @@ package org.opensearch.sql.opensearch.storage.script.filter;
 
 import static java.util.Collections.emptyMap;
 import static org.opensearch.script.Script.DEFAULT_SCRIPT_TYPE;
+import static org.opensearch.sql.data.model.ExprValueUtils.LITERAL_TRUE;
 import static org.opensearch.sql.opensearch.storage.script.ExpressionScriptEngine.EXPRESSION_LANG_NAME;
 
 import com.google.common.collect.ImmutableMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.function.BiFunction;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.opensearch.index.query.BoolQueryBuilder;
 import org.opensearch.index.query.QueryBuilder;
 import org.opensearch.index.query.QueryBuilders;
+import org.opensearch.index.query.RangeQueryBuilder;
 import org.opensearch.index.query.ScriptQueryBuilder;
 import org.opensearch.script.Script;
 import org.opensearch.sql.expression.Expression;
 import org.opensearch.sql.expression.ExpressionNodeVisitor;
 import org.opensearch.sql.expression.FunctionExpression;
+import org.opensearch.sql.expression.LiteralExpression;
+import org.opensearch.sql.expression.ReferenceExpression;
 import org.opensearch.sql.expression.function.BuiltinFunctionName;
+import org.opensearch.sql.expression.function.BuiltinFunctionRepository;
 import org.opensearch.sql.expression.function.FunctionName;
+import org.opensearch.sql.opensearch.storage.script.filter.lucene.ExistsQuery;
 import org.opensearch.sql.opensearch.storage.script.filter.lucene.LuceneQuery;
+import org.opensearch.sql.opensearch.storage.script.filter.lucene.NotEqualQuery;
 import org.opensearch.sql.opensearch.storage.script.filter.lucene.RangeQuery;
 import org.opensearch.sql.opensearch.storage.script.filter.lucene.RangeQuery.Comparison;
 import org.opensearch.sql.opensearch.storage.script.filter.lucene.TermQuery;
+import org.opensearch.sql.opensearch.storage.script.filter.lucene.TermsQuery;
 import org.opensearch.sql.opensearch.storage.script.filter.lucene.WildcardQuery;
 import org.opensearch.sql.opensearch.storage.script.filter.lucene.relevance.MatchQuery;
 import org.opensearch.sql.opensearch.storage.serialization.ExpressionSerializer;
@@ -56,17 +69,39 @@ import org.opensearch.sql.opensearch.storage.serialization.ExpressionSerializer;
 @RequiredArgsConstructor
 public class FilterQueryBuilder extends ExpressionNodeVisitor<QueryBuilder, Object> {
 
+  /**
+   * Comparison and its equivalent with arguments swapped.
+   */
+  private static final Map<FunctionName, FunctionName> MIRRORED_COMPARISONS =
+      ImmutableMap.<FunctionName, FunctionName>builder()
+          .put(BuiltinFunctionName.EQUAL.getName(), BuiltinFunctionName.EQUAL.getName())
+          .put(BuiltinFunctionName.NOTEQUAL.getName(), BuiltinFunctionName.NOTEQUAL.getName())
+          .put(BuiltinFunctionName.LESS.getName(), BuiltinFunctionName.GREATER.getName())
+          .put(BuiltinFunctionName.GREATER.getName(), BuiltinFunctionName.LESS.getName())
+          .put(BuiltinFunctionName.LTE.getName(), BuiltinFunctionName.GTE.getName())
+          .put(BuiltinFunctionName.GTE.getName(), BuiltinFunctionName.LTE.getName())
+          .build();
+
   /**
    * Serializer that serializes expression for build DSL query.
    */
   private final ExpressionSerializer serializer;
 
+  /**
+   * Function repository to resolve mirrored comparison.
+   */
+  private final BuiltinFunctionRepository repository;
+
   /**
    * Mapping from function name to lucene query builder.
    */
   private final Map<FunctionName, LuceneQuery> luceneQueries =
       ImmutableMap.<FunctionName, LuceneQuery>builder()
           .put(BuiltinFunctionName.EQUAL.getName(), new TermQuery())
+          .put(BuiltinFunctionName.NOTEQUAL.getName(), new NotEqualQuery())
+          .put(BuiltinFunctionName.IS_NULL.getName(), new ExistsQuery(false))
+          .put(BuiltinFunctionName.ISNULL.getName(), new ExistsQuery(false))
+          .put(BuiltinFunctionName.IS_NOT_NULL.getName(), new ExistsQuery(true))
           .put(BuiltinFunctionName.LESS.getName(), new RangeQuery(Comparison.LT))
           .put(BuiltinFunctionName.GREATER.getName(), new RangeQuery(Comparison.GT))
           .put(BuiltinFunctionName.LTE.getName(), new RangeQuery(Comparison.LTE))
@@ -78,6 +113,17 @@ public class FilterQueryBuilder extends ExpressionNodeVisitor<QueryBuilder, Obje
           .put(BuiltinFunctionName.MATCHQUERY.getName(), new MatchQuery())
           .build();
 
+  /**
+   * Lucene query for disjunction of equality comparisons on the same field.
+   */
+  private final TermsQuery termsQuery = new TermsQuery();
+
+  /**
+   * Conditions that cannot be translated to Lucene query and are built as script query.
+   */
+  @Getter
+  private final List<String> scriptFilters = new ArrayList<>();
+
   /**
    * Build OpenSearch filter query from expression.
    * @param expr  expression
@@ -87,20 +133,35 @@ public class FilterQueryBuilder extends ExpressionNodeVisitor<QueryBuilder, Obje
     return expr.accept(this, null);
   }
 
+  /**
+   * Condition folded to constant, ex. 1 = 1 or 1 = 2, matches either all or no documents.
+   */
+  @Override
+  public QueryBuilder visitLiteral(LiteralExpression node, Object context) {
+    if (LITERAL_TRUE.equals(node.valueOf(null))) {
+      return QueryBuilders.matchAllQuery();
+    }
+    return QueryBuilders.boolQuery().mustNot(QueryBuilders.matchAllQuery());
+  }
+
   @Override
   public QueryBuilder visitFunction(FunctionExpression func, Object context) {
     FunctionName name = func.getFunctionName();
     switch (name.getFunctionName()) {
       case "and":
-        return buildBoolQuery(func, context, BoolQueryBuilder::filter);
+        return buildAndQuery(func, context);
       case "or":
+        if (termsQuery.canSupport(func)) {
+          return termsQuery.build(func);
+        }
         return buildBoolQuery(func, context, BoolQueryBuilder::should);
       case "not":
         return buildBoolQuery(func, context, BoolQueryBuilder::mustNot);
       default: {
-        LuceneQuery query = luceneQueries.get(name);
-        if (query != null && query.canSupport(func)) {
-          return query.build(func);
+        FunctionExpression mirrored = mirror(func);
+        LuceneQuery query = luceneQueries.get(mirrored.getFunctionName());
+        if (query != null && query.canSupport(mirrored)) {
+          return query.build(mirrored);
         }
         return buildScriptQuery(func);
       }
@@ -118,7 +179,60 @@ public class FilterQueryBuilder extends ExpressionNodeVisitor<QueryBuilder, Obje
     return boolQuery;
   }
 
+  /**
+   * Build bool query for conjunction in which comparisons on the same field are merged into single
+   * range query where possible, ex. a >= 1 AND a <= 10 which is what BETWEEN is equivalent to.
+   */
+  private BoolQueryBuilder buildAndQuery(FunctionExpression node, Object context) {
+    BoolQueryBuilder boolQuery = QueryBuilders.boolQuery();
+    Map<String, RangeQueryBuilder> ranges = new HashMap<>();
+    for (Expression arg : node.getArguments()) {
+      if (!mergeRangeQuery(arg, ranges)) {
+        QueryBuilder query = arg.accept(this, context);
+        if (query instanceof RangeQueryBuilder) {
+          RangeQueryBuilder range = (RangeQueryBuilder) query;
+          ranges.putIfAbsent(range.fieldName(), range);
+        }
+        boolQuery.filter(query);
+      }
+    }
+    return boolQuery;
+  }
+
+  private boolean mergeRangeQuery(Expression expr, Map<String, RangeQueryBuilder> ranges) {
+    if (!(expr instanceof FunctionExpression)) {
+      return false;
+    }
+
+    FunctionExpression func = mirror((FunctionExpression) expr);
+    LuceneQuery query = luceneQueries.get(func.getFunctionName());
+    if (!(query instanceof RangeQuery) || !query.canSupport(func)) {
+      return false;
+    }
+
+    String fieldName = ((ReferenceExpression) func.getArguments().get(0)).getAttr();
+    RangeQueryBuilder range = ranges.get(fieldName);
+    return (range != null) && ((RangeQuery) query).merge(range, func);
+  }
+
+  /**
+   * Mirror comparison with literal on the left so that field is on the left, ex. 30 < age into
+   * age > 30, because Lucene query is only built for comparison with field on the left.
+   */
+  private FunctionExpression mirror(FunctionExpression func) {
+    FunctionName mirrored = MIRRORED_COMPARISONS.get(func.getFunctionName());
+    List<Expression> arguments = func.getArguments();
+    if (mirrored != null
+        && arguments.get(0) instanceof LiteralExpression
+        && arguments.get(1) instanceof ReferenceExpression) {
+      return (FunctionExpression) repository.compile(
+          mirrored, Arrays.asList(arguments.get(1), arguments.get(0)));
+    }
+    return func;
+  }
+
   private ScriptQueryBuilder buildScriptQuery(FunctionExpression node) {
+    scriptFilters.add(node.toString());
     return new ScriptQueryBuilder(new Script(
         DEFAULT_SCRIPT_TYPE, EXPRESSION_LANG_NAME, serializer.serialize(node), emptyMap()));
   }
@@ -0,0 +1,45 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.sql.opensearch.storage.script.filter.lucene;
+
+import lombok.RequiredArgsConstructor;
+import org.opensearch.index.query.QueryBuilder;
+import org.opensearch.index.query.QueryBuilders;
+import org.opensearch.sql.expression.FunctionExpression;
+import org.opensearch.sql.expression.ReferenceExpression;
+
+/**
+ * Lucene query that builds exists query for IS NOT NULL and its negation for IS NULL. Field value
+ * missing is taken as null, the same as in script query.
+ */
+@RequiredArgsConstructor
+public class ExistsQuery extends LuceneQuery {
+
+  /**
+   * True to match document with the field present, otherwise match document without.
+   */
+  private final boolean exists;
+
+  @Override
+  public boolean canSupport(FunctionExpression func) {
+    return (func.getArguments().size() == 1)
+        && (func.getArguments().get(0) instanceof ReferenceExpression);
+  }
+
+  @Override
+  public QueryBuilder build(FunctionExpression func) {
+    ReferenceExpression ref = (ReferenceExpression) func.getArguments().get(0);
+    QueryBuilder query = QueryBuilders.existsQuery(convertTextToKeyword(ref.getAttr(), ref.type()));
+    return exists ? query : QueryBuilders.boolQuery().mustNot(query);
+  }
+
+}
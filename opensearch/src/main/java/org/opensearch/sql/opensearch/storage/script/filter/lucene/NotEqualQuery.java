@@ -0,0 +1,33 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.sql.opensearch.storage.script.filter.lucene;
+
+import org.opensearch.index.query.QueryBuilder;
+import org.opensearch.index.query.QueryBuilders;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.data.type.ExprType;
+
+/**
+ * Lucene query that builds negated term query for inequality comparison. Document without the
+ * field is excluded because comparison with null is never true.
+ */
+public class NotEqualQuery extends LuceneQuery {
+
+  @Override
+  protected QueryBuilder doBuild(String fieldName, ExprType fieldType, ExprValue literal) {
+    fieldName = convertTextToKeyword(fieldName, fieldType);
+    return QueryBuilders.boolQuery()
+        .filter(QueryBuilders.existsQuery(fieldName))
+        .mustNot(QueryBuilders.termQuery(fieldName, literal.value()));
+  }
+
+}
@@ -33,6 +33,8 @@ import org.opensearch.index.query.QueryBuilders;
 import org.opensearch.index.query.RangeQueryBuilder;
 import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.data.type.ExprType;
+import org.opensearch.sql.expression.FunctionExpression;
+import org.opensearch.sql.expression.LiteralExpression;
 
 /**
  * Lucene query that builds range query for non-quality comparison.
@@ -68,4 +70,28 @@ public class RangeQuery extends LuceneQuery {
     }
   }
 
+  /**
+   * Merge the comparison into range query built on the same field before, ex. a >= 1 AND a <= 10
+   * into single range query.
+   *
+   * @param range range query on the same field
+   * @param func  comparison between the field and literal
+   * @return      true if merged, or false if the bound of the same side is present already
+   */
+  public boolean merge(RangeQueryBuilder range, FunctionExpression func) {
+    Object value = ((LiteralExpression) func.getArguments().get(1)).valueOf(null).value();
+    if (comparison == Comparison.GT || comparison == Comparison.GTE) {
+      if (range.from() != null) {
+        return false;
+      }
+      range.from(value, comparison == Comparison.GTE);
+    } else {
+      if (range.to() != null) {
+        return false;
+      }
+      range.to(value, comparison == Comparison.LTE);
+    }
+    return true;
+  }
+
 }
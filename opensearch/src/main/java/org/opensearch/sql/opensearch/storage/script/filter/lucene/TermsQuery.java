@@ -0,0 +1,87 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.sql.opensearch.storage.script.filter.lucene;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.opensearch.index.query.QueryBuilder;
+import org.opensearch.index.query.QueryBuilders;
+import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.expression.FunctionExpression;
+import org.opensearch.sql.expression.LiteralExpression;
+import org.opensearch.sql.expression.ReferenceExpression;
+import org.opensearch.sql.expression.function.BuiltinFunctionName;
+
+/**
+ * Lucene query that builds terms query for disjunction of equality comparisons on the same field,
+ * ex. a = 1 OR a = 2 OR a = 3 which is what IN (...) list is equivalent to.
+ */
+public class TermsQuery extends LuceneQuery {
+
+  private final TermQuery termQuery = new TermQuery();
+
+  /**
+   * Supported if all the nested OR operands are equality comparisons between the same field and
+   * literal.
+   */
+  @Override
+  public boolean canSupport(FunctionExpression func) {
+    List<FunctionExpression> equalities = new ArrayList<>();
+    if (!collectEqualities(func, equalities)) {
+      return false;
+    }
+
+    Expression field = equalities.get(0).getArguments().get(0);
+    return equalities.stream().allMatch(
+        equality -> termQuery.canSupport(equality)
+            && field.equals(equality.getArguments().get(0)));
+  }
+
+  @Override
+  public QueryBuilder build(FunctionExpression func) {
+    List<FunctionExpression> equalities = new ArrayList<>();
+    collectEqualities(func, equalities);
+
+    ReferenceExpression ref = (ReferenceExpression) equalities.get(0).getArguments().get(0);
+    List<Object> values = new ArrayList<>();
+    for (FunctionExpression equality : equalities) {
+      values.add(((LiteralExpression) equality.getArguments().get(1)).valueOf(null).value());
+    }
+    return QueryBuilders.termsQuery(convertTextToKeyword(ref.getAttr(), ref.type()), values);
+  }
+
+  /**
+   * Collect operands of nested OR into the list.
+   * @return false if any operand is not equality comparison
+   */
+  private boolean collectEqualities(Expression expr, List<FunctionExpression> equalities) {
+    if (!(expr instanceof FunctionExpression)) {
+      return false;
+    }
+
+    FunctionExpression func = (FunctionExpression) expr;
+    if (func.getFunctionName().equals(BuiltinFunctionName.OR.getName())) {
+      for (Expression arg : func.getArguments()) {
+        if (!collectEqualities(arg, equalities)) {
+          return false;
+        }
+      }
+      return true;
+    }
+    if (func.getFunctionName().equals(BuiltinFunctionName.EQUAL.getName())) {
+      equalities.add(func);
+      return true;
+    }
+    return false;
+  }
+
+}
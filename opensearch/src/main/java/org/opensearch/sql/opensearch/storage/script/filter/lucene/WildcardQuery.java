@@ -33,20 +33,94 @@ import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.data.type.ExprType;
 
 /**
- * Lucene query that builds wildcard query.
+ * Lucene query that builds wildcard query, or prefix query if the pattern only ends with %
+ * which avoids iterating over all the terms in the field. Pattern without any wildcard, ex. all
+ * escaped, is built as term query. Wildcard escaped by backslash is matched literally.
  */
 public class WildcardQuery extends LuceneQuery {
 
+  private static final char ESCAPE = '\\';
+
   @Override
   protected QueryBuilder doBuild(String fieldName, ExprType fieldType, ExprValue literal) {
     fieldName = convertTextToKeyword(fieldName, fieldType);
-    String matchText = convertSqlWildcardToLucene(literal.stringValue());
-    return QueryBuilders.wildcardQuery(fieldName, matchText);
+    String pattern = literal.stringValue();
+    int firstWildcard = indexOfWildcard(pattern);
+    if (firstWildcard < 0) {
+      return QueryBuilders.termQuery(fieldName, unescape(pattern));
+    }
+    if (isPrefixPattern(pattern, firstWildcard)) {
+      return QueryBuilders.prefixQuery(fieldName, unescape(pattern.substring(0, firstWildcard)));
+    }
+    return QueryBuilders.wildcardQuery(fieldName, convertSqlWildcardToLucene(pattern));
+  }
+
+  private boolean isPrefixPattern(String pattern, int firstWildcard) {
+    return (firstWildcard > 0) && (firstWildcard == pattern.length() - 1)
+        && (pattern.charAt(firstWildcard) == '%');
+  }
+
+  /**
+   * Find the first wildcard not escaped.
+   */
+  private int indexOfWildcard(String text) {
+    boolean escaped = false;
+    for (int i = 0; i < text.length(); i++) {
+      char c = text.charAt(i);
+      if (escaped) {
+        escaped = false;
+      } else if (c == ESCAPE) {
+        escaped = true;
+      } else if (c == '%' || c == '_') {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * Remove escape characters from text without wildcard.
+   */
+  private String unescape(String text) {
+    StringBuilder result = new StringBuilder(text.length());
+    boolean escaped = false;
+    for (char c : text.toCharArray()) {
+      if (!escaped && c == ESCAPE) {
+        escaped = true;
+      } else {
+        result.append(c);
+        escaped = false;
+      }
+    }
+    return result.toString();
   }
 
+  /**
+   * Convert SQL wildcard not escaped to Lucene wildcard, and escape Lucene wildcard and escape
+   * character which are matched literally in SQL.
+   */
   private String convertSqlWildcardToLucene(String text) {
-    return text.replace('%', '*')
-               .replace('_', '?');
+    StringBuilder result = new StringBuilder(text.length());
+    boolean escaped = false;
+    for (char c : text.toCharArray()) {
+      if (!escaped && c == ESCAPE) {
+        escaped = true;
+        continue;
+      }
+
+      if (!escaped && c == '%') {
+        result.append('*');
+      } else if (!escaped && c == '_') {
+        result.append('?');
+      } else {
+        if (c == '*' || c == '?' || c == ESCAPE) {
+          result.append(ESCAPE);
+        }
+        result.append(c);
+      }
+      escaped = false;
+    }
+    return result.toString();
   }
 
 }
@@ -0,0 +1,202 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.sql.opensearch.storage.serialization;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import org.opensearch.sql.data.type.ExprCoreType;
+import org.opensearch.sql.data.type.ExprType;
+import org.opensearch.sql.data.utils.ExprValueCodec;
+import org.opensearch.sql.exception.ExpressionEvaluationException;
+import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.expression.FunctionExpression;
+import org.opensearch.sql.expression.LiteralExpression;
+import org.opensearch.sql.expression.ReferenceExpression;
+import org.opensearch.sql.expression.function.BuiltinFunctionRepository;
+import org.opensearch.sql.expression.function.FunctionName;
+import org.opensearch.sql.opensearch.data.type.OpenSearchDataType;
+
+/**
+ * Serializer that (de-)serializes expressions in a compact versioned binary format.
+ * Literal, reference and function expression are encoded by their content directly, for example
+ * function expression is encoded by function name and arguments and then resolved again in
+ * function repository on deserialization. Any other expression, or function that can't be
+ * resolved to the same expression, is encoded by JDK serialization as fallback.
+ * Code serialized by {@link DefaultExpressionSerializer} can still be deserialized.
+ */
+public class CompactExpressionSerializer implements ExpressionSerializer {
+
+  /**
+   * Version of the encoding written as first byte.
+   */
+  private static final byte VERSION = 1;
+
+  /**
+   * First byte of JDK serialization stream magic number.
+   */
+  private static final byte JDK_SERIALIZATION_MAGIC = (byte) 0xAC;
+
+  private static final byte LITERAL = 0;
+  private static final byte REFERENCE = 1;
+  private static final byte FUNCTION = 2;
+  private static final byte SERIALIZED = 3;
+
+  private static final byte CORE_TYPE = 0;
+  private static final byte OPENSEARCH_TYPE = 1;
+
+  /**
+   * Function repository to resolve function expression on deserialization.
+   */
+  private final BuiltinFunctionRepository repository;
+
+  private final DefaultExpressionSerializer legacySerializer = new DefaultExpressionSerializer();
+
+  public CompactExpressionSerializer(BuiltinFunctionRepository repository) {
+    this.repository = repository;
+  }
+
+  @Override
+  public String serialize(Expression expr) {
+    try {
+      ByteArrayOutputStream output = new ByteArrayOutputStream();
+      DataOutputStream dataOutput = new DataOutputStream(output);
+      dataOutput.writeByte(VERSION);
+      encode(expr, dataOutput);
+      dataOutput.flush();
+      return Base64.getEncoder().encodeToString(output.toByteArray());
+    } catch (IOException e) {
+      throw new IllegalStateException("Failed to serialize expression: " + expr, e);
+    }
+  }
+
+  @Override
+  public Expression deserialize(String code) {
+    try {
+      byte[] bytes = Base64.getDecoder().decode(code);
+      if (bytes.length > 0 && bytes[0] == JDK_SERIALIZATION_MAGIC) {
+        return legacySerializer.deserialize(code);
+      }
+
+      DataInputStream input = new DataInputStream(new ByteArrayInputStream(bytes));
+      byte version = input.readByte();
+      if (version != VERSION) {
+        throw new IOException(String.format("unsupported version [%d] of code", version));
+      }
+      return decode(input);
+    } catch (Exception e) {
+      throw new IllegalStateException("Failed to deserialize expression code: " + code, e);
+    }
+  }
+
+  private void encode(Expression expr, DataOutput output) throws IOException {
+    if (expr.getClass() == LiteralExpression.class) {
+      output.writeByte(LITERAL);
+      ExprValueCodec.encode(expr.valueOf(null), output);
+    } else if (expr.getClass() == ReferenceExpression.class && isEncodable(expr.type())) {
+      ReferenceExpression ref = (ReferenceExpression) expr;
+      output.writeByte(REFERENCE);
+      output.writeUTF(ref.getAttr());
+      output.writeInt(ref.getPaths().size());
+      for (String path : ref.getPaths()) {
+        output.writeUTF(path);
+      }
+      encodeType(ref.type(), output);
+    } else if (expr instanceof FunctionExpression && isResolvable((FunctionExpression) expr)) {
+      FunctionExpression func = (FunctionExpression) expr;
+      output.writeByte(FUNCTION);
+      output.writeUTF(func.getFunctionName().getFunctionName());
+      output.writeInt(func.getArguments().size());
+      for (Expression arg : func.getArguments()) {
+        encode(arg, output);
+      }
+    } else {
+      output.writeByte(SERIALIZED);
+      ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+      ObjectOutputStream objectOutput = new ObjectOutputStream(bytes);
+      objectOutput.writeObject(expr);
+      objectOutput.flush();
+      output.writeInt(bytes.size());
+      output.write(bytes.toByteArray());
+    }
+  }
+
+  private Expression decode(DataInput input) throws IOException, ClassNotFoundException {
+    byte tag = input.readByte();
+    switch (tag) {
+      case LITERAL:
+        return new LiteralExpression(ExprValueCodec.decode(input));
+      case REFERENCE:
+        String attr = input.readUTF();
+        List<String> paths = new ArrayList<>();
+        for (int i = input.readInt(); i > 0; i--) {
+          paths.add(input.readUTF());
+        }
+        return new ReferenceExpression(attr, paths, decodeType(input));
+      case FUNCTION:
+        FunctionName functionName = FunctionName.of(input.readUTF());
+        List<Expression> arguments = new ArrayList<>();
+        for (int i = input.readInt(); i > 0; i--) {
+          arguments.add(decode(input));
+        }
+        return (Expression) repository.compile(functionName, arguments);
+      case SERIALIZED:
+        byte[] bytes = new byte[input.readInt()];
+        input.readFully(bytes);
+        ObjectInputStream objectInput = new ObjectInputStream(new ByteArrayInputStream(bytes));
+        return (Expression) objectInput.readObject();
+      default:
+        throw new IOException(String.format("unknown tag [%d] of encoded expression", tag));
+    }
+  }
+
+  /**
+   * Function is encoded by name only if it is resolved to the same expression again.
+   * Otherwise, for example function not registered or arguments cast differently,
+   * the function expression has to be serialized as a whole.
+   */
+  private boolean isResolvable(FunctionExpression func) {
+    try {
+      return func.equals(repository.compile(func.getFunctionName(), func.getArguments()));
+    } catch (ExpressionEvaluationException e) {
+      return false;
+    }
+  }
+
+  private boolean isEncodable(ExprType type) {
+    return type instanceof ExprCoreType || type instanceof OpenSearchDataType;
+  }
+
+  private void encodeType(ExprType type, DataOutput output) throws IOException {
+    output.writeByte(type instanceof ExprCoreType ? CORE_TYPE : OPENSEARCH_TYPE);
+    output.writeUTF(((Enum<?>) type).name());
+  }
+
+  private ExprType decodeType(DataInput input) throws IOException {
+    byte tag = input.readByte();
+    String name = input.readUTF();
+    if (tag == CORE_TYPE) {
+      return ExprCoreType.valueOf(name);
+    }
+    return OpenSearchDataType.valueOf(name);
+  }
+
+}
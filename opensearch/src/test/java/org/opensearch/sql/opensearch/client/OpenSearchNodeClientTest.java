@@ -29,6 +29,7 @@ package org.opensearch.sql.opensearch.client;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Answers.RETURNS_DEEP_STUBS;
@@ -51,6 +52,8 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
 import org.apache.lucene.search.TotalHits;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -70,19 +73,25 @@ import org.opensearch.cluster.metadata.IndexMetadata;
 import org.opensearch.cluster.metadata.MappingMetadata;
 import org.opensearch.cluster.metadata.Metadata;
 import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.bytes.BytesArray;
+import org.opensearch.common.bytes.BytesReference;
 import org.opensearch.common.collect.ImmutableOpenMap;
 import org.opensearch.common.util.concurrent.ThreadContext;
 import org.opensearch.common.xcontent.DeprecationHandler;
 import org.opensearch.common.xcontent.NamedXContentRegistry;
 import org.opensearch.common.xcontent.XContentParser;
 import org.opensearch.common.xcontent.XContentType;
+import org.opensearch.index.Index;
 import org.opensearch.index.IndexNotFoundException;
 import org.opensearch.search.SearchHit;
 import org.opensearch.search.SearchHits;
 import org.opensearch.sql.data.model.ExprIntegerValue;
 import org.opensearch.sql.data.model.ExprTupleValue;
 import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.data.type.ExprCoreType;
+import org.opensearch.sql.data.type.ExprType;
 import org.opensearch.sql.opensearch.data.value.OpenSearchExprValueFactory;
+import org.opensearch.sql.opensearch.mapping.IndexFieldTypeCache;
 import org.opensearch.sql.opensearch.mapping.IndexMapping;
 import org.opensearch.sql.opensearch.request.OpenSearchScrollRequest;
 import org.opensearch.sql.opensearch.response.OpenSearchResponse;
@@ -154,6 +163,31 @@ class OpenSearchNodeClientTest {
     assertEquals(0, indexMapping.size());
   }
 
+  @Test
+  public void getFieldTypesFromCache() throws IOException {
+    URL url = Resources.getResource(TEST_MAPPING_FILE);
+    String mappings = Resources.toString(url, Charsets.UTF_8);
+    String indexName = "test";
+    ClusterService clusterService = mockClusterService(indexName, mappings);
+    IndexMetadata indexMetadata = mock(IndexMetadata.class);
+    when(indexMetadata.getIndex()).thenReturn(new Index(indexName, "uuid"));
+    when(clusterService.state().metadata().index(indexName)).thenReturn(indexMetadata);
+    OpenSearchNodeClient client =
+        new OpenSearchNodeClient(clusterService, nodeClient, new IndexFieldTypeCache());
+
+    AtomicInteger resolveCount = new AtomicInteger();
+    Function<Map<String, IndexMapping>, Map<String, ExprType>> resolver = indexMappings -> {
+      resolveCount.incrementAndGet();
+      assertEquals(18, indexMappings.get(indexName).size());
+      return ImmutableMap.of("age", ExprCoreType.INTEGER);
+    };
+
+    Map<String, ExprType> fieldTypes = client.getFieldTypes(indexName, resolver);
+    assertSame(fieldTypes, client.getFieldTypes(indexName, resolver));
+    assertEquals(ImmutableMap.of("age", ExprCoreType.INTEGER), fieldTypes);
+    assertEquals(1, resolveCount.get());
+  }
+
   @Test
   public void getIndexMappingsWithIOException() {
     String indexName = "test";
@@ -192,8 +226,8 @@ class OpenSearchNodeClientTest {
                 new SearchHit[] {searchHit},
                 new TotalHits(1L, TotalHits.Relation.EQUAL_TO),
                 1.0F));
-    when(searchHit.getSourceAsString()).thenReturn("{\"id\", 1}");
-    when(factory.construct(any())).thenReturn(exprTupleValue);
+    when(searchHit.getSourceRef()).thenReturn(new BytesArray("{\"id\", 1}"));
+    when(factory.construct(any(BytesReference.class))).thenReturn(exprTupleValue);
 
     // Mock second scroll request followed
     SearchResponse scrollResponse = mock(SearchResponse.class);
@@ -64,6 +64,8 @@ import org.opensearch.client.indices.GetMappingsRequest;
 import org.opensearch.client.indices.GetMappingsResponse;
 import org.opensearch.cluster.metadata.IndexMetadata;
 import org.opensearch.cluster.metadata.MappingMetadata;
+import org.opensearch.common.bytes.BytesArray;
+import org.opensearch.common.bytes.BytesReference;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.xcontent.DeprecationHandler;
 import org.opensearch.common.xcontent.NamedXContentRegistry;
@@ -161,8 +163,8 @@ class OpenSearchRestClientTest {
                 new SearchHit[] {searchHit},
                 new TotalHits(1L, TotalHits.Relation.EQUAL_TO),
                 1.0F));
-    when(searchHit.getSourceAsString()).thenReturn("{\"id\", 1}");
-    when(factory.construct(any())).thenReturn(exprTupleValue);
+    when(searchHit.getSourceRef()).thenReturn(new BytesArray("{\"id\", 1}"));
+    when(factory.construct(any(BytesReference.class))).thenReturn(exprTupleValue);
 
     // Mock second scroll request followed
     SearchResponse scrollResponse = mock(SearchResponse.class);
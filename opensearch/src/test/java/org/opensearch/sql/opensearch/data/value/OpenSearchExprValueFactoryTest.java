@@ -62,12 +62,17 @@ import static org.opensearch.sql.opensearch.data.type.OpenSearchDataType.OPENSEA
 
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
+import java.io.IOException;
 import java.time.Instant;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
 import org.junit.jupiter.api.Test;
+import org.opensearch.common.bytes.BytesArray;
+import org.opensearch.common.bytes.BytesReference;
+import org.opensearch.common.xcontent.XContentBuilder;
+import org.opensearch.common.xcontent.XContentFactory;
 import org.opensearch.sql.data.model.ExprCollectionValue;
 import org.opensearch.sql.data.model.ExprDateValue;
 import org.opensearch.sql.data.model.ExprDatetimeValue;
@@ -361,6 +366,29 @@ class OpenSearchExprValueFactoryTest {
     assertEquals("invalid json: {\"invalid_json:1}.", exception.getMessage());
   }
 
+  @Test
+  public void constructFromInvalidJsonSourceThrowException() {
+    IllegalStateException exception =
+        assertThrows(IllegalStateException.class,
+            () -> exprValueFactory.construct(new BytesArray("{\"intV\":1,}")));
+    assertEquals("invalid json: {\"intV\":1,}.", exception.getMessage());
+  }
+
+  @Test
+  public void constructFromSmileSource() throws IOException {
+    XContentBuilder builder = XContentFactory.smileBuilder()
+        .startObject()
+        .field("intV", 1)
+        .startObject("structV")
+        .field("id", 2)
+        .endObject()
+        .endObject();
+
+    assertEquals(
+        exprValueFactory.construct("{\"intV\":1,\"structV\":{\"id\":2}}"),
+        exprValueFactory.construct(BytesReference.bytes(builder)));
+  }
+
   @Test
   public void noTypeFoundForMappingThrowException() {
     IllegalStateException exception =
@@ -385,6 +413,7 @@ class OpenSearchExprValueFactoryTest {
 
   public Map<String, ExprValue> tupleValue(String jsonString) {
     final ExprValue construct = exprValueFactory.construct(jsonString);
+    assertEquals(construct, exprValueFactory.construct(new BytesArray(jsonString)));
     return construct.tupleValue();
   }
 
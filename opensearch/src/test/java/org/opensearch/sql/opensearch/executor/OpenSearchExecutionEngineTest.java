@@ -29,29 +29,41 @@ package org.opensearch.sql.opensearch.executor;
 
 import static com.google.common.collect.ImmutableMap.of;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.opensearch.sql.common.setting.Settings.Key.QUERY_SIZE_LIMIT;
 import static org.opensearch.sql.data.model.ExprValueUtils.tupleValue;
 import static org.opensearch.sql.executor.ExecutionEngine.QueryResponse;
+import static org.opensearch.sql.planner.physical.PhysicalPlanDSL.project;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
 import lombok.RequiredArgsConstructor;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.common.util.concurrent.OpenSearchRejectedExecutionException;
 import org.opensearch.sql.common.response.ResponseListener;
 import org.opensearch.sql.common.setting.Settings;
 import org.opensearch.sql.data.model.ExprValue;
@@ -59,7 +71,9 @@ import org.opensearch.sql.executor.ExecutionEngine;
 import org.opensearch.sql.executor.ExecutionEngine.ExplainResponse;
 import org.opensearch.sql.opensearch.client.OpenSearchClient;
 import org.opensearch.sql.opensearch.data.value.OpenSearchExprValueFactory;
+import org.opensearch.sql.opensearch.executor.admission.AdmissionController;
 import org.opensearch.sql.opensearch.executor.protector.OpenSearchExecutionProtector;
+import org.opensearch.sql.opensearch.response.OpenSearchResponse;
 import org.opensearch.sql.opensearch.storage.OpenSearchIndexScan;
 import org.opensearch.sql.planner.physical.PhysicalPlan;
 import org.opensearch.sql.storage.TableScanOperator;
@@ -71,6 +85,8 @@ class OpenSearchExecutionEngineTest {
 
   @Mock private OpenSearchExecutionProtector protector;
 
+  @Mock private AdmissionController admissionController;
+
   @Mock private static ExecutionEngine.Schema schema;
 
   @BeforeEach
@@ -84,6 +100,15 @@ class OpenSearchExecutionEngineTest {
         })
         .when(client)
         .schedule(any());
+    lenient().doAnswer(
+        invocation -> {
+          // Admit query immediately with permits of its cost
+          IntConsumer task = invocation.getArgument(1);
+          task.accept(invocation.getArgument(0));
+          return null;
+        })
+        .when(admissionController)
+        .admit(anyInt(), any(), any());
   }
 
   @Test
@@ -93,8 +118,10 @@ class OpenSearchExecutionEngineTest {
             tupleValue(of("name", "John", "age", 20)), tupleValue(of("name", "Allen", "age", 30)));
     FakePhysicalPlan plan = new FakePhysicalPlan(expected.iterator());
     when(protector.protect(plan)).thenReturn(plan);
+    when(admissionController.estimateCost(plan)).thenReturn(5);
 
-    OpenSearchExecutionEngine executor = new OpenSearchExecutionEngine(client, protector);
+    OpenSearchExecutionEngine executor =
+        new OpenSearchExecutionEngine(client, protector, admissionController);
     List<ExprValue> actual = new ArrayList<>();
     executor.execute(
         plan,
@@ -113,6 +140,118 @@ class OpenSearchExecutionEngineTest {
     assertTrue(plan.hasOpen);
     assertEquals(expected, actual);
     assertTrue(plan.hasClosed);
+    verify(admissionController).release(5);
+  }
+
+  @Test
+  void executeWithExecutionTimeListener() {
+    OpenSearchClient searchClient = mock(OpenSearchClient.class);
+    OpenSearchResponse response = mock(OpenSearchResponse.class);
+    when(response.isEmpty()).thenReturn(true);
+    when(searchClient.search(any())).thenAnswer(invocation -> {
+      Thread.sleep(1);
+      return response;
+    });
+    Settings settings = mock(Settings.class);
+    when(settings.getSettingValue(QUERY_SIZE_LIMIT)).thenReturn(100);
+    PhysicalPlan plan = project(new OpenSearchIndexScan(searchClient,
+        settings, "test", mock(OpenSearchExprValueFactory.class)));
+    when(protector.protect(plan)).thenReturn(plan);
+
+    AtomicLong executionTime = new AtomicLong();
+    AtomicLong searchTime = new AtomicLong();
+    OpenSearchExecutionEngine executor = new OpenSearchExecutionEngine(
+        client, protector, admissionController, (executionNanos, searchNanos) -> {
+          executionTime.set(executionNanos);
+          searchTime.set(searchNanos);
+        });
+    List<ExprValue> actual = new ArrayList<>();
+    executor.execute(
+        plan,
+        new ResponseListener<QueryResponse>() {
+          @Override
+          public void onResponse(QueryResponse response) {
+            actual.addAll(response.getResults());
+          }
+
+          @Override
+          public void onFailure(Exception e) {
+            fail("Error occurred during execution", e);
+          }
+        });
+
+    assertTrue(actual.isEmpty());
+    assertTrue(searchTime.get() >= 1_000_000L);
+    assertTrue(executionTime.get() >= searchTime.get());
+  }
+
+  @Test
+  void executeRejectedByAdmissionControl() {
+    FakePhysicalPlan plan = new FakePhysicalPlan(Collections.emptyIterator());
+    when(protector.protect(plan)).thenReturn(plan);
+    when(admissionController.estimateCost(plan)).thenReturn(5);
+    OpenSearchRejectedExecutionException expected =
+        new OpenSearchRejectedExecutionException("rejected");
+    doAnswer(
+        invocation -> {
+          Consumer<Exception> onRejected = invocation.getArgument(2);
+          onRejected.accept(expected);
+          return null;
+        })
+        .when(admissionController)
+        .admit(eq(5), any(), any());
+
+    OpenSearchExecutionEngine executor =
+        new OpenSearchExecutionEngine(client, protector, admissionController);
+    AtomicReference<Exception> actual = new AtomicReference<>();
+    executor.execute(
+        plan,
+        new ResponseListener<QueryResponse>() {
+          @Override
+          public void onResponse(QueryResponse response) {
+            fail("Expected error didn't happen");
+          }
+
+          @Override
+          public void onFailure(Exception e) {
+            actual.set(e);
+          }
+        });
+
+    assertEquals(expected, actual.get());
+    assertFalse(plan.hasOpen);
+    verify(admissionController, never()).release(anyInt());
+  }
+
+  @Test
+  void executeRejectedByWorkerThreadPool() {
+    FakePhysicalPlan plan = new FakePhysicalPlan(Collections.emptyIterator());
+    when(protector.protect(plan)).thenReturn(plan);
+    when(admissionController.estimateCost(plan)).thenReturn(5);
+    OpenSearchRejectedExecutionException expected =
+        new OpenSearchRejectedExecutionException("rejected");
+    doThrow(expected).when(client).schedule(any());
+
+    OpenSearchExecutionEngine executor =
+        new OpenSearchExecutionEngine(client, protector, admissionController);
+    AtomicReference<Exception> actual = new AtomicReference<>();
+    executor.execute(
+        plan,
+        new ResponseListener<QueryResponse>() {
+          @Override
+          public void onResponse(QueryResponse response) {
+            fail("Expected error didn't happen");
+          }
+
+          @Override
+          public void onFailure(Exception e) {
+            actual.set(e);
+          }
+        });
+
+    assertEquals(expected, actual.get());
+    assertFalse(plan.hasOpen);
+    verify(admissionController).release(5);
   }
 
   @Test
@@ -122,7 +261,8 @@ class OpenSearchExecutionEngineTest {
     when(plan.hasNext()).thenThrow(expected);
     when(protector.protect(plan)).thenReturn(plan);
 
-    OpenSearchExecutionEngine executor = new OpenSearchExecutionEngine(client, protector);
+    OpenSearchExecutionEngine executor =
+        new OpenSearchExecutionEngine(client, protector, admissionController);
     AtomicReference<Exception> actual = new AtomicReference<>();
     executor.execute(
         plan,
@@ -143,7 +283,8 @@ class OpenSearchExecutionEngineTest {
 
   @Test
   void explainSuccessfully() {
-    OpenSearchExecutionEngine executor = new OpenSearchExecutionEngine(client, protector);
+    OpenSearchExecutionEngine executor =
+        new OpenSearchExecutionEngine(client, protector, admissionController);
     Settings settings = mock(Settings.class);
     when(settings.getSettingValue(QUERY_SIZE_LIMIT)).thenReturn(100);
     PhysicalPlan plan = new OpenSearchIndexScan(mock(OpenSearchClient.class),
@@ -165,9 +306,41 @@ class OpenSearchExecutionEngineTest {
     assertNotNull(result.get());
   }
 
+  @Test
+  void explainWithScriptFilters() {
+    OpenSearchExecutionEngine executor =
+        new OpenSearchExecutionEngine(client, protector, admissionController);
+    Settings settings = mock(Settings.class);
+    when(settings.getSettingValue(QUERY_SIZE_LIMIT)).thenReturn(100);
+    OpenSearchIndexScan indexScan = new OpenSearchIndexScan(mock(OpenSearchClient.class),
+        settings, "test", mock(OpenSearchExprValueFactory.class));
+    indexScan.addScriptFilters(Arrays.asList("=(abs(age), 30)"));
+    FakePhysicalPlan otherScan = new FakePhysicalPlan(Collections.emptyIterator());
+
+    List<ExplainResponse> results = new ArrayList<>();
+    for (PhysicalPlan plan : Arrays.asList(indexScan, otherScan)) {
+      executor.explain(plan, new ResponseListener<ExplainResponse>() {
+        @Override
+        public void onResponse(ExplainResponse response) {
+          results.add(response);
+        }
+
+        @Override
+        public void onFailure(Exception e) {
+          fail(e);
+        }
+      });
+    }
+
+    assertEquals(Arrays.asList("=(abs(age), 30)"),
+        results.get(0).getRoot().getDescription().get("script_filters"));
+    assertEquals(of("request", "explain"), results.get(1).getRoot().getDescription());
+  }
+
   @Test
   void explainWithFailure() {
-    OpenSearchExecutionEngine executor = new OpenSearchExecutionEngine(client, protector);
+    OpenSearchExecutionEngine executor =
+        new OpenSearchExecutionEngine(client, protector, admissionController);
     PhysicalPlan plan = mock(PhysicalPlan.class);
     when(plan.accept(any(), any())).thenThrow(IllegalStateException.class);
 
@@ -41,6 +41,7 @@ import static org.opensearch.sql.expression.DSL.named;
 import static org.opensearch.sql.expression.DSL.ref;
 import static org.opensearch.sql.planner.physical.PhysicalPlanDSL.filter;
 import static org.opensearch.sql.planner.physical.PhysicalPlanDSL.sort;
+import static org.opensearch.sql.planner.physical.PhysicalPlanDSL.topN;
 import static org.opensearch.sql.planner.physical.PhysicalPlanDSL.values;
 import static org.opensearch.sql.planner.physical.PhysicalPlanDSL.window;
 
@@ -78,6 +79,7 @@ import org.opensearch.sql.opensearch.setting.OpenSearchSettings;
 import org.opensearch.sql.opensearch.storage.OpenSearchIndexScan;
 import org.opensearch.sql.planner.physical.PhysicalPlan;
 import org.opensearch.sql.planner.physical.PhysicalPlanDSL;
+import org.opensearch.sql.planner.physical.SortOperator;
 
 @ExtendWith(MockitoExtension.class)
 class OpenSearchExecutionProtectorTest {
@@ -98,12 +100,13 @@ class OpenSearchExecutionProtectorTest {
 
   @BeforeEach
   public void setup() {
-    executionProtector = new OpenSearchExecutionProtector(resourceMonitor);
+    executionProtector = new OpenSearchExecutionProtector(resourceMonitor, settings);
   }
 
   @Test
   public void testProtectIndexScan() {
     when(settings.getSettingValue(Settings.Key.QUERY_SIZE_LIMIT)).thenReturn(200);
+    when(settings.getSettingValue(Settings.Key.QUERY_SORT_SPILL_THRESHOLD)).thenReturn(100000);
 
     String indexName = "test";
     NamedExpression include = named("age", ref("age", INTEGER));
@@ -133,7 +136,7 @@ class OpenSearchExecutionProtectorTest {
                 PhysicalPlanDSL.dedupe(
                     PhysicalPlanDSL.rareTopN(
                         resourceMonitor(
-                            PhysicalPlanDSL.sort(
+                            new SortOperator(
                                 PhysicalPlanDSL.eval(
                                     PhysicalPlanDSL.remove(
                                         PhysicalPlanDSL.rename(
@@ -149,7 +152,8 @@ class OpenSearchExecutionProtectorTest {
                                             mappings),
                                         exclude),
                                     newEvalField),
-                                sortField)),
+                                Arrays.asList(sortField),
+                                100000)),
                         CommandType.TOP,
                         topExprs,
                         topField),
@@ -190,6 +194,7 @@ class OpenSearchExecutionProtectorTest {
   @SuppressWarnings("unchecked")
   @Test
   public void testProtectSortForWindowOperator() {
+    when(settings.getSettingValue(Settings.Key.QUERY_SORT_SPILL_THRESHOLD)).thenReturn(100000);
     NamedExpression rank = named(mock(RankFunction.class));
     Pair<Sort.SortOption, Expression> sortItem =
         ImmutablePair.of(DEFAULT_ASC, DSL.ref("age", INTEGER));
@@ -199,9 +204,10 @@ class OpenSearchExecutionProtectorTest {
     assertEquals(
         window(
             resourceMonitor(
-                sort(
+                new SortOperator(
                     values(emptyList()),
-                    sortItem)),
+                    Arrays.asList(sortItem),
+                    100000)),
             rank,
             windowDefinition),
         executionProtector.protect(
@@ -214,6 +220,27 @@ class OpenSearchExecutionProtectorTest {
                 windowDefinition)));
   }
 
+  @SuppressWarnings("unchecked")
+  @Test
+  public void testProtectTopNOperator() {
+    Pair<Sort.SortOption, Expression> sortItem =
+        ImmutablePair.of(DEFAULT_ASC, DSL.ref("age", INTEGER));
+
+    assertEquals(
+        resourceMonitor(
+            topN(
+                values(emptyList()),
+                10,
+                5,
+                sortItem)),
+        executionProtector.protect(
+            topN(
+                values(emptyList()),
+                10,
+                5,
+                sortItem)));
+  }
+
   @Test
   public void testProtectWindowOperatorInput() {
     NamedExpression avg = named(mock(AggregateWindowFunction.class));
@@ -235,6 +262,7 @@ class OpenSearchExecutionProtectorTest {
   @SuppressWarnings("unchecked")
   @Test
   public void testNotProtectWindowOperatorInputIfAlreadyProtected() {
+    when(settings.getSettingValue(Settings.Key.QUERY_SORT_SPILL_THRESHOLD)).thenReturn(100000);
     NamedExpression avg = named(mock(AggregateWindowFunction.class));
     Pair<Sort.SortOption, Expression> sortItem =
         ImmutablePair.of(DEFAULT_ASC, DSL.ref("age", INTEGER));
@@ -244,9 +272,10 @@ class OpenSearchExecutionProtectorTest {
     assertEquals(
         window(
             resourceMonitor(
-                sort(
+                new SortOperator(
                     values(emptyList()),
-                    sortItem)),
+                    Arrays.asList(sortItem),
+                    100000)),
             avg,
             windowDefinition),
         executionProtector.protect(
@@ -0,0 +1,251 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.sql.opensearch.executor.admission;
+
+import static java.util.Collections.emptyList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.opensearch.sql.ast.tree.Sort.SortOption.DEFAULT_ASC;
+import static org.opensearch.sql.data.type.ExprCoreType.DOUBLE;
+import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
+import static org.opensearch.sql.data.type.ExprCoreType.STRING;
+import static org.opensearch.sql.expression.DSL.named;
+import static org.opensearch.sql.expression.DSL.ref;
+import static org.opensearch.sql.planner.physical.PhysicalPlanDSL.agg;
+import static org.opensearch.sql.planner.physical.PhysicalPlanDSL.dedupe;
+import static org.opensearch.sql.planner.physical.PhysicalPlanDSL.project;
+import static org.opensearch.sql.planner.physical.PhysicalPlanDSL.rareTopN;
+import static org.opensearch.sql.planner.physical.PhysicalPlanDSL.sort;
+import static org.opensearch.sql.planner.physical.PhysicalPlanDSL.topN;
+import static org.opensearch.sql.planner.physical.PhysicalPlanDSL.values;
+import static org.opensearch.sql.planner.physical.PhysicalPlanDSL.window;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.apache.commons.lang3.tuple.ImmutablePair;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.util.concurrent.OpenSearchRejectedExecutionException;
+import org.opensearch.sql.ast.tree.RareTopN.CommandType;
+import org.opensearch.sql.common.setting.Settings;
+import org.opensearch.sql.expression.aggregation.AvgAggregator;
+import org.opensearch.sql.expression.window.WindowDefinition;
+import org.opensearch.sql.expression.window.aggregation.AggregateWindowFunction;
+import org.opensearch.sql.planner.physical.PhysicalPlan;
+import org.opensearch.threadpool.Scheduler;
+import org.opensearch.threadpool.ThreadPool;
+
+@ExtendWith(MockitoExtension.class)
+class AdmissionControllerTest {
+
+  @Mock
+  private Settings settings;
+
+  @Mock
+  private Scheduler scheduler;
+
+  @Mock
+  private Scheduler.ScheduledCancellable timeoutTask;
+
+  @Captor
+  private ArgumentCaptor<Runnable> timeoutCaptor;
+
+  private final List<Integer> admitted = new ArrayList<>();
+
+  private final List<Exception> rejected = new ArrayList<>();
+
+  @Test
+  void estimate_cost_of_scan_only_plan() {
+    AdmissionController controller = new AdmissionController(settings, scheduler);
+    assertEquals(0,
+        controller.estimateCost(project(values(emptyList()), named("age", ref("age", INTEGER)))));
+  }
+
+  @Test
+  void estimate_cost_of_top_n_as_sort() {
+    AdmissionController controller = new AdmissionController(settings, scheduler);
+    assertEquals(AdmissionController.IN_MEMORY_OPERATOR_COST,
+        controller.estimateCost(topN(values(emptyList()), 10, 0,
+            ImmutablePair.of(DEFAULT_ASC, ref("age", INTEGER)))));
+  }
+
+  @SuppressWarnings("unchecked")
+  @Test
+  void estimate_cost_of_plan_with_in_memory_operators() {
+    AdmissionController controller = new AdmissionController(settings, scheduler);
+    PhysicalPlan plan =
+        window(
+            dedupe(
+                rareTopN(
+                    sort(
+                        agg(values(emptyList()),
+                            Arrays.asList(named("avg(age)",
+                                new AvgAggregator(Arrays.asList(ref("age", INTEGER)), DOUBLE))),
+                            Arrays.asList(named("name", ref("name", STRING)))),
+                        ImmutablePair.of(DEFAULT_ASC, ref("name", STRING))),
+                    CommandType.TOP,
+                    Arrays.asList(ref("age", INTEGER)),
+                    ref("name", STRING)),
+                ref("name", STRING)),
+            named(mock(AggregateWindowFunction.class)),
+            mock(WindowDefinition.class));
+    assertEquals(5 * AdmissionController.IN_MEMORY_OPERATOR_COST, controller.estimateCost(plan));
+  }
+
+  @Test
+  void admit_query_without_cost_right_away() {
+    AdmissionController controller = new AdmissionController(settings, scheduler);
+
+    controller.admit(0, admitted::add, rejected::add);
+    controller.release(0);
+    assertEquals(Arrays.asList(0), admitted);
+    assertEquals(0, controller.getQueueDepth());
+  }
+
+  @Test
+  void admit_query_if_enough_permits() {
+    mockMaxCost(10);
+    AdmissionController controller = new AdmissionController(settings, scheduler);
+
+    controller.admit(5, admitted::add, rejected::add);
+    controller.admit(5, admitted::add, rejected::add);
+    assertEquals(Arrays.asList(5, 5), admitted);
+    controller.release(5);
+    controller.release(5);
+    assertEquals(0, controller.getQueueDepth());
+    assertEquals(0, controller.getRejectedCount());
+    assertTrue(rejected.isEmpty());
+    verifyNoInteractions(scheduler);
+  }
+
+  @Test
+  void admit_query_of_cost_above_max_alone() {
+    mockSettings(10, TimeValue.timeValueSeconds(30));
+    AdmissionController controller = new AdmissionController(settings, scheduler);
+
+    controller.admit(20, admitted::add, rejected::add);
+    controller.admit(10, admitted::add, rejected::add);
+    assertEquals(Arrays.asList(10), admitted);
+
+    controller.release(10);
+    assertEquals(Arrays.asList(10, 10), admitted);
+    verify(timeoutTask).cancel();
+  }
+
+  @Test
+  void admit_pending_queries_in_order_after_running_query_released_permits() {
+    mockSettings(10, TimeValue.timeValueSeconds(30));
+    AdmissionController controller = new AdmissionController(settings, scheduler);
+    controller.admit(8, admitted::add, rejected::add);
+
+    controller.admit(5, admitted::add, rejected::add);
+    controller.admit(1, admitted::add, rejected::add);
+    assertEquals(Arrays.asList(8), admitted);
+    assertEquals(2, controller.getQueueDepth());
+
+    controller.release(8);
+    assertEquals(Arrays.asList(8, 5, 1), admitted);
+    assertEquals(0, controller.getQueueDepth());
+    assertEquals(0, controller.getRejectedCount());
+    verify(timeoutTask, times(2)).cancel();
+  }
+
+  @Test
+  void ignore_timeout_of_query_already_admitted() {
+    mockSettings(10, TimeValue.timeValueSeconds(30));
+    AdmissionController controller = new AdmissionController(settings, scheduler);
+    controller.admit(8, admitted::add, rejected::add);
+    controller.admit(5, admitted::add, rejected::add);
+    controller.release(8);
+
+    verify(scheduler).schedule(timeoutCaptor.capture(), any(), any());
+    timeoutCaptor.getValue().run();
+    assertEquals(Arrays.asList(8, 5), admitted);
+    assertTrue(rejected.isEmpty());
+    assertEquals(0, controller.getRejectedCount());
+  }
+
+  @Test
+  void reject_pending_query_by_timeout_and_admit_queries_behind() {
+    mockSettings(10, TimeValue.timeValueMillis(1));
+    AdmissionController controller = new AdmissionController(settings, scheduler);
+    controller.admit(8, admitted::add, rejected::add);
+    controller.admit(5, admitted::add, rejected::add);
+    controller.admit(1, admitted::add, rejected::add);
+    verify(scheduler, times(2)).schedule(
+        timeoutCaptor.capture(), eq(TimeValue.timeValueMillis(1)), eq(ThreadPool.Names.GENERIC));
+
+    timeoutCaptor.getAllValues().get(0).run();
+    assertEquals(Arrays.asList(8, 1), admitted);
+    assertEquals(1, rejected.size());
+    assertTrue(rejected.get(0) instanceof OpenSearchRejectedExecutionException);
+    assertEquals("query of cost [5] is not admitted in [1ms] "
+        + "as running queries already reach max cost [10]", rejected.get(0).getMessage());
+    assertEquals(1, controller.getRejectedCount());
+    assertEquals(0, controller.getQueueDepth());
+    verify(timeoutTask).cancel();
+  }
+
+  @Test
+  void reject_pending_query_on_time_without_any_release() throws InterruptedException {
+    mockSettings(10, TimeValue.timeValueMillis(10));
+    ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor();
+    try {
+      AdmissionController controller = new AdmissionController(settings,
+          (command, delay, name) -> Scheduler.wrapAsScheduledCancellable(
+              executor.schedule(command, delay.millis(), TimeUnit.MILLISECONDS)));
+      CountDownLatch latch = new CountDownLatch(1);
+      controller.admit(8, admitted::add, rejected::add);
+      controller.admit(5, admitted::add, e -> {
+        rejected.add(e);
+        latch.countDown();
+      });
+
+      assertTrue(latch.await(10, TimeUnit.SECONDS));
+      assertEquals(Arrays.asList(8), admitted);
+      assertEquals(1, rejected.size());
+      assertEquals(1, controller.getRejectedCount());
+      assertEquals(0, controller.getQueueDepth());
+      assertTrue(controller.getTotalWaitTimeMillis() >= 10);
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  private void mockMaxCost(int maxCost) {
+    when(settings.getSettingValue(Settings.Key.QUERY_ADMISSION_MAX_COST)).thenReturn(maxCost);
+  }
+
+  private void mockSettings(int maxCost, TimeValue timeout) {
+    mockMaxCost(maxCost);
+    when(settings.getSettingValue(Settings.Key.QUERY_ADMISSION_TIMEOUT)).thenReturn(timeout);
+    lenient().when(scheduler.schedule(any(), any(), any())).thenReturn(timeoutTask);
+  }
+}
@@ -0,0 +1,228 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.sql.opensearch.mapping;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
+import static org.opensearch.sql.data.type.ExprCoreType.STRING;
+
+import com.google.common.collect.ImmutableMap;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opensearch.cluster.ClusterChangedEvent;
+import org.opensearch.cluster.ClusterState;
+import org.opensearch.cluster.metadata.IndexMetadata;
+import org.opensearch.cluster.metadata.Metadata;
+import org.opensearch.index.Index;
+import org.opensearch.sql.data.type.ExprType;
+
+class IndexFieldTypeCacheTest {
+
+  private final Index logs1 = new Index("logs-1", "uuid-1");
+
+  private final Index logs2 = new Index("logs-2", "uuid-2");
+
+  private final AtomicInteger resolveCount = new AtomicInteger();
+
+  private final Supplier<Map<String, ExprType>> resolver = () -> {
+    resolveCount.incrementAndGet();
+    return ImmutableMap.of("name", STRING, "age", INTEGER);
+  };
+
+  private IndexFieldTypeCache cache;
+
+  @BeforeEach
+  void setUp() {
+    cache = new IndexFieldTypeCache();
+  }
+
+  @Test
+  void field_types_are_resolved_once_for_same_indices_and_mapping_version() {
+    Metadata metadata = metadata(indexMetadata(logs1, 1), indexMetadata(logs2, 1));
+
+    Map<String, ExprType> fieldTypes =
+        cache.get(metadata, new String[] {"logs-1", "logs-2"}, resolver);
+    assertSame(fieldTypes, cache.get(metadata, new String[] {"logs-2", "logs-1"}, resolver));
+    assertEquals(ImmutableMap.of("name", STRING, "age", INTEGER), fieldTypes);
+    assertEquals(1, resolveCount.get());
+    assertEquals(1, cache.getHitCount());
+    assertEquals(1, cache.getMissCount());
+  }
+
+  @Test
+  void field_types_are_resolved_again_if_mapping_version_changed() {
+    cache.get(metadata(indexMetadata(logs1, 1)), new String[] {"logs-1"}, resolver);
+    cache.get(metadata(indexMetadata(logs1, 2)), new String[] {"logs-1"}, resolver);
+    assertEquals(2, resolveCount.get());
+    assertEquals(0, cache.getHitCount());
+  }
+
+  @Test
+  void field_types_are_resolved_again_if_index_recreated() {
+    cache.get(metadata(indexMetadata(logs1, 1)), new String[] {"logs-1"}, resolver);
+    cache.get(metadata(indexMetadata(new Index("logs-1", "uuid-3"), 1)),
+        new String[] {"logs-1"}, resolver);
+    assertEquals(2, resolveCount.get());
+  }
+
+  @Test
+  void field_types_are_not_cached_if_index_metadata_not_found() {
+    Metadata metadata = metadata();
+    cache.get(metadata, new String[] {"logs-1"}, resolver);
+    cache.get(metadata, new String[] {"logs-1"}, resolver);
+    assertEquals(2, resolveCount.get());
+    assertEquals(2, cache.getMissCount());
+  }
+
+  @Test
+  void entries_of_index_with_mapping_changed_are_invalidated() {
+    IndexMetadata logs1Before = indexMetadata(logs1, 1);
+    IndexMetadata logs2Before = indexMetadata(logs2, 1);
+    Metadata before = metadata(logs1Before, logs2Before);
+    cache.get(before, new String[] {"logs-1"}, resolver);
+    cache.get(before, new String[] {"logs-2"}, resolver);
+    cache.get(before, new String[] {"logs-1", "logs-2"}, resolver);
+
+    IndexMetadata logs3 = indexMetadata(new Index("logs-3", "uuid-3"), 1);
+    Metadata after = metadata(logs1Before, indexMetadata(logs2, 2), logs3);
+    cache.clusterChanged(event(before, after, Collections.emptyList()));
+    assertEquals(2, cache.getInvalidationCount());
+
+    cache.get(before, new String[] {"logs-1"}, resolver);
+    assertEquals(3, resolveCount.get());
+    cache.get(before, new String[] {"logs-2"}, resolver);
+    assertEquals(4, resolveCount.get());
+  }
+
+  @Test
+  void entries_of_index_deleted_are_invalidated() {
+    Metadata before = metadata(indexMetadata(logs1, 1));
+    cache.get(before, new String[] {"logs-1"}, resolver);
+
+    cache.clusterChanged(event(before, metadata(), Collections.singletonList(logs1)));
+    assertEquals(1, cache.getInvalidationCount());
+
+    cache.get(before, new String[] {"logs-1"}, resolver);
+    assertEquals(2, resolveCount.get());
+  }
+
+  @Test
+  void nothing_is_invalidated_if_mapping_not_changed() {
+    IndexMetadata logs1Metadata = indexMetadata(logs1, 1);
+    Metadata metadata = metadata(logs1Metadata);
+    cache.get(metadata, new String[] {"logs-1"}, resolver);
+
+    cache.clusterChanged(event(metadata, metadata, Collections.emptyList()));
+    ClusterChangedEvent noMetadataChange = mock(ClusterChangedEvent.class);
+    when(noMetadataChange.metadataChanged()).thenReturn(false);
+    cache.clusterChanged(noMetadataChange);
+
+    cache.get(metadata, new String[] {"logs-1"}, resolver);
+    assertEquals(0, cache.getInvalidationCount());
+    assertEquals(1, resolveCount.get());
+  }
+
+  @Test
+  void invalidation_listener_is_notified_if_mapping_changed_or_index_deleted() {
+    AtomicInteger notified = new AtomicInteger();
+    cache.addInvalidationListener(notified::incrementAndGet);
+    Metadata before = metadata(indexMetadata(logs1, 1));
+
+    cache.clusterChanged(event(before, metadata(indexMetadata(logs1, 2)), Collections.emptyList()));
+    assertEquals(1, notified.get());
+    cache.clusterChanged(event(before, metadata(), Collections.singletonList(logs1)));
+    assertEquals(2, notified.get());
+  }
+
+  @Test
+  void invalidation_listener_is_notified_if_index_created() {
+    AtomicInteger notified = new AtomicInteger();
+    cache.addInvalidationListener(notified::incrementAndGet);
+    Metadata before = metadata(indexMetadata(logs1, 1));
+    ClusterChangedEvent event = event(before,
+        metadata(indexMetadata(logs1, 1), indexMetadata(logs2, 1)), Collections.emptyList());
+    when(event.indicesCreated()).thenReturn(Collections.singletonList("logs-2"));
+
+    cache.clusterChanged(event);
+    assertEquals(1, notified.get());
+    assertEquals(0, cache.getInvalidationCount());
+  }
+
+  @Test
+  void invalidation_listener_is_notified_if_aliases_changed() {
+    AtomicInteger notified = new AtomicInteger();
+    cache.addInvalidationListener(notified::incrementAndGet);
+    Metadata before = metadata(indexMetadata(logs1, 1));
+    IndexMetadata aliasAdded = indexMetadata(logs1, 1);
+    when(aliasAdded.getAliasesVersion()).thenReturn(2L);
+
+    cache.clusterChanged(event(before, metadata(aliasAdded), Collections.emptyList()));
+    assertEquals(1, notified.get());
+    assertEquals(0, cache.getInvalidationCount());
+  }
+
+  @Test
+  void invalidation_listener_is_not_notified_if_nothing_changed() {
+    AtomicInteger notified = new AtomicInteger();
+    cache.addInvalidationListener(notified::incrementAndGet);
+    Metadata metadata = metadata(indexMetadata(logs1, 1));
+
+    cache.clusterChanged(event(metadata, metadata(indexMetadata(logs2, 1)),
+        Collections.emptyList()));
+    cache.clusterChanged(event(metadata, metadata, Collections.emptyList()));
+    ClusterChangedEvent noMetadataChange = mock(ClusterChangedEvent.class);
+    when(noMetadataChange.metadataChanged()).thenReturn(false);
+    cache.clusterChanged(noMetadataChange);
+    assertEquals(0, notified.get());
+  }
+
+  private IndexMetadata indexMetadata(Index index, long mappingVersion) {
+    IndexMetadata indexMetadata = mock(IndexMetadata.class);
+    when(indexMetadata.getIndex()).thenReturn(index);
+    when(indexMetadata.getMappingVersion()).thenReturn(mappingVersion);
+    return indexMetadata;
+  }
+
+  private Metadata metadata(IndexMetadata... indices) {
+    Metadata metadata = mock(Metadata.class);
+    for (IndexMetadata indexMetadata : indices) {
+      Index index = indexMetadata.getIndex();
+      when(metadata.index(index.getName())).thenReturn(indexMetadata);
+      when(metadata.index(index)).thenReturn(indexMetadata);
+    }
+    when(metadata.iterator()).thenAnswer(invocation -> Arrays.asList(indices).iterator());
+    return metadata;
+  }
+
+  private ClusterChangedEvent event(Metadata before, Metadata after, List<Index> deleted) {
+    ClusterState previousState = mock(ClusterState.class);
+    ClusterState state = mock(ClusterState.class);
+    when(previousState.metadata()).thenReturn(before);
+    when(state.metadata()).thenReturn(after);
+
+    ClusterChangedEvent event = mock(ClusterChangedEvent.class);
+    when(event.metadataChanged()).thenReturn(true);
+    when(event.indicesDeleted()).thenReturn(deleted);
+    when(event.previousState()).thenReturn(previousState);
+    when(event.state()).thenReturn(state);
+    return event;
+  }
+}
@@ -30,29 +30,44 @@ package org.opensearch.sql.opensearch.planner.logical;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.opensearch.sql.data.model.ExprValueUtils.integerValue;
+import static org.opensearch.sql.data.type.ExprCoreType.ARRAY;
+import static org.opensearch.sql.data.type.ExprCoreType.BOOLEAN;
+import static org.opensearch.sql.data.type.ExprCoreType.BYTE;
 import static org.opensearch.sql.data.type.ExprCoreType.DOUBLE;
+import static org.opensearch.sql.data.type.ExprCoreType.FLOAT;
 import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
 import static org.opensearch.sql.data.type.ExprCoreType.LONG;
+import static org.opensearch.sql.data.type.ExprCoreType.SHORT;
 import static org.opensearch.sql.data.type.ExprCoreType.STRING;
+import static org.opensearch.sql.data.type.ExprCoreType.STRUCT;
+import static org.opensearch.sql.data.type.ExprCoreType.TIMESTAMP;
 import static org.opensearch.sql.opensearch.utils.Utils.indexScan;
 import static org.opensearch.sql.opensearch.utils.Utils.indexScanAgg;
+import static org.opensearch.sql.opensearch.utils.Utils.indexScanCollapse;
+import static org.opensearch.sql.opensearch.utils.Utils.indexScanRareTopN;
 import static org.opensearch.sql.opensearch.utils.Utils.noProjects;
 import static org.opensearch.sql.opensearch.utils.Utils.projects;
 import static org.opensearch.sql.planner.logical.LogicalPlanDSL.aggregation;
+import static org.opensearch.sql.planner.logical.LogicalPlanDSL.dedupe;
 import static org.opensearch.sql.planner.logical.LogicalPlanDSL.filter;
 import static org.opensearch.sql.planner.logical.LogicalPlanDSL.limit;
 import static org.opensearch.sql.planner.logical.LogicalPlanDSL.project;
+import static org.opensearch.sql.planner.logical.LogicalPlanDSL.rareTopN;
 import static org.opensearch.sql.planner.logical.LogicalPlanDSL.relation;
 import static org.opensearch.sql.planner.logical.LogicalPlanDSL.sort;
 
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
+import java.util.Arrays;
 import org.apache.commons.lang3.tuple.Pair;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
+import org.opensearch.sql.ast.tree.RareTopN.CommandType;
 import org.opensearch.sql.ast.tree.Sort;
+import org.opensearch.sql.data.type.ExprType;
 import org.opensearch.sql.expression.DSL;
 import org.opensearch.sql.expression.config.ExpressionConfig;
+import org.opensearch.sql.opensearch.data.type.OpenSearchDataType;
 import org.opensearch.sql.opensearch.utils.Utils;
 import org.opensearch.sql.planner.logical.LogicalPlan;
 import org.opensearch.sql.planner.optimizer.LogicalPlanOptimizer;
@@ -587,6 +602,276 @@ class OpenSearchLogicOptimizerTest {
     );
   }
 
+  /**
+   * source=schema | top 5 stringV by longV.
+   */
+  @Test
+  void rare_top_n_merge_relation() {
+    assertEquals(
+        project(
+            indexScanRareTopN("schema", null, CommandType.TOP, 5,
+                DSL.ref("stringV", STRING), ImmutableList.of(DSL.ref("longV", LONG))),
+            DSL.named("stringV", DSL.ref("stringV", STRING))),
+        optimize(
+            project(
+                rareTopN(
+                    relation("schema"),
+                    CommandType.TOP,
+                    5,
+                    ImmutableList.of(DSL.ref("longV", LONG)),
+                    DSL.ref("stringV", STRING)),
+                DSL.named("stringV", DSL.ref("stringV", STRING)))
+        )
+    );
+  }
+
+  /**
+   * source=schema | where intV = 1 | top stringV.
+   */
+  @Test
+  void rare_top_n_merge_filter_relation() {
+    assertEquals(
+        project(
+            indexScanRareTopN("schema",
+                dsl.equal(DSL.ref("intV", INTEGER), DSL.literal(integerValue(1))),
+                CommandType.TOP, 10, DSL.ref("stringV", STRING), ImmutableList.of()),
+            DSL.named("stringV", DSL.ref("stringV", STRING))),
+        optimize(
+            project(
+                rareTopN(
+                    filter(
+                        relation("schema"),
+                        dsl.equal(DSL.ref("intV", INTEGER), DSL.literal(integerValue(1)))
+                    ),
+                    CommandType.TOP,
+                    ImmutableList.of(),
+                    DSL.ref("stringV", STRING)),
+                DSL.named("stringV", DSL.ref("stringV", STRING)))
+        )
+    );
+  }
+
+  /**
+   * source=schema | rare stringV.
+   */
+  @Test
+  void rare_n_should_not_merge_relation_or_index_scan() {
+    LogicalPlan plan =
+        rareTopN(
+            relation("schema"),
+            CommandType.RARE,
+            ImmutableList.of(),
+            DSL.ref("stringV", STRING));
+    assertEquals(plan, optimize(plan));
+
+    plan =
+        rareTopN(
+            indexScan("schema", dsl.equal(DSL.ref("intV", INTEGER), DSL.literal(1))),
+            CommandType.RARE,
+            ImmutableList.of(),
+            DSL.ref("stringV", STRING));
+    assertEquals(plan, optimize(plan));
+  }
+
+  /**
+   * source=schema | top stringV, longV.
+   */
+  @Test
+  void rare_top_n_on_multiple_fields_should_not_merge_relation() {
+    LogicalPlan plan =
+        rareTopN(
+            relation("schema"),
+            CommandType.TOP,
+            ImmutableList.of(),
+            DSL.ref("stringV", STRING),
+            DSL.ref("longV", LONG));
+    assertEquals(plan, optimize(plan));
+
+    plan =
+        rareTopN(
+            indexScan("schema", dsl.equal(DSL.ref("intV", INTEGER), DSL.literal(1))),
+            CommandType.TOP,
+            ImmutableList.of(),
+            DSL.ref("stringV", STRING),
+            DSL.ref("longV", LONG));
+    assertEquals(plan, optimize(plan));
+  }
+
+  /**
+   * source=schema | head 100 | top stringV.
+   */
+  @Test
+  void rare_top_n_should_not_merge_index_scan_with_limit() {
+    LogicalPlan plan =
+        rareTopN(
+            indexScan("schema", 0, 100, noProjects()),
+            CommandType.TOP,
+            ImmutableList.of(),
+            DSL.ref("stringV", STRING));
+    assertEquals(plan, optimize(plan));
+  }
+
+  /**
+   * source=schema | dedup stringV.
+   */
+  @Test
+  void dedupe_merge_relation() {
+    assertEquals(
+        indexScanCollapse("schema", null, null, DSL.ref("stringV", STRING)),
+        optimize(
+            dedupe(
+                relation("schema"),
+                DSL.ref("stringV", STRING))
+        )
+    );
+  }
+
+  /**
+   * source=schema | where intV = 1 | sort longV | dedup stringV.
+   */
+  @Test
+  void dedupe_merge_sort_filter_relation() {
+    assertEquals(
+        indexScanCollapse("schema",
+            dsl.equal(DSL.ref("intV", INTEGER), DSL.literal(integerValue(1))),
+            Utils.sort(DSL.ref("longV", LONG), Sort.SortOption.DEFAULT_ASC),
+            DSL.ref("stringV", STRING)),
+        optimize(
+            dedupe(
+                sort(
+                    filter(
+                        relation("schema"),
+                        dsl.equal(DSL.ref("intV", INTEGER), DSL.literal(integerValue(1)))
+                    ),
+                    Pair.of(Sort.SortOption.DEFAULT_ASC, DSL.ref("longV", LONG))
+                ),
+                DSL.ref("stringV", STRING))
+        )
+    );
+  }
+
+  /**
+   * source=schema | dedup stringV | head 10.
+   */
+  @Test
+  void limit_merge_index_scan_with_collapse() {
+    assertEquals(
+        OpenSearchLogicalIndexScan.builder()
+            .relationName("schema")
+            .collapseField(DSL.ref("stringV", STRING))
+            .offset(0)
+            .limit(10)
+            .build(),
+        optimize(
+            limit(
+                dedupe(
+                    relation("schema"),
+                    DSL.ref("stringV", STRING)),
+                10, 0)
+        )
+    );
+  }
+
+  /**
+   * Dedupe with options or on multiple fields, expression or text field.
+   */
+  @Test
+  void dedupe_not_collapsible_should_not_merge_relation() {
+    LogicalPlan plan = dedupe(relation("schema"), 2, false, false, DSL.ref("stringV", STRING));
+    assertEquals(plan, optimize(plan));
+
+    plan = dedupe(relation("schema"), 1, true, false, DSL.ref("stringV", STRING));
+    assertEquals(plan, optimize(plan));
+
+    plan = dedupe(relation("schema"), 1, false, true, DSL.ref("stringV", STRING));
+    assertEquals(plan, optimize(plan));
+
+    plan = dedupe(relation("schema"), DSL.ref("stringV", STRING), DSL.ref("longV", LONG));
+    assertEquals(plan, optimize(plan));
+
+    plan = dedupe(relation("schema"), dsl.abs(DSL.ref("longV", LONG)));
+    assertEquals(plan, optimize(plan));
+
+    plan = dedupe(relation("schema"),
+        DSL.ref("textV", OpenSearchDataType.OPENSEARCH_TEXT));
+    assertEquals(plan, optimize(plan));
+  }
+
+  /**
+   * Dedupe on field of type which has doc values.
+   */
+  @Test
+  void dedupe_on_collapsible_type_should_merge_relation() {
+    for (ExprType type : Arrays.asList(STRING, OpenSearchDataType.OPENSEARCH_TEXT_KEYWORD,
+        BYTE, SHORT, INTEGER, LONG, FLOAT, DOUBLE, TIMESTAMP, BOOLEAN,
+        OpenSearchDataType.OPENSEARCH_IP)) {
+      assertEquals(
+          indexScanCollapse("schema", null, null, DSL.ref("field", type)),
+          optimize(dedupe(relation("schema"), DSL.ref("field", type))),
+          type.typeName());
+    }
+  }
+
+  /**
+   * Dedupe on field of type which has no doc values or is not a single value.
+   */
+  @Test
+  void dedupe_on_not_collapsible_type_should_not_merge_relation() {
+    for (ExprType type : Arrays.asList(OpenSearchDataType.OPENSEARCH_TEXT,
+        OpenSearchDataType.OPENSEARCH_GEO_POINT, OpenSearchDataType.OPENSEARCH_BINARY,
+        STRUCT, ARRAY)) {
+      LogicalPlan plan = dedupe(relation("schema"), DSL.ref("field", type));
+      assertEquals(plan, optimize(plan), type.typeName());
+    }
+  }
+
+  /**
+   * source=schema | head 100 | dedup stringV.
+   */
+  @Test
+  void dedupe_should_not_merge_index_scan_with_limit() {
+    LogicalPlan plan =
+        dedupe(
+            indexScan("schema", 0, 100, noProjects()),
+            DSL.ref("stringV", STRING));
+    assertEquals(plan, optimize(plan));
+  }
+
+  /**
+   * Sort, aggregation and top/rare evaluated after dedupe cannot be pushed down.
+   */
+  @Test
+  void index_scan_with_collapse_should_not_merge() {
+    LogicalPlan indexScan = indexScanCollapse("schema", null, null, DSL.ref("stringV", STRING));
+
+    LogicalPlan plan = dedupe(indexScan, DSL.ref("longV", LONG));
+    assertEquals(plan, optimize(plan));
+
+    plan = sort(indexScan, Pair.of(Sort.SortOption.DEFAULT_ASC, DSL.ref("longV", LONG)));
+    assertEquals(plan, optimize(plan));
+
+    plan = aggregation(
+        indexScan,
+        ImmutableList.of(DSL.named("AVG(intV)", dsl.avg(DSL.ref("intV", INTEGER)))),
+        ImmutableList.of(DSL.named("longV", DSL.ref("longV", LONG))));
+    assertEquals(plan, optimize(plan));
+
+    plan = rareTopN(indexScan, CommandType.TOP, ImmutableList.of(), DSL.ref("longV", LONG));
+    assertEquals(plan, optimize(plan));
+  }
+
+  /**
+   * Projects are pushed down after dedupe, not expected below it.
+   */
+  @Test
+  void dedupe_should_not_merge_index_scan_with_project() {
+    LogicalPlan plan =
+        dedupe(
+            indexScan("schema", projects(DSL.ref("stringV", STRING))),
+            DSL.ref("stringV", STRING));
+    assertEquals(plan, optimize(plan));
+  }
+
   private LogicalPlan optimize(LogicalPlan plan) {
     final LogicalPlanOptimizer optimizer = OpenSearchLogicalPlanOptimizerFactory.create();
     final LogicalPlan optimize = optimizer.optimize(plan);
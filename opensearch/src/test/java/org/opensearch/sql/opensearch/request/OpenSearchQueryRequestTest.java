@@ -30,13 +30,20 @@ package org.opensearch.sql.opensearch.request;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.google.common.collect.ImmutableMap;
+import java.util.Collections;
+import java.util.Map;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import org.junit.jupiter.api.Test;
@@ -49,6 +56,11 @@ import org.opensearch.action.search.SearchScrollRequest;
 import org.opensearch.index.query.QueryBuilders;
 import org.opensearch.search.SearchHit;
 import org.opensearch.search.SearchHits;
+import org.opensearch.search.aggregations.AggregationBuilders;
+import org.opensearch.search.aggregations.Aggregations;
+import org.opensearch.search.aggregations.bucket.composite.CompositeAggregation;
+import org.opensearch.search.aggregations.bucket.composite.CompositeAggregationBuilder;
+import org.opensearch.search.aggregations.bucket.composite.TermsValuesSourceBuilder;
 import org.opensearch.search.builder.SearchSourceBuilder;
 import org.opensearch.sql.opensearch.data.value.OpenSearchExprValueFactory;
 import org.opensearch.sql.opensearch.response.OpenSearchResponse;
@@ -93,6 +105,86 @@ public class OpenSearchQueryRequestTest {
     verify(searchAction, times(1)).apply(any());
   }
 
+  @Test
+  void searchCompositeAggregationPageByPage() {
+    CompositeAggregationBuilder builder = AggregationBuilders.composite("composite_buckets",
+        Collections.singletonList(new TermsValuesSourceBuilder("name").field("name")))
+        .size(2);
+    request.getSourceBuilder().aggregation(builder);
+
+    SearchResponse firstPage = compositeResponse(2, ImmutableMap.of("name", "b"));
+    SearchResponse lastPage = compositeResponse(1, ImmutableMap.of("name", "c"));
+    when(searchAction.apply(any())).thenReturn(firstPage).thenReturn(lastPage);
+
+    assertFalse(request.search(searchAction, scrollAction).isEmpty());
+    assertEquals(ImmutableMap.of("name", "b"), builder.afterKey());
+    assertFalse(request.search(searchAction, scrollAction).isEmpty());
+    assertTrue(request.search(searchAction, scrollAction).isEmpty());
+    verify(searchAction, times(2)).apply(any());
+  }
+
+  @Test
+  void searchCompositeAggregationFromFirstPageAfterReset() {
+    CompositeAggregationBuilder builder = AggregationBuilders.composite("composite_buckets",
+        Collections.singletonList(new TermsValuesSourceBuilder("name").field("name")))
+        .size(2);
+    request.getSourceBuilder().aggregation(builder);
+
+    SearchResponse lastPage = compositeResponse(1, ImmutableMap.of("name", "c"));
+    when(searchAction.apply(any()))
+        .thenReturn(compositeResponse(2, ImmutableMap.of("name", "b")))
+        .thenReturn(lastPage);
+
+    assertFalse(request.search(searchAction, scrollAction).isEmpty());
+    assertEquals(ImmutableMap.of("name", "b"), builder.afterKey());
+
+    request.reset();
+    assertNull(builder.afterKey());
+    assertFalse(request.search(searchAction, scrollAction).isEmpty());
+    assertTrue(request.search(searchAction, scrollAction).isEmpty());
+    verify(searchAction, times(2)).apply(any());
+  }
+
+  @Test
+  void resetWithoutCompositeAggregation() {
+    when(searchAction.apply(any())).thenReturn(searchResponse);
+    when(searchResponse.getHits()).thenReturn(searchHits);
+    when(searchHits.getHits()).thenReturn(new SearchHit[] {searchHit});
+
+    assertFalse(request.search(searchAction, scrollAction).isEmpty());
+    request.reset();
+    assertFalse(request.search(searchAction, scrollAction).isEmpty());
+    verify(searchAction, times(2)).apply(any());
+  }
+
+  @Test
+  void searchCompositeAggregationWithoutAggregationResult() {
+    request.getSourceBuilder().aggregation(AggregationBuilders.composite("composite_buckets",
+        Collections.singletonList(new TermsValuesSourceBuilder("name").field("name"))));
+
+    when(searchAction.apply(any())).thenReturn(searchResponse);
+    when(searchResponse.getHits()).thenReturn(searchHits);
+    when(searchHits.getHits()).thenReturn(new SearchHit[] {searchHit});
+
+    assertFalse(request.search(searchAction, scrollAction).isEmpty());
+    assertTrue(request.search(searchAction, scrollAction).isEmpty());
+    verify(searchAction, times(1)).apply(any());
+  }
+
+  private SearchResponse compositeResponse(int bucketCount, Map<String, Object> afterKey) {
+    CompositeAggregation composite = mock(CompositeAggregation.class);
+    when(composite.getName()).thenReturn("composite_buckets");
+    doReturn(Collections.nCopies(bucketCount, mock(CompositeAggregation.Bucket.class)))
+        .when(composite).getBuckets();
+    lenient().when(composite.afterKey()).thenReturn(afterKey);
+
+    SearchResponse response = mock(SearchResponse.class);
+    when(response.getHits()).thenReturn(SearchHits.empty());
+    when(response.getAggregations())
+        .thenReturn(new Aggregations(Collections.singletonList(composite)));
+    return response;
+  }
+
   @Test
   void clean() {
     request.clean(cleanAction);
@@ -32,6 +32,7 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.anyOf;
 import static org.hamcrest.Matchers.hasEntry;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Answers.CALLS_REAL_METHODS;
 import static org.mockito.Mockito.when;
 import static org.opensearch.sql.data.model.ExprValueUtils.stringValue;
 import static org.opensearch.sql.data.type.ExprCoreType.STRING;
@@ -51,7 +52,7 @@ import org.opensearch.sql.opensearch.mapping.IndexMapping;
 @ExtendWith(MockitoExtension.class)
 class OpenSearchDescribeIndexRequestTest {
 
-  @Mock
+  @Mock(answer = CALLS_REAL_METHODS)
   private OpenSearchClient client;
 
   @Test
@@ -48,6 +48,8 @@ import org.opensearch.search.aggregations.bucket.filter.FilterAggregationBuilder
 import org.opensearch.search.aggregations.bucket.filter.ParsedFilter;
 import org.opensearch.search.aggregations.bucket.histogram.DateHistogramAggregationBuilder;
 import org.opensearch.search.aggregations.bucket.histogram.ParsedDateHistogram;
+import org.opensearch.search.aggregations.bucket.missing.MissingAggregationBuilder;
+import org.opensearch.search.aggregations.bucket.missing.ParsedMissing;
 import org.opensearch.search.aggregations.bucket.terms.DoubleTerms;
 import org.opensearch.search.aggregations.bucket.terms.LongTerms;
 import org.opensearch.search.aggregations.bucket.terms.ParsedDoubleTerms;
@@ -91,6 +93,8 @@ public class AggregationResponseUtils {
               (p, c) -> ParsedComposite.fromXContent(p, (String) c))
           .put(FilterAggregationBuilder.NAME,
               (p, c) -> ParsedFilter.fromXContent(p, (String) c))
+          .put(MissingAggregationBuilder.NAME,
+              (p, c) -> ParsedMissing.fromXContent(p, (String) c))
           .build()
           .entrySet()
           .stream()
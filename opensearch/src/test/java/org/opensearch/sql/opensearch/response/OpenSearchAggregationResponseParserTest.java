@@ -34,20 +34,26 @@ import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.opensearch.sql.data.type.ExprCoreType.BOOLEAN;
+import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
+import static org.opensearch.sql.data.type.ExprCoreType.STRING;
 import static org.opensearch.sql.opensearch.response.AggregationResponseUtils.fromJson;
 import static org.opensearch.sql.opensearch.response.agg.Utils.handleNanValue;
 
 import com.google.common.collect.ImmutableMap;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import org.junit.jupiter.api.DisplayNameGeneration;
 import org.junit.jupiter.api.DisplayNameGenerator;
 import org.junit.jupiter.api.Test;
 import org.opensearch.search.aggregations.metrics.ExtendedStats;
+import org.opensearch.sql.ast.tree.RareTopN.CommandType;
 import org.opensearch.sql.opensearch.response.agg.CompositeAggregationParser;
 import org.opensearch.sql.opensearch.response.agg.FilterParser;
 import org.opensearch.sql.opensearch.response.agg.NoBucketAggregationParser;
 import org.opensearch.sql.opensearch.response.agg.OpenSearchAggregationResponseParser;
+import org.opensearch.sql.opensearch.response.agg.RareTopNAggregationParser;
 import org.opensearch.sql.opensearch.response.agg.SingleValueParser;
 import org.opensearch.sql.opensearch.response.agg.StatsParser;
 
@@ -292,6 +298,100 @@ class OpenSearchAggregationResponseParserTest {
         contains(entry("esField", 93.71390409320287, "maxField", 360D)));
   }
 
+  /**
+   * source=logs | top 2 host.
+   */
+  @Test
+  void top_n_should_include_missing_count_in_count_order() {
+    String response = "{\n"
+        + "  \"sterms#rare_top_n\": {\n"
+        + "    \"doc_count_error_upper_bound\": 0,\n"
+        + "    \"sum_other_doc_count\": 1,\n"
+        + "    \"buckets\": [\n"
+        + "      {\"key\": \"a\", \"doc_count\": 5},\n"
+        + "      {\"key\": \"b\", \"doc_count\": 2}\n"
+        + "    ]\n"
+        + "  },\n"
+        + "  \"missing#rare_top_n_missing\": {\n"
+        + "    \"doc_count\": 3\n"
+        + "  }\n"
+        + "}";
+    OpenSearchAggregationResponseParser parser =
+        new RareTopNAggregationParser(CommandType.TOP, 2, "host", STRING);
+    assertThat(parse(parser, response),
+        contains(entry("host", "a"), Collections.singletonMap("host", null)));
+  }
+
+  /**
+   * source=logs | rare 2 active by region.
+   */
+  @Test
+  void rare_n_by_group_should_pass() {
+    String response = "{\n"
+        + "  \"composite#composite_buckets\": {\n"
+        + "    \"after_key\": {\"region\": \"us\"},\n"
+        + "    \"buckets\": [\n"
+        + "      {\n"
+        + "        \"key\": {\"region\": \"uk\"},\n"
+        + "        \"doc_count\": 6,\n"
+        + "        \"lterms#rare_top_n\": {\n"
+        + "          \"doc_count_error_upper_bound\": 0,\n"
+        + "          \"sum_other_doc_count\": 0,\n"
+        + "          \"buckets\": [\n"
+        + "            {\"key\": 0, \"key_as_string\": \"false\", \"doc_count\": 1},\n"
+        + "            {\"key\": 1, \"key_as_string\": \"true\", \"doc_count\": 5}\n"
+        + "          ]\n"
+        + "        },\n"
+        + "        \"missing#rare_top_n_missing\": {\"doc_count\": 0}\n"
+        + "      },\n"
+        + "      {\n"
+        + "        \"key\": {\"region\": \"us\"},\n"
+        + "        \"doc_count\": 4,\n"
+        + "        \"lterms#rare_top_n\": {\n"
+        + "          \"doc_count_error_upper_bound\": 0,\n"
+        + "          \"sum_other_doc_count\": 0,\n"
+        + "          \"buckets\": [\n"
+        + "            {\"key\": 1, \"key_as_string\": \"true\", \"doc_count\": 4}\n"
+        + "          ]\n"
+        + "        },\n"
+        + "        \"missing#rare_top_n_missing\": {\"doc_count\": 0}\n"
+        + "      }\n"
+        + "    ]\n"
+        + "  }\n"
+        + "}";
+    OpenSearchAggregationResponseParser parser =
+        new RareTopNAggregationParser(CommandType.RARE, 2, "active", BOOLEAN);
+    assertThat(parse(parser, response),
+        contains(
+            entry("region", "uk", "active", false),
+            entry("region", "uk", "active", true),
+            entry("region", "us", "active", true)));
+  }
+
+  /**
+   * source=logs | rare 2 status.
+   */
+  @Test
+  void rare_n_should_keep_least_counted_values() {
+    String response = "{\n"
+        + "  \"lterms#rare_top_n\": {\n"
+        + "    \"doc_count_error_upper_bound\": 0,\n"
+        + "    \"sum_other_doc_count\": 0,\n"
+        + "    \"buckets\": [\n"
+        + "      {\"key\": 500, \"doc_count\": 1},\n"
+        + "      {\"key\": 404, \"doc_count\": 3}\n"
+        + "    ]\n"
+        + "  },\n"
+        + "  \"missing#rare_top_n_missing\": {\n"
+        + "    \"doc_count\": 2\n"
+        + "  }\n"
+        + "}";
+    OpenSearchAggregationResponseParser parser =
+        new RareTopNAggregationParser(CommandType.RARE, 2, "status", INTEGER);
+    assertThat(parse(parser, response),
+        contains(entry("status", 500L), Collections.singletonMap("status", null)));
+  }
+
   public List<Map<String, Object>> parse(OpenSearchAggregationResponseParser parser, String json) {
     return parser.parse(fromJson(json));
   }
@@ -44,6 +44,8 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.opensearch.action.search.SearchResponse;
+import org.opensearch.common.bytes.BytesArray;
+import org.opensearch.common.bytes.BytesReference;
 import org.opensearch.search.SearchHit;
 import org.opensearch.search.SearchHits;
 import org.opensearch.search.aggregations.Aggregations;
@@ -114,9 +116,11 @@ class OpenSearchResponseTest {
                 new TotalHits(2L, TotalHits.Relation.EQUAL_TO),
                 1.0F));
 
-    when(searchHit1.getSourceAsString()).thenReturn("{\"id1\", 1}");
-    when(searchHit2.getSourceAsString()).thenReturn("{\"id1\", 2}");
-    when(factory.construct(any())).thenReturn(exprTupleValue1).thenReturn(exprTupleValue2);
+    when(searchHit1.getSourceRef()).thenReturn(new BytesArray("{\"id1\", 1}"));
+    when(searchHit2.getSourceRef()).thenReturn(new BytesArray("{\"id1\", 2}"));
+    when(factory.construct(any(BytesReference.class)))
+        .thenReturn(exprTupleValue1)
+        .thenReturn(exprTupleValue2);
 
     int i = 0;
     for (ExprValue hit : new OpenSearchResponse(searchResponse, factory)) {
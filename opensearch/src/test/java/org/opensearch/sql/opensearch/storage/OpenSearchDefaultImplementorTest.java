@@ -36,6 +36,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.sql.expression.function.BuiltinFunctionRepository;
 
 @ExtendWith(MockitoExtension.class)
 public class OpenSearchDefaultImplementorTest {
@@ -43,13 +44,16 @@ public class OpenSearchDefaultImplementorTest {
   @Mock
   OpenSearchIndexScan indexScan;
 
+  @Mock
+  BuiltinFunctionRepository functionRepository;
+
   /**
    * For test coverage.
    */
   @Test
   public void visitInvalidTypeShouldThrowException() {
     final OpenSearchIndex.OpenSearchDefaultImplementor implementor =
-        new OpenSearchIndex.OpenSearchDefaultImplementor(indexScan);
+        new OpenSearchIndex.OpenSearchDefaultImplementor(indexScan, functionRepository);
 
     final IllegalStateException exception =
         assertThrows(IllegalStateException.class, () -> implementor.visitNode(relation("index"),
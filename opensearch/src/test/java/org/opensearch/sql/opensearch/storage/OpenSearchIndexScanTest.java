@@ -29,10 +29,13 @@ package org.opensearch.sql.opensearch.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.opensearch.search.sort.FieldSortBuilder.DOC_FIELD_NAME;
@@ -41,6 +44,8 @@ import static org.opensearch.sql.data.type.ExprCoreType.STRING;
 
 import com.google.common.collect.ImmutableMap;
 import java.util.Arrays;
+import java.util.Collections;
+import org.apache.commons.lang3.tuple.Pair;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -52,14 +57,22 @@ import org.opensearch.common.bytes.BytesArray;
 import org.opensearch.index.query.QueryBuilder;
 import org.opensearch.index.query.QueryBuilders;
 import org.opensearch.search.SearchHit;
+import org.opensearch.search.aggregations.AggregationBuilders;
+import org.opensearch.search.aggregations.bucket.composite.CompositeAggregationBuilder;
+import org.opensearch.search.aggregations.bucket.composite.TermsValuesSourceBuilder;
+import org.opensearch.search.builder.SearchSourceBuilder;
 import org.opensearch.sql.common.setting.Settings;
 import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.data.model.ExprValueUtils;
+import org.opensearch.sql.expression.DSL;
 import org.opensearch.sql.opensearch.client.OpenSearchClient;
+import org.opensearch.sql.opensearch.data.type.OpenSearchDataType;
 import org.opensearch.sql.opensearch.data.value.OpenSearchExprValueFactory;
 import org.opensearch.sql.opensearch.request.OpenSearchQueryRequest;
 import org.opensearch.sql.opensearch.request.OpenSearchRequest;
+import org.opensearch.sql.opensearch.request.OpenSearchScrollRequest;
 import org.opensearch.sql.opensearch.response.OpenSearchResponse;
+import org.opensearch.sql.opensearch.response.agg.OpenSearchAggregationResponseParser;
 
 @ExtendWith(MockitoExtension.class)
 class OpenSearchIndexScanTest {
@@ -76,6 +89,7 @@ class OpenSearchIndexScanTest {
   @BeforeEach
   void setup() {
     when(settings.getSettingValue(Settings.Key.QUERY_SIZE_LIMIT)).thenReturn(200);
+    lenient().when(settings.getSettingValue(Settings.Key.QUERY_SCROLL_ENABLED)).thenReturn(false);
   }
 
   @Test
@@ -113,6 +127,139 @@ class OpenSearchIndexScanTest {
     verify(client).cleanup(any());
   }
 
+  @Test
+  void queryAllResultsWithScroll() {
+    when(settings.getSettingValue(Settings.Key.QUERY_SCROLL_ENABLED)).thenReturn(true);
+    mockResponse(
+        new ExprValue[]{employee(1, "John", "IT"), employee(2, "Smith", "HR")},
+        new ExprValue[]{employee(3, "Allen", "IT")});
+
+    try (OpenSearchIndexScan indexScan =
+             new OpenSearchIndexScan(client, settings, "employees", exprValueFactory)) {
+      indexScan.open();
+      assertTrue(indexScan.getRequest() instanceof OpenSearchScrollRequest);
+
+      assertTrue(indexScan.hasNext());
+      assertEquals(employee(1, "John", "IT"), indexScan.next());
+
+      assertTrue(indexScan.hasNext());
+      assertEquals(employee(2, "Smith", "HR"), indexScan.next());
+
+      assertTrue(indexScan.hasNext());
+      assertEquals(employee(3, "Allen", "IT"), indexScan.next());
+
+      assertFalse(indexScan.hasNext());
+    }
+    verify(client, times(3)).search(any());
+    verify(client).cleanup(any());
+  }
+
+  @Test
+  void fetchNextBatchLazily() {
+    when(settings.getSettingValue(Settings.Key.QUERY_SCROLL_ENABLED)).thenReturn(true);
+    mockResponse(
+        new ExprValue[]{employee(1, "John", "IT")},
+        new ExprValue[]{employee(2, "Smith", "HR")});
+
+    try (OpenSearchIndexScan indexScan =
+             new OpenSearchIndexScan(client, settings, "employees", exprValueFactory)) {
+      indexScan.open();
+
+      assertTrue(indexScan.hasNext());
+      assertEquals(employee(1, "John", "IT"), indexScan.next());
+    }
+    verify(client, times(1)).search(any());
+    verify(client).cleanup(any());
+  }
+
+  @Test
+  void queryWithoutScrollIfLimitPushedDown() {
+    when(settings.getSettingValue(Settings.Key.QUERY_SCROLL_ENABLED)).thenReturn(true);
+    mockResponse(new ExprValue[]{employee(1, "John", "IT")});
+
+    try (OpenSearchIndexScan indexScan =
+             new OpenSearchIndexScan(client, settings, "employees", exprValueFactory)) {
+      indexScan.pushDownLimit(1, 0);
+      indexScan.open();
+      assertTrue(indexScan.getRequest() instanceof OpenSearchQueryRequest);
+
+      assertTrue(indexScan.hasNext());
+      assertEquals(employee(1, "John", "IT"), indexScan.next());
+      assertFalse(indexScan.hasNext());
+    }
+  }
+
+  @Test
+  void queryWithoutScrollIfAggregationPushedDown() {
+    when(settings.getSettingValue(Settings.Key.QUERY_SCROLL_ENABLED)).thenReturn(true);
+    mockResponse();
+
+    try (OpenSearchIndexScan indexScan =
+             new OpenSearchIndexScan(client, settings, "employees", exprValueFactory)) {
+      indexScan.pushDownAggregation(Pair.of(
+          Arrays.asList(AggregationBuilders.terms("name").field("name")),
+          mock(OpenSearchAggregationResponseParser.class)));
+      indexScan.open();
+      assertTrue(indexScan.getRequest() instanceof OpenSearchQueryRequest);
+      assertFalse(indexScan.hasNext());
+    }
+  }
+
+  @Test
+  void queryWithoutScrollIfCollapsePushedDown() {
+    when(settings.getSettingValue(Settings.Key.QUERY_SCROLL_ENABLED)).thenReturn(true);
+    mockResponse(new ExprValue[]{employee(1, "John", "IT")});
+
+    try (OpenSearchIndexScan indexScan =
+             new OpenSearchIndexScan(client, settings, "employees", exprValueFactory)) {
+      indexScan.pushDownCollapse(
+          DSL.ref("department", OpenSearchDataType.OPENSEARCH_TEXT_KEYWORD));
+      indexScan.open();
+      assertTrue(indexScan.getRequest() instanceof OpenSearchQueryRequest);
+
+      SearchSourceBuilder source = indexScan.getRequest().getSourceBuilder();
+      assertEquals("department.keyword", source.collapse().getField());
+      assertEquals(QueryBuilders.existsQuery("department.keyword"), source.query());
+      assertTrue(indexScan.hasNext());
+      assertEquals(employee(1, "John", "IT"), indexScan.next());
+      assertFalse(indexScan.hasNext());
+    }
+  }
+
+  @Test
+  void pushDownCompositeAggregationWithBucketPageSize() {
+    when(settings.getSettingValue(Settings.Key.QUERY_BUCKET_PAGE_SIZE)).thenReturn(10);
+    CompositeAggregationBuilder composite = AggregationBuilders.composite("composite_buckets",
+        Collections.singletonList(new TermsValuesSourceBuilder("name").field("name")));
+
+    OpenSearchIndexScan indexScan =
+        new OpenSearchIndexScan(client, settings, "employees", exprValueFactory);
+    indexScan.pushDownAggregation(Pair.of(
+        Arrays.asList(composite), mock(OpenSearchAggregationResponseParser.class)));
+    assertEquals(10, composite.size());
+  }
+
+  @Test
+  void reopenWithScroll() {
+    when(settings.getSettingValue(Settings.Key.QUERY_SCROLL_ENABLED)).thenReturn(true);
+    when(client.search(any())).thenReturn(emptyResponse());
+
+    try (OpenSearchIndexScan indexScan =
+             new OpenSearchIndexScan(client, settings, "employees", exprValueFactory)) {
+      indexScan.open();
+      OpenSearchRequest request = indexScan.getRequest();
+      indexScan.open();
+      assertSame(request, indexScan.getRequest());
+      assertFalse(indexScan.hasNext());
+    }
+  }
+
+  private OpenSearchResponse emptyResponse() {
+    OpenSearchResponse response = mock(OpenSearchResponse.class);
+    when(response.isEmpty()).thenReturn(true);
+    return response;
+  }
+
   @Test
   void pushDownFilters() {
     assertThat()
@@ -31,10 +31,13 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.aMapWithSize;
 import static org.hamcrest.Matchers.allOf;
 import static org.hamcrest.Matchers.arrayContaining;
+import static org.hamcrest.Matchers.arrayContainingInAnyOrder;
 import static org.hamcrest.Matchers.emptyArray;
 import static org.hamcrest.Matchers.hasEntry;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Answers.CALLS_REAL_METHODS;
 import static org.mockito.Mockito.when;
 import static org.opensearch.sql.data.type.ExprCoreType.DOUBLE;
 import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
@@ -44,6 +47,8 @@ import static org.opensearch.sql.expression.DSL.named;
 import static org.opensearch.sql.expression.DSL.ref;
 import static org.opensearch.sql.opensearch.utils.Utils.indexScan;
 import static org.opensearch.sql.opensearch.utils.Utils.indexScanAgg;
+import static org.opensearch.sql.opensearch.utils.Utils.indexScanCollapse;
+import static org.opensearch.sql.opensearch.utils.Utils.indexScanRareTopN;
 import static org.opensearch.sql.opensearch.utils.Utils.noProjects;
 import static org.opensearch.sql.opensearch.utils.Utils.projects;
 import static org.opensearch.sql.planner.logical.LogicalPlanDSL.aggregation;
@@ -57,6 +62,7 @@ import static org.opensearch.sql.planner.logical.LogicalPlanDSL.rename;
 import static org.opensearch.sql.planner.logical.LogicalPlanDSL.sort;
 
 import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
@@ -67,6 +73,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.opensearch.search.fetch.subphase.FetchSourceContext;
+import org.opensearch.sql.ast.tree.RareTopN.CommandType;
 import org.opensearch.sql.ast.tree.Sort;
 import org.opensearch.sql.common.setting.Settings;
 import org.opensearch.sql.data.model.ExprBooleanValue;
@@ -79,26 +86,32 @@ import org.opensearch.sql.expression.ReferenceExpression;
 import org.opensearch.sql.expression.aggregation.AvgAggregator;
 import org.opensearch.sql.expression.aggregation.NamedAggregator;
 import org.opensearch.sql.expression.config.ExpressionConfig;
+import org.opensearch.sql.expression.function.BuiltinFunctionRepository;
 import org.opensearch.sql.opensearch.client.OpenSearchClient;
 import org.opensearch.sql.opensearch.data.type.OpenSearchDataType;
 import org.opensearch.sql.opensearch.data.value.OpenSearchExprValueFactory;
 import org.opensearch.sql.opensearch.mapping.IndexMapping;
+import org.opensearch.sql.opensearch.planner.logical.OpenSearchLogicalIndexScan;
 import org.opensearch.sql.planner.logical.LogicalPlan;
 import org.opensearch.sql.planner.logical.LogicalPlanDSL;
 import org.opensearch.sql.planner.physical.AggregationOperator;
 import org.opensearch.sql.planner.physical.FilterOperator;
-import org.opensearch.sql.planner.physical.LimitOperator;
 import org.opensearch.sql.planner.physical.PhysicalPlan;
 import org.opensearch.sql.planner.physical.PhysicalPlanDSL;
+import org.opensearch.sql.planner.physical.DedupeOperator;
 import org.opensearch.sql.planner.physical.ProjectOperator;
+import org.opensearch.sql.planner.physical.TopNOperator;
 import org.opensearch.sql.storage.Table;
 
 @ExtendWith(MockitoExtension.class)
 class OpenSearchIndexTest {
 
-  private final DSL dsl = new ExpressionConfig().dsl(new ExpressionConfig().functionRepository());
+  private final BuiltinFunctionRepository functionRepository =
+      new ExpressionConfig().functionRepository();
 
-  @Mock
+  private final DSL dsl = new ExpressionConfig().dsl(functionRepository);
+
+  @Mock(answer = CALLS_REAL_METHODS)
   private OpenSearchClient client;
 
   @Mock
@@ -130,7 +143,7 @@ class OpenSearchIndexTest {
                         .put("blob", "binary")
                         .build())));
 
-    Table index = new OpenSearchIndex(client, settings, "test");
+    Table index = new OpenSearchIndex(client, settings, "test", functionRepository);
     Map<String, ExprType> fieldTypes = index.getFieldTypes();
     assertThat(
         fieldTypes,
@@ -158,7 +171,7 @@ class OpenSearchIndexTest {
 
     String indexName = "test";
     LogicalPlan plan = relation(indexName);
-    Table index = new OpenSearchIndex(client, settings, indexName);
+    Table index = new OpenSearchIndex(client, settings, indexName, functionRepository);
     assertEquals(
         new OpenSearchIndexScan(client, settings, indexName, exprValueFactory),
         index.implement(plan));
@@ -170,7 +183,7 @@ class OpenSearchIndexTest {
 
     String indexName = "test";
     LogicalPlan plan = relation(indexName);
-    Table index = new OpenSearchIndex(client, settings, indexName);
+    Table index = new OpenSearchIndex(client, settings, indexName, functionRepository);
     assertEquals(
         new OpenSearchIndexScan(client, settings, indexName, exprValueFactory),
         index.implement(index.optimize(plan)));
@@ -212,7 +225,7 @@ class OpenSearchIndexTest {
                 dedupeField),
             include);
 
-    Table index = new OpenSearchIndex(client, settings, indexName);
+    Table index = new OpenSearchIndex(client, settings, indexName, functionRepository);
     assertEquals(
         PhysicalPlanDSL.project(
             PhysicalPlanDSL.dedupe(
@@ -240,7 +253,7 @@ class OpenSearchIndexTest {
     Expression filterExpr = dsl.equal(field, literal("John"));
 
     String indexName = "test";
-    OpenSearchIndex index = new OpenSearchIndex(client, settings, indexName);
+    OpenSearchIndex index = new OpenSearchIndex(client, settings, indexName, functionRepository);
     PhysicalPlan plan = index.implement(
         project(
             indexScan(
@@ -253,6 +266,22 @@ class OpenSearchIndexTest {
     assertTrue(((ProjectOperator) plan).getInput() instanceof OpenSearchIndexScan);
   }
 
+  @Test
+  void shouldReportFilterPushedDownAsScriptQuery() {
+    when(settings.getSettingValue(Settings.Key.QUERY_SIZE_LIMIT)).thenReturn(200);
+
+    Expression filterExpr = dsl.and(
+        dsl.equal(ref("name", STRING), literal("John")),
+        dsl.equal(dsl.abs(ref("age", INTEGER)), literal(30)));
+
+    String indexName = "test";
+    OpenSearchIndex index = new OpenSearchIndex(client, settings, indexName, functionRepository);
+    PhysicalPlan plan = index.implement(indexScan(indexName, filterExpr));
+
+    assertEquals(Arrays.asList("=(abs(age), 30)"),
+        ((OpenSearchIndexScan) plan).getScriptFilters());
+  }
+
   @Test
   void shouldNotPushDownFilterFarFromRelation() {
     when(settings.getSettingValue(Settings.Key.QUERY_SIZE_LIMIT)).thenReturn(200);
@@ -265,7 +294,7 @@ class OpenSearchIndexTest {
             DOUBLE)));
 
     String indexName = "test";
-    OpenSearchIndex index = new OpenSearchIndex(client, settings, indexName);
+    OpenSearchIndex index = new OpenSearchIndex(client, settings, indexName, functionRepository);
     PhysicalPlan plan = index.implement(
         filter(
             aggregation(
@@ -281,6 +310,7 @@ class OpenSearchIndexTest {
   @Test
   void shouldImplLogicalIndexScanAgg() {
     when(settings.getSettingValue(Settings.Key.QUERY_SIZE_LIMIT)).thenReturn(200);
+    when(settings.getSettingValue(Settings.Key.QUERY_BUCKET_PAGE_SIZE)).thenReturn(1000);
 
     ReferenceExpression field = ref("name", STRING);
     Expression filterExpr = dsl.equal(field, literal("John"));
@@ -290,7 +320,7 @@ class OpenSearchIndexTest {
             DOUBLE)));
 
     String indexName = "test";
-    OpenSearchIndex index = new OpenSearchIndex(client, settings, indexName);
+    OpenSearchIndex index = new OpenSearchIndex(client, settings, indexName, functionRepository);
 
     // IndexScanAgg without Filter
     PhysicalPlan plan = index.implement(
@@ -314,6 +344,33 @@ class OpenSearchIndexTest {
     assertTrue(plan instanceof OpenSearchIndexScan);
   }
 
+  @Test
+  void shouldImplLogicalIndexScanRareTopN() {
+    when(settings.getSettingValue(Settings.Key.QUERY_SIZE_LIMIT)).thenReturn(200);
+    when(settings.getSettingValue(Settings.Key.QUERY_BUCKET_PAGE_SIZE)).thenReturn(1000);
+
+    String indexName = "test";
+    OpenSearchIndex index = new OpenSearchIndex(client, settings, indexName, functionRepository);
+    PhysicalPlan plan = index.implement(
+        indexScanRareTopN(
+            indexName,
+            dsl.equal(ref("name", STRING), literal("John")),
+            CommandType.TOP,
+            5,
+            ref("host", STRING),
+            Arrays.asList(ref("region", STRING))));
+
+    assertTrue(plan instanceof OpenSearchIndexScan);
+    String request = ((OpenSearchIndexScan) plan).explain();
+    assertTrue(request.contains("\"composite_buckets\""));
+    assertTrue(request.contains("\"rare_top_n\""));
+
+    plan = index.implement(
+        indexScanRareTopN(
+            indexName, null, CommandType.TOP, 5, ref("host", STRING), Arrays.asList()));
+    assertTrue(((OpenSearchIndexScan) plan).explain().contains("\"rare_top_n_missing\""));
+  }
+
   @Test
   void shouldNotPushDownAggregationFarFromRelation() {
     when(settings.getSettingValue(Settings.Key.QUERY_SIZE_LIMIT)).thenReturn(200);
@@ -326,7 +383,7 @@ class OpenSearchIndexTest {
             DOUBLE)));
 
     String indexName = "test";
-    OpenSearchIndex index = new OpenSearchIndex(client, settings, indexName);
+    OpenSearchIndex index = new OpenSearchIndex(client, settings, indexName, functionRepository);
 
     PhysicalPlan plan = index.implement(
         aggregation(
@@ -347,7 +404,7 @@ class OpenSearchIndexTest {
     Expression sortExpr = ref("name", STRING);
 
     String indexName = "test";
-    OpenSearchIndex index = new OpenSearchIndex(client, settings, indexName);
+    OpenSearchIndex index = new OpenSearchIndex(client, settings, indexName, functionRepository);
     PhysicalPlan plan = index.implement(
         project(
             indexScan(
@@ -368,7 +425,7 @@ class OpenSearchIndexTest {
     NamedExpression named = named("n", field);
 
     String indexName = "test";
-    OpenSearchIndex index = new OpenSearchIndex(client, settings, indexName);
+    OpenSearchIndex index = new OpenSearchIndex(client, settings, indexName, functionRepository);
     PhysicalPlan plan = index.implement(
         project(
             indexScan(
@@ -381,6 +438,79 @@ class OpenSearchIndexTest {
     assertTrue(((ProjectOperator) plan).getInput() instanceof OpenSearchIndexScan);
   }
 
+  @Test
+  void shouldImplIndexScanWithCollapse() {
+    when(settings.getSettingValue(Settings.Key.QUERY_SIZE_LIMIT)).thenReturn(200);
+
+    ReferenceExpression field = ref("name", STRING);
+    NamedExpression named = named("n", field);
+
+    String indexName = "test";
+    OpenSearchIndex index = new OpenSearchIndex(client, settings, indexName, functionRepository);
+    PhysicalPlan plan = index.implement(
+        project(
+            indexScanCollapse(
+                indexName,
+                null,
+                null,
+                field
+            ),
+            named));
+
+    assertTrue(plan instanceof ProjectOperator);
+    OpenSearchIndexScan indexScan = (OpenSearchIndexScan) ((ProjectOperator) plan).getInput();
+    assertEquals("name",
+        indexScan.getRequest().getSourceBuilder().collapse().getField());
+  }
+
+  @Test
+  void shouldImplDedupeInMemoryIfScrollEnabledWithoutLimit() {
+    when(settings.getSettingValue(Settings.Key.QUERY_SIZE_LIMIT)).thenReturn(200);
+    when(settings.getSettingValue(Settings.Key.QUERY_SCROLL_ENABLED)).thenReturn(true);
+
+    ReferenceExpression field = ref("name", STRING);
+    String indexName = "test";
+    OpenSearchIndex index = new OpenSearchIndex(client, settings, indexName, functionRepository);
+    PhysicalPlan plan = index.implement(indexScanCollapse(indexName, null, null, field));
+
+    assertTrue(plan instanceof DedupeOperator);
+    OpenSearchIndexScan indexScan = (OpenSearchIndexScan) ((DedupeOperator) plan).getInput();
+    assertNull(indexScan.getRequest().getSourceBuilder().collapse());
+
+    plan = index.implement(
+        OpenSearchLogicalIndexScan.builder()
+            .relationName(indexName)
+            .collapseField(field)
+            .projectList(ImmutableSet.of(ref("age", INTEGER)))
+            .build());
+
+    assertTrue(plan instanceof DedupeOperator);
+    indexScan = (OpenSearchIndexScan) ((DedupeOperator) plan).getInput();
+    assertNull(indexScan.getRequest().getSourceBuilder().collapse());
+    assertThat(indexScan.getRequest().getSourceBuilder().fetchSource().includes(),
+        arrayContainingInAnyOrder("age", "name"));
+  }
+
+  @Test
+  void shouldImplIndexScanWithCollapseIfScrollEnabledWithLimit() {
+    when(settings.getSettingValue(Settings.Key.QUERY_SIZE_LIMIT)).thenReturn(200);
+    when(settings.getSettingValue(Settings.Key.QUERY_SCROLL_ENABLED)).thenReturn(true);
+
+    String indexName = "test";
+    OpenSearchIndex index = new OpenSearchIndex(client, settings, indexName, functionRepository);
+    PhysicalPlan plan = index.implement(
+        OpenSearchLogicalIndexScan.builder()
+            .relationName(indexName)
+            .collapseField(ref("name", STRING))
+            .offset(0)
+            .limit(10)
+            .build());
+
+    assertTrue(plan instanceof OpenSearchIndexScan);
+    assertEquals("name",
+        ((OpenSearchIndexScan) plan).getRequest().getSourceBuilder().collapse().getField());
+  }
+
   @Test
   void shouldImplIndexScanWithSortAndLimit() {
     when(settings.getSettingValue(Settings.Key.QUERY_SIZE_LIMIT)).thenReturn(200);
@@ -390,7 +520,7 @@ class OpenSearchIndexTest {
     Expression sortExpr = ref("name", STRING);
 
     String indexName = "test";
-    OpenSearchIndex index = new OpenSearchIndex(client, settings, indexName);
+    OpenSearchIndex index = new OpenSearchIndex(client, settings, indexName, functionRepository);
     PhysicalPlan plan = index.implement(
         project(
             indexScan(
@@ -410,7 +540,7 @@ class OpenSearchIndexTest {
     when(settings.getSettingValue(Settings.Key.QUERY_SIZE_LIMIT)).thenReturn(200);
 
     String indexName = "test";
-    OpenSearchIndex index = new OpenSearchIndex(client, settings, indexName);
+    OpenSearchIndex index = new OpenSearchIndex(client, settings, indexName, functionRepository);
     PhysicalPlan plan = index.implement(index.optimize(
         project(
             limit(
@@ -426,7 +556,7 @@ class OpenSearchIndexTest {
     ));
 
     assertTrue(plan instanceof ProjectOperator);
-    assertTrue(((ProjectOperator) plan).getInput() instanceof LimitOperator);
+    assertTrue(((ProjectOperator) plan).getInput() instanceof TopNOperator);
   }
 
   @Test
@@ -434,7 +564,7 @@ class OpenSearchIndexTest {
     when(settings.getSettingValue(Settings.Key.QUERY_SIZE_LIMIT)).thenReturn(200);
 
     String indexName = "test";
-    OpenSearchIndex index = new OpenSearchIndex(client, settings, indexName);
+    OpenSearchIndex index = new OpenSearchIndex(client, settings, indexName, functionRepository);
     PhysicalPlan plan = index.implement(
         project(
             indexScan(
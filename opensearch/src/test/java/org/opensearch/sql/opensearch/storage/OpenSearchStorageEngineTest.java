@@ -36,6 +36,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.opensearch.sql.common.setting.Settings;
+import org.opensearch.sql.expression.function.BuiltinFunctionRepository;
 import org.opensearch.sql.opensearch.client.OpenSearchClient;
 import org.opensearch.sql.opensearch.storage.system.OpenSearchSystemIndex;
 import org.opensearch.sql.storage.Table;
@@ -47,16 +48,20 @@ class OpenSearchStorageEngineTest {
 
   @Mock private Settings settings;
 
+  @Mock private BuiltinFunctionRepository functionRepository;
+
   @Test
   public void getTable() {
-    OpenSearchStorageEngine engine = new OpenSearchStorageEngine(client, settings);
+    OpenSearchStorageEngine engine =
+        new OpenSearchStorageEngine(client, settings, functionRepository);
     Table table = engine.getTable("test");
     assertNotNull(table);
   }
 
   @Test
   public void getSystemTable() {
-    OpenSearchStorageEngine engine = new OpenSearchStorageEngine(client, settings);
+    OpenSearchStorageEngine engine =
+        new OpenSearchStorageEngine(client, settings, functionRepository);
     Table table = engine.getTable(TABLE_INFO);
     assertNotNull(table);
     assertTrue(table instanceof OpenSearchSystemIndex);
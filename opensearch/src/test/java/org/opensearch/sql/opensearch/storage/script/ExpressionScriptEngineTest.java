@@ -33,6 +33,8 @@ import static org.hamcrest.Matchers.contains;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -84,6 +86,16 @@ class ExpressionScriptEngineTest {
     assertEquals(new ExpressionFilterScriptFactory(expression), actualFactory);
   }
 
+  @Test
+  void should_deserialize_same_script_code_only_once() {
+    when(serializer.deserialize("test code")).thenReturn(expression);
+
+    Object factory1 = scriptEngine.compile("test", "test code", FilterScript.CONTEXT, emptyMap());
+    Object factory2 = scriptEngine.compile("test", "test code", FilterScript.CONTEXT, emptyMap());
+    assertEquals(factory1, factory2);
+    verify(serializer, times(1)).deserialize("test code");
+  }
+
   @Test
   void should_throw_exception_for_unsupported_script_context() {
     ScriptContext<?> unknownCtx = mock(ScriptContext.class);
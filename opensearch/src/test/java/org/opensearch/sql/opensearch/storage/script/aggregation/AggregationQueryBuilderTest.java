@@ -45,6 +45,7 @@ import static org.opensearch.sql.opensearch.utils.Utils.avg;
 import static org.opensearch.sql.opensearch.utils.Utils.group;
 import static org.opensearch.sql.opensearch.utils.Utils.sort;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.util.AbstractMap;
 import java.util.Arrays;
@@ -61,6 +62,8 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.search.aggregations.AggregationBuilder;
+import org.opensearch.sql.ast.tree.RareTopN.CommandType;
 import org.opensearch.sql.ast.tree.Sort;
 import org.opensearch.sql.data.type.ExprType;
 import org.opensearch.sql.expression.DSL;
@@ -69,13 +72,17 @@ import org.opensearch.sql.expression.NamedExpression;
 import org.opensearch.sql.expression.aggregation.AvgAggregator;
 import org.opensearch.sql.expression.aggregation.NamedAggregator;
 import org.opensearch.sql.expression.config.ExpressionConfig;
+import org.opensearch.sql.expression.function.BuiltinFunctionRepository;
 import org.opensearch.sql.opensearch.storage.serialization.ExpressionSerializer;
 
 @DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
 @ExtendWith(MockitoExtension.class)
 class AggregationQueryBuilderTest {
 
-  private final DSL dsl = new ExpressionConfig().dsl(new ExpressionConfig().functionRepository());
+  private final BuiltinFunctionRepository functionRepository =
+      new ExpressionConfig().functionRepository();
+
+  private final DSL dsl = new ExpressionConfig().dsl(functionRepository);
 
   @Mock
   private ExpressionSerializer serializer;
@@ -84,7 +91,7 @@ class AggregationQueryBuilderTest {
 
   @BeforeEach
   void set_up() {
-    queryBuilder = new AggregationQueryBuilder(serializer);
+    queryBuilder = new AggregationQueryBuilder(serializer, functionRepository);
   }
 
   @Test
@@ -416,6 +423,48 @@ class AggregationQueryBuilderTest {
         ));
   }
 
+  @Test
+  void should_build_terms_and_missing_aggregation_for_top_n() {
+    List<AggregationBuilder> aggregations = queryBuilder.buildRareTopNAggregationBuilder(
+        CommandType.TOP, 5, ref("host", OPENSEARCH_TEXT_KEYWORD), Collections.emptyList())
+        .getLeft();
+
+    assertEquals(2, aggregations.size());
+    JsonNode terms = toJson(aggregations.get(0)).get("rare_top_n").get("terms");
+    assertEquals("host.keyword", terms.get("field").asText());
+    assertEquals(5, terms.get("size").asInt());
+    assertEquals(125, terms.get("shard_size").asInt());
+    assertEquals("desc", terms.get("order").get(0).get("_count").asText());
+    assertEquals("host.keyword",
+        toJson(aggregations.get(1)).get("rare_top_n_missing").get("missing").get("field")
+            .asText());
+  }
+
+  @Test
+  void should_build_composite_aggregation_with_terms_sub_aggregation_for_top_by_group() {
+    List<AggregationBuilder> aggregations = queryBuilder.buildRareTopNAggregationBuilder(
+        CommandType.TOP, 10, ref("host", STRING),
+        Arrays.asList(named("region", ref("region", STRING)))).getLeft();
+
+    assertEquals(1, aggregations.size());
+    JsonNode composite = toJson(aggregations.get(0)).get("composite_buckets");
+    assertEquals("region", composite.get("composite").get("sources").get(0).get("region")
+        .get("terms").get("field").asText());
+    JsonNode terms = composite.get("aggregations").get("rare_top_n").get("terms");
+    assertEquals("host", terms.get("field").asText());
+    assertEquals(10, terms.get("size").asInt());
+    assertEquals(150, terms.get("shard_size").asInt());
+    assertEquals("desc", terms.get("order").get(0).get("_count").asText());
+    assertEquals("host",
+        composite.get("aggregations").get("rare_top_n_missing").get("missing").get("field")
+            .asText());
+  }
+
+  @SneakyThrows
+  private JsonNode toJson(AggregationBuilder aggregation) {
+    return new ObjectMapper().readTree(aggregation.toString());
+  }
+
   @SneakyThrows
   private String buildQuery(List<NamedAggregator> namedAggregatorList,
                             List<NamedExpression> groupByList) {
@@ -116,6 +116,21 @@ class ExpressionAggregationScriptTest {
         .shouldMatch(null);
   }
 
+  @Test
+  void can_execute_expression_on_next_document() {
+    LeafDocLookup leafDocLookup = mock(LeafDocLookup.class);
+    when(leafDocLookup.get("age")).thenReturn(new FakeScriptDocValues<>(30L));
+    when(lookup.getLeafSearchLookup(any())).thenReturn(leafLookup);
+    when(leafLookup.doc()).thenReturn(leafDocLookup);
+
+    ExpressionAggregationScript script = new ExpressionAggregationScript(
+        dsl.abs(ref("age", INTEGER)), lookup, context, emptyMap());
+    assertEquals(30, script.execute());
+
+    script.setDocument(1);
+    assertEquals(30, script.execute());
+  }
+
   private ExprScriptAssertion assertThat() {
     return new ExprScriptAssertion(lookup, leafLookup, context);
   }
@@ -177,7 +192,6 @@ class ExpressionAggregationScriptTest {
 
     @Override
     public void setNextDocId(int docId) {
-      throw new UnsupportedOperationException("Fake script doc values doesn't implement this yet");
     }
 
     @Override
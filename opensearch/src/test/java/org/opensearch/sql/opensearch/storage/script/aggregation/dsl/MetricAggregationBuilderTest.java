@@ -61,13 +61,17 @@ import org.opensearch.sql.expression.aggregation.MinAggregator;
 import org.opensearch.sql.expression.aggregation.NamedAggregator;
 import org.opensearch.sql.expression.aggregation.SumAggregator;
 import org.opensearch.sql.expression.config.ExpressionConfig;
+import org.opensearch.sql.expression.function.BuiltinFunctionRepository;
 import org.opensearch.sql.expression.function.FunctionName;
 import org.opensearch.sql.opensearch.storage.serialization.ExpressionSerializer;
 
 @DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
 @ExtendWith(MockitoExtension.class)
 class MetricAggregationBuilderTest {
-  private final DSL dsl = new ExpressionConfig().dsl(new ExpressionConfig().functionRepository());
+  private final BuiltinFunctionRepository functionRepository =
+      new ExpressionConfig().functionRepository();
+
+  private final DSL dsl = new ExpressionConfig().dsl(functionRepository);
 
   @Mock
   private ExpressionSerializer serializer;
@@ -79,7 +83,7 @@ class MetricAggregationBuilderTest {
 
   @BeforeEach
   void set_up() {
-    aggregationBuilder = new MetricAggregationBuilder(serializer);
+    aggregationBuilder = new MetricAggregationBuilder(serializer, functionRepository);
   }
 
   @Test
@@ -35,6 +35,8 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.opensearch.sql.data.type.ExprCoreType.FLOAT;
 import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
@@ -45,6 +47,7 @@ import static org.opensearch.sql.expression.DSL.ref;
 import static org.opensearch.sql.opensearch.data.type.OpenSearchDataType.OPENSEARCH_TEXT_KEYWORD;
 
 import com.google.common.collect.ImmutableMap;
+import java.io.IOException;
 import java.time.ZonedDateTime;
 import java.util.List;
 import java.util.Map;
@@ -162,6 +165,50 @@ class ExpressionFilterScriptTest {
         .filterBy(literal(10));
   }
 
+  @Test
+  void can_execute_expression_on_next_document() {
+    FakeScriptDocValues<Long> age = new FakeScriptDocValues<>(30L);
+    LeafDocLookup leafDocLookup = mock(LeafDocLookup.class);
+    when(leafDocLookup.get(anyString())).thenAnswer(
+        invocation -> "age".equals(invocation.getArgument(0)) ? age : null);
+    when(lookup.getLeafSearchLookup(any())).thenReturn(leafLookup);
+    when(leafLookup.doc()).thenReturn(leafDocLookup);
+
+    ExpressionFilterScript script = new ExpressionFilterScript(
+        dsl.and(
+            dsl.greater(ref("age", INTEGER), literal(20)),
+            dsl.equal(ref("name", STRING), literal("John"))),
+        lookup, context, emptyMap());
+    Assertions.assertFalse(script.execute());
+
+    script.setDocument(1);
+    Assertions.assertFalse(script.execute());
+    Assertions.assertFalse(script.execute());
+    assertEquals(1, age.docId);
+    verify(leafDocLookup, times(2)).get(anyString());
+  }
+
+  @Test
+  void cannot_execute_expression_if_failed_to_read_next_document() {
+    LeafDocLookup leafDocLookup = mock(LeafDocLookup.class);
+    when(leafDocLookup.get("age")).thenReturn(new FakeScriptDocValues<Long>(30L) {
+      @Override
+      public void setNextDocId(int docId) throws IOException {
+        throw new IOException("read error");
+      }
+    });
+    when(lookup.getLeafSearchLookup(any())).thenReturn(leafLookup);
+    when(leafLookup.doc()).thenReturn(leafDocLookup);
+
+    ExpressionFilterScript script = new ExpressionFilterScript(
+        dsl.greater(ref("age", INTEGER), literal(20)), lookup, context, emptyMap());
+    Assertions.assertTrue(script.execute());
+
+    script.setDocument(1);
+    IllegalStateException e = assertThrows(IllegalStateException.class, script::execute);
+    assertEquals("Failed to read doc values of document [1]", e.getMessage());
+  }
+
   private ExprScriptAssertion assertThat() {
     return new ExprScriptAssertion(lookup, leafLookup, context);
   }
@@ -234,6 +281,7 @@ class ExpressionFilterScriptTest {
 
   private static class FakeScriptDocValues<T> extends ScriptDocValues<T> {
     private final List<T> values;
+    private int docId = -1;
 
     @SuppressWarnings("unchecked")
     public FakeScriptDocValues(T value) {
@@ -241,8 +289,8 @@ class ExpressionFilterScriptTest {
     }
 
     @Override
-    public void setNextDocId(int docId) {
-      throw new UnsupportedOperationException("Fake script doc values doesn't implement this yet");
+    public void setNextDocId(int docId) throws IOException {
+      this.docId = docId;
     }
 
     @Override
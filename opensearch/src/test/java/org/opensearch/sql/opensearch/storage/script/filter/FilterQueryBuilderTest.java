@@ -27,6 +27,7 @@
 
 package org.opensearch.sql.opensearch.storage.script.filter;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
@@ -38,6 +39,7 @@ import static org.opensearch.sql.expression.DSL.ref;
 import static org.opensearch.sql.opensearch.data.type.OpenSearchDataType.OPENSEARCH_TEXT_KEYWORD;
 
 import com.google.common.collect.ImmutableMap;
+import java.util.Arrays;
 import java.util.Map;
 import org.json.JSONObject;
 import org.junit.jupiter.api.BeforeEach;
@@ -53,13 +55,17 @@ import org.opensearch.sql.expression.DSL;
 import org.opensearch.sql.expression.Expression;
 import org.opensearch.sql.expression.FunctionExpression;
 import org.opensearch.sql.expression.config.ExpressionConfig;
+import org.opensearch.sql.expression.function.BuiltinFunctionRepository;
 import org.opensearch.sql.opensearch.storage.serialization.ExpressionSerializer;
 
 @DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
 @ExtendWith(MockitoExtension.class)
 class FilterQueryBuilderTest {
 
-  private final DSL dsl = new ExpressionConfig().dsl(new ExpressionConfig().functionRepository());
+  private final BuiltinFunctionRepository functionRepository =
+      new ExpressionConfig().functionRepository();
+
+  private final DSL dsl = new ExpressionConfig().dsl(functionRepository);
 
   @Mock
   private ExpressionSerializer serializer;
@@ -68,7 +74,7 @@ class FilterQueryBuilderTest {
 
   @BeforeEach
   void set_up() {
-    filterQueryBuilder = new FilterQueryBuilder(serializer);
+    filterQueryBuilder = new FilterQueryBuilder(serializer, functionRepository);
   }
 
   @Test
@@ -112,6 +118,34 @@ class FilterQueryBuilderTest {
             buildQuery(expr)));
   }
 
+  @Test
+  void should_mirror_comparison_with_literal_on_the_left() {
+    Expression[] params = {literal(30), ref("age", INTEGER)};
+    Expression[] mirrored = {ref("age", INTEGER), literal(30)};
+    assertEquals(buildQuery(dsl.greater(mirrored)), buildQuery(dsl.less(params)));
+    assertEquals(buildQuery(dsl.less(mirrored)), buildQuery(dsl.greater(params)));
+    assertEquals(buildQuery(dsl.gte(mirrored)), buildQuery(dsl.lte(params)));
+    assertEquals(buildQuery(dsl.lte(mirrored)), buildQuery(dsl.gte(params)));
+    assertEquals(buildQuery(dsl.equal(mirrored)), buildQuery(dsl.equal(params)));
+    assertEquals(buildQuery(dsl.notequal(mirrored)), buildQuery(dsl.notequal(params)));
+    assertEquals(
+        buildQuery(
+            dsl.and(
+                dsl.gte(ref("age", INTEGER), literal(20)),
+                dsl.less(ref("age", INTEGER), literal(30)))),
+        buildQuery(
+            dsl.and(
+                dsl.lte(literal(20), ref("age", INTEGER)),
+                dsl.greater(literal(30), ref("age", INTEGER)))));
+  }
+
+  @Test
+  void should_not_mirror_comparison_without_field_on_the_right() {
+    mockToStringSerializer();
+    buildQuery(dsl.less(literal(30), dsl.abs(ref("age", INTEGER))));
+    assertEquals(Arrays.asList("<(30, abs(age))"), filterQueryBuilder.getScriptFilters());
+  }
+
   @Test
   void should_build_wildcard_query_for_like_expression() {
     assertJsonEquals(
@@ -128,6 +162,32 @@ class FilterQueryBuilderTest {
                 ref("name", STRING), literal("%John_"))));
   }
 
+  @Test
+  void should_build_match_all_or_none_query_for_constant_condition() {
+    assertJsonEquals(
+        "{\n"
+            + "  \"match_all\" : {\n"
+            + "    \"boost\" : 1.0\n"
+            + "  }\n"
+            + "}",
+        buildQuery(literal(true)));
+    assertJsonEquals(
+        "{\n"
+            + "  \"bool\" : {\n"
+            + "    \"must_not\" : [\n"
+            + "      {\n"
+            + "        \"match_all\" : {\n"
+            + "          \"boost\" : 1.0\n"
+            + "        }\n"
+            + "      }\n"
+            + "    ],\n"
+            + "    \"adjust_pure_negative\" : true,\n"
+            + "    \"boost\" : 1.0\n"
+            + "  }\n"
+            + "}",
+        buildQuery(literal(false)));
+  }
+
   @Test
   void should_build_script_query_for_unsupported_lucene_query() {
     mockToStringSerializer();
@@ -135,14 +195,14 @@ class FilterQueryBuilderTest {
         "{\n"
             + "  \"script\" : {\n"
             + "    \"script\" : {\n"
-            + "      \"source\" : \"is not null(age)\",\n"
+            + "      \"source\" : \"not like(name, \\\"%John%\\\")\",\n"
             + "      \"lang\" : \"opensearch_query_expression\"\n"
             + "    },\n"
             + "    \"boost\" : 1.0\n"
             + "  }\n"
             + "}",
         buildQuery(
-            dsl.isnotnull(ref("age", INTEGER))));
+            dsl.notLike(ref("name", STRING), literal("%John%"))));
   }
 
   @Test
@@ -268,7 +328,23 @@ class FilterQueryBuilderTest {
         "{\n"
             + "  \"wildcard\" : {\n"
             + "    \"name.keyword\" : {\n"
-            + "      \"wildcard\" : \"John*\",\n"
+            + "      \"wildcard\" : \"John?\",\n"
+            + "      \"boost\" : 1.0\n"
+            + "    }\n"
+            + "  }\n"
+            + "}",
+        buildQuery(
+            dsl.like(
+                ref("name", OPENSEARCH_TEXT_KEYWORD), literal("John_"))));
+  }
+
+  @Test
+  void should_build_prefix_query_for_like_expression_only_ending_with_percent() {
+    assertJsonEquals(
+        "{\n"
+            + "  \"prefix\" : {\n"
+            + "    \"name.keyword\" : {\n"
+            + "      \"value\" : \"John\",\n"
             + "      \"boost\" : 1.0\n"
             + "    }\n"
             + "  }\n"
@@ -276,6 +352,245 @@ class FilterQueryBuilderTest {
         buildQuery(
             dsl.like(
                 ref("name", OPENSEARCH_TEXT_KEYWORD), literal("John%"))));
+
+    String[] patterns = {"Jo%hn", "%"};
+    String[] wildcards = {"Jo*hn", "*"};
+    for (int i = 0; i < patterns.length; i++) {
+      assertJsonEquals(
+          "{\n"
+              + "  \"wildcard\" : {\n"
+              + "    \"name\" : {\n"
+              + "      \"wildcard\" : \"" + wildcards[i] + "\",\n"
+              + "      \"boost\" : 1.0\n"
+              + "    }\n"
+              + "  }\n"
+              + "}",
+          buildQuery(dsl.like(ref("name", STRING), literal(patterns[i]))));
+    }
+  }
+
+  @Test
+  void should_build_term_query_for_like_expression_without_wildcard() {
+    String[] patterns = {"John", "ab\\%", "a\\\\b\\_", "ab\\"};
+    String[] terms = {"John", "ab%", "a\\\\b_", "ab"};
+    for (int i = 0; i < patterns.length; i++) {
+      assertJsonEquals(
+          "{\n"
+              + "  \"term\" : {\n"
+              + "    \"name\" : {\n"
+              + "      \"value\" : \"" + terms[i] + "\",\n"
+              + "      \"boost\" : 1.0\n"
+              + "    }\n"
+              + "  }\n"
+              + "}",
+          buildQuery(dsl.like(ref("name", STRING), literal(patterns[i]))));
+    }
+  }
+
+  @Test
+  void should_match_escaped_wildcard_literally_in_like_expression() {
+    assertJsonEquals(
+        "{\n"
+            + "  \"prefix\" : {\n"
+            + "    \"name\" : {\n"
+            + "      \"value\" : \"a_b\",\n"
+            + "      \"boost\" : 1.0\n"
+            + "    }\n"
+            + "  }\n"
+            + "}",
+        buildQuery(dsl.like(ref("name", STRING), literal("a\\_b%"))));
+
+    assertJsonEquals(
+        "{\n"
+            + "  \"wildcard\" : {\n"
+            + "    \"name\" : {\n"
+            + "      \"wildcard\" : \"*a%b?\\\\*\\\\?\\\\\\\\\",\n"
+            + "      \"boost\" : 1.0\n"
+            + "    }\n"
+            + "  }\n"
+            + "}",
+        buildQuery(dsl.like(ref("name", STRING), literal("%a\\%b_*?\\\\"))));
+  }
+
+  @Test
+  void should_build_bool_query_for_not_equal_expression() {
+    assertJsonEquals(
+        "{\n"
+            + "  \"bool\" : {\n"
+            + "    \"filter\" : [\n"
+            + "      {\n"
+            + "        \"exists\" : {\n"
+            + "          \"field\" : \"name.keyword\",\n"
+            + "          \"boost\" : 1.0\n"
+            + "        }\n"
+            + "      }\n"
+            + "    ],\n"
+            + "    \"must_not\" : [\n"
+            + "      {\n"
+            + "        \"term\" : {\n"
+            + "          \"name.keyword\" : {\n"
+            + "            \"value\" : \"John\",\n"
+            + "            \"boost\" : 1.0\n"
+            + "          }\n"
+            + "        }\n"
+            + "      }\n"
+            + "    ],\n"
+            + "    \"adjust_pure_negative\" : true,\n"
+            + "    \"boost\" : 1.0\n"
+            + "  }\n"
+            + "}",
+        buildQuery(
+            dsl.notequal(
+                ref("name", OPENSEARCH_TEXT_KEYWORD), literal("John"))));
+  }
+
+  @Test
+  void should_build_exists_query_for_null_predicate() {
+    String exists =
+        "{\n"
+            + "  \"exists\" : {\n"
+            + "    \"field\" : \"age\",\n"
+            + "    \"boost\" : 1.0\n"
+            + "  }\n"
+            + "}";
+    String notExists =
+        "{\n"
+            + "  \"bool\" : {\n"
+            + "    \"must_not\" : [\n"
+            + "      " + exists + "\n"
+            + "    ],\n"
+            + "    \"adjust_pure_negative\" : true,\n"
+            + "    \"boost\" : 1.0\n"
+            + "  }\n"
+            + "}";
+
+    assertJsonEquals(exists, buildQuery(dsl.isnotnull(ref("age", INTEGER))));
+    assertJsonEquals(notExists, buildQuery(dsl.is_null(ref("age", INTEGER))));
+    assertJsonEquals(notExists, buildQuery(dsl.isnull(ref("age", INTEGER))));
+  }
+
+  @Test
+  void should_build_script_query_for_null_predicate_on_function() {
+    mockToStringSerializer();
+    assertJsonEquals(
+        "{\n"
+            + "  \"script\" : {\n"
+            + "    \"script\" : {\n"
+            + "      \"source\" : \"is null(abs(age))\",\n"
+            + "      \"lang\" : \"opensearch_query_expression\"\n"
+            + "    },\n"
+            + "    \"boost\" : 1.0\n"
+            + "  }\n"
+            + "}",
+        buildQuery(
+            dsl.is_null(dsl.abs(ref("age", INTEGER)))));
+  }
+
+  @Test
+  void should_build_terms_query_for_disjunction_of_equality_on_same_field() {
+    assertJsonEquals(
+        "{\n"
+            + "  \"terms\" : {\n"
+            + "    \"name.keyword\" : [\"John\", \"Jane\", \"Jack\"],\n"
+            + "    \"boost\" : 1.0\n"
+            + "  }\n"
+            + "}",
+        buildQuery(
+            dsl.or(
+                dsl.or(
+                    dsl.equal(ref("name", OPENSEARCH_TEXT_KEYWORD), literal("John")),
+                    dsl.equal(ref("name", OPENSEARCH_TEXT_KEYWORD), literal("Jane"))),
+                dsl.equal(ref("name", OPENSEARCH_TEXT_KEYWORD), literal("Jack")))));
+  }
+
+  @Test
+  void should_not_build_terms_query_if_any_operand_is_not_equality_on_same_field() {
+    mockToStringSerializer();
+    FunctionExpression equal = dsl.equal(ref("age", INTEGER), literal(30));
+    Expression[] operands = {
+        dsl.equal(ref("balance", INTEGER), literal(30)),
+        dsl.less(ref("age", INTEGER), literal(30)),
+        dsl.equal(ref("age", INTEGER), ref("balance", INTEGER)),
+        dsl.and(equal, equal),
+        literal(true)
+    };
+
+    for (Expression operand : operands) {
+      assertTrue(buildQuery(dsl.or(equal, operand)).contains("\"should\""));
+    }
+  }
+
+  @Test
+  void should_merge_comparisons_on_same_field_into_one_range_query() {
+    assertJsonEquals(
+        "{\n"
+            + "  \"bool\" : {\n"
+            + "    \"filter\" : [\n"
+            + "      {\n"
+            + "        \"range\" : {\n"
+            + "          \"age\" : {\n"
+            + "            \"from\" : 20,\n"
+            + "            \"to\" : 30,\n"
+            + "            \"include_lower\" : true,\n"
+            + "            \"include_upper\" : false,\n"
+            + "            \"boost\" : 1.0\n"
+            + "          }\n"
+            + "        }\n"
+            + "      }\n"
+            + "    ],\n"
+            + "    \"adjust_pure_negative\" : true,\n"
+            + "    \"boost\" : 1.0\n"
+            + "  }\n"
+            + "}",
+        buildQuery(
+            dsl.and(
+                dsl.gte(ref("age", INTEGER), literal(20)),
+                dsl.less(ref("age", INTEGER), literal(30)))));
+    assertEquals(
+        buildQuery(
+            dsl.and(
+                dsl.greater(ref("age", INTEGER), literal(20)),
+                dsl.lte(ref("age", INTEGER), literal(30)))),
+        buildQuery(
+            dsl.and(
+                dsl.lte(ref("age", INTEGER), literal(30)),
+                dsl.greater(ref("age", INTEGER), literal(20)))));
+  }
+
+  @Test
+  void should_not_merge_comparisons_on_same_bound_or_different_fields() {
+    mockToStringSerializer();
+    Expression[] operands = {
+        dsl.gte(ref("age", INTEGER), literal(25)),
+        dsl.lte(ref("balance", INTEGER), literal(100)),
+        dsl.less(ref("age", INTEGER), ref("balance", INTEGER)),
+        dsl.equal(ref("age", INTEGER), literal(25)),
+        literal(true)
+    };
+
+    for (Expression operand : operands) {
+      String query = buildQuery(
+          dsl.and(dsl.greater(ref("age", INTEGER), literal(20)), operand));
+      assertEquals(2, new JSONObject(query).getJSONObject("bool").getJSONArray("filter").length(),
+          query);
+    }
+
+    String query = buildQuery(
+        dsl.and(
+            dsl.lte(ref("age", INTEGER), literal(30)),
+            dsl.less(ref("age", INTEGER), literal(40))));
+    assertEquals(2, new JSONObject(query).getJSONObject("bool").getJSONArray("filter").length(),
+        query);
+  }
+
+  @Test
+  void should_report_conditions_built_as_script_query() {
+    mockToStringSerializer();
+    buildQuery(
+        dsl.and(
+            dsl.equal(dsl.abs(ref("age", INTEGER)), literal(30)),
+            dsl.equal(ref("name", STRING), literal("John"))));
+    assertEquals(Arrays.asList("=(abs(age), 30)"), filterQueryBuilder.getScriptFilters());
   }
 
   @Test
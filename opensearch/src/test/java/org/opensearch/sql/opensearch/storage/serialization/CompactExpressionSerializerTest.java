@@ -0,0 +1,195 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.sql.opensearch.storage.serialization;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.opensearch.sql.data.type.ExprCoreType.BOOLEAN;
+import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
+import static org.opensearch.sql.data.type.ExprCoreType.STRING;
+import static org.opensearch.sql.expression.DSL.literal;
+import static org.opensearch.sql.expression.DSL.ref;
+import static org.opensearch.sql.opensearch.data.type.OpenSearchDataType.OPENSEARCH_TEXT_KEYWORD;
+
+import java.util.Arrays;
+import java.util.Base64;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.data.type.ExprType;
+import org.opensearch.sql.expression.DSL;
+import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.expression.ExpressionNodeVisitor;
+import org.opensearch.sql.expression.FunctionExpression;
+import org.opensearch.sql.expression.ReferenceExpression;
+import org.opensearch.sql.expression.config.ExpressionConfig;
+import org.opensearch.sql.expression.function.BuiltinFunctionRepository;
+import org.opensearch.sql.expression.env.Environment;
+import org.opensearch.sql.expression.function.FunctionName;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class CompactExpressionSerializerTest {
+
+  /**
+   * Initialize function repository manually to avoid dependency on Spring container.
+   */
+  private final BuiltinFunctionRepository functionRepository =
+      new ExpressionConfig().functionRepository();
+
+  private final DSL dsl = new ExpressionConfig().dsl(functionRepository);
+
+  private final ExpressionSerializer serializer =
+      new CompactExpressionSerializer(functionRepository);
+
+  @Test
+  public void can_serialize_and_deserialize_literals() {
+    assertRoundTrip(literal(10));
+    assertRoundTrip(literal("hello"));
+  }
+
+  @Test
+  public void can_serialize_and_deserialize_references() {
+    assertRoundTrip(ref("name", STRING));
+    assertRoundTrip(ref("name", OPENSEARCH_TEXT_KEYWORD));
+    assertRoundTrip(new ReferenceExpression("name.first", Arrays.asList("name.first"), STRING));
+  }
+
+  @Test
+  public void can_serialize_and_deserialize_reference_of_unknown_type() {
+    assertRoundTrip(ref("name", TestType.TEST));
+  }
+
+  @Test
+  public void can_serialize_and_deserialize_predicates() {
+    assertRoundTrip(dsl.or(literal(true), dsl.less(literal(1), literal(2))));
+    assertRoundTrip(dsl.and(
+        dsl.greater(ref("age", INTEGER), literal(20)),
+        dsl.equal(ref("name", OPENSEARCH_TEXT_KEYWORD), literal("John"))));
+  }
+
+  @Test
+  public void can_serialize_and_deserialize_functions() {
+    assertRoundTrip(dsl.abs(literal(30.0)));
+    assertRoundTrip(dsl.equal(ref("flag", BOOLEAN), ref("name", STRING)));
+  }
+
+  @Test
+  public void can_serialize_and_deserialize_unregistered_functions() {
+    assertRoundTrip(DSL.cases(literal("default"),
+        DSL.when(dsl.equal(ref("age", INTEGER), literal(30)), literal("thirty"))));
+  }
+
+  @Test
+  public void can_serialize_and_deserialize_functions_resolved_differently() {
+    assertRoundTrip(uncastEqual());
+  }
+
+  @Test
+  public void can_deserialize_code_serialized_by_jdk_serialization() {
+    Expression original = dsl.or(literal(true), dsl.less(literal(1), literal(2)));
+    String code = new DefaultExpressionSerializer().serialize(original);
+    assertEquals(original, serializer.deserialize(code));
+  }
+
+  @Test
+  public void should_serialize_to_shorter_code_than_jdk_serialization() {
+    Expression filter = dsl.and(
+        dsl.greater(ref("age", INTEGER), literal(20)),
+        dsl.equal(ref("name", OPENSEARCH_TEXT_KEYWORD), literal("John")));
+    Expression groupBy = dsl.abs(ref("age", INTEGER));
+
+    ExpressionSerializer jdkSerializer = new DefaultExpressionSerializer();
+    assertTrue(serializer.serialize(filter).length()
+        < jdkSerializer.serialize(filter).length());
+    assertTrue(serializer.serialize(groupBy).length()
+        < jdkSerializer.serialize(groupBy).length());
+  }
+
+  @Test
+  public void cannot_serialize_illegal_expression() {
+    Expression illegalExpr = new Expression() {
+      private final Object object = new Object(); // non-serializable
+      @Override
+      public ExprValue valueOf(Environment<Expression, ExprValue> valueEnv) {
+        return null;
+      }
+
+      @Override
+      public ExprType type() {
+        return null;
+      }
+
+      @Override
+      public <T, C> T accept(ExpressionNodeVisitor<T, C> visitor, C context) {
+        return null;
+      }
+    };
+    assertThrows(IllegalStateException.class, () -> serializer.serialize(illegalExpr));
+  }
+
+  @Test
+  public void cannot_deserialize_illegal_expression_code() {
+    assertThrows(IllegalStateException.class, () -> serializer.deserialize("hello world"));
+    assertThrows(IllegalStateException.class, () -> serializer.deserialize(""));
+  }
+
+  @Test
+  public void cannot_deserialize_code_of_unsupported_version() {
+    String code = Base64.getEncoder().encodeToString(new byte[] {2, 0});
+    IllegalStateException e =
+        assertThrows(IllegalStateException.class, () -> serializer.deserialize(code));
+    assertEquals("unsupported version [2] of code", e.getCause().getMessage());
+  }
+
+  @Test
+  public void cannot_deserialize_code_of_unknown_tag() {
+    String code = Base64.getEncoder().encodeToString(new byte[] {1, 9});
+    IllegalStateException e =
+        assertThrows(IllegalStateException.class, () -> serializer.deserialize(code));
+    assertEquals("unknown tag [9] of encoded expression", e.getCause().getMessage());
+  }
+
+  private void assertRoundTrip(Expression original) {
+    assertEquals(original, serializer.deserialize(serializer.serialize(original)));
+  }
+
+  /**
+   * Equal function on boolean and string without cast which resolves to a different expression.
+   * Created in static context so that it's serializable.
+   */
+  private static Expression uncastEqual() {
+    return new FunctionExpression(FunctionName.of("="),
+        Arrays.asList(literal(true), literal("true"))) {
+      @Override
+      public ExprValue valueOf(Environment<Expression, ExprValue> valueEnv) {
+        return null;
+      }
+
+      @Override
+      public ExprType type() {
+        return BOOLEAN;
+      }
+    };
+  }
+
+  private enum TestType implements ExprType {
+    TEST;
+
+    @Override
+    public String typeName() {
+      return "test";
+    }
+  }
+
+}
@@ -35,6 +35,7 @@ import java.util.List;
 import java.util.Set;
 import lombok.experimental.UtilityClass;
 import org.apache.commons.lang3.tuple.Pair;
+import org.opensearch.sql.ast.tree.RareTopN.CommandType;
 import org.opensearch.sql.ast.tree.Sort;
 import org.opensearch.sql.data.type.ExprCoreType;
 import org.opensearch.sql.expression.Expression;
@@ -43,6 +44,7 @@ import org.opensearch.sql.expression.ReferenceExpression;
 import org.opensearch.sql.expression.aggregation.AvgAggregator;
 import org.opensearch.sql.expression.aggregation.NamedAggregator;
 import org.opensearch.sql.opensearch.planner.logical.OpenSearchLogicalIndexAgg;
+import org.opensearch.sql.opensearch.planner.logical.OpenSearchLogicalIndexRareTopN;
 import org.opensearch.sql.opensearch.planner.logical.OpenSearchLogicalIndexScan;
 import org.opensearch.sql.planner.logical.LogicalPlan;
 
@@ -145,6 +147,21 @@ public class Utils {
         .build();
   }
 
+  /**
+   * Build OpenSearchLogicalIndexScan with field collapsing.
+   */
+  public static LogicalPlan indexScanCollapse(String tableName,
+                                              Expression filter,
+                                              List<Pair<Sort.SortOption, Expression>> sorts,
+                                              ReferenceExpression collapseField) {
+    return OpenSearchLogicalIndexScan.builder()
+        .relationName(tableName)
+        .filter(filter)
+        .sortList(sorts)
+        .collapseField(collapseField)
+        .build();
+  }
+
   /**
    * Build ElasticsearchLogicalIndexAgg.
    */
@@ -175,6 +192,20 @@ public class Utils {
         .aggregatorList(aggregators).groupByList(groupByList).build();
   }
 
+  /**
+   * Build OpenSearchLogicalIndexRareTopN.
+   */
+  public static LogicalPlan indexScanRareTopN(String tableName,
+                                              Expression filter,
+                                              CommandType commandType,
+                                              Integer noOfResults,
+                                              Expression field,
+                                              List<Expression> groupByList) {
+    return OpenSearchLogicalIndexRareTopN.builder().relationName(tableName).filter(filter)
+        .commandType(commandType).noOfResults(noOfResults).field(field)
+        .groupByList(groupByList).build();
+  }
+
   public static AvgAggregator avg(Expression expr, ExprCoreType type) {
     return new AvgAggregator(Arrays.asList(expr), type);
   }
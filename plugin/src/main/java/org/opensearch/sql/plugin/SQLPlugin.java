@@ -56,15 +56,22 @@ import org.opensearch.rest.RestHandler;
 import org.opensearch.script.ScriptContext;
 import org.opensearch.script.ScriptEngine;
 import org.opensearch.script.ScriptService;
+import org.opensearch.sql.expression.config.ExpressionConfig;
+import org.opensearch.sql.expression.function.BuiltinFunctionRepository;
 import org.opensearch.sql.legacy.esdomain.LocalClusterState;
 import org.opensearch.sql.legacy.executor.AsyncRestExecutor;
+import org.opensearch.sql.legacy.metrics.GaugeMetric;
+import org.opensearch.sql.legacy.metrics.MetricName;
 import org.opensearch.sql.legacy.metrics.Metrics;
 import org.opensearch.sql.legacy.plugin.RestSqlAction;
 import org.opensearch.sql.legacy.plugin.RestSqlStatsAction;
+import org.opensearch.sql.opensearch.executor.admission.AdmissionController;
+import org.opensearch.sql.opensearch.mapping.IndexFieldTypeCache;
 import org.opensearch.sql.opensearch.setting.LegacyOpenDistroSettings;
 import org.opensearch.sql.opensearch.setting.OpenSearchSettings;
 import org.opensearch.sql.opensearch.storage.script.ExpressionScriptEngine;
-import org.opensearch.sql.opensearch.storage.serialization.DefaultExpressionSerializer;
+import org.opensearch.sql.opensearch.storage.serialization.CompactExpressionSerializer;
+import org.opensearch.sql.planner.cache.PlanCache;
 import org.opensearch.sql.plugin.rest.RestPPLQueryAction;
 import org.opensearch.sql.plugin.rest.RestPPLStatsAction;
 import org.opensearch.sql.plugin.rest.RestQuerySettingsAction;
@@ -82,6 +89,27 @@ public class SQLPlugin extends Plugin implements ActionPlugin, ScriptPlugin {
    */
   private org.opensearch.sql.common.setting.Settings pluginSettings;
 
+  /**
+   * Admission controller shared by SQL and PPL queries on the node.
+   */
+  private AdmissionController admissionController;
+
+  /**
+   * Plan cache shared by SQL and PPL queries on the node.
+   */
+  private PlanCache planCache;
+
+  /**
+   * Field type cache of index mappings shared by SQL and PPL queries on the node.
+   */
+  private IndexFieldTypeCache fieldTypeCache;
+
+  /**
+   * Function repository to resolve function in expression script on the node.
+   */
+  private final BuiltinFunctionRepository functionRepository =
+      new ExpressionConfig().functionRepository();
+
   public String name() {
     return "sql";
   }
@@ -102,10 +130,15 @@ public class SQLPlugin extends Plugin implements ActionPlugin, ScriptPlugin {
 
     LocalClusterState.state().setResolver(indexNameExpressionResolver);
     Metrics.getInstance().registerDefaultMetrics();
+    registerAdmissionMetrics();
+    registerPlanCacheMetrics();
+    registerFieldTypeCacheMetrics();
 
     return Arrays.asList(
-        new RestPPLQueryAction(restController, clusterService, pluginSettings, settings),
-        new RestSqlAction(settings, clusterService, pluginSettings),
+        new RestPPLQueryAction(restController, clusterService, pluginSettings, settings,
+            admissionController, planCache, fieldTypeCache),
+        new RestSqlAction(settings, clusterService, pluginSettings, admissionController,
+            planCache, fieldTypeCache),
         new RestSqlStatsAction(settings, restController),
         new RestPPLStatsAction(settings, restController),
         new RestQuerySettingsAction(settings, restController)
@@ -126,6 +159,11 @@ public class SQLPlugin extends Plugin implements ActionPlugin, ScriptPlugin {
                                                        repositoriesServiceSupplier) {
     this.clusterService = clusterService;
     this.pluginSettings = new OpenSearchSettings(clusterService.getClusterSettings());
+    this.admissionController = new AdmissionController(pluginSettings, threadPool);
+    this.planCache = new PlanCache();
+    this.fieldTypeCache = new IndexFieldTypeCache();
+    fieldTypeCache.addInvalidationListener(planCache::invalidateAll);
+    clusterService.addListener(fieldTypeCache);
 
     LocalClusterState.state().setClusterService(clusterService);
     LocalClusterState.state().setPluginSettings((OpenSearchSettings) pluginSettings);
@@ -157,9 +195,48 @@ public class SQLPlugin extends Plugin implements ActionPlugin, ScriptPlugin {
         .build();
   }
 
+  /**
+   * Replace the default admission metrics by gauges reading from the admission controller.
+   */
+  private void registerAdmissionMetrics() {
+    Metrics.getInstance().registerMetric(new GaugeMetric<>(
+        MetricName.QUERY_ADMISSION_QUEUE_DEPTH.getName(), admissionController::getQueueDepth));
+    Metrics.getInstance().registerMetric(new GaugeMetric<>(
+        MetricName.QUERY_ADMISSION_WAIT_TIME.getName(),
+        admissionController::getTotalWaitTimeMillis));
+    Metrics.getInstance().registerMetric(new GaugeMetric<>(
+        MetricName.QUERY_ADMISSION_REJECTED_COUNT.getName(),
+        admissionController::getRejectedCount));
+  }
+
+  /**
+   * Register gauges reading from the plan cache.
+   */
+  private void registerPlanCacheMetrics() {
+    Metrics.getInstance().registerMetric(new GaugeMetric<>(
+        MetricName.PLAN_CACHE_HIT_COUNT.getName(), planCache::getHitCount));
+    Metrics.getInstance().registerMetric(new GaugeMetric<>(
+        MetricName.PLAN_CACHE_MISS_COUNT.getName(), planCache::getMissCount));
+    Metrics.getInstance().registerMetric(new GaugeMetric<>(
+        MetricName.PLAN_CACHE_EVICTION_COUNT.getName(), planCache::getEvictionCount));
+  }
+
+  /**
+   * Register gauges reading from the field type cache.
+   */
+  private void registerFieldTypeCacheMetrics() {
+    Metrics.getInstance().registerMetric(new GaugeMetric<>(
+        MetricName.MAPPING_CACHE_HIT_COUNT.getName(), fieldTypeCache::getHitCount));
+    Metrics.getInstance().registerMetric(new GaugeMetric<>(
+        MetricName.MAPPING_CACHE_MISS_COUNT.getName(), fieldTypeCache::getMissCount));
+    Metrics.getInstance().registerMetric(new GaugeMetric<>(
+        MetricName.MAPPING_CACHE_STALE_COUNT.getName(),
+        fieldTypeCache::getInvalidationCount));
+  }
+
   @Override
   public ScriptEngine getScriptEngine(Settings settings, Collection<ScriptContext<?>> contexts) {
-    return new ExpressionScriptEngine(new DefaultExpressionSerializer());
+    return new ExpressionScriptEngine(new CompactExpressionSerializer(functionRepository));
   }
 
 }
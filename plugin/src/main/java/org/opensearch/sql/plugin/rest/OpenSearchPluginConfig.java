@@ -31,12 +31,16 @@ import org.opensearch.client.node.NodeClient;
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.sql.common.setting.Settings;
 import org.opensearch.sql.executor.ExecutionEngine;
+import org.opensearch.sql.expression.function.BuiltinFunctionRepository;
+import org.opensearch.sql.legacy.plugin.ExecutionTimeMetrics;
 import org.opensearch.sql.monitor.ResourceMonitor;
 import org.opensearch.sql.opensearch.client.OpenSearchClient;
 import org.opensearch.sql.opensearch.client.OpenSearchNodeClient;
 import org.opensearch.sql.opensearch.executor.OpenSearchExecutionEngine;
+import org.opensearch.sql.opensearch.executor.admission.AdmissionController;
 import org.opensearch.sql.opensearch.executor.protector.ExecutionProtector;
 import org.opensearch.sql.opensearch.executor.protector.OpenSearchExecutionProtector;
+import org.opensearch.sql.opensearch.mapping.IndexFieldTypeCache;
 import org.opensearch.sql.opensearch.monitor.OpenSearchMemoryHealthy;
 import org.opensearch.sql.opensearch.monitor.OpenSearchResourceMonitor;
 import org.opensearch.sql.opensearch.storage.OpenSearchStorageEngine;
@@ -61,19 +65,29 @@ public class OpenSearchPluginConfig {
   @Autowired
   private Settings settings;
 
+  @Autowired
+  private AdmissionController admissionController;
+
+  @Autowired
+  private IndexFieldTypeCache fieldTypeCache;
+
+  @Autowired
+  private BuiltinFunctionRepository functionRepository;
+
   @Bean
   public OpenSearchClient client() {
-    return new OpenSearchNodeClient(clusterService, nodeClient);
+    return new OpenSearchNodeClient(clusterService, nodeClient, fieldTypeCache);
   }
 
   @Bean
   public StorageEngine storageEngine() {
-    return new OpenSearchStorageEngine(client(), settings);
+    return new OpenSearchStorageEngine(client(), settings, functionRepository);
   }
 
   @Bean
   public ExecutionEngine executionEngine() {
-    return new OpenSearchExecutionEngine(client(), protector());
+    return new OpenSearchExecutionEngine(
+        client(), protector(), admissionController, new ExecutionTimeMetrics());
   }
 
   @Bean
@@ -83,6 +97,6 @@ public class OpenSearchPluginConfig {
 
   @Bean
   public ExecutionProtector protector() {
-    return new OpenSearchExecutionProtector(resourceMonitor());
+    return new OpenSearchExecutionProtector(resourceMonitor(), settings);
   }
 }
@@ -30,20 +30,21 @@ import static org.opensearch.rest.RestStatus.BAD_REQUEST;
 import static org.opensearch.rest.RestStatus.INTERNAL_SERVER_ERROR;
 import static org.opensearch.rest.RestStatus.OK;
 import static org.opensearch.rest.RestStatus.SERVICE_UNAVAILABLE;
+import static org.opensearch.rest.RestStatus.TOO_MANY_REQUESTS;
 import static org.opensearch.sql.protocol.response.format.JsonResponseFormatter.Style.PRETTY;
 
 import com.google.common.collect.ImmutableList;
-import java.io.IOException;
-import java.security.PrivilegedExceptionAction;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.opensearch.client.node.NodeClient;
 import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.util.concurrent.OpenSearchRejectedExecutionException;
 import org.opensearch.index.IndexNotFoundException;
 import org.opensearch.rest.BaseRestHandler;
 import org.opensearch.rest.BytesRestResponse;
@@ -62,8 +63,11 @@ import org.opensearch.sql.executor.ExecutionEngine.ExplainResponse;
 import org.opensearch.sql.executor.ExecutionEngine.QueryResponse;
 import org.opensearch.sql.legacy.metrics.MetricName;
 import org.opensearch.sql.legacy.metrics.Metrics;
+import org.opensearch.sql.legacy.plugin.QueryServiceContextHolder;
+import org.opensearch.sql.opensearch.executor.admission.AdmissionController;
+import org.opensearch.sql.opensearch.mapping.IndexFieldTypeCache;
 import org.opensearch.sql.opensearch.response.error.ErrorMessageFactory;
-import org.opensearch.sql.opensearch.security.SecurityAccess;
+import org.opensearch.sql.planner.cache.PlanCache;
 import org.opensearch.sql.plugin.request.PPLQueryRequestFactory;
 import org.opensearch.sql.ppl.PPLService;
 import org.opensearch.sql.ppl.config.PPLServiceConfig;
@@ -75,7 +79,6 @@ import org.opensearch.sql.protocol.response.format.JsonResponseFormatter;
 import org.opensearch.sql.protocol.response.format.RawResponseFormatter;
 import org.opensearch.sql.protocol.response.format.ResponseFormatter;
 import org.opensearch.sql.protocol.response.format.SimpleJsonResponseFormatter;
-import org.springframework.context.annotation.AnnotationConfigApplicationContext;
 
 public class RestPPLQueryAction extends BaseRestHandler {
   public static final String QUERY_API_ENDPOINT = "/_plugins/_ppl";
@@ -85,27 +88,26 @@ public class RestPPLQueryAction extends BaseRestHandler {
 
   private static final Logger LOG = LogManager.getLogger();
 
-  /**
-   * Cluster service required by bean initialization.
-   */
-  private final ClusterService clusterService;
+  private final Supplier<Boolean> pplEnabled;
 
   /**
-   * Settings required by been initialization.
+   * Spring context shared across requests.
    */
-  private final Settings pluginSettings;
-
-  private final Supplier<Boolean> pplEnabled;
+  private final QueryServiceContextHolder contextHolder;
 
   /**
    * Constructor of RestPPLQueryAction.
    */
   public RestPPLQueryAction(RestController restController, ClusterService clusterService,
                             Settings pluginSettings,
-                            org.opensearch.common.settings.Settings clusterSettings) {
+                            org.opensearch.common.settings.Settings clusterSettings,
+                            AdmissionController admissionController,
+                            PlanCache planCache,
+                            IndexFieldTypeCache fieldTypeCache) {
     super();
-    this.clusterService = clusterService;
-    this.pluginSettings = pluginSettings;
+    this.contextHolder = new QueryServiceContextHolder(clusterService, pluginSettings,
+        admissionController, planCache, fieldTypeCache,
+        OpenSearchPluginConfig.class, PPLServiceConfig.class);
     this.pplEnabled =
         () -> MULTI_ALLOW_EXPLICIT_INDEX.get(clusterSettings)
             && (Boolean) pluginSettings.getSettingValue(Settings.Key.PPL_ENABLED);
@@ -143,6 +145,7 @@ public class RestPPLQueryAction extends BaseRestHandler {
   protected RestChannelConsumer prepareRequest(RestRequest request, NodeClient nodeClient) {
     Metrics.getInstance().getNumericalMetric(MetricName.PPL_REQ_TOTAL).increment();
     Metrics.getInstance().getNumericalMetric(MetricName.PPL_REQ_COUNT_TOTAL).increment();
+    final long startTime = System.nanoTime();
 
     LogUtils.addRequestId();
 
@@ -158,32 +161,24 @@ public class RestPPLQueryAction extends BaseRestHandler {
     if (pplRequest.isExplainRequest()) {
       return channel -> pplService.explain(pplRequest, createExplainResponseListener(channel));
     }
-    return channel -> pplService.execute(pplRequest, createListener(channel, pplRequest));
+    return channel -> pplService.execute(pplRequest,
+        createListener(channel, pplRequest, startTime));
   }
 
   /**
-   * Ideally, the AnnotationConfigApplicationContext should be shared across Plugin. By default,
-   * spring construct all the bean as singleton. Currently, there are no better solution to
-   * create the bean in protocol scope. The limitations are
+   * By default, spring construct all the bean as singleton. The limitations of creating the bean
+   * in protocol scope are
    * alt-1, add annotation for bean @Scope(value = SCOPE_PROTOTYPE, proxyMode = TARGET_CLASS), it
    * works by add the proxy,
    * but when running in OpenSearch, all the operation need security permission whic is hard
    * to control.
    * alt-2, using ObjectFactory with @Autowired, it also works, but require add to all the
    * configuration.
-   * We will revisit the current solution if any major issue found.
+   * Because none of the beans holds per request state, the context is shared across requests
+   * and only rebuilt if a different node client is passed in.
    */
   private PPLService createPPLService(NodeClient client) {
-    return doPrivileged(() -> {
-      AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext();
-      context.registerBean(ClusterService.class, () -> clusterService);
-      context.registerBean(NodeClient.class, () -> client);
-      context.registerBean(Settings.class, () -> pluginSettings);
-      context.register(OpenSearchPluginConfig.class);
-      context.register(PPLServiceConfig.class);
-      context.refresh();
-      return context.getBean(PPLService.class);
-    });
+    return contextHolder.getBean(client, PPLService.class);
   }
 
   /**
@@ -214,7 +209,8 @@ public class RestPPLQueryAction extends BaseRestHandler {
   }
 
   private ResponseListener<QueryResponse> createListener(RestChannel channel,
-                                                         PPLQueryRequest pplRequest) {
+                                                         PPLQueryRequest pplRequest,
+                                                         long startTime) {
     Format format = pplRequest.format();
     ResponseFormatter<QueryResult> formatter;
     if (format.equals(Format.CSV)) {
@@ -227,14 +223,21 @@ public class RestPPLQueryAction extends BaseRestHandler {
     return new ResponseListener<QueryResponse>() {
       @Override
       public void onResponse(QueryResponse response) {
-        sendResponse(channel, OK, formatter.format(new QueryResult(response.getSchema(),
-            response.getResults())));
+        long formatStartTime = System.nanoTime();
+        String content = formatter.format(new QueryResult(response.getSchema(),
+            response.getResults()));
+        recordElapsedTime(MetricName.NEW_ENGINE_FORMAT_TIME, format, formatStartTime);
+        sendResponse(channel, OK, content);
+        recordElapsedTime(MetricName.PPL_QUERY_TIME, format, startTime);
       }
 
       @Override
       public void onFailure(Exception e) {
         LOG.error("Error happened during query handling", e);
-        if (isClientError(e)) {
+        if (e instanceof OpenSearchRejectedExecutionException) {
+          // Rejected by admission control and client is supposed to retry later
+          reportError(channel, e, TOO_MANY_REQUESTS);
+        } else if (isClientError(e)) {
           Metrics.getInstance().getNumericalMetric(MetricName.PPL_FAILED_REQ_COUNT_CUS).increment();
           reportError(channel, e, BAD_REQUEST);
         } else {
@@ -245,19 +248,19 @@ public class RestPPLQueryAction extends BaseRestHandler {
     };
   }
 
-  private <T> T doPrivileged(PrivilegedExceptionAction<T> action) {
-    try {
-      return SecurityAccess.doPrivileged(action);
-    } catch (IOException e) {
-      throw new IllegalStateException("Failed to perform privileged action", e);
-    }
-  }
-
   private void sendResponse(RestChannel channel, RestStatus status, String content) {
     channel.sendResponse(
         new BytesRestResponse(status, "application/json; charset=UTF-8", content));
   }
 
+  /**
+   * Record time elapsed since start time in microseconds for the response format.
+   */
+  private static void recordElapsedTime(MetricName metricName, Format format, long startTime) {
+    Metrics.getInstance().getKeyedHistogramMetric(metricName).record(
+        format.getFormatName(), TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - startTime));
+  }
+
   private void reportError(final RestChannel channel, final Exception e, final RestStatus status) {
     channel.sendResponse(new BytesRestResponse(status,
         ErrorMessageFactory.createErrorMessage(e, status.getStatus()).toString()));
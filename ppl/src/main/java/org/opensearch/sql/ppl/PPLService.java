@@ -28,6 +28,7 @@ package org.opensearch.sql.ppl;
 
 import static org.opensearch.sql.executor.ExecutionEngine.QueryResponse;
 
+import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import org.antlr.v4.runtime.tree.ParseTree;
 import org.apache.logging.log4j.LogManager;
@@ -42,6 +43,8 @@ import org.opensearch.sql.executor.ExecutionEngine.ExplainResponse;
 import org.opensearch.sql.expression.DSL;
 import org.opensearch.sql.expression.function.BuiltinFunctionRepository;
 import org.opensearch.sql.planner.Planner;
+import org.opensearch.sql.planner.cache.PlanCache;
+import org.opensearch.sql.planner.cache.QueryFingerprint;
 import org.opensearch.sql.planner.logical.LogicalPlan;
 import org.opensearch.sql.planner.optimizer.LogicalPlanOptimizer;
 import org.opensearch.sql.planner.physical.PhysicalPlan;
@@ -65,6 +68,8 @@ public class PPLService {
 
   private final BuiltinFunctionRepository repository;
 
+  private final PlanCache planCache;
+
   private final PPLQueryDataAnonymizer anonymizer = new PPLQueryDataAnonymizer();
 
   private static final Logger LOG = LogManager.getLogger();
@@ -99,20 +104,33 @@ public class PPLService {
   }
 
   private PhysicalPlan plan(PPLQueryRequest request) {
-    // 1.Parse query and convert parse tree (CST) to abstract syntax tree (AST)
-    ParseTree cst = parser.analyzeSyntax(request.getRequest());
-    UnresolvedPlan ast = cst.accept(
-        new AstBuilder(new AstExpressionBuilder(), request.getRequest()));
-
-    LOG.info("[{}] Incoming request {}", LogUtils.getRequestId(), anonymizer.anonymizeData(ast));
+    // 1.Get logical plan from plan cache, or parse and analyze the query if missing
+    LogicalPlan logicalPlan = analyze(request.getRequest());
 
-    // 2.Analyze abstract syntax to generate logical plan
-    LogicalPlan logicalPlan = analyzer.analyze(UnresolvedPlanHelper.addSelectAll(ast),
-        new AnalysisContext());
-
-    // 3.Generate optimal physical plan from logical plan
+    // 2.Generate optimal physical plan from logical plan
     return new Planner(storageEngine, LogicalPlanOptimizer.create(new DSL(repository)))
         .plan(logicalPlan);
   }
 
+  private LogicalPlan analyze(String query) {
+    QueryFingerprint fingerprint = parser.fingerprint(query);
+    Optional<LogicalPlan> cached = planCache.get(fingerprint);
+    if (cached.isPresent()) {
+      LOG.info("[{}] Incoming request {}", LogUtils.getRequestId(), fingerprint);
+      return cached.get();
+    }
+
+    // Parse query and convert parse tree (CST) to abstract syntax tree (AST)
+    ParseTree cst = parser.analyzeSyntax(query);
+    UnresolvedPlan ast = cst.accept(new AstBuilder(new AstExpressionBuilder(), query));
+
+    LOG.info("[{}] Incoming request {}", LogUtils.getRequestId(), anonymizer.anonymizeData(ast));
+
+    // Analyze abstract syntax to generate logical plan
+    AnalysisContext context = new AnalysisContext();
+    LogicalPlan logicalPlan = analyzer.analyze(UnresolvedPlanHelper.addSelectAll(ast), context);
+    planCache.put(fingerprint, logicalPlan, context.getLiterals(), repository);
+    return logicalPlan;
+  }
+
 }
@@ -28,9 +28,11 @@ package org.opensearch.sql.ppl.antlr;
 
 import org.antlr.v4.runtime.CommonTokenStream;
 import org.antlr.v4.runtime.Lexer;
+import org.antlr.v4.runtime.Token;
 import org.antlr.v4.runtime.tree.ParseTree;
 import org.opensearch.sql.common.antlr.CaseInsensitiveCharStream;
 import org.opensearch.sql.common.antlr.SyntaxAnalysisErrorListener;
+import org.opensearch.sql.planner.cache.QueryFingerprint;
 import org.opensearch.sql.ppl.antlr.parser.OpenSearchPPLLexer;
 import org.opensearch.sql.ppl.antlr.parser.OpenSearchPPLParser;
 
@@ -47,6 +49,30 @@ public class PPLSyntaxParser {
     return parser.root();
   }
 
+  /**
+   * Fingerprint the query with literals masked.
+   */
+  public QueryFingerprint fingerprint(String query) {
+    QueryFingerprint.Builder builder = QueryFingerprint.builder("ppl");
+    for (Token token : createLexer(query).getAllTokens()) {
+      switch (token.getType()) {
+        case OpenSearchPPLLexer.SQUOTA_STRING:
+        case OpenSearchPPLLexer.DQUOTA_STRING:
+          builder.stringLiteral(token.getStartIndex(), token.getText());
+          break;
+        case OpenSearchPPLLexer.INTEGER_LITERAL:
+          builder.integerLiteral(token.getStartIndex(), token.getText());
+          break;
+        case OpenSearchPPLLexer.DECIMAL_LITERAL:
+          builder.doubleLiteral(token.getStartIndex(), token.getText());
+          break;
+        default:
+          builder.token(token.getText());
+      }
+    }
+    return builder.build();
+  }
+
   private OpenSearchPPLParser createParser(Lexer lexer) {
     return new OpenSearchPPLParser(
         new CommonTokenStream(lexer));
@@ -31,6 +31,7 @@ import org.opensearch.sql.analysis.ExpressionAnalyzer;
 import org.opensearch.sql.executor.ExecutionEngine;
 import org.opensearch.sql.expression.config.ExpressionConfig;
 import org.opensearch.sql.expression.function.BuiltinFunctionRepository;
+import org.opensearch.sql.planner.cache.PlanCache;
 import org.opensearch.sql.ppl.PPLService;
 import org.opensearch.sql.ppl.antlr.PPLSyntaxParser;
 import org.opensearch.sql.storage.StorageEngine;
@@ -52,6 +53,9 @@ public class PPLServiceConfig {
   @Autowired
   private BuiltinFunctionRepository functionRepository;
 
+  @Autowired
+  private PlanCache planCache;
+
   @Bean
   public Analyzer analyzer() {
     return new Analyzer(new ExpressionAnalyzer(functionRepository), storageEngine);
@@ -60,7 +64,7 @@ public class PPLServiceConfig {
   @Bean
   public PPLService pplService() {
     return new PPLService(new PPLSyntaxParser(), analyzer(), storageEngine, executionEngine,
-        functionRepository);
+        functionRepository, planCache);
   }
 
 }
@@ -282,21 +282,21 @@ public class AstExpressionBuilder extends OpenSearchPPLParserBaseVisitor<Unresol
 
   @Override
   public UnresolvedExpression visitStringLiteral(StringLiteralContext ctx) {
-    return new Literal(StringUtils.unquoteText(ctx.getText()), DataType.STRING);
+    return new Literal(StringUtils.unquoteText(ctx.getText()), DataType.STRING, position(ctx));
   }
 
   @Override
   public UnresolvedExpression visitIntegerLiteral(IntegerLiteralContext ctx) {
     long number = Long.parseLong(ctx.getText());
     if (Integer.MIN_VALUE <= number && number <= Integer.MAX_VALUE) {
-      return new Literal((int) number, DataType.INTEGER);
+      return new Literal((int) number, DataType.INTEGER, position(ctx));
     }
-    return new Literal(number, DataType.LONG);
+    return new Literal(number, DataType.LONG, position(ctx));
   }
 
   @Override
   public UnresolvedExpression visitDecimalLiteral(DecimalLiteralContext ctx) {
-    return new Literal(Double.valueOf(ctx.getText()), DataType.DOUBLE);
+    return new Literal(Double.valueOf(ctx.getText()), DataType.DOUBLE, position(ctx));
   }
 
   @Override
@@ -327,4 +327,11 @@ public class AstExpressionBuilder extends OpenSearchPPLParserBaseVisitor<Unresol
     return builder.build();
   }
 
+  /**
+   * Position of literal in query text which identifies the literal in query fingerprint, or null
+   * if the literal has more than one token, ex. signed number whose value differs from token.
+   */
+  private Integer position(ParserRuleContext ctx) {
+    return (ctx.getStart() == ctx.getStop()) ? ctx.getStart().getStartIndex() : null;
+  }
 }
@@ -26,6 +26,7 @@
 
 package org.opensearch.sql.ppl;
 
+import static org.junit.Assert.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.when;
@@ -44,6 +45,7 @@ import org.opensearch.sql.executor.ExecutionEngine;
 import org.opensearch.sql.executor.ExecutionEngine.ExplainResponse;
 import org.opensearch.sql.executor.ExecutionEngine.ExplainResponseNode;
 import org.opensearch.sql.executor.ExecutionEngine.QueryResponse;
+import org.opensearch.sql.planner.cache.PlanCache;
 import org.opensearch.sql.planner.physical.PhysicalPlan;
 import org.opensearch.sql.ppl.config.PPLServiceConfig;
 import org.opensearch.sql.ppl.domain.PPLQueryRequest;
@@ -57,6 +59,8 @@ public class PPLServiceTest {
 
   private PPLService pplService;
 
+  private PlanCache planCache = new PlanCache();
+
   @Mock
   private StorageEngine storageEngine;
 
@@ -83,6 +87,7 @@ public class PPLServiceTest {
 
     context.registerBean(StorageEngine.class, () -> storageEngine);
     context.registerBean(ExecutionEngine.class, () -> executionEngine);
+    context.registerBean(PlanCache.class, () -> planCache);
     context.register(PPLServiceConfig.class);
     context.refresh();
     pplService = context.getBean(PPLService.class);
@@ -131,6 +136,31 @@ public class PPLServiceTest {
         });
   }
 
+  @Test
+  public void testExecuteQueryOfSameShapeShouldHitPlanCache() {
+    doAnswer(invocation -> {
+      ResponseListener<QueryResponse> listener = invocation.getArgument(1);
+      listener.onResponse(new QueryResponse(schema, Collections.emptyList()));
+      return null;
+    }).when(executionEngine).execute(any(), any());
+
+    ResponseListener<QueryResponse> listener = new ResponseListener<QueryResponse>() {
+      @Override
+      public void onResponse(QueryResponse pplQueryResponse) {
+      }
+
+      @Override
+      public void onFailure(Exception e) {
+        Assert.fail();
+      }
+    };
+    pplService.execute(new PPLQueryRequest("search source=t a=1", null, null), listener);
+    pplService.execute(new PPLQueryRequest("search source=t a=2", null, null), listener);
+
+    assertEquals(1, planCache.getMissCount());
+    assertEquals(1, planCache.getHitCount());
+  }
+
   @Test
   public void testExplainShouldPass() {
     doAnswer(invocation -> {
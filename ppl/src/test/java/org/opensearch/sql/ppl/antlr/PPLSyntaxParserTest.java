@@ -26,12 +26,18 @@
 
 package org.opensearch.sql.ppl.antlr;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotEquals;
+import static org.opensearch.sql.data.model.ExprValueUtils.doubleValue;
+import static org.opensearch.sql.data.model.ExprValueUtils.integerValue;
+import static org.opensearch.sql.data.model.ExprValueUtils.stringValue;
 
+import java.util.Arrays;
 import org.antlr.v4.runtime.tree.ParseTree;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
+import org.opensearch.sql.planner.cache.QueryFingerprint;
 
 public class PPLSyntaxParserTest {
 
@@ -99,4 +105,27 @@ public class PPLSyntaxParserTest {
     ParseTree tree = new PPLSyntaxParser().analyzeSyntax("source=t a=1 | top a by b");
     assertNotEquals(null, tree);
   }
+
+  @Test
+  public void testFingerprintShouldMaskLiterals() {
+    QueryFingerprint fingerprint = new PPLSyntaxParser()
+        .fingerprint("source=t a=1 | where b='x' and c=\"y\" and d>1.5 | fields a");
+    assertEquals("source = t a = *** | where b = *** and c = *** and d > *** | fields a",
+        fingerprint.toString());
+    assertEquals(
+        Arrays.asList(integerValue(1), stringValue("x"), stringValue("y"), doubleValue(1.5)),
+        fingerprint.getLiteralValues());
+    assertEquals(Arrays.asList(11, 23, 33, 43), fingerprint.getLiteralPositions());
+  }
+
+  @Test
+  public void testFingerprintOfSameShapeShouldBeEqual() {
+    PPLSyntaxParser parser = new PPLSyntaxParser();
+    assertEquals(
+        parser.fingerprint("source=t a=1 | fields a").getShape(),
+        parser.fingerprint("source=t a=2 | fields a").getShape());
+    assertNotEquals(
+        parser.fingerprint("source=t a=1 | fields a").getShape(),
+        parser.fingerprint("source=t a='1' | fields a").getShape());
+  }
 }
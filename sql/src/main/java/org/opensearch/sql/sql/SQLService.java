@@ -27,6 +27,7 @@
 
 package org.opensearch.sql.sql;
 
+import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import org.antlr.v4.runtime.tree.ParseTree;
 import org.opensearch.sql.analysis.AnalysisContext;
@@ -39,6 +40,8 @@ import org.opensearch.sql.executor.ExecutionEngine.QueryResponse;
 import org.opensearch.sql.expression.DSL;
 import org.opensearch.sql.expression.function.BuiltinFunctionRepository;
 import org.opensearch.sql.planner.Planner;
+import org.opensearch.sql.planner.cache.PlanCache;
+import org.opensearch.sql.planner.cache.QueryFingerprint;
 import org.opensearch.sql.planner.logical.LogicalPlan;
 import org.opensearch.sql.planner.optimizer.LogicalPlanOptimizer;
 import org.opensearch.sql.planner.physical.PhysicalPlan;
@@ -63,6 +66,8 @@ public class SQLService {
 
   private final BuiltinFunctionRepository repository;
 
+  private final PlanCache planCache;
+
   /**
    * Parse, analyze, plan and execute the query.
    * @param request       SQL query request
@@ -72,8 +77,7 @@ public class SQLService {
     try {
       executionEngine.execute(
                         plan(
-                            analyze(
-                                parse(request.getQuery()))), listener);
+                            analyze(request.getQuery())), listener);
     } catch (Exception e) {
       listener.onFailure(e);
     }
@@ -113,6 +117,22 @@ public class SQLService {
     return cst.accept(new AstBuilder(query));
   }
 
+  /**
+   * Get logical plan of the query from plan cache, or parse and analyze the query if missing.
+   */
+  public LogicalPlan analyze(String query) {
+    QueryFingerprint fingerprint = parser.fingerprint(query);
+    Optional<LogicalPlan> cached = planCache.get(fingerprint);
+    if (cached.isPresent()) {
+      return cached.get();
+    }
+
+    AnalysisContext context = new AnalysisContext();
+    LogicalPlan logicalPlan = analyzer.analyze(parse(query), context);
+    planCache.put(fingerprint, logicalPlan, context.getLiterals(), repository);
+    return logicalPlan;
+  }
+
   /**
    * Analyze abstract syntax to generate logical plan.
    */
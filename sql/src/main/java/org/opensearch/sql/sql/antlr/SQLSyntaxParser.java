@@ -28,9 +28,11 @@
 package org.opensearch.sql.sql.antlr;
 
 import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.Token;
 import org.antlr.v4.runtime.tree.ParseTree;
 import org.opensearch.sql.common.antlr.CaseInsensitiveCharStream;
 import org.opensearch.sql.common.antlr.SyntaxAnalysisErrorListener;
+import org.opensearch.sql.planner.cache.QueryFingerprint;
 import org.opensearch.sql.sql.antlr.parser.OpenSearchSQLLexer;
 import org.opensearch.sql.sql.antlr.parser.OpenSearchSQLParser;
 
@@ -51,4 +53,33 @@ public class SQLSyntaxParser {
     return parser.root();
   }
 
+  /**
+   * Fingerprint a SQL query by ANTLR lexer with literals masked.
+   * @param query   a SQL query
+   * @return        query fingerprint
+   */
+  public QueryFingerprint fingerprint(String query) {
+    OpenSearchSQLLexer lexer = new OpenSearchSQLLexer(new CaseInsensitiveCharStream(query));
+    QueryFingerprint.Builder builder = QueryFingerprint.builder("sql");
+    for (Token token : lexer.getAllTokens()) {
+      switch (token.getType()) {
+        case OpenSearchSQLLexer.STRING_LITERAL:
+          builder.stringLiteral(token.getStartIndex(), token.getText());
+          break;
+        case OpenSearchSQLLexer.DECIMAL_LITERAL:
+        case OpenSearchSQLLexer.ZERO_DECIMAL:
+        case OpenSearchSQLLexer.ONE_DECIMAL:
+        case OpenSearchSQLLexer.TWO_DECIMAL:
+          builder.integerLiteral(token.getStartIndex(), token.getText());
+          break;
+        case OpenSearchSQLLexer.REAL_LITERAL:
+          builder.doubleLiteral(token.getStartIndex(), token.getText());
+          break;
+        default:
+          builder.token(token.getText());
+      }
+    }
+    return builder.build();
+  }
+
 }
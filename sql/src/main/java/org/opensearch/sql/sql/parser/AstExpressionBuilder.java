@@ -72,6 +72,7 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
+import org.antlr.v4.runtime.ParserRuleContext;
 import org.antlr.v4.runtime.RuleContext;
 import org.apache.commons.lang3.tuple.ImmutablePair;
 import org.apache.commons.lang3.tuple.Pair;
@@ -275,21 +276,21 @@ public class AstExpressionBuilder extends OpenSearchSQLParserBaseVisitor<Unresol
 
   @Override
   public UnresolvedExpression visitString(StringContext ctx) {
-    return AstDSL.stringLiteral(StringUtils.unquoteText(ctx.getText()));
+    return new Literal(StringUtils.unquoteText(ctx.getText()), DataType.STRING, position(ctx));
   }
 
   @Override
   public UnresolvedExpression visitSignedDecimal(SignedDecimalContext ctx) {
     long number = Long.parseLong(ctx.getText());
     if (Integer.MIN_VALUE <= number && number <= Integer.MAX_VALUE) {
-      return AstDSL.intLiteral((int) number);
+      return new Literal((int) number, DataType.INTEGER, position(ctx));
     }
-    return AstDSL.longLiteral(number);
+    return new Literal(number, DataType.LONG, position(ctx));
   }
 
   @Override
   public UnresolvedExpression visitSignedReal(SignedRealContext ctx) {
-    return AstDSL.doubleLiteral(Double.valueOf(ctx.getText()));
+    return new Literal(Double.valueOf(ctx.getText()), DataType.DOUBLE, position(ctx));
   }
 
   @Override
@@ -299,7 +300,7 @@ public class AstExpressionBuilder extends OpenSearchSQLParserBaseVisitor<Unresol
 
   @Override
   public UnresolvedExpression visitStringLiteral(StringLiteralContext ctx) {
-    return AstDSL.stringLiteral(StringUtils.unquoteText(ctx.getText()));
+    return new Literal(StringUtils.unquoteText(ctx.getText()), DataType.STRING, position(ctx));
   }
 
   @Override
@@ -411,4 +412,12 @@ public class AstExpressionBuilder extends OpenSearchSQLParserBaseVisitor<Unresol
     return builder.build();
   }
 
+  /**
+   * Position of literal in query text which identifies the literal in query fingerprint, or null
+   * if the literal has more than one token, ex. signed number whose value differs from token.
+   */
+  private Integer position(ParserRuleContext ctx) {
+    return (ctx.getStart() == ctx.getStop()) ? ctx.getStart().getStartIndex() : null;
+  }
+
 }
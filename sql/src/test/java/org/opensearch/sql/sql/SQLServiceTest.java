@@ -27,6 +27,7 @@
 
 package org.opensearch.sql.sql;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.fail;
 import static org.mockito.ArgumentMatchers.any;
@@ -46,6 +47,7 @@ import org.opensearch.sql.common.response.ResponseListener;
 import org.opensearch.sql.executor.ExecutionEngine;
 import org.opensearch.sql.executor.ExecutionEngine.ExplainResponse;
 import org.opensearch.sql.executor.ExecutionEngine.ExplainResponseNode;
+import org.opensearch.sql.planner.cache.PlanCache;
 import org.opensearch.sql.planner.physical.PhysicalPlan;
 import org.opensearch.sql.sql.config.SQLServiceConfig;
 import org.opensearch.sql.sql.domain.SQLQueryRequest;
@@ -59,6 +61,8 @@ class SQLServiceTest {
 
   private SQLService sqlService;
 
+  private PlanCache planCache = new PlanCache();
+
   @Mock
   private StorageEngine storageEngine;
 
@@ -72,6 +76,7 @@ class SQLServiceTest {
   public void setUp() {
     context.registerBean(StorageEngine.class, () -> storageEngine);
     context.registerBean(ExecutionEngine.class, () -> executionEngine);
+    context.registerBean(PlanCache.class, () -> planCache);
     context.register(SQLServiceConfig.class);
     context.refresh();
     sqlService = context.getBean(SQLService.class);
@@ -100,6 +105,34 @@ class SQLServiceTest {
         });
   }
 
+  @Test
+  public void canExecuteSameSqlQueryWithPlanCached() {
+    doAnswer(invocation -> {
+      ResponseListener<QueryResponse> listener = invocation.getArgument(1);
+      listener.onResponse(new QueryResponse(schema, Collections.emptyList()));
+      return null;
+    }).when(executionEngine).execute(any(), any());
+
+    ResponseListener<QueryResponse> listener = new ResponseListener<QueryResponse>() {
+      @Override
+      public void onResponse(QueryResponse response) {
+        assertNotNull(response);
+      }
+
+      @Override
+      public void onFailure(Exception e) {
+        fail(e);
+      }
+    };
+    sqlService.execute(
+        new SQLQueryRequest(new JSONObject(), "SELECT 123", "_plugins/_sql", "jdbc"), listener);
+    sqlService.execute(
+        new SQLQueryRequest(new JSONObject(), "SELECT 123", "_plugins/_sql", "jdbc"), listener);
+
+    assertEquals(1, planCache.getMissCount());
+    assertEquals(1, planCache.getHitCount());
+  }
+
   @Test
   public void canExecuteCsvFormatRequest() {
     doAnswer(invocation -> {
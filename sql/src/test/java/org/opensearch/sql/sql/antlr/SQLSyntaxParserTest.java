@@ -27,11 +27,19 @@
 
 package org.opensearch.sql.sql.antlr;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.opensearch.sql.data.model.ExprValueUtils.doubleValue;
+import static org.opensearch.sql.data.model.ExprValueUtils.integerValue;
+import static org.opensearch.sql.data.model.ExprValueUtils.longValue;
+import static org.opensearch.sql.data.model.ExprValueUtils.stringValue;
 
+import java.util.Arrays;
 import org.junit.jupiter.api.Test;
 import org.opensearch.sql.common.antlr.SyntaxCheckException;
+import org.opensearch.sql.planner.cache.QueryFingerprint;
 
 class SQLSyntaxParserTest {
 
@@ -165,4 +173,34 @@ class SQLSyntaxParserTest {
     assertThrows(SyntaxCheckException.class, () -> parser.parse("SHOW TABLES"));
   }
 
+  @Test
+  public void canFingerprintQueryWithLiteralsMasked() {
+    QueryFingerprint fingerprint = parser.fingerprint(
+        "SELECT name FROM test WHERE age > 30 AND name = 'hello' AND balance < 1.5e3 "
+            + "AND id = 2147483648");
+    assertEquals(
+        "SELECT name FROM test WHERE age > *** AND name = *** AND balance < *** AND id = ***",
+        fingerprint.toString());
+    assertEquals(
+        Arrays.asList(integerValue(30), stringValue("hello"), doubleValue(1.5e3),
+            longValue(2147483648L)),
+        fingerprint.getLiteralValues());
+    assertEquals(Arrays.asList("30", "'hello'", "1.5e3", "2147483648"),
+        fingerprint.getLiteralTexts());
+    assertEquals(Arrays.asList(34, 48, 70, 85), fingerprint.getLiteralPositions());
+  }
+
+  @Test
+  public void canFingerprintQueryOfSameShapeToSameKey() {
+    assertEquals(
+        parser.fingerprint("SELECT name FROM test WHERE age > 30").getShape(),
+        parser.fingerprint("SELECT name FROM test WHERE age > 40").getShape());
+    assertNotEquals(
+        parser.fingerprint("SELECT name FROM test WHERE age > 30").getShape(),
+        parser.fingerprint("SELECT name FROM test WHERE age > '30'").getShape());
+    assertNotEquals(
+        parser.fingerprint("SELECT age + 1 FROM test").getShape(),
+        parser.fingerprint("SELECT age+1 FROM test").getShape());
+  }
+
 }